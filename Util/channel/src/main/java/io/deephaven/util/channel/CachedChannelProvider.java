@@ -109,6 +109,13 @@ public class CachedChannelProvider implements SeekableChannelsProvider {
         return wrappedProvider.getInputStream(channel, sizeHint);
     }
 
+    @Override
+    @Nullable
+    public ByteBuffer readOnlyView(@NotNull final SeekableChannelContext channelContext, @NotNull final URI uri,
+            final long offset, final int length) throws IOException {
+        return wrappedProvider.readOnlyView(channelContext, uri, offset, length);
+    }
+
     @Override
     public final CompletableOutputStream getOutputStream(@NotNull final URI uri, final int bufferSizeHint)
             throws IOException {
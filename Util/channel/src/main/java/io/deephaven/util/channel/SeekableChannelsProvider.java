@@ -5,10 +5,12 @@ package io.deephaven.util.channel;
 
 import io.deephaven.util.SafeCloseable;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.nio.channels.SeekableByteChannel;
 import java.util.stream.Stream;
 
@@ -90,6 +92,29 @@ public interface SeekableChannelsProvider extends SafeCloseable {
      */
     InputStream getInputStream(SeekableByteChannel channel, int sizeHint) throws IOException;
 
+    /**
+     * Returns a read-only view of {@code length} bytes of {@code uri}, starting at {@code offset}, if this provider can
+     * supply one without copying the bytes onto the heap; for example, from a memory-mapped file. The view has position
+     * zero and limit {@code length}, and its byte order is unspecified. Callers must not retain the view beyond the
+     * lifetime of the data derived from it.
+     *
+     * <p>
+     * The default implementation returns {@code null}, and callers must fall back to
+     * {@link #getReadChannel(SeekableChannelContext, URI)}.
+     *
+     * @param channelContext the context
+     * @param uri the URI to read
+     * @param offset the offset of the first byte
+     * @param length the number of bytes
+     * @return the view, or {@code null} if this provider cannot supply one for the requested range
+     * @throws IOException if an IO exception occurs
+     */
+    @Nullable
+    default ByteBuffer readOnlyView(@NotNull SeekableChannelContext channelContext, @NotNull URI uri, long offset,
+            int length) throws IOException {
+        return null;
+    }
+
     /**
      * Creates a {@link CompletableOutputStream} to write to the given URI.
      *
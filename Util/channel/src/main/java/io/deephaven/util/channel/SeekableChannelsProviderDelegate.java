@@ -4,10 +4,12 @@
 package io.deephaven.util.channel;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.nio.channels.SeekableByteChannel;
 import java.util.Objects;
 import java.util.stream.Stream;
@@ -45,6 +47,13 @@ public class SeekableChannelsProviderDelegate implements SeekableChannelsProvide
         return delegate.getInputStream(channel, sizeHint);
     }
 
+    @Override
+    @Nullable
+    public ByteBuffer readOnlyView(@NotNull SeekableChannelContext channelContext, @NotNull URI uri, long offset,
+            int length) throws IOException {
+        return delegate.readOnlyView(channelContext, uri, offset, length);
+    }
+
     @Override
     public CompletableOutputStream getOutputStream(@NotNull URI uri, int bufferSizeHint) throws IOException {
         return delegate.getOutputStream(uri, bufferSizeHint);
@@ -0,0 +1,149 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.benchmark.engine;
+
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.DoubleChunk;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.WritableBooleanChunk;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.chunkattributes.OrderedRowKeys;
+import io.deephaven.engine.table.impl.chunkfilter.ChunkFilter;
+import io.deephaven.engine.table.impl.chunkfilter.DoubleChunkMatchFilterFactory;
+import io.deephaven.engine.table.impl.chunkfilter.DoubleRangeComparator;
+import io.deephaven.engine.table.impl.chunkfilter.LongChunkMatchFilterFactory;
+import io.deephaven.engine.table.impl.chunkfilter.LongRangeComparator;
+import io.deephaven.engine.table.impl.chunkfilter.VectorizedChunkFilters;
+import io.deephaven.engine.table.impl.simd.SimdChunkFilterProvider;
+import io.deephaven.util.QueryConstants;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the scalar chunk filter kernels with the vectorized kernels from {@code engine-table-simd}, on a single
+ * chunk of values, without any table or column source overhead.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class ChunkFilterKernelBenchmark {
+
+    @Param({"Long", "Double"})
+    private String type;
+
+    @Param({"Range", "Match", "IsNull"})
+    private String filterType;
+
+    @Param({"Scalar", "Vectorized"})
+    private String kernel;
+
+    @Param({"4096"})
+    private int chunkSize;
+
+    @Param({"1", "50", "99"})
+    private int selectivity;
+
+    private Chunk<Values> values;
+    private LongChunk<OrderedRowKeys> keys;
+    private WritableLongChunk<OrderedRowKeys> keyResults;
+    private WritableBooleanChunk<Values> booleanResults;
+    private ChunkFilter filter;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final Random random = new Random(0);
+        final long[] longValues = new long[chunkSize];
+        final double[] doubleValues = new double[chunkSize];
+        final long[] rowKeys = new long[chunkSize];
+        for (int ii = 0; ii < chunkSize; ++ii) {
+            // Each value is in [0, 100); 1% of the values are null
+            final int value = random.nextInt(100);
+            final boolean isNull = random.nextInt(100) == 0;
+            longValues[ii] = isNull ? QueryConstants.NULL_LONG : value;
+            doubleValues[ii] = isNull ? QueryConstants.NULL_DOUBLE : value;
+            rowKeys[ii] = 2L * ii;
+        }
+        values = type.equals("Long") ? LongChunk.chunkWrap(longValues) : DoubleChunk.chunkWrap(doubleValues);
+        keys = LongChunk.chunkWrap(rowKeys);
+        keyResults = WritableLongChunk.makeWritableChunk(chunkSize);
+        booleanResults = WritableBooleanChunk.makeWritableChunk(chunkSize);
+
+        final boolean isLong = type.equals("Long");
+        final VectorizedChunkFilters.Provider provider =
+                kernel.equals("Vectorized") ? new SimdChunkFilterProvider() : null;
+        switch (filterType) {
+            case "Range":
+                // Values in [0, selectivity) pass
+                if (isLong) {
+                    filter = provider == null
+                            ? LongRangeComparator.makeLongFilter(0, selectivity, true, false)
+                            : provider.makeRangeFilter(0L, (long) selectivity, true, false);
+                } else {
+                    filter = provider == null
+                            ? DoubleRangeComparator.makeDoubleFilter(0, selectivity, true, false)
+                            : provider.makeRangeFilter(0.0, (double) selectivity, true, false);
+                }
+                break;
+            case "Match":
+                // Three values, each of which is about 1% of the chunk; selectivity does not apply
+                if (isLong) {
+                    filter = makeMatchFilter(provider, 0L, 1L, 2L);
+                } else {
+                    filter = makeMatchFilter(provider, 0.0, 1.0, 2.0);
+                }
+                break;
+            case "IsNull":
+                if (isLong) {
+                    filter = makeMatchFilter(provider, QueryConstants.NULL_LONG);
+                } else {
+                    filter = makeMatchFilter(provider, QueryConstants.NULL_DOUBLE);
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unknown filter type " + filterType);
+        }
+    }
+
+    private static ChunkFilter makeMatchFilter(final VectorizedChunkFilters.Provider provider, final long... keys) {
+        return provider == null
+                ? LongChunkMatchFilterFactory.makeFilter(false, keys)
+                : provider.makeMatchFilter(false, keys);
+    }
+
+    private static ChunkFilter makeMatchFilter(final VectorizedChunkFilters.Provider provider, final double... keys) {
+        return provider == null
+                ? DoubleChunkMatchFilterFactory.makeFilter(false, keys)
+                : provider.makeMatchFilter(false, keys);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        keyResults.close();
+        booleanResults.close();
+    }
+
+    @Benchmark
+    public void filterKeys(final Blackhole bh) {
+        filter.filter(values, keys, keyResults);
+        bh.consume(keyResults.size());
+    }
+
+    @Benchmark
+    public void filterBooleans(final Blackhole bh) {
+        bh.consume(filter.filter(values, booleanResults));
+    }
+
+    @Benchmark
+    public void filterAndBooleans(final Blackhole bh) {
+        booleanResults.fillWithValue(0, chunkSize, true);
+        bh.consume(filter.filterAnd(values, booleanResults));
+    }
+}
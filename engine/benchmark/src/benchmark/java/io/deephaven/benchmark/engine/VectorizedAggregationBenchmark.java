@@ -0,0 +1,107 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.benchmark.engine;
+
+import io.deephaven.api.agg.Aggregation;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.context.TestExecutionContext;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.by.VectorizedAggregationKernels;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import io.deephaven.engine.util.TableTools;
+import io.deephaven.util.type.ArrayTypeUtils;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static io.deephaven.api.agg.Aggregation.AggMax;
+import static io.deephaven.api.agg.Aggregation.AggMin;
+
+/**
+ * Compares the scalar aggregation kernels with the vectorized kernels from {@code engine-table-simd}, for zero-key and
+ * low-cardinality aggregations of {@code long} and {@code double} columns, where each operator sees long runs of values
+ * for a single destination.
+ */
+@SuppressWarnings("unused")
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Timeout(time = 15)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class VectorizedAggregationBenchmark {
+
+    @Param({"false", "true"})
+    private boolean vectorized;
+
+    @Param({"0", "16", "1024"})
+    private int keyCount;
+
+    @Param({"10000000"})
+    private int size;
+
+    private Table table;
+    private String[] keyColumnNames;
+
+    @Setup(Level.Trial)
+    public void setupEnv() {
+        // Read once, when the kernels are first used; each trial runs in its own fork
+        System.setProperty("Aggregation.vectorized", Boolean.toString(vectorized));
+
+        TestExecutionContext.createForUnitTests().open();
+        ExecutionContext.getContext().getUpdateGraph().<ControlledUpdateGraph>cast().enableUnitTestMode();
+        QueryTable.setMemoizeResults(false);
+
+        // Keys are assigned in blocks, so that each bucket receives long runs even from the bucketed operators
+        final long keyBlockSize = keyCount == 0 ? size : Math.max(1, size / keyCount);
+        table = TableTools.emptyTable(size).update(
+                "Key = (int) (ii / " + keyBlockSize + ")",
+                "LongValue = ii % 17 == 0 ? NULL_LONG : ii * 31 % 1000003",
+                "DoubleValue = ii % 17 == 0 ? NULL_DOUBLE : (ii * 31 % 1000003) / 7.0");
+        keyColumnNames = keyCount == 0 ? ArrayTypeUtils.EMPTY_STRING_ARRAY : new String[] {"Key"};
+        if (keyCount == 0) {
+            table = table.dropColumns("Key");
+        }
+
+        if (vectorized != VectorizedAggregationKernels.isEnabled()) {
+            throw new IllegalStateException("Expected vectorized=" + vectorized + ", but the kernels are "
+                    + (VectorizedAggregationKernels.isEnabled() ? "enabled" : "disabled"));
+        }
+    }
+
+    @Benchmark
+    public Table sumBy(@NotNull final Blackhole bh) {
+        final Table result = table.sumBy(keyColumnNames);
+        bh.consume(result);
+        return result;
+    }
+
+    @Benchmark
+    public Table avgBy(@NotNull final Blackhole bh) {
+        final Table result = table.avgBy(keyColumnNames);
+        bh.consume(result);
+        return result;
+    }
+
+    @Benchmark
+    public Table varBy(@NotNull final Blackhole bh) {
+        final Table result = table.varBy(keyColumnNames);
+        bh.consume(result);
+        return result;
+    }
+
+    @Benchmark
+    public Table minMaxBy(@NotNull final Blackhole bh) {
+        final Aggregation minCols = AggMin("LongMin=LongValue", "DoubleMin=DoubleValue");
+        final Aggregation maxCols = AggMax("LongMax=LongValue", "DoubleMax=DoubleValue");
+        final Table result = table.aggBy(List.of(minCols, maxCols), keyColumnNames);
+        bh.consume(result);
+        return result;
+    }
+}
@@ -5,6 +5,7 @@ package io.deephaven.engine.sql;
 
 import io.deephaven.base.log.LogOutput;
 import io.deephaven.base.log.LogOutput.ObjFormatter;
+import io.deephaven.configuration.Configuration;
 import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.context.QueryScope;
 import io.deephaven.engine.table.ColumnDefinition;
@@ -40,6 +41,14 @@ import java.util.function.Function;
 public final class Sql {
     private static final Logger log = LoggerFactory.getLogger(Sql.class);
 
+    /**
+     * Whether to apply relational optimization (filter pushdown, join re-ordering, and join operation selection) using
+     * the row counts, data indexes, and refreshing status of the scope tables. See
+     * {@link SqlAdapter#parseSql(String, Scope, boolean)}. Disabled by default.
+     */
+    private static final boolean OPTIMIZE =
+            Configuration.getInstance().getBooleanForClassWithDefault(Sql.class, "optimize", false);
+
     @ScriptApi
     public static Table evaluate(String sql) {
         return evaluate(sql, currentScriptSessionNamedTables());
@@ -53,12 +62,21 @@ public final class Sql {
     @InternalUseOnly
     public static TableSpec parseSql(String sql, Map<String, Table> scope, Function<String, TicketTable> ticketFunction,
             Map<TicketTable, Table> out) {
-        return SqlAdapter.parseSql(sql, scope(scope, out, ticketFunction));
+        return parseSql(sql, scope, ticketFunction, out, OPTIMIZE);
+    }
+
+    private static TableSpec parseSql(String sql, Map<String, Table> scope,
+            Function<String, TicketTable> ticketFunction, Map<TicketTable, Table> out, boolean optimize) {
+        return SqlAdapter.parseSql(sql, scope(scope, out, ticketFunction), optimize);
     }
 
     private static Table evaluate(String sql, Map<String, Table> scope) {
+        return evaluate(sql, scope, OPTIMIZE);
+    }
+
+    static Table evaluate(String sql, Map<String, Table> scope, boolean optimize) {
         final Map<TicketTable, Table> map = new HashMap<>(scope.size());
-        final TableSpec tableSpec = parseSql(sql, scope, Sql::sqlref, map);
+        final TableSpec tableSpec = parseSql(sql, scope, Sql::sqlref, map, optimize);
         log.debug().append("Executing. Graphviz representation:").nl().append(ToGraphvizDot.INSTANCE, tableSpec).endl();
         return tableSpec.logic().create(new TableCreatorTicketInterceptor(TableCreatorImpl.INSTANCE, map));
     }
@@ -84,7 +102,7 @@ public final class Sql {
             final TicketTable spec = ticketFunction.apply(tableName);
             final List<String> qualifiedName = List.of(tableName);
             final TableHeader header = adapt(table.getDefinition());
-            builder.addTables(TableInformation.of(qualifiedName, header, spec));
+            builder.addTables(TableInformation.of(qualifiedName, header, spec, new TableStatisticsImpl(table)));
             if (out != null) {
                 out.put(spec, table);
             }
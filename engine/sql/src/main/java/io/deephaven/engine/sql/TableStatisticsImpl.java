@@ -0,0 +1,91 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.sql;
+
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.DataIndex;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.indexer.DataIndexer;
+import io.deephaven.sql.TableStatistics;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
+
+/**
+ * {@link TableStatistics} for an engine {@link Table}. Uniqueness is only reported for static tables, either because
+ * the table has at most one row, or because an existing {@link DataIndex} on a subset of the columns has one row per
+ * table row. Indexes are never created, and are only consulted for the columns the planner asks about.
+ */
+final class TableStatisticsImpl implements TableStatistics {
+
+    private final Table table;
+    private final Map<List<String>, Boolean> isUnique = new HashMap<>();
+
+    TableStatisticsImpl(Table table) {
+        this.table = Objects.requireNonNull(table);
+    }
+
+    @Override
+    public OptionalLong rowCount() {
+        // Refreshing tables are parsed without the update graph lock; the row count is only an estimate.
+        return OptionalLong.of(table.isRefreshing() ? table.sizeForInstrumentation() : table.size());
+    }
+
+    @Override
+    public boolean isRefreshing() {
+        return table.isRefreshing();
+    }
+
+    @Override
+    public synchronized boolean isUnique(List<String> columnNames) {
+        if (table.isRefreshing()) {
+            return false;
+        }
+        return isUnique.computeIfAbsent(List.copyOf(columnNames), this::computeIsUnique);
+    }
+
+    private boolean computeIsUnique(List<String> columnNames) {
+        if (table.size() <= 1) {
+            return true;
+        }
+        final DataIndexer dataIndexer = DataIndexer.existingOf(table.getRowSet());
+        if (dataIndexer == null) {
+            return false;
+        }
+        final Map<ColumnSource<?>, String> names = new IdentityHashMap<>();
+        table.getColumnSourceMap().forEach((name, source) -> names.putIfAbsent(source, name));
+        final Set<String> requested = new HashSet<>(columnNames);
+        for (final DataIndex dataIndex : dataIndexer.dataIndexes(true)) {
+            final Set<String> keyColumnNames = keyColumnNames(dataIndex, names);
+            if (keyColumnNames == null || !requested.containsAll(keyColumnNames)) {
+                continue;
+            }
+            if (dataIndex.table().size() == table.size()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    private static Set<String> keyColumnNames(DataIndex dataIndex, Map<ColumnSource<?>, String> names) {
+        final Set<String> keyColumnNames = new HashSet<>();
+        for (final ColumnSource<?> indexedColumn : dataIndex.keyColumnNamesByIndexedColumn().keySet()) {
+            final String name = names.get(indexedColumn);
+            if (name == null) {
+                // This index is keyed by a column source that is not (directly) one of our columns
+                return null;
+            }
+            keyColumnNames.add(name);
+        }
+        return keyColumnNames;
+    }
+}
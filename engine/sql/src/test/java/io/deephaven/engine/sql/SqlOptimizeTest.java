@@ -0,0 +1,82 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.sql;
+
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.indexer.DataIndexer;
+import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static io.deephaven.engine.testutil.TstUtils.assertTableEquals;
+import static io.deephaven.engine.util.TableTools.emptyTable;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Checks that optimized plans, with filter pushdown, join re-ordering and natural join selection, produce the same
+ * results as the plans as written.
+ */
+public class SqlOptimizeTest {
+
+    @Rule
+    public final EngineCleanup framework = new EngineCleanup();
+
+    private Map<String, Table> scope;
+
+    @Before
+    public void setUp() {
+        final Table authors = emptyTable(100).update("Id = (int) ii", "Name = `Author` + ii");
+        // A data index on the unique key lets the optimizer choose a natural join for authors
+        DataIndexer.getOrCreateDataIndex(authors, "Id");
+        scope = Map.of(
+                "books", emptyTable(5000).update("Id = (int) ii", "Title = `Title` + ii",
+                        "AuthorId = (int) (ii % 120)", "PublisherId = (int) (ii % 7)"),
+                "authors", authors,
+                "publishers", emptyTable(5).update("PublisherId = (int) ii", "PublisherName = `Publisher` + ii"),
+                "reviews", emptyTable(8000).update("BookId = (int) (ii % 6000)", "Stars = (int) (ii % 5)"));
+    }
+
+    @Test
+    public void threeWayJoin() {
+        assertOptimizedMatches("SELECT books.Title, authors.Name, publishers.PublisherName FROM books"
+                + " INNER JOIN authors ON books.AuthorId = authors.Id"
+                + " INNER JOIN publishers ON books.PublisherId = publishers.PublisherId");
+    }
+
+    @Test
+    public void threeWayJoinWrittenAsCrossJoin() {
+        assertOptimizedMatches("SELECT books.Title, authors.Name, publishers.PublisherName"
+                + " FROM authors, publishers, books"
+                + " WHERE books.AuthorId = authors.Id AND books.PublisherId = publishers.PublisherId");
+    }
+
+    @Test
+    public void joinConditionsWrittenRightFirst() {
+        assertOptimizedMatches("SELECT reviews.Stars, books.Title, authors.Name FROM reviews"
+                + " INNER JOIN books ON books.Id = reviews.BookId"
+                + " INNER JOIN authors ON authors.Id = books.AuthorId");
+    }
+
+    @Test
+    public void fourWayJoinWithFilters() {
+        assertOptimizedMatches("SELECT reviews.Stars, books.Title, authors.Name, publishers.PublisherName"
+                + " FROM reviews"
+                + " INNER JOIN books ON reviews.BookId = books.Id"
+                + " INNER JOIN publishers ON publishers.PublisherId = books.PublisherId"
+                + " INNER JOIN authors ON books.AuthorId = authors.Id"
+                + " WHERE reviews.Stars > 2 AND publishers.PublisherName <> 'Publisher3' AND authors.Id < 90");
+    }
+
+    private void assertOptimizedMatches(final String sql) {
+        final Table expected = Sql.evaluate(sql, scope, false);
+        final Table actual = Sql.evaluate(sql, scope, true);
+        assertFalse(expected.isEmpty());
+        // Re-ordering joins changes the order of the result rows
+        final String[] columns = expected.getDefinition().getColumnNamesArray();
+        assertTableEquals(expected.sort(columns), actual.sort(columns));
+    }
+}
@@ -0,0 +1,190 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.simd;
+
+import io.deephaven.chunk.DoubleChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.table.impl.by.VectorizedAggregationKernels;
+import io.deephaven.util.compare.DoubleComparisons;
+import io.deephaven.util.mutable.MutableInt;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.apache.commons.lang3.mutable.MutableDouble;
+
+import static io.deephaven.util.QueryConstants.NULL_DOUBLE;
+
+/**
+ * Vectorized {@code double} aggregation kernels. Each run is processed {@link #SPECIES one vector} at a time; runs
+ * shorter than a vector, and the values at the end of a run that do not fill a whole vector, are processed without
+ * copying them out of the chunk.
+ */
+final class DoubleSimdAggregationKernel implements VectorizedAggregationKernels.DoubleKernel {
+
+    static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    static final DoubleSimdAggregationKernel INSTANCE = new DoubleSimdAggregationKernel();
+
+    private DoubleSimdAggregationKernel() {}
+
+    @Override
+    public double sum(
+            final DoubleChunk<? extends Values> values,
+            final int chunkStart,
+            final int chunkSize,
+            final MutableInt chunkNormalCount,
+            final MutableInt chunkNanCount,
+            final MutableInt chunkInfinityCount,
+            final MutableInt chunkMinusInfinityCount) {
+        return sum2(values, chunkStart, chunkSize, chunkNormalCount, chunkNanCount, chunkInfinityCount,
+                chunkMinusInfinityCount, null);
+    }
+
+    @Override
+    public double sum2(
+            final DoubleChunk<? extends Values> values,
+            final int chunkStart,
+            final int chunkSize,
+            final MutableInt chunkNormalCount,
+            final MutableInt chunkNanCount,
+            final MutableInt chunkInfinityCount,
+            final MutableInt chunkMinusInfinityCount,
+            final MutableDouble sum2out) {
+        final boolean computeSum2 = sum2out != null;
+        final int vectorLimit = SPECIES.loopBound(chunkSize);
+        double sum = 0;
+        double sum2 = 0;
+        int normal = 0;
+        int nan = 0;
+        int infinity = 0;
+        int minusInfinity = 0;
+        if (vectorLimit > 0) {
+            final double[] data = SimdScratch.get().doubles(vectorLimit);
+            values.copyToTypedArray(chunkStart, data, 0, vectorLimit);
+            DoubleVector sums = DoubleVector.zero(SPECIES);
+            DoubleVector sum2s = DoubleVector.zero(SPECIES);
+            for (int ii = 0; ii < vectorLimit; ii += SPECIES.length()) {
+                final DoubleVector vector = DoubleVector.fromArray(SPECIES, data, ii);
+                final VectorMask<Double> isNormal = vector.test(VectorOperators.IS_FINITE)
+                        .and(vector.compare(VectorOperators.NE, NULL_DOUBLE));
+                sums = sums.add(vector, isNormal);
+                if (computeSum2) {
+                    sum2s = sum2s.add(vector.mul(vector), isNormal);
+                }
+                normal += isNormal.trueCount();
+                nan += vector.test(VectorOperators.IS_NAN).trueCount();
+                infinity += vector.compare(VectorOperators.EQ, Double.POSITIVE_INFINITY).trueCount();
+                minusInfinity += vector.compare(VectorOperators.EQ, Double.NEGATIVE_INFINITY).trueCount();
+            }
+            sum = sums.reduceLanes(VectorOperators.ADD);
+            sum2 = sum2s.reduceLanes(VectorOperators.ADD);
+        }
+        for (int ii = chunkStart + vectorLimit; ii < chunkStart + chunkSize; ++ii) {
+            final double value = values.get(ii);
+            if (Double.isNaN(value)) {
+                ++nan;
+            } else if (value == Double.POSITIVE_INFINITY) {
+                ++infinity;
+            } else if (value == Double.NEGATIVE_INFINITY) {
+                ++minusInfinity;
+            } else if (value != NULL_DOUBLE) {
+                sum += value;
+                sum2 += value * value;
+                ++normal;
+            }
+        }
+        chunkNormalCount.add(normal);
+        chunkNanCount.add(nan);
+        chunkInfinityCount.add(infinity);
+        chunkMinusInfinityCount.add(minusInfinity);
+        if (computeSum2) {
+            sum2out.setValue(sum2);
+        }
+        return sum;
+    }
+
+    @Override
+    public double min(
+            final DoubleChunk<?> values,
+            final MutableInt chunkNonNull,
+            final int chunkStart,
+            final int chunkEnd) {
+        final int chunkSize = chunkEnd - chunkStart;
+        final int vectorLimit = SPECIES.loopBound(chunkSize);
+        int nonNull = 0;
+        double value = NULL_DOUBLE;
+        if (vectorLimit > 0) {
+            final double[] data = SimdScratch.get().doubles(vectorLimit);
+            values.copyToTypedArray(chunkStart, data, 0, vectorLimit);
+            // NaN is greater than every other value, so it is the minimum only if every non-null value is NaN; we
+            // count NaNs separately, and replace them and nulls with positive infinity
+            DoubleVector mins = DoubleVector.broadcast(SPECIES, Double.POSITIVE_INFINITY);
+            int nan = 0;
+            for (int ii = 0; ii < vectorLimit; ii += SPECIES.length()) {
+                final DoubleVector vector = DoubleVector.fromArray(SPECIES, data, ii);
+                final VectorMask<Double> isNull = vector.compare(VectorOperators.EQ, NULL_DOUBLE);
+                final VectorMask<Double> isNaN = vector.test(VectorOperators.IS_NAN);
+                mins = mins.min(vector.blend(Double.POSITIVE_INFINITY, isNull.or(isNaN)));
+                nonNull += SPECIES.length() - isNull.trueCount();
+                nan += isNaN.trueCount();
+            }
+            if (nonNull > 0) {
+                value = nonNull == nan ? Double.NaN : mins.reduceLanes(VectorOperators.MIN);
+            }
+        }
+        for (int ii = chunkStart + vectorLimit; ii < chunkEnd; ++ii) {
+            final double candidate = values.get(ii);
+            if (candidate != NULL_DOUBLE) {
+                if (nonNull++ == 0) {
+                    value = candidate;
+                } else if (DoubleComparisons.lt(candidate, value)) {
+                    value = candidate;
+                }
+            }
+        }
+        chunkNonNull.set(nonNull);
+        return value;
+    }
+
+    @Override
+    public double max(
+            final DoubleChunk<?> values,
+            final MutableInt chunkNonNull,
+            final int chunkStart,
+            final int chunkEnd) {
+        final int chunkSize = chunkEnd - chunkStart;
+        final int vectorLimit = SPECIES.loopBound(chunkSize);
+        int nonNull = 0;
+        double value = NULL_DOUBLE;
+        if (vectorLimit > 0) {
+            final double[] data = SimdScratch.get().doubles(vectorLimit);
+            values.copyToTypedArray(chunkStart, data, 0, vectorLimit);
+            // Lane-wise MAX propagates NaN, which matches NaN being greater than every other value; nulls are
+            // replaced with negative infinity
+            DoubleVector maxes = DoubleVector.broadcast(SPECIES, Double.NEGATIVE_INFINITY);
+            for (int ii = 0; ii < vectorLimit; ii += SPECIES.length()) {
+                final DoubleVector vector = DoubleVector.fromArray(SPECIES, data, ii);
+                final VectorMask<Double> isNull = vector.compare(VectorOperators.EQ, NULL_DOUBLE);
+                maxes = maxes.max(vector.blend(Double.NEGATIVE_INFINITY, isNull));
+                nonNull += SPECIES.length() - isNull.trueCount();
+            }
+            if (nonNull > 0) {
+                value = maxes.reduceLanes(VectorOperators.MAX);
+            }
+        }
+        for (int ii = chunkStart + vectorLimit; ii < chunkEnd; ++ii) {
+            final double candidate = values.get(ii);
+            if (candidate != NULL_DOUBLE) {
+                if (nonNull++ == 0) {
+                    value = candidate;
+                } else if (DoubleComparisons.gt(candidate, value)) {
+                    value = candidate;
+                }
+            }
+        }
+        chunkNonNull.set(nonNull);
+        return value;
+    }
+}
@@ -0,0 +1,115 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.simd;
+
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.DoubleChunk;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.WritableBooleanChunk;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.chunkattributes.OrderedRowKeys;
+import io.deephaven.engine.table.impl.chunkfilter.ChunkFilter;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Base class for vectorized {@link ChunkFilter chunk filters} over {@code double} values. Values are copied from the
+ * chunk into a scratch array and evaluated {@link #SPECIES one vector} at a time by
+ * {@link #matches(DoubleVector)}; the values that do not fill a whole vector are evaluated by
+ * {@link #matches(double)}, which must agree with it.
+ */
+abstract class DoubleSimdChunkFilter implements ChunkFilter {
+
+    static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    abstract VectorMask<Double> matches(DoubleVector values);
+
+    abstract boolean matches(double value);
+
+    @Override
+    public final void filter(
+            final Chunk<? extends Values> values,
+            final LongChunk<OrderedRowKeys> keys,
+            final WritableLongChunk<OrderedRowKeys> results) {
+        final DoubleChunk<? extends Values> typedValues = values.asDoubleChunk();
+        final int len = typedValues.size();
+        final double[] data = SimdScratch.get().doubles(len);
+        typedValues.copyToTypedArray(0, data, 0, len);
+
+        results.setSize(0);
+        final int vectorLimit = SPECIES.loopBound(len);
+        int ii = 0;
+        for (; ii < vectorLimit; ii += SPECIES.length()) {
+            long lanes = matches(DoubleVector.fromArray(SPECIES, data, ii)).toLong();
+            while (lanes != 0) {
+                results.add(keys.get(ii + Long.numberOfTrailingZeros(lanes)));
+                lanes &= lanes - 1;
+            }
+        }
+        for (; ii < len; ++ii) {
+            if (matches(data[ii])) {
+                results.add(keys.get(ii));
+            }
+        }
+    }
+
+    @Override
+    public final int filter(final Chunk<? extends Values> values, final WritableBooleanChunk<Values> results) {
+        final DoubleChunk<? extends Values> typedValues = values.asDoubleChunk();
+        final int len = typedValues.size();
+        final SimdScratch scratch = SimdScratch.get();
+        final double[] data = scratch.doubles(len);
+        final boolean[] matched = scratch.booleans(len);
+        typedValues.copyToTypedArray(0, data, 0, len);
+
+        final int vectorLimit = SPECIES.loopBound(len);
+        int count = 0;
+        int ii = 0;
+        for (; ii < vectorLimit; ii += SPECIES.length()) {
+            final VectorMask<Double> mask = matches(DoubleVector.fromArray(SPECIES, data, ii));
+            mask.intoArray(matched, ii);
+            count += mask.trueCount();
+        }
+        for (; ii < len; ++ii) {
+            final boolean newResult = matches(data[ii]);
+            matched[ii] = newResult;
+            count += newResult ? 1 : 0;
+        }
+        results.copyFromTypedArray(matched, 0, 0, len);
+        return count;
+    }
+
+    @Override
+    public final int filterAnd(final Chunk<? extends Values> values, final WritableBooleanChunk<Values> results) {
+        final DoubleChunk<? extends Values> typedValues = values.asDoubleChunk();
+        final int len = typedValues.size();
+        final SimdScratch scratch = SimdScratch.get();
+        final double[] data = scratch.doubles(len);
+        final boolean[] matched = scratch.booleans(len);
+        typedValues.copyToTypedArray(0, data, 0, len);
+        results.copyToTypedArray(0, matched, 0, len);
+
+        // Unlike the scalar filters, we evaluate every value; lanes that were already false are masked off afterward.
+        final int vectorLimit = SPECIES.loopBound(len);
+        int count = 0;
+        int ii = 0;
+        for (; ii < vectorLimit; ii += SPECIES.length()) {
+            final VectorMask<Double> mask = VectorMask.fromArray(SPECIES, matched, ii)
+                    .and(matches(DoubleVector.fromArray(SPECIES, data, ii)));
+            mask.intoArray(matched, ii);
+            count += mask.trueCount();
+        }
+        for (; ii < len; ++ii) {
+            if (matched[ii]) {
+                final boolean newResult = matches(data[ii]);
+                matched[ii] = newResult;
+                count += newResult ? 1 : 0;
+            }
+        }
+        results.copyFromTypedArray(matched, 0, 0, len);
+        return count;
+    }
+}
@@ -0,0 +1,77 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.simd;
+
+import io.deephaven.util.compare.DoubleComparisons;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+
+import static io.deephaven.util.QueryConstants.NULL_DOUBLE;
+
+/**
+ * A vectorized range filter for {@code double} values, using the ordering of {@link DoubleComparisons}: null is less
+ * than every other value, and NaN is greater than every other value.
+ */
+final class DoubleSimdRangeFilter extends DoubleSimdChunkFilter {
+
+    private final double lower;
+    private final double upper;
+    private final boolean lowerInclusive;
+    private final boolean upperInclusive;
+
+    DoubleSimdRangeFilter(
+            final double lower,
+            final double upper,
+            final boolean lowerInclusive,
+            final boolean upperInclusive) {
+        this.lower = lower;
+        this.upper = upper;
+        this.lowerInclusive = lowerInclusive;
+        this.upperInclusive = upperInclusive;
+    }
+
+    @Override
+    VectorMask<Double> matches(final DoubleVector values) {
+        final VectorMask<Double> aboveLower = lowerInclusive ? geq(values, lower) : leq(values, lower).not();
+        final VectorMask<Double> belowUpper = upperInclusive ? leq(values, upper) : geq(values, upper).not();
+        return aboveLower.and(belowUpper);
+    }
+
+    @Override
+    boolean matches(final double value) {
+        return (lowerInclusive ? DoubleComparisons.geq(value, lower) : DoubleComparisons.gt(value, lower))
+                && (upperInclusive ? DoubleComparisons.leq(value, upper) : DoubleComparisons.lt(value, upper));
+    }
+
+    /**
+     * Lane-wise {@link DoubleComparisons#geq(double, double)}.
+     */
+    private static VectorMask<Double> geq(final DoubleVector values, final double bound) {
+        if (bound == NULL_DOUBLE) {
+            return SPECIES.maskAll(true);
+        }
+        final VectorMask<Double> isNaN = values.test(VectorOperators.IS_NAN);
+        if (Double.isNaN(bound)) {
+            return isNaN;
+        }
+        return values.compare(VectorOperators.GE, bound)
+                .and(values.compare(VectorOperators.NE, NULL_DOUBLE))
+                .or(isNaN);
+    }
+
+    /**
+     * Lane-wise {@link DoubleComparisons#leq(double, double)}.
+     */
+    private static VectorMask<Double> leq(final DoubleVector values, final double bound) {
+        if (Double.isNaN(bound)) {
+            return SPECIES.maskAll(true);
+        }
+        final VectorMask<Double> isNull = values.compare(VectorOperators.EQ, NULL_DOUBLE);
+        if (bound == NULL_DOUBLE) {
+            return isNull;
+        }
+        return values.compare(VectorOperators.LE, bound).or(isNull);
+    }
+}
@@ -0,0 +1,49 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.simd;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+
+/**
+ * A vectorized match filter for a small set of {@code float} values, which compares each vector against every value.
+ * <p>
+ * As with the scalar filters for up to three values, values are compared with {@code ==}, so NaN never matches; the
+ * scalar filters for larger sets use hash sets, which do match NaN, so we do not handle more values than that.
+ */
+final class FloatSimdMatchFilter extends FloatSimdChunkFilter {
+
+    /**
+     * The largest number of values we compare directly; larger sets are left to the scalar hash set filters.
+     */
+    static final int MAX_VALUES = 3;
+
+    private final boolean invertMatch;
+    private final float[] values;
+
+    FloatSimdMatchFilter(final boolean invertMatch, final float[] values) {
+        this.invertMatch = invertMatch;
+        this.values = values.clone();
+    }
+
+    @Override
+    VectorMask<Float> matches(final FloatVector chunkValues) {
+        VectorMask<Float> matched = chunkValues.compare(VectorOperators.EQ, values[0]);
+        for (int vi = 1; vi < values.length; ++vi) {
+            matched = matched.or(chunkValues.compare(VectorOperators.EQ, values[vi]));
+        }
+        return invertMatch ? matched.not() : matched;
+    }
+
+    @Override
+    boolean matches(final float value) {
+        for (final float candidate : values) {
+            if (value == candidate) {
+                return !invertMatch;
+            }
+        }
+        return invertMatch;
+    }
+}
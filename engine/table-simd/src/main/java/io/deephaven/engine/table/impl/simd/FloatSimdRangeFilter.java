@@ -0,0 +1,77 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.simd;
+
+import io.deephaven.util.compare.FloatComparisons;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+
+import static io.deephaven.util.QueryConstants.NULL_FLOAT;
+
+/**
+ * A vectorized range filter for {@code float} values, using the ordering of {@link FloatComparisons}: null is less
+ * than every other value, and NaN is greater than every other value.
+ */
+final class FloatSimdRangeFilter extends FloatSimdChunkFilter {
+
+    private final float lower;
+    private final float upper;
+    private final boolean lowerInclusive;
+    private final boolean upperInclusive;
+
+    FloatSimdRangeFilter(
+            final float lower,
+            final float upper,
+            final boolean lowerInclusive,
+            final boolean upperInclusive) {
+        this.lower = lower;
+        this.upper = upper;
+        this.lowerInclusive = lowerInclusive;
+        this.upperInclusive = upperInclusive;
+    }
+
+    @Override
+    VectorMask<Float> matches(final FloatVector values) {
+        final VectorMask<Float> aboveLower = lowerInclusive ? geq(values, lower) : leq(values, lower).not();
+        final VectorMask<Float> belowUpper = upperInclusive ? leq(values, upper) : geq(values, upper).not();
+        return aboveLower.and(belowUpper);
+    }
+
+    @Override
+    boolean matches(final float value) {
+        return (lowerInclusive ? FloatComparisons.geq(value, lower) : FloatComparisons.gt(value, lower))
+                && (upperInclusive ? FloatComparisons.leq(value, upper) : FloatComparisons.lt(value, upper));
+    }
+
+    /**
+     * Lane-wise {@link FloatComparisons#geq(float, float)}.
+     */
+    private static VectorMask<Float> geq(final FloatVector values, final float bound) {
+        if (bound == NULL_FLOAT) {
+            return SPECIES.maskAll(true);
+        }
+        final VectorMask<Float> isNaN = values.test(VectorOperators.IS_NAN);
+        if (Float.isNaN(bound)) {
+            return isNaN;
+        }
+        return values.compare(VectorOperators.GE, bound)
+                .and(values.compare(VectorOperators.NE, NULL_FLOAT))
+                .or(isNaN);
+    }
+
+    /**
+     * Lane-wise {@link FloatComparisons#leq(float, float)}.
+     */
+    private static VectorMask<Float> leq(final FloatVector values, final float bound) {
+        if (Float.isNaN(bound)) {
+            return SPECIES.maskAll(true);
+        }
+        final VectorMask<Float> isNull = values.compare(VectorOperators.EQ, NULL_FLOAT);
+        if (bound == NULL_FLOAT) {
+            return isNull;
+        }
+        return values.compare(VectorOperators.LE, bound).or(isNull);
+    }
+}
@@ -0,0 +1,46 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.simd;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+
+/**
+ * A vectorized match filter for a small set of {@code int} values, which compares each vector against every value.
+ */
+final class IntSimdMatchFilter extends IntSimdChunkFilter {
+
+    /**
+     * The largest number of values we compare directly; larger sets are left to the scalar hash set filters.
+     */
+    static final int MAX_VALUES = 8;
+
+    private final boolean invertMatch;
+    private final int[] values;
+
+    IntSimdMatchFilter(final boolean invertMatch, final int[] values) {
+        this.invertMatch = invertMatch;
+        this.values = values.clone();
+    }
+
+    @Override
+    VectorMask<Integer> matches(final IntVector chunkValues) {
+        VectorMask<Integer> matched = chunkValues.compare(VectorOperators.EQ, values[0]);
+        for (int vi = 1; vi < values.length; ++vi) {
+            matched = matched.or(chunkValues.compare(VectorOperators.EQ, values[vi]));
+        }
+        return invertMatch ? matched.not() : matched;
+    }
+
+    @Override
+    boolean matches(final int value) {
+        for (final int candidate : values) {
+            if (value == candidate) {
+                return !invertMatch;
+            }
+        }
+        return invertMatch;
+    }
+}
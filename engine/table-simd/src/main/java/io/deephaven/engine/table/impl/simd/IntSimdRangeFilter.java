@@ -0,0 +1,50 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.simd;
+
+import io.deephaven.engine.table.impl.chunkfilter.ChunkFilter;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+
+/**
+ * A vectorized range filter for {@code int} values. Deephaven's {@code int} null is {@link Integer#MIN_VALUE}, so the
+ * natural ordering of the values is the engine's ordering, and exclusive bounds are converted to inclusive bounds.
+ */
+final class IntSimdRangeFilter extends IntSimdChunkFilter {
+
+    static ChunkFilter make(int lower, int upper, final boolean lowerInclusive, final boolean upperInclusive) {
+        if (!lowerInclusive) {
+            if (lower == Integer.MAX_VALUE) {
+                return ChunkFilter.FALSE_FILTER_INSTANCE;
+            }
+            ++lower;
+        }
+        if (!upperInclusive) {
+            if (upper == Integer.MIN_VALUE) {
+                return ChunkFilter.FALSE_FILTER_INSTANCE;
+            }
+            --upper;
+        }
+        return new IntSimdRangeFilter(lower, upper);
+    }
+
+    private final int lower;
+    private final int upper;
+
+    private IntSimdRangeFilter(final int lower, final int upper) {
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    @Override
+    VectorMask<Integer> matches(final IntVector values) {
+        return values.compare(VectorOperators.GE, lower).and(values.compare(VectorOperators.LE, upper));
+    }
+
+    @Override
+    boolean matches(final int value) {
+        return value >= lower && value <= upper;
+    }
+}
@@ -0,0 +1,173 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.simd;
+
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.attributes.Any;
+import io.deephaven.engine.table.impl.by.VectorizedAggregationKernels;
+import io.deephaven.util.mutable.MutableInt;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.apache.commons.lang3.mutable.MutableDouble;
+
+import static io.deephaven.util.QueryConstants.NULL_LONG;
+
+/**
+ * Vectorized {@code long} aggregation kernels. Each run is processed {@link #SPECIES one vector} at a time; runs
+ * shorter than a vector, and the values at the end of a run that do not fill a whole vector, are processed without
+ * copying them out of the chunk.
+ */
+final class LongSimdAggregationKernel implements VectorizedAggregationKernels.LongKernel {
+
+    static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLE_SPECIES = SPECIES.withLanes(double.class);
+
+    static final LongSimdAggregationKernel INSTANCE = new LongSimdAggregationKernel();
+
+    private LongSimdAggregationKernel() {}
+
+    @Override
+    public long sum(
+            final LongChunk<? extends Any> values,
+            final int chunkStart,
+            final int chunkSize,
+            final MutableInt nonNullCount) {
+        final int vectorLimit = SPECIES.loopBound(chunkSize);
+        long sum = 0;
+        int nonNull = 0;
+        if (vectorLimit > 0) {
+            final long[] data = SimdScratch.get().longs(vectorLimit);
+            values.copyToTypedArray(chunkStart, data, 0, vectorLimit);
+            LongVector sums = LongVector.zero(SPECIES);
+            for (int ii = 0; ii < vectorLimit; ii += SPECIES.length()) {
+                final LongVector vector = LongVector.fromArray(SPECIES, data, ii);
+                final VectorMask<Long> isNotNull = vector.compare(VectorOperators.NE, NULL_LONG);
+                sums = sums.add(vector, isNotNull);
+                nonNull += isNotNull.trueCount();
+            }
+            sum = sums.reduceLanes(VectorOperators.ADD);
+        }
+        for (int ii = chunkStart + vectorLimit; ii < chunkStart + chunkSize; ++ii) {
+            final long value = values.get(ii);
+            if (value != NULL_LONG) {
+                sum += value;
+                ++nonNull;
+            }
+        }
+        nonNullCount.add(nonNull);
+        return sum;
+    }
+
+    @Override
+    public double sum2(
+            final LongChunk<? extends Any> values,
+            final int chunkStart,
+            final int chunkSize,
+            final MutableInt nonNullCount,
+            final MutableDouble sum2out) {
+        final int vectorLimit = SPECIES.loopBound(chunkSize);
+        double sum = 0;
+        double sum2 = 0;
+        int nonNull = 0;
+        if (vectorLimit > 0) {
+            final long[] data = SimdScratch.get().longs(vectorLimit);
+            values.copyToTypedArray(chunkStart, data, 0, vectorLimit);
+            DoubleVector sums = DoubleVector.zero(DOUBLE_SPECIES);
+            DoubleVector sum2s = DoubleVector.zero(DOUBLE_SPECIES);
+            for (int ii = 0; ii < vectorLimit; ii += SPECIES.length()) {
+                final LongVector vector = LongVector.fromArray(SPECIES, data, ii);
+                final VectorMask<Long> isNotNull = vector.compare(VectorOperators.NE, NULL_LONG);
+                final VectorMask<Double> include = isNotNull.cast(DOUBLE_SPECIES);
+                final DoubleVector doubles = (DoubleVector) vector.convert(VectorOperators.L2D, 0);
+                sums = sums.add(doubles, include);
+                sum2s = sum2s.add(doubles.mul(doubles), include);
+                nonNull += isNotNull.trueCount();
+            }
+            sum = sums.reduceLanes(VectorOperators.ADD);
+            sum2 = sum2s.reduceLanes(VectorOperators.ADD);
+        }
+        for (int ii = chunkStart + vectorLimit; ii < chunkStart + chunkSize; ++ii) {
+            final long value = values.get(ii);
+            if (value != NULL_LONG) {
+                final double doubleValue = value;
+                sum += doubleValue;
+                sum2 += doubleValue * doubleValue;
+                ++nonNull;
+            }
+        }
+        nonNullCount.add(nonNull);
+        sum2out.setValue(sum2);
+        return sum;
+    }
+
+    @Override
+    public long min(
+            final LongChunk<?> values,
+            final MutableInt chunkNonNull,
+            final int chunkStart,
+            final int chunkEnd) {
+        final int chunkSize = chunkEnd - chunkStart;
+        final int vectorLimit = SPECIES.loopBound(chunkSize);
+        // Nulls are replaced by MAX_VALUE, which cannot change the minimum of a run with any non-null values
+        long value = Long.MAX_VALUE;
+        int nonNull = 0;
+        if (vectorLimit > 0) {
+            final long[] data = SimdScratch.get().longs(vectorLimit);
+            values.copyToTypedArray(chunkStart, data, 0, vectorLimit);
+            LongVector mins = LongVector.broadcast(SPECIES, Long.MAX_VALUE);
+            for (int ii = 0; ii < vectorLimit; ii += SPECIES.length()) {
+                final LongVector vector = LongVector.fromArray(SPECIES, data, ii);
+                final VectorMask<Long> isNull = vector.compare(VectorOperators.EQ, NULL_LONG);
+                mins = mins.min(vector.blend(Long.MAX_VALUE, isNull));
+                nonNull += SPECIES.length() - isNull.trueCount();
+            }
+            value = mins.reduceLanes(VectorOperators.MIN);
+        }
+        for (int ii = chunkStart + vectorLimit; ii < chunkEnd; ++ii) {
+            final long candidate = values.get(ii);
+            if (candidate != NULL_LONG) {
+                value = Math.min(value, candidate);
+                ++nonNull;
+            }
+        }
+        chunkNonNull.set(nonNull);
+        return nonNull == 0 ? NULL_LONG : value;
+    }
+
+    @Override
+    public long max(
+            final LongChunk<?> values,
+            final MutableInt chunkNonNull,
+            final int chunkStart,
+            final int chunkEnd) {
+        final int chunkSize = chunkEnd - chunkStart;
+        final int vectorLimit = SPECIES.loopBound(chunkSize);
+        // Null is MIN_VALUE, so it never exceeds a non-null value, and is the result for a run of nulls
+        long value = NULL_LONG;
+        int nonNull = 0;
+        if (vectorLimit > 0) {
+            final long[] data = SimdScratch.get().longs(vectorLimit);
+            values.copyToTypedArray(chunkStart, data, 0, vectorLimit);
+            LongVector maxes = LongVector.broadcast(SPECIES, NULL_LONG);
+            for (int ii = 0; ii < vectorLimit; ii += SPECIES.length()) {
+                final LongVector vector = LongVector.fromArray(SPECIES, data, ii);
+                maxes = maxes.max(vector);
+                nonNull += vector.compare(VectorOperators.NE, NULL_LONG).trueCount();
+            }
+            value = maxes.reduceLanes(VectorOperators.MAX);
+        }
+        for (int ii = chunkStart + vectorLimit; ii < chunkEnd; ++ii) {
+            final long candidate = values.get(ii);
+            if (candidate != NULL_LONG) {
+                value = Math.max(value, candidate);
+                ++nonNull;
+            }
+        }
+        chunkNonNull.set(nonNull);
+        return value;
+    }
+}
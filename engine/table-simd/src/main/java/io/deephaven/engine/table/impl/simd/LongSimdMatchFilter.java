@@ -0,0 +1,46 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.simd;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+
+/**
+ * A vectorized match filter for a small set of {@code long} values, which compares each vector against every value.
+ */
+final class LongSimdMatchFilter extends LongSimdChunkFilter {
+
+    /**
+     * The largest number of values we compare directly; larger sets are left to the scalar hash set filters.
+     */
+    static final int MAX_VALUES = 8;
+
+    private final boolean invertMatch;
+    private final long[] values;
+
+    LongSimdMatchFilter(final boolean invertMatch, final long[] values) {
+        this.invertMatch = invertMatch;
+        this.values = values.clone();
+    }
+
+    @Override
+    VectorMask<Long> matches(final LongVector chunkValues) {
+        VectorMask<Long> matched = chunkValues.compare(VectorOperators.EQ, values[0]);
+        for (int vi = 1; vi < values.length; ++vi) {
+            matched = matched.or(chunkValues.compare(VectorOperators.EQ, values[vi]));
+        }
+        return invertMatch ? matched.not() : matched;
+    }
+
+    @Override
+    boolean matches(final long value) {
+        for (final long candidate : values) {
+            if (value == candidate) {
+                return !invertMatch;
+            }
+        }
+        return invertMatch;
+    }
+}
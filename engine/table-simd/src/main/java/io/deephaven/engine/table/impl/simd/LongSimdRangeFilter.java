@@ -0,0 +1,50 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.simd;
+
+import io.deephaven.engine.table.impl.chunkfilter.ChunkFilter;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+
+/**
+ * A vectorized range filter for {@code long} values. Deephaven's {@code long} null is {@link Long#MIN_VALUE}, so the
+ * natural ordering of the values is the engine's ordering, and exclusive bounds are converted to inclusive bounds.
+ */
+final class LongSimdRangeFilter extends LongSimdChunkFilter {
+
+    static ChunkFilter make(long lower, long upper, final boolean lowerInclusive, final boolean upperInclusive) {
+        if (!lowerInclusive) {
+            if (lower == Long.MAX_VALUE) {
+                return ChunkFilter.FALSE_FILTER_INSTANCE;
+            }
+            ++lower;
+        }
+        if (!upperInclusive) {
+            if (upper == Long.MIN_VALUE) {
+                return ChunkFilter.FALSE_FILTER_INSTANCE;
+            }
+            --upper;
+        }
+        return new LongSimdRangeFilter(lower, upper);
+    }
+
+    private final long lower;
+    private final long upper;
+
+    private LongSimdRangeFilter(final long lower, final long upper) {
+        this.lower = lower;
+        this.upper = upper;
+    }
+
+    @Override
+    VectorMask<Long> matches(final LongVector values) {
+        return values.compare(VectorOperators.GE, lower).and(values.compare(VectorOperators.LE, upper));
+    }
+
+    @Override
+    boolean matches(final long value) {
+        return value >= lower && value <= upper;
+    }
+}
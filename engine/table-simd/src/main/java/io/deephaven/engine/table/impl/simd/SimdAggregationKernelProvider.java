@@ -0,0 +1,34 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.simd;
+
+import com.google.auto.service.AutoService;
+import io.deephaven.engine.table.impl.by.VectorizedAggregationKernels;
+
+/**
+ * {@link VectorizedAggregationKernels.Provider} implemented with the incubating {@code jdk.incubator.vector} API,
+ * supplying {@code long} and {@code double} kernels.
+ *
+ * <p>
+ * The JVM must be started with {@code --add-modules jdk.incubator.vector}, and {@code Aggregation.vectorized} must be
+ * set to {@code true}.
+ */
+@AutoService(VectorizedAggregationKernels.Provider.class)
+public final class SimdAggregationKernelProvider implements VectorizedAggregationKernels.Provider {
+
+    public SimdAggregationKernelProvider() {
+        // Fail while the service is being loaded, rather than on first use, if the Vector API is not available
+        LongSimdAggregationKernel.SPECIES.length();
+    }
+
+    @Override
+    public VectorizedAggregationKernels.LongKernel longKernel() {
+        return LongSimdAggregationKernel.INSTANCE;
+    }
+
+    @Override
+    public VectorizedAggregationKernels.DoubleKernel doubleKernel() {
+        return DoubleSimdAggregationKernel.INSTANCE;
+    }
+}
@@ -0,0 +1,78 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.simd;
+
+import com.google.auto.service.AutoService;
+import io.deephaven.engine.table.impl.chunkfilter.ChunkFilter;
+import io.deephaven.engine.table.impl.chunkfilter.VectorizedChunkFilters;
+
+/**
+ * {@link VectorizedChunkFilters.Provider} implemented with the incubating {@code jdk.incubator.vector} API. Range
+ * filters are provided for {@code int}, {@code long}, {@code float} and {@code double} values; match filters, which
+ * also serve as null checks, for small sets of the same types. The narrower types are left to the scalar filters.
+ *
+ * <p>
+ * The JVM must be started with {@code --add-modules jdk.incubator.vector}, and {@code ChunkFilter.vectorized} must be
+ * set to {@code true}.
+ */
+@AutoService(VectorizedChunkFilters.Provider.class)
+public final class SimdChunkFilterProvider implements VectorizedChunkFilters.Provider {
+
+    public SimdChunkFilterProvider() {
+        // Fail while the service is being loaded, rather than on first use, if the Vector API is not available
+        LongSimdChunkFilter.SPECIES.length();
+    }
+
+    @Override
+    public ChunkFilter makeRangeFilter(int lower, int upper, boolean lowerInclusive, boolean upperInclusive) {
+        return IntSimdRangeFilter.make(lower, upper, lowerInclusive, upperInclusive);
+    }
+
+    @Override
+    public ChunkFilter makeRangeFilter(long lower, long upper, boolean lowerInclusive, boolean upperInclusive) {
+        return LongSimdRangeFilter.make(lower, upper, lowerInclusive, upperInclusive);
+    }
+
+    @Override
+    public ChunkFilter makeRangeFilter(float lower, float upper, boolean lowerInclusive, boolean upperInclusive) {
+        return new FloatSimdRangeFilter(lower, upper, lowerInclusive, upperInclusive);
+    }
+
+    @Override
+    public ChunkFilter makeRangeFilter(double lower, double upper, boolean lowerInclusive, boolean upperInclusive) {
+        return new DoubleSimdRangeFilter(lower, upper, lowerInclusive, upperInclusive);
+    }
+
+    @Override
+    public ChunkFilter makeMatchFilter(boolean invertMatch, int... values) {
+        if (values.length == 0 || values.length > IntSimdMatchFilter.MAX_VALUES) {
+            return null;
+        }
+        return new IntSimdMatchFilter(invertMatch, values);
+    }
+
+    @Override
+    public ChunkFilter makeMatchFilter(boolean invertMatch, long... values) {
+        if (values.length == 0 || values.length > LongSimdMatchFilter.MAX_VALUES) {
+            return null;
+        }
+        return new LongSimdMatchFilter(invertMatch, values);
+    }
+
+    @Override
+    public ChunkFilter makeMatchFilter(boolean invertMatch, float... values) {
+        if (values.length == 0 || values.length > FloatSimdMatchFilter.MAX_VALUES) {
+            return null;
+        }
+        return new FloatSimdMatchFilter(invertMatch, values);
+    }
+
+    @Override
+    public ChunkFilter makeMatchFilter(boolean invertMatch, double... values) {
+        if (values.length == 0 || values.length > DoubleSimdMatchFilter.MAX_VALUES) {
+            return null;
+        }
+        return new DoubleSimdMatchFilter(invertMatch, values);
+    }
+}
@@ -0,0 +1,60 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.simd;
+
+/**
+ * Per-thread scratch arrays for the vectorized kernels. Chunks do not expose their backing arrays at a zero offset, so
+ * values are copied into these arrays before they are loaded into vectors. The arrays only grow.
+ */
+final class SimdScratch {
+
+    private static final ThreadLocal<SimdScratch> SCRATCH = ThreadLocal.withInitial(SimdScratch::new);
+
+    private boolean[] booleans = new boolean[0];
+    private int[] ints = new int[0];
+    private long[] longs = new long[0];
+    private float[] floats = new float[0];
+    private double[] doubles = new double[0];
+
+    private SimdScratch() {}
+
+    static SimdScratch get() {
+        return SCRATCH.get();
+    }
+
+    boolean[] booleans(final int minSize) {
+        if (booleans.length < minSize) {
+            booleans = new boolean[minSize];
+        }
+        return booleans;
+    }
+
+    int[] ints(final int minSize) {
+        if (ints.length < minSize) {
+            ints = new int[minSize];
+        }
+        return ints;
+    }
+
+    long[] longs(final int minSize) {
+        if (longs.length < minSize) {
+            longs = new long[minSize];
+        }
+        return longs;
+    }
+
+    float[] floats(final int minSize) {
+        if (floats.length < minSize) {
+            floats = new float[minSize];
+        }
+        return floats;
+    }
+
+    double[] doubles(final int minSize) {
+        if (doubles.length < minSize) {
+            doubles = new double[minSize];
+        }
+        return doubles;
+    }
+}
@@ -0,0 +1,203 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.simd;
+
+import io.deephaven.chunk.DoubleChunk;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.util.compare.DoubleComparisons;
+import io.deephaven.util.mutable.MutableInt;
+import org.apache.commons.lang3.mutable.MutableDouble;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static io.deephaven.util.QueryConstants.NULL_DOUBLE;
+import static io.deephaven.util.QueryConstants.NULL_LONG;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the vectorized aggregation kernels against straightforward scalar implementations of the same contracts.
+ * Values are small multiples of one half, so floating point sums are exact in any order.
+ */
+public class SimdAggregationKernelTest {
+
+    private static final int SIZE = 4099;
+
+    private static final long[] LONG_SPECIALS = {NULL_LONG, Long.MIN_VALUE + 1, Long.MAX_VALUE};
+    private static final double[] DOUBLE_SPECIALS =
+            {NULL_DOUBLE, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+
+    private final Random random = new Random(0);
+
+    @Test
+    void longKernels() {
+        for (final int specialPercent : new int[] {0, 10, 100}) {
+            final LongChunk<Values> values = LongChunk.chunkWrap(randomLongs(specialPercent));
+            for (final int[] run : runs()) {
+                final int start = run[0];
+                final int size = run[1];
+
+                int nonNull = 0;
+                long expectedSum = 0;
+                long expectedMin = NULL_LONG;
+                long expectedMax = NULL_LONG;
+                for (int ii = start; ii < start + size; ++ii) {
+                    final long value = values.get(ii);
+                    if (value != NULL_LONG) {
+                        expectedSum += value;
+                        expectedMin = nonNull++ == 0 ? value : Math.min(expectedMin, value);
+                        expectedMax = Math.max(expectedMax, value);
+                    }
+                }
+
+                // The sum kernels add to the count, rather than setting it
+                final MutableInt nonNullCount = new MutableInt(3);
+                assertThat(LongSimdAggregationKernel.INSTANCE.sum(values, start, size, nonNullCount))
+                        .isEqualTo(expectedSum);
+                assertThat(nonNullCount.get()).isEqualTo(nonNull + 3);
+
+                final MutableInt chunkNonNull = new MutableInt();
+                assertThat(LongSimdAggregationKernel.INSTANCE.min(values, chunkNonNull, start, start + size))
+                        .isEqualTo(expectedMin);
+                assertThat(chunkNonNull.get()).isEqualTo(nonNull);
+                assertThat(LongSimdAggregationKernel.INSTANCE.max(values, chunkNonNull, start, start + size))
+                        .isEqualTo(expectedMax);
+                assertThat(chunkNonNull.get()).isEqualTo(nonNull);
+            }
+        }
+    }
+
+    @Test
+    void longSum2() {
+        // Small values, so that the double sums are exact in any order
+        final long[] data = new long[SIZE];
+        for (int ii = 0; ii < SIZE; ++ii) {
+            data[ii] = random.nextInt(10) == 0 ? NULL_LONG : random.nextInt(2001) - 1000;
+        }
+        final LongChunk<Values> values = LongChunk.chunkWrap(data);
+        for (final int[] run : runs()) {
+            final int start = run[0];
+            final int size = run[1];
+            double expectedSum = 0;
+            double expectedSum2 = 0;
+            int expectedCount = 0;
+            for (int ii = start; ii < start + size; ++ii) {
+                if (data[ii] != NULL_LONG) {
+                    expectedSum += data[ii];
+                    expectedSum2 += (double) data[ii] * data[ii];
+                    ++expectedCount;
+                }
+            }
+            final MutableInt count = new MutableInt();
+            final MutableDouble sum2 = new MutableDouble();
+            assertThat(LongSimdAggregationKernel.INSTANCE.sum2(values, start, size, count, sum2))
+                    .isEqualTo(expectedSum);
+            assertThat(sum2.doubleValue()).isEqualTo(expectedSum2);
+            assertThat(count.get()).isEqualTo(expectedCount);
+        }
+    }
+
+    @Test
+    void doubleKernels() {
+        for (final int specialPercent : new int[] {0, 5, 100}) {
+            final DoubleChunk<Values> values = DoubleChunk.chunkWrap(randomDoubles(specialPercent));
+            for (final int[] run : runs()) {
+                final int start = run[0];
+                final int size = run[1];
+
+                int normal = 0;
+                int nan = 0;
+                int infinity = 0;
+                int minusInfinity = 0;
+                int nonNull = 0;
+                double expectedSum = 0;
+                double expectedSum2 = 0;
+                double expectedMin = NULL_DOUBLE;
+                double expectedMax = NULL_DOUBLE;
+                for (int ii = start; ii < start + size; ++ii) {
+                    final double value = values.get(ii);
+                    if (value == NULL_DOUBLE) {
+                        continue;
+                    }
+                    if (nonNull++ == 0) {
+                        expectedMin = expectedMax = value;
+                    } else {
+                        expectedMin = DoubleComparisons.lt(value, expectedMin) ? value : expectedMin;
+                        expectedMax = DoubleComparisons.gt(value, expectedMax) ? value : expectedMax;
+                    }
+                    if (Double.isNaN(value)) {
+                        ++nan;
+                    } else if (value == Double.POSITIVE_INFINITY) {
+                        ++infinity;
+                    } else if (value == Double.NEGATIVE_INFINITY) {
+                        ++minusInfinity;
+                    } else {
+                        expectedSum += value;
+                        expectedSum2 += value * value;
+                        ++normal;
+                    }
+                }
+
+                final MutableInt normalCount = new MutableInt(1);
+                final MutableInt nanCount = new MutableInt(2);
+                final MutableInt infinityCount = new MutableInt(3);
+                final MutableInt minusInfinityCount = new MutableInt(4);
+                assertThat(DoubleSimdAggregationKernel.INSTANCE.sum(values, start, size, normalCount, nanCount,
+                        infinityCount, minusInfinityCount)).isEqualTo(expectedSum);
+                assertThat(normalCount.get()).isEqualTo(normal + 1);
+                assertThat(nanCount.get()).isEqualTo(nan + 2);
+                assertThat(infinityCount.get()).isEqualTo(infinity + 3);
+                assertThat(minusInfinityCount.get()).isEqualTo(minusInfinity + 4);
+
+                final MutableDouble sum2 = new MutableDouble();
+                assertThat(DoubleSimdAggregationKernel.INSTANCE.sum2(values, start, size, normalCount, nanCount,
+                        infinityCount, minusInfinityCount, sum2)).isEqualTo(expectedSum);
+                assertThat(sum2.doubleValue()).isEqualTo(expectedSum2);
+                assertThat(normalCount.get()).isEqualTo(2 * normal + 1);
+
+                final MutableInt chunkNonNull = new MutableInt();
+                assertThat(DoubleSimdAggregationKernel.INSTANCE.min(values, chunkNonNull, start, start + size))
+                        .isEqualTo(expectedMin);
+                assertThat(chunkNonNull.get()).isEqualTo(nonNull);
+                assertThat(DoubleSimdAggregationKernel.INSTANCE.max(values, chunkNonNull, start, start + size))
+                        .isEqualTo(expectedMax);
+                assertThat(chunkNonNull.get()).isEqualTo(nonNull);
+            }
+        }
+    }
+
+    /**
+     * @return {start, size} pairs, including empty runs, runs shorter than any vector, and runs with a partial vector
+     */
+    private int[][] runs() {
+        final int[][] runs = new int[64][];
+        for (int ri = 0; ri < runs.length; ++ri) {
+            final int size = ri < 16 ? ri : random.nextInt(SIZE);
+            runs[ri] = new int[] {random.nextInt(SIZE - size + 1), size};
+        }
+        runs[runs.length - 1] = new int[] {0, SIZE};
+        return runs;
+    }
+
+    private long[] randomLongs(final int specialPercent) {
+        final long[] values = new long[SIZE];
+        for (int ii = 0; ii < SIZE; ++ii) {
+            values[ii] = random.nextInt(100) < specialPercent
+                    ? LONG_SPECIALS[random.nextInt(LONG_SPECIALS.length)]
+                    : random.nextLong();
+        }
+        return values;
+    }
+
+    private double[] randomDoubles(final int specialPercent) {
+        final double[] values = new double[SIZE];
+        for (int ii = 0; ii < SIZE; ++ii) {
+            values[ii] = random.nextInt(100) < specialPercent
+                    ? DOUBLE_SPECIALS[random.nextInt(DOUBLE_SPECIALS.length)]
+                    : (random.nextInt(2001) - 1000) / 2.0;
+        }
+        return values;
+    }
+}
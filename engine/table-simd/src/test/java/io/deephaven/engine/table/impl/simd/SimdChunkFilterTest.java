@@ -0,0 +1,258 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.simd;
+
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.DoubleChunk;
+import io.deephaven.chunk.FloatChunk;
+import io.deephaven.chunk.IntChunk;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.WritableBooleanChunk;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.chunkattributes.OrderedRowKeys;
+import io.deephaven.engine.table.impl.chunkfilter.ChunkFilter;
+import io.deephaven.engine.table.impl.chunkfilter.DoubleChunkMatchFilterFactory;
+import io.deephaven.engine.table.impl.chunkfilter.DoubleRangeComparator;
+import io.deephaven.engine.table.impl.chunkfilter.FloatChunkMatchFilterFactory;
+import io.deephaven.engine.table.impl.chunkfilter.FloatRangeComparator;
+import io.deephaven.engine.table.impl.chunkfilter.IntChunkMatchFilterFactory;
+import io.deephaven.engine.table.impl.chunkfilter.IntRangeComparator;
+import io.deephaven.engine.table.impl.chunkfilter.LongChunkMatchFilterFactory;
+import io.deephaven.engine.table.impl.chunkfilter.LongRangeComparator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static io.deephaven.util.QueryConstants.NULL_DOUBLE;
+import static io.deephaven.util.QueryConstants.NULL_FLOAT;
+import static io.deephaven.util.QueryConstants.NULL_INT;
+import static io.deephaven.util.QueryConstants.NULL_LONG;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the vectorized filters against the scalar filters in {@code engine-table}, which are always used by the
+ * comparators here because {@code ChunkFilter.vectorized} is not set.
+ */
+public class SimdChunkFilterTest {
+
+    // Not a multiple of any vector length, so that every kernel exercises its scalar tail
+    private static final int SIZE = 1037;
+
+    private static final int[] INT_BOUNDS = {NULL_INT, Integer.MIN_VALUE + 1, -7, 0, 3, Integer.MAX_VALUE};
+    private static final long[] LONG_BOUNDS = {NULL_LONG, Long.MIN_VALUE + 1, -7, 0, 3, Long.MAX_VALUE};
+    private static final float[] FLOAT_BOUNDS =
+            {NULL_FLOAT, Float.NEGATIVE_INFINITY, -7.5f, -0.0f, 0.0f, 3, Float.POSITIVE_INFINITY, Float.NaN};
+    private static final double[] DOUBLE_BOUNDS =
+            {NULL_DOUBLE, Double.NEGATIVE_INFINITY, -7.5, -0.0, 0.0, 3, Double.POSITIVE_INFINITY, Double.NaN};
+
+    private final Random random = new Random(0);
+
+    @Test
+    void intRange() {
+        final IntChunk<Values> values = IntChunk.chunkWrap(randomValues(INT_BOUNDS));
+        for (final int lower : INT_BOUNDS) {
+            for (final int upper : INT_BOUNDS) {
+                for (int inclusive = 0; inclusive < 4; ++inclusive) {
+                    final boolean lowerInclusive = (inclusive & 1) != 0;
+                    final boolean upperInclusive = (inclusive & 2) != 0;
+                    assertSameResults(
+                            IntRangeComparator.makeIntFilter(lower, upper, lowerInclusive, upperInclusive),
+                            IntSimdRangeFilter.make(lower, upper, lowerInclusive, upperInclusive),
+                            values);
+                }
+            }
+        }
+    }
+
+    @Test
+    void longRange() {
+        final LongChunk<Values> values = LongChunk.chunkWrap(randomValues(LONG_BOUNDS));
+        for (final long lower : LONG_BOUNDS) {
+            for (final long upper : LONG_BOUNDS) {
+                for (int inclusive = 0; inclusive < 4; ++inclusive) {
+                    final boolean lowerInclusive = (inclusive & 1) != 0;
+                    final boolean upperInclusive = (inclusive & 2) != 0;
+                    assertSameResults(
+                            LongRangeComparator.makeLongFilter(lower, upper, lowerInclusive, upperInclusive),
+                            LongSimdRangeFilter.make(lower, upper, lowerInclusive, upperInclusive),
+                            values);
+                }
+            }
+        }
+    }
+
+    @Test
+    void floatRange() {
+        final FloatChunk<Values> values = FloatChunk.chunkWrap(randomValues(FLOAT_BOUNDS));
+        for (final float lower : FLOAT_BOUNDS) {
+            for (final float upper : FLOAT_BOUNDS) {
+                for (int inclusive = 0; inclusive < 4; ++inclusive) {
+                    final boolean lowerInclusive = (inclusive & 1) != 0;
+                    final boolean upperInclusive = (inclusive & 2) != 0;
+                    assertSameResults(
+                            FloatRangeComparator.makeFloatFilter(lower, upper, lowerInclusive, upperInclusive),
+                            new FloatSimdRangeFilter(lower, upper, lowerInclusive, upperInclusive),
+                            values);
+                }
+            }
+        }
+    }
+
+    @Test
+    void doubleRange() {
+        final DoubleChunk<Values> values = DoubleChunk.chunkWrap(randomValues(DOUBLE_BOUNDS));
+        for (final double lower : DOUBLE_BOUNDS) {
+            for (final double upper : DOUBLE_BOUNDS) {
+                for (int inclusive = 0; inclusive < 4; ++inclusive) {
+                    final boolean lowerInclusive = (inclusive & 1) != 0;
+                    final boolean upperInclusive = (inclusive & 2) != 0;
+                    assertSameResults(
+                            DoubleRangeComparator.makeDoubleFilter(lower, upper, lowerInclusive, upperInclusive),
+                            new DoubleSimdRangeFilter(lower, upper, lowerInclusive, upperInclusive),
+                            values);
+                }
+            }
+        }
+    }
+
+    @Test
+    void intMatch() {
+        final IntChunk<Values> values = IntChunk.chunkWrap(randomValues(INT_BOUNDS));
+        for (int count = 1; count <= IntSimdMatchFilter.MAX_VALUES; ++count) {
+            final int[] keys = Arrays.copyOf(randomValues(INT_BOUNDS), count);
+            for (final boolean invertMatch : new boolean[] {false, true}) {
+                assertSameResults(
+                        IntChunkMatchFilterFactory.makeFilter(invertMatch, keys),
+                        new IntSimdMatchFilter(invertMatch, keys),
+                        values);
+            }
+        }
+    }
+
+    @Test
+    void longMatch() {
+        final LongChunk<Values> values = LongChunk.chunkWrap(randomValues(LONG_BOUNDS));
+        for (int count = 1; count <= LongSimdMatchFilter.MAX_VALUES; ++count) {
+            final long[] keys = Arrays.copyOf(randomValues(LONG_BOUNDS), count);
+            for (final boolean invertMatch : new boolean[] {false, true}) {
+                assertSameResults(
+                        LongChunkMatchFilterFactory.makeFilter(invertMatch, keys),
+                        new LongSimdMatchFilter(invertMatch, keys),
+                        values);
+            }
+        }
+    }
+
+    @Test
+    void floatMatch() {
+        final FloatChunk<Values> values = FloatChunk.chunkWrap(randomValues(FLOAT_BOUNDS));
+        for (int count = 1; count <= FloatSimdMatchFilter.MAX_VALUES; ++count) {
+            final float[] keys = Arrays.copyOf(randomValues(FLOAT_BOUNDS), count);
+            for (final boolean invertMatch : new boolean[] {false, true}) {
+                assertSameResults(
+                        FloatChunkMatchFilterFactory.makeFilter(invertMatch, keys),
+                        new FloatSimdMatchFilter(invertMatch, keys),
+                        values);
+            }
+        }
+    }
+
+    @Test
+    void doubleMatch() {
+        final DoubleChunk<Values> values = DoubleChunk.chunkWrap(randomValues(DOUBLE_BOUNDS));
+        for (int count = 1; count <= DoubleSimdMatchFilter.MAX_VALUES; ++count) {
+            final double[] keys = Arrays.copyOf(randomValues(DOUBLE_BOUNDS), count);
+            for (final boolean invertMatch : new boolean[] {false, true}) {
+                assertSameResults(
+                        DoubleChunkMatchFilterFactory.makeFilter(invertMatch, keys),
+                        new DoubleSimdMatchFilter(invertMatch, keys),
+                        values);
+            }
+        }
+    }
+
+    private int[] randomValues(final int[] specialValues) {
+        final int[] values = new int[SIZE];
+        for (int ii = 0; ii < SIZE; ++ii) {
+            values[ii] = random.nextInt(4) == 0
+                    ? specialValues[random.nextInt(specialValues.length)]
+                    : random.nextInt(21) - 10;
+        }
+        return values;
+    }
+
+    private long[] randomValues(final long[] specialValues) {
+        final long[] values = new long[SIZE];
+        for (int ii = 0; ii < SIZE; ++ii) {
+            values[ii] = random.nextInt(4) == 0
+                    ? specialValues[random.nextInt(specialValues.length)]
+                    : random.nextInt(21) - 10;
+        }
+        return values;
+    }
+
+    private float[] randomValues(final float[] specialValues) {
+        final float[] values = new float[SIZE];
+        for (int ii = 0; ii < SIZE; ++ii) {
+            values[ii] = random.nextInt(4) == 0
+                    ? specialValues[random.nextInt(specialValues.length)]
+                    : (random.nextInt(41) - 20) / 2.0f;
+        }
+        return values;
+    }
+
+    private double[] randomValues(final double[] specialValues) {
+        final double[] values = new double[SIZE];
+        for (int ii = 0; ii < SIZE; ++ii) {
+            values[ii] = random.nextInt(4) == 0
+                    ? specialValues[random.nextInt(specialValues.length)]
+                    : (random.nextInt(41) - 20) / 2.0;
+        }
+        return values;
+    }
+
+    private void assertSameResults(
+            final ChunkFilter expected,
+            final ChunkFilter actual,
+            final Chunk<Values> values) {
+        final int size = values.size();
+
+        final WritableLongChunk<OrderedRowKeys> keys = WritableLongChunk.makeWritableChunk(size);
+        for (int ii = 0; ii < size; ++ii) {
+            keys.set(ii, 3L * ii + 1);
+        }
+        final WritableLongChunk<OrderedRowKeys> expectedKeys = WritableLongChunk.makeWritableChunk(size);
+        final WritableLongChunk<OrderedRowKeys> actualKeys = WritableLongChunk.makeWritableChunk(size);
+        expected.filter(values, keys, expectedKeys);
+        actual.filter(values, keys, actualKeys);
+        assertThat(toArray(actualKeys)).containsExactly(toArray(expectedKeys));
+
+        final WritableBooleanChunk<Values> expectedResults = WritableBooleanChunk.makeWritableChunk(size);
+        final WritableBooleanChunk<Values> actualResults = WritableBooleanChunk.makeWritableChunk(size);
+        assertThat(actual.filter(values, actualResults)).isEqualTo(expected.filter(values, expectedResults));
+        assertThat(toArray(actualResults)).containsExactly(toArray(expectedResults));
+
+        for (int ii = 0; ii < size; ++ii) {
+            final boolean initial = random.nextBoolean();
+            expectedResults.set(ii, initial);
+            actualResults.set(ii, initial);
+        }
+        assertThat(actual.filterAnd(values, actualResults)).isEqualTo(expected.filterAnd(values, expectedResults));
+        assertThat(toArray(actualResults)).containsExactly(toArray(expectedResults));
+    }
+
+    private static long[] toArray(final LongChunk<?> chunk) {
+        final long[] result = new long[chunk.size()];
+        chunk.copyToTypedArray(0, result, 0, result.length);
+        return result;
+    }
+
+    private static boolean[] toArray(final WritableBooleanChunk<?> chunk) {
+        final boolean[] result = new boolean[chunk.size()];
+        chunk.copyToTypedArray(0, result, 0, result.length);
+        return result;
+    }
+}
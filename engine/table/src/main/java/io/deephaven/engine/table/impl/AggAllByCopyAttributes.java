@@ -21,6 +21,9 @@ class AggAllByCopyAttributes implements AggSpec.Visitor {
     @Override
     public void visit(AggSpecAbsSum absSum) {}
 
+    @Override
+    public void visit(AggSpecApproximateCountDistinct approxCountDistinct) {}
+
     @Override
     public void visit(AggSpecApproximatePercentile approxPct) {}
 
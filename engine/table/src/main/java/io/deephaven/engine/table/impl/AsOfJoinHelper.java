@@ -11,6 +11,7 @@ import io.deephaven.chunk.sized.SizedBooleanChunk;
 import io.deephaven.chunk.sized.SizedChunk;
 import io.deephaven.chunk.sized.SizedLongChunk;
 import io.deephaven.chunk.util.hashing.ChunkEquals;
+import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.rowset.*;
 import io.deephaven.engine.rowset.chunkattributes.RowKeys;
 import io.deephaven.engine.table.*;
@@ -28,6 +29,8 @@ import io.deephaven.engine.table.impl.sources.*;
 import io.deephaven.engine.table.impl.ssa.ChunkSsaStamp;
 import io.deephaven.engine.table.impl.ssa.SegmentedSortedArray;
 import io.deephaven.engine.table.impl.ssa.SsaSsaStamp;
+import io.deephaven.engine.table.impl.util.JobScheduler;
+import io.deephaven.engine.table.impl.util.OperationInitializerJobScheduler;
 import io.deephaven.engine.table.impl.util.RowRedirection;
 import io.deephaven.engine.table.impl.util.SingleValueRowRedirection;
 import io.deephaven.engine.table.impl.util.SizedSafeCloseable;
@@ -37,6 +40,7 @@ import io.deephaven.engine.table.impl.util.compact.LongCompactKernel;
 import io.deephaven.util.SafeCloseable;
 import io.deephaven.util.SafeCloseableList;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import javax.annotation.OverridingMethodsMustInvokeSuper;
 import java.util.*;
@@ -201,34 +205,43 @@ public class AsOfJoinHelper {
         final ColumnSource<RowSet> leftDataIndexRowSetColumn = leftDataIndexTable != null
                 ? leftDataIndex.rowSetColumn()
                 : null;
-        try (final AsOfStampContext stampContext = new AsOfStampContext(order, disallowExactMatch, leftStampSource,
-                rightStampSource, originalRightStampSource);
-                final ResettableWritableLongChunk<RowKeys> keyChunk =
-                        ResettableWritableLongChunk.makeResettableChunk();
-                final ResettableWritableChunk<Values> valuesChunk =
-                        rightStampSource.getChunkType().makeResettableWritableChunk()) {
-            for (int slotIndex = 0; slotIndex < slotCount; ++slotIndex) {
-                final int slot = slots.getInt(slotIndex);
-                RowSet leftRowSet = asOfJoinStateManager.getLeftRowSet(slot);
-                if (leftRowSet == null || leftRowSet.isEmpty()) {
-                    continue;
-                }
+        final int stampSegmentCount = arrayValuesCache != null
+                ? 1
+                : Math.min(slotCount, control.probeSegmentCount(leftTable.size(), leftStampSource, rightStampSource));
+        if (stampSegmentCount > 1) {
+            parallelStampSlots(stampSegmentCount, asOfJoinStateManager, slots, slotCount, leftDataIndexRowSetColumn,
+                    order, disallowExactMatch, leftStampSource, rightStampSource, originalRightStampSource,
+                    rowRedirection);
+        } else {
+            try (final AsOfStampContext stampContext = new AsOfStampContext(order, disallowExactMatch, leftStampSource,
+                    rightStampSource, originalRightStampSource);
+                    final ResettableWritableLongChunk<RowKeys> keyChunk =
+                            ResettableWritableLongChunk.makeResettableChunk();
+                    final ResettableWritableChunk<Values> valuesChunk =
+                            rightStampSource.getChunkType().makeResettableWritableChunk()) {
+                for (int slotIndex = 0; slotIndex < slotCount; ++slotIndex) {
+                    final int slot = slots.getInt(slotIndex);
+                    RowSet leftRowSet = asOfJoinStateManager.getLeftRowSet(slot);
+                    if (leftRowSet == null || leftRowSet.isEmpty()) {
+                        continue;
+                    }
 
-                final RowSet rightRowSet = asOfJoinStateManager.getRightRowset(slot);
-                if (rightRowSet == null || rightRowSet.isEmpty()) {
-                    continue;
-                }
+                    final RowSet rightRowSet = asOfJoinStateManager.getRightRowset(slot);
+                    if (rightRowSet == null || rightRowSet.isEmpty()) {
+                        continue;
+                    }
 
-                if (leftDataIndexRowSetColumn != null) {
-                    Assert.eq(leftRowSet.size(), "Indexed left row set size", 1);
-                    leftRowSet = leftDataIndexRowSetColumn.get(leftRowSet.get(0));
-                }
+                    if (leftDataIndexRowSetColumn != null) {
+                        Assert.eq(leftRowSet.size(), "Indexed left row set size", 1);
+                        leftRowSet = leftDataIndexRowSetColumn.get(leftRowSet.get(0));
+                    }
 
-                if (arrayValuesCache != null) {
-                    processLeftSlotWithRightCache(stampContext, leftRowSet, rightRowSet, rowRedirection,
-                            rightStampSource, keyChunk, valuesChunk, arrayValuesCache, slot);
-                } else {
-                    stampContext.processEntry(leftRowSet, rightRowSet, rowRedirection);
+                    if (arrayValuesCache != null) {
+                        processLeftSlotWithRightCache(stampContext, leftRowSet, rightRowSet, rowRedirection,
+                                rightStampSource, keyChunk, valuesChunk, arrayValuesCache, slot);
+                    } else {
+                        stampContext.processEntry(leftRowSet, rightRowSet, rowRedirection);
+                    }
                 }
             }
         }
@@ -346,6 +359,59 @@ public class AsOfJoinHelper {
         }
     }
 
+    /**
+     * Stamp the slots of a static left table in {@code segmentCount} contiguous ranges of slots concurrently on the
+     * operation initializer. Each slot covers a disjoint set of left rows, so the segments only contend when writing
+     * their results to the shared row redirection.
+     */
+    private static void parallelStampSlots(
+            final int segmentCount,
+            final StaticHashedAsOfJoinStateManager asOfJoinStateManager,
+            final IntegerArraySource slots,
+            final int slotCount,
+            @Nullable final ColumnSource<RowSet> leftDataIndexRowSetColumn,
+            final SortingOrder order,
+            final boolean disallowExactMatch,
+            final ColumnSource<?> leftStampSource,
+            final ColumnSource<?> rightStampSource,
+            final ColumnSource<?> originalRightStampSource,
+            final WritableRowRedirection rowRedirection) {
+        final JobScheduler jobScheduler = new OperationInitializerJobScheduler();
+        jobScheduler.runAndWait("stamping as-of join", (onComplete, onError) -> jobScheduler.iterateParallel(
+                ExecutionContext.getContext(),
+                logOutput -> logOutput.append("AsOfJoinHelper.parallelStampSlots"),
+                JobScheduler.DEFAULT_CONTEXT_FACTORY,
+                0, segmentCount,
+                (context, segmentIndex, nestedErrorConsumer) -> {
+                    final int firstSlotIndex = (int) ((long) slotCount * segmentIndex / segmentCount);
+                    final int lastSlotIndexExclusive = (int) ((long) slotCount * (segmentIndex + 1) / segmentCount);
+                    try (final AsOfStampContext stampContext = new AsOfStampContext(order, disallowExactMatch,
+                            leftStampSource, rightStampSource, originalRightStampSource, true)) {
+                        for (int slotIndex = firstSlotIndex; slotIndex < lastSlotIndexExclusive; ++slotIndex) {
+                            final int slot = slots.getInt(slotIndex);
+                            RowSet leftRowSet = asOfJoinStateManager.getLeftRowSet(slot);
+                            if (leftRowSet == null || leftRowSet.isEmpty()) {
+                                continue;
+                            }
+
+                            final RowSet rightRowSet = asOfJoinStateManager.getRightRowset(slot);
+                            if (rightRowSet == null || rightRowSet.isEmpty()) {
+                                continue;
+                            }
+
+                            if (leftDataIndexRowSetColumn != null) {
+                                Assert.eq(leftRowSet.size(), "Indexed left row set size", 1);
+                                leftRowSet = leftDataIndexRowSetColumn.get(leftRowSet.get(0));
+                            }
+
+                            stampContext.processEntry(leftRowSet, rightRowSet, rowRedirection);
+                        }
+                    }
+                },
+                onComplete,
+                onError));
+    }
+
     private static void processLeftSlotWithRightCache(AsOfStampContext stampContext,
             RowSet leftRowSet, RowSet rightRowSet, WritableRowRedirection rowRedirection,
             ColumnSource<?> rightStampSource,
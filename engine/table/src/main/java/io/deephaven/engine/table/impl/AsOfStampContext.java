@@ -46,9 +46,22 @@ class AsOfStampContext implements Context {
 
     private final StampKernel stampKernel;
 
+    private final boolean synchronizeRedirectionWrites;
+
     AsOfStampContext(SortingOrder order, boolean disallowExactMatch, ColumnSource<?> leftStampSource,
             ColumnSource<?> rightStampSource, ColumnSource<?> originalRightStampSource) {
+        this(order, disallowExactMatch, leftStampSource, rightStampSource, originalRightStampSource, false);
+    }
+
+    /**
+     * @param synchronizeRedirectionWrites whether writes to the row redirection must be synchronized, because it is
+     *        shared with other contexts that are processing disjoint sets of left rows concurrently
+     */
+    AsOfStampContext(SortingOrder order, boolean disallowExactMatch, ColumnSource<?> leftStampSource,
+            ColumnSource<?> rightStampSource, ColumnSource<?> originalRightStampSource,
+            boolean synchronizeRedirectionWrites) {
         this.order = order;
+        this.synchronizeRedirectionWrites = synchronizeRedirectionWrites;
         this.leftStampSource = leftStampSource;
         this.rightStampSource = rightStampSource;
         this.originalRightStampSource = originalRightStampSource;
@@ -223,6 +236,16 @@ class AsOfStampContext implements Context {
     private void computeRedirections(WritableRowRedirection rowRedirection, Chunk<Values> rightStampChunk,
             LongChunk<RowKeys> rightKeyIndicesChunk) {
         stampKernel.computeRedirections(leftStampChunk, rightStampChunk, rightKeyIndicesChunk, leftRedirections);
+        if (synchronizeRedirectionWrites) {
+            synchronized (rowRedirection) {
+                writeRedirections(rowRedirection);
+            }
+        } else {
+            writeRedirections(rowRedirection);
+        }
+    }
+
+    private void writeRedirections(WritableRowRedirection rowRedirection) {
         for (int ii = 0; ii < leftKeyIndicesChunk.size(); ++ii) {
             final long rightKey = leftRedirections.get(ii);
             // the row redirection defaults to NULL_ROW_KEY, so we do not need to put it in there
@@ -3,6 +3,8 @@
 //
 package io.deephaven.engine.table.impl;
 
+import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.liveness.LivenessScopeStack;
 import io.deephaven.engine.table.DataIndex;
 import io.deephaven.engine.table.Table;
@@ -28,6 +30,18 @@ public class JoinControl {
     private static final double DEFAULT_MAX_LOAD_FACTOR = 0.75;
     private static final double DEFAULT_TARGET_LOAD_FACTOR = 0.70;
 
+    /**
+     * Static joins probe (or stamp) at least this many left rows in parallel segments on the operation initializer.
+     * Values less than or equal to zero disable parallel probing.
+     */
+    private static final long PARALLEL_PROBE_THRESHOLD = Configuration.getInstance()
+            .getLongWithDefault("JoinControl.parallelProbeThreshold", 1L << 22);
+    /**
+     * The minimum number of left rows in each segment of a parallel probe.
+     */
+    private static final int PARALLEL_PROBE_MINIMUM_SEGMENT_SIZE = Configuration.getInstance()
+            .getIntegerWithDefault("JoinControl.parallelProbeMinimumSegmentSize", 1 << 20);
+
     int initialBuildSize() {
         return MINIMUM_INITIAL_HASH_SIZE;
     }
@@ -57,6 +71,39 @@ public class JoinControl {
         return DEFAULT_TARGET_LOAD_FACTOR;
     }
 
+    long parallelProbeThreshold() {
+        return PARALLEL_PROBE_THRESHOLD;
+    }
+
+    int parallelProbeMinimumSegmentSize() {
+        return PARALLEL_PROBE_MINIMUM_SEGMENT_SIZE;
+    }
+
+    /**
+     * Determine how many segments a static probe of the left table should be split into. Segments are processed
+     * concurrently against a hash table that is no longer being modified, so only the probe is parallelized; the
+     * build is always single threaded.
+     *
+     * @param probeSize The number of left rows to probe
+     * @param probeSources The sources that will be read by the probe
+     * @return The number of segments to probe concurrently, or 1 if the probe should not be parallelized
+     */
+    int probeSegmentCount(final long probeSize, @NotNull final ColumnSource<?>... probeSources) {
+        final long threshold = parallelProbeThreshold();
+        if (threshold <= 0 || probeSize < threshold
+                || !ExecutionContext.getContext().getOperationInitializer().canParallelize()) {
+            return 1;
+        }
+        for (final ColumnSource<?> probeSource : probeSources) {
+            if (!probeSource.isStateless()) {
+                return 1;
+            }
+        }
+        final long maxSegments = probeSize / Math.max(1, parallelProbeMinimumSegmentSize());
+        return (int) Math.max(1, Math.min(maxSegments,
+                ExecutionContext.getContext().getOperationInitializer().parallelismFactor()));
+    }
+
     @Nullable
     DataIndex dataIndexToUse(Table table, ColumnSource<?>[] sources) {
         // Configuration property that serves as an escape hatch
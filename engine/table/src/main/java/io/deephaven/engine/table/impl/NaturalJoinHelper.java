@@ -154,7 +154,8 @@ class NaturalJoinHelper {
                             bc.leftDataIndexTable.getRowSet(), leftRedirections, bc.leftDataIndexRowSetSource,
                             control.getRedirectionType(leftTable));
                 } else {
-                    jsm.decorateLeftSide(leftTable.getRowSet(), bc.leftSources, leftRedirections);
+                    jsm.decorateLeftSide(leftTable.getRowSet(), bc.leftSources, leftRedirections,
+                            control.probeSegmentCount(leftTable.size(), bc.leftSources));
                     rowRedirection = jsm.buildRowRedirectionFromRedirections(leftTable, leftRedirections,
                             control.getRedirectionType(leftTable));
                 }
@@ -259,7 +260,8 @@ class NaturalJoinHelper {
                         control.getTargetLoadFactor(), joinType, rightAddOnly);
 
                 jsm.buildFromRightSide(rightTable, bc.rightSources);
-                jsm.decorateLeftSide(leftTable.getRowSet(), bc.leftSources, leftRedirections);
+                jsm.decorateLeftSide(leftTable.getRowSet(), bc.leftSources, leftRedirections,
+                        control.probeSegmentCount(leftTable.size(), bc.leftSources));
                 rowRedirection = jsm.buildRowRedirectionFromRedirections(leftTable, leftRedirections,
                         control.getRedirectionType(leftTable));
             }
@@ -204,6 +204,14 @@ public class QueryTable extends BaseTable<QueryTable> {
     public static boolean USE_DATA_INDEX_FOR_WHERE =
             Configuration.getInstance().getBooleanWithDefault("QueryTable.useDataIndexForWhere", true);
 
+    /**
+     * If the Configuration property "QueryTable.useSymbolTableForWhere" is set to true (default), then permit match and
+     * pattern filters to evaluate their predicate once per symbol of a column with a symbol table (e.g. a
+     * dictionary-encoded Parquet column), rather than once per row, when applicable.
+     */
+    public static boolean USE_SYMBOL_TABLE_FOR_WHERE =
+            Configuration.getInstance().getBooleanWithDefault("QueryTable.useSymbolTableForWhere", true);
+
     /**
      * If the Configuration property "QueryTable.useDataIndexForAggregation" is set to true (default), then permit
      * aggregation to use a data index, when applicable. If false, data indexes are not used even if present.
@@ -286,6 +294,13 @@ public class QueryTable extends BaseTable<QueryTable> {
     public static long MINIMUM_PARALLEL_SNAPSHOT_ROWS =
             Configuration.getInstance().getLongWithDefault("QueryTable.minimumParallelSnapshotRows", 1L << 20);
 
+    /**
+     * Minimum number of rows in a hierarchical table snapshot for the data of its visible nodes to be filled in
+     * parallel, defaults to 4096.
+     */
+    public static long MINIMUM_PARALLEL_HIERARCHICAL_SNAPSHOT_ROWS = Configuration.getInstance()
+            .getLongWithDefault("QueryTable.minimumParallelHierarchicalSnapshotRows", 1L << 12);
+
     @VisibleForTesting
     public static boolean USE_CHUNKED_CROSS_JOIN =
             Configuration.getInstance().getBooleanWithDefault("QueryTable.chunkedJoin", true);
@@ -11,11 +11,13 @@ import io.deephaven.chunk.attributes.ChunkLengths;
 import io.deephaven.chunk.attributes.ChunkPositions;
 import io.deephaven.chunk.attributes.Values;
 import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.primitive.iterator.CloseableIterator;
 import io.deephaven.engine.rowset.RowSequence;
 import io.deephaven.engine.rowset.RowSequenceFactory;
 import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.engine.rowset.chunkattributes.RowKeys;
+import io.deephaven.engine.table.ChunkSource;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.DataIndex;
 import io.deephaven.engine.table.Table;
@@ -29,17 +31,22 @@ import io.deephaven.engine.table.impl.sources.*;
 import io.deephaven.engine.table.impl.sources.regioned.SymbolTableSource;
 import io.deephaven.engine.table.impl.util.ContiguousWritableRowRedirection;
 import io.deephaven.engine.table.impl.util.GroupedWritableRowRedirection;
+import io.deephaven.engine.table.impl.util.JobScheduler;
 import io.deephaven.engine.table.impl.util.LongColumnSourceWritableRowRedirection;
+import io.deephaven.engine.table.impl.util.OperationInitializerJobScheduler;
 import io.deephaven.engine.table.impl.util.WritableRowRedirection;
 import io.deephaven.engine.table.iterators.ChunkedColumnIterator;
 import io.deephaven.util.QueryConstants;
+import io.deephaven.util.SafeCloseable;
 import io.deephaven.util.annotations.VisibleForTesting;
 import io.deephaven.util.datastructures.LongSizedDataStructure;
 import io.deephaven.util.mutable.MutableInt;
 import io.deephaven.util.type.ArrayTypeUtils;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.LongPredicate;
 
 public class SortHelpers {
@@ -71,6 +78,21 @@ public class SortHelpers {
      */
     @VisibleForTesting
     static int sortChunkSize = Configuration.getInstance().getIntegerWithDefault("QueryTable.sortChunkSize", 1 << 30);
+    /**
+     * When the sort is greater than or equal to parallelSortThreshold (but smaller than megaSortSize), and the
+     * operation initializer can parallelize, we split the sort into segments that are sorted concurrently with the
+     * LongSortKernel and then merged pairwise, also concurrently, with the LongMegaMergeKernel. Values less than or
+     * equal to zero disable parallel sorting.
+     */
+    @VisibleForTesting
+    static long parallelSortThreshold =
+            Configuration.getInstance().getLongWithDefault("SortHelpers.parallelSortThreshold", 1L << 22);
+    /**
+     * The minimum number of rows in each segment of a parallel sort.
+     */
+    @VisibleForTesting
+    static int parallelSortMinimumSegmentSize =
+            Configuration.getInstance().getIntegerWithDefault("SortHelpers.parallelSortMinimumSegmentSize", 1 << 20);
 
     interface SortMapping extends LongSizedDataStructure {
         long size();
@@ -470,9 +492,30 @@ public class SortHelpers {
 
         if (sortSize >= megaSortSize) {
             return doMegaSortOne(order, columnSource, rowSet, usePrev, sortSize);
-        } else {
-            return new ArraySortMapping(doChunkSortingOne(order, columnSource, rowSet, usePrev, (int) sortSize));
         }
+        final int segmentCount = parallelSortSegmentCount(columnSource, sortSize);
+        if (segmentCount > 1) {
+            return new ArraySortMapping(
+                    new ParallelSortOne(order, columnSource, rowSet, usePrev, (int) sortSize).sort(segmentCount));
+        }
+        return new ArraySortMapping(doChunkSortingOne(order, columnSource, rowSet, usePrev, (int) sortSize));
+    }
+
+    /**
+     * Determine how many segments a sort of a single column should be split into.
+     *
+     * @return the number of segments to sort concurrently, or 1 if the sort should not be parallelized
+     */
+    private static int parallelSortSegmentCount(ColumnSource<Comparable<?>> columnSource, long sortSize) {
+        if (parallelSortThreshold <= 0 || sortSize < parallelSortThreshold
+                || columnSource.getChunkType() == ChunkType.Boolean
+                || !columnSource.isStateless()
+                || !ExecutionContext.getContext().getOperationInitializer().canParallelize()) {
+            return 1;
+        }
+        final long maxSegments = sortSize / Math.max(1, parallelSortMinimumSegmentSize);
+        return (int) Math.min(maxSegments,
+                ExecutionContext.getContext().getOperationInitializer().parallelismFactor());
     }
 
     @NotNull
@@ -529,6 +572,196 @@ public class SortHelpers {
         }
     }
 
+    /**
+     * Sorts a single column by splitting the row set into contiguous segments that are sorted concurrently with the
+     * LongSortKernel, and then merging adjacent sorted runs pairwise with the LongMegaMergeKernel. Each level of the
+     * merge halves the number of runs, and the merges within a level are also performed concurrently.
+     * <p>
+     * Runs are always merged with their right-hand neighbor, so that equal values retain their original relative order
+     * just as in a single-threaded sort.
+     */
+    private static final class ParallelSortOne {
+
+        private final SortingOrder order;
+        private final ColumnSource<Comparable<?>> columnSource;
+        private final RowSet rowSet;
+        private final boolean usePrev;
+        private final int sortSize;
+
+        private final JobScheduler jobScheduler;
+        private final ExecutionContext executionContext;
+
+        /**
+         * The sorted runs, in row set order. Only the first {@code runCount} entries are valid.
+         */
+        private SortedRun[] runs;
+        private int runCount;
+
+        private ParallelSortOne(SortingOrder order, ColumnSource<Comparable<?>> columnSource, RowSet rowSet,
+                boolean usePrev, int sortSize) {
+            this.order = order;
+            this.columnSource = columnSource;
+            this.rowSet = rowSet;
+            this.usePrev = usePrev;
+            this.sortSize = sortSize;
+            jobScheduler = new OperationInitializerJobScheduler();
+            executionContext = ExecutionContext.getContext();
+        }
+
+        private long[] sort(final int segmentCount) {
+            runs = new SortedRun[segmentCount];
+            runCount = segmentCount;
+            jobScheduler.runAndWait("sorting", (onComplete, onError) -> jobScheduler.iterateParallel(
+                    executionContext,
+                    logOutput -> logOutput.append("SortHelpers.parallelSortSegments"),
+                    JobScheduler.DEFAULT_CONTEXT_FACTORY,
+                    0, segmentCount,
+                    (context, segmentIndex, nestedErrorConsumer) -> sortSegment(segmentIndex, segmentCount),
+                    () -> mergeLevel(onComplete, onError),
+                    onError));
+
+            Assert.eq(runCount, "runCount", 1);
+            Assert.eq(runs[0].size, "runs[0].size", sortSize, "sortSize");
+            return runs[0].toKeysArray();
+        }
+
+        private void sortSegment(final int segmentIndex, final int segmentCount) {
+            final long firstPosition = (long) sortSize * segmentIndex / segmentCount;
+            final long lastPositionExclusive = (long) sortSize * (segmentIndex + 1) / segmentCount;
+            try (final RowSet segment = rowSet.subSetByPositionRange(firstPosition, lastPositionExclusive)) {
+                final int segmentSize = segment.intSize();
+                final WritableChunk<Values> values = makeAndFillValues(usePrev, segment, columnSource);
+                final long[] keysArray = new long[segmentSize];
+                final WritableLongChunk<RowKeys> keys = WritableLongChunk.writableChunkWrap(keysArray);
+                segment.fillRowKeyChunk(keys);
+                try (final LongSortKernel<Values, RowKeys> sortContext =
+                        LongSortKernel.makeContext(columnSource.getChunkType(), order, segmentSize, true)) {
+                    sortContext.sort(keys, values);
+                } catch (Exception e) {
+                    values.close();
+                    throw e;
+                }
+                runs[segmentIndex] = new SortedRun(keysArray, values);
+            }
+        }
+
+        private void mergeLevel(final Runnable onComplete, final Consumer<Exception> onError) {
+            if (runCount == 1) {
+                onComplete.run();
+                return;
+            }
+            final int pairCount = runCount / 2;
+            jobScheduler.iterateParallel(
+                    executionContext,
+                    logOutput -> logOutput.append("SortHelpers.parallelSortMerge"),
+                    JobScheduler.DEFAULT_CONTEXT_FACTORY,
+                    0, pairCount,
+                    (context, pairIndex, nestedErrorConsumer) -> runs[2 * pairIndex]
+                            .merge(runs[2 * pairIndex + 1], columnSource, order),
+                    () -> {
+                        // Compact the merged runs (and the unpaired last run, if any) to the front of the array
+                        for (int pi = 0; pi < pairCount; ++pi) {
+                            runs[pi] = runs[2 * pi];
+                        }
+                        if (runCount % 2 != 0) {
+                            runs[pairCount] = runs[runCount - 1];
+                        }
+                        final int newRunCount = (runCount + 1) / 2;
+                        Arrays.fill(runs, newRunCount, runCount, null);
+                        runCount = newRunCount;
+                        mergeLevel(onComplete, onError);
+                    },
+                    onError);
+        }
+    }
+
+    /**
+     * A sorted run of row keys and their values for a {@link ParallelSortOne}. A run is produced as a pair of chunks by
+     * a segment sort, and is converted to a pair of array-backed column sources the first time another run is merged
+     * into it.
+     */
+    private static final class SortedRun {
+
+        private int size;
+
+        private long[] keysArray;
+        private WritableChunk<Values> valuesChunk;
+
+        private LongArraySource keysSource;
+        private WritableColumnSource<?> valuesSource;
+
+        private SortedRun(long[] keysArray, WritableChunk<Values> valuesChunk) {
+            size = keysArray.length;
+            this.keysArray = keysArray;
+            this.valuesChunk = valuesChunk;
+        }
+
+        /**
+         * Merge {@code other}, which must immediately follow this run in row set order, into this run.
+         */
+        private void merge(SortedRun other, ColumnSource<?> columnSource, SortingOrder order) {
+            final LongMegaMergeKernel<Values, RowKeys> longMegaMergeKernel =
+                    LongMegaMergeKernel.makeContext(columnSource.getChunkType(), order);
+            if (keysSource == null) {
+                keysSource = new LongArraySource();
+                keysSource.ensureCapacity((long) size + other.size, false);
+                valuesSource = ArrayBackedColumnSource.getMemoryColumnSource(0, columnSource.getType());
+                valuesSource.ensureCapacity((long) size + other.size, false);
+                // Merging into an empty destination simply copies our chunks
+                longMegaMergeKernel.merge(keysSource, valuesSource, 0, 0,
+                        WritableLongChunk.writableChunkWrap(keysArray), valuesChunk);
+                keysArray = null;
+                valuesChunk.close();
+                valuesChunk = null;
+            }
+            try (final SafeCloseable ignored = other::release;
+                    final WritableChunk<Values> otherValues = other.valuesChunk()) {
+                longMegaMergeKernel.merge(keysSource, valuesSource, 0, size, other.keysChunk(), otherValues);
+            }
+            size += other.size;
+        }
+
+        private WritableLongChunk<RowKeys> keysChunk() {
+            return WritableLongChunk.writableChunkWrap(toKeysArray());
+        }
+
+        private WritableChunk<Values> valuesChunk() {
+            if (valuesChunk != null) {
+                final WritableChunk<Values> result = valuesChunk;
+                valuesChunk = null;
+                return result;
+            }
+            final WritableChunk<Values> result = valuesSource.getChunkType().makeWritableChunk(size);
+            try (final ChunkSource.FillContext fillContext = valuesSource.makeFillContext(size);
+                    final RowSequence positions = RowSequenceFactory.forRange(0, size - 1)) {
+                valuesSource.fillChunk(fillContext, result, positions);
+            }
+            return result;
+        }
+
+        private long[] toKeysArray() {
+            if (keysArray != null) {
+                return keysArray;
+            }
+            final long[] result = new long[size];
+            try (final ChunkSource.FillContext fillContext = keysSource.makeFillContext(size);
+                    final RowSequence positions = RowSequenceFactory.forRange(0, size - 1)) {
+                keysSource.fillChunk(fillContext, WritableLongChunk.writableChunkWrap(result), positions);
+            }
+            return result;
+        }
+
+        private void release() {
+            keysArray = null;
+            if (valuesChunk != null) {
+                valuesChunk.close();
+                valuesChunk = null;
+            }
+            keysSource = null;
+            valuesSource = null;
+        }
+    }
+
     private static SortMapping getSortMappingIndexed(SortingOrder[] order, ColumnSource<Comparable<?>>[] columnSources,
             DataIndex dataIndex, RowSet rowSet, boolean usePrev) {
         Assert.neqNull(dataIndex, "dataIndex");
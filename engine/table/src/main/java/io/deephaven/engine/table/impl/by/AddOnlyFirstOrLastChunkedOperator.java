@@ -75,4 +75,9 @@ public class AddOnlyFirstOrLastChunkedOperator extends BaseAddOnlyFirstOrLastChu
     public boolean unchunkedRowSet() {
         return true;
     }
+
+    @Override
+    public boolean supportsConcurrentInitialAddition() {
+        return true;
+    }
 }
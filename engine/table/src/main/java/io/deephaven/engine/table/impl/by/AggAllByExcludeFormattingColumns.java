@@ -38,6 +38,11 @@ class AggAllByExcludeFormattingColumns implements AggSpec.Visitor {
         drop();
     }
 
+    @Override
+    public void visit(AggSpecApproximateCountDistinct approxCountDistinct) {
+        drop();
+    }
+
     @Override
     public void visit(AggSpecApproximatePercentile approxPct) {
         drop();
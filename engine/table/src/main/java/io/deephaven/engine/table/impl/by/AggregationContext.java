@@ -151,6 +151,22 @@ public class AggregationContext {
         return requiresInputs;
     }
 
+    /**
+     * Can the initial addition for this context be partitioned by destination across multiple threads? This requires
+     * that every operator {@link IterativeChunkedAggregationOperator#supportsConcurrentInitialAddition() supports it},
+     * and that every input column may be read concurrently.
+     *
+     * @return Whether the initial addition may be performed concurrently for disjoint sets of destinations
+     */
+    boolean supportsConcurrentInitialAddition() {
+        if (!Arrays.stream(operators)
+                .allMatch(IterativeChunkedAggregationOperator::supportsConcurrentInitialAddition)) {
+            return false;
+        }
+        return Arrays.stream(inputColumns)
+                .allMatch(ic -> !(ic instanceof ColumnSource) || ((ColumnSource<?>) ic).isStateless());
+    }
+
     int inputSlot(int oi) {
         return inputSlots[oi];
     }
@@ -4,9 +4,12 @@
 package io.deephaven.engine.table.impl.by;
 
 import io.deephaven.base.verify.Assert;
+import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.table.*;
 import io.deephaven.engine.table.impl.indexer.DataIndexer;
 import io.deephaven.engine.table.impl.sources.regioned.SymbolTableSource;
+import io.deephaven.engine.updategraph.OperationInitializer;
 import io.deephaven.util.annotations.VisibleForTesting;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -22,6 +25,8 @@ public class AggregationControl {
     private static final int MINIMUM_INITIAL_HASH_SIZE = CHUNK_SIZE;
     private static final double DEFAULT_MAX_LOAD_FACTOR = 0.75;
     private static final double DEFAULT_TARGET_LOAD_FACTOR = 0.70;
+    private static final long MINIMUM_PARTITIONED_INITIAL_BUILD_SIZE = Configuration.getInstance()
+            .getLongWithDefault("AggregationControl.minimumPartitionedInitialBuildSize", 1L << 24);
 
     public static final AggregationControl DEFAULT = new AggregationControl();
 
@@ -45,6 +50,25 @@ public class AggregationControl {
         return DEFAULT_MAX_LOAD_FACTOR;
     }
 
+    /**
+     * Get the number of hash partitions to use for the initial build of a static, bucketed aggregation of
+     * {@code inputTable}. Partitions are built and accumulated concurrently using the current
+     * {@link OperationInitializer}; this is only done if all operators in the aggregation support it.
+     *
+     * @param inputTable The {@link Table} to aggregate
+     * @return The number of partitions to use, or 1 to perform the initial build on a single thread
+     */
+    public int initialBuildPartitions(@NotNull final Table inputTable) {
+        if (inputTable.isRefreshing() || inputTable.size() < MINIMUM_PARTITIONED_INITIAL_BUILD_SIZE) {
+            return 1;
+        }
+        final OperationInitializer operationInitializer = ExecutionContext.getContext().getOperationInitializer();
+        if (!operationInitializer.canParallelize()) {
+            return 1;
+        }
+        return operationInitializer.parallelismFactor();
+    }
+
     /**
      * Get a {@link BasicDataIndex} to use for aggregating {@code table} by {@code keyColumnNames}.
      * <p>
@@ -7,6 +7,7 @@ import io.deephaven.api.*;
 import io.deephaven.api.agg.*;
 import io.deephaven.api.agg.spec.AggSpec;
 import io.deephaven.api.agg.spec.AggSpecAbsSum;
+import io.deephaven.api.agg.spec.AggSpecApproximateCountDistinct;
 import io.deephaven.api.agg.spec.AggSpecApproximatePercentile;
 import io.deephaven.api.agg.spec.AggSpecAvg;
 import io.deephaven.api.agg.spec.AggSpecCountDistinct;
@@ -38,6 +39,8 @@ import io.deephaven.engine.table.ColumnDefinition;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.impl.*;
 import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.by.hll.HyperLogLogCountDistinctOperator;
+import io.deephaven.engine.table.impl.by.hll.HyperLogLogSketch;
 import io.deephaven.engine.table.impl.by.rollup.NullColumns;
 import io.deephaven.engine.table.impl.by.rollup.RollupAggregation;
 import io.deephaven.engine.table.impl.by.rollup.RollupAggregationOutputs;
@@ -817,6 +820,13 @@ public class AggregationProcessor implements AggregationContextFactory {
             addBasicOperators((t, n) -> makeSumOperator(t, n, true));
         }
 
+        @Override
+        public void visit(@NotNull final AggSpecApproximateCountDistinct approxCountDistinct) {
+            final int precision =
+                    approxCountDistinct.precision().orElse(HyperLogLogCountDistinctOperator.PRECISION_DEFAULT);
+            addBasicOperators((t, n) -> new HyperLogLogCountDistinctOperator(t, n, precision, false, false));
+        }
+
         @Override
         public void visit(@NotNull final AggSpecApproximatePercentile approxPct) {
             addApproximatePercentileOperators(approxPct.percentile(),
@@ -1085,6 +1095,13 @@ public class AggregationProcessor implements AggregationContextFactory {
             addBasicOperators((t, n) -> makeSumOperator(t, n, true));
         }
 
+        @Override
+        public void visit(@NotNull final AggSpecApproximateCountDistinct approxCountDistinct) {
+            final int precision =
+                    approxCountDistinct.precision().orElse(HyperLogLogCountDistinctOperator.PRECISION_DEFAULT);
+            addBasicOperators((t, n) -> new HyperLogLogCountDistinctOperator(t, n, precision, true, false));
+        }
+
         @Override
         public void visit(@NotNull final AggSpecAvg avg) {
             addBasicOperators((t, n) -> makeAvgOperator(t, n, true));
@@ -1242,6 +1259,12 @@ public class AggregationProcessor implements AggregationContextFactory {
             reaggregateAsSum();
         }
 
+        @Override
+        public void visit(@NotNull final AggSpecApproximateCountDistinct approxCountDistinct) {
+            reaggregateApproximateCountDistinctOperator(
+                    approxCountDistinct.precision().orElse(HyperLogLogCountDistinctOperator.PRECISION_DEFAULT));
+        }
+
         @Override
         public void visit(@NotNull final AggSpecAvg avg) {
             reaggregateAvgOperator();
@@ -1343,6 +1366,17 @@ public class AggregationProcessor implements AggregationContextFactory {
             }
         }
 
+        private void reaggregateApproximateCountDistinctOperator(final int precision) {
+            for (final Pair pair : resultPairs) {
+                final String resultName = pair.output().name();
+                final String sketchName = resultName + ROLLUP_HLL_SKETCH_COLUMN_ID + ROLLUP_COLUMN_SUFFIX;
+                final ColumnSource<?> sketchSource = table.getColumnSource(sketchName);
+
+                addOperator(new HyperLogLogCountDistinctOperator(
+                        HyperLogLogSketch.class, resultName, precision, true, true), sketchSource, sketchName);
+            }
+        }
+
         private void reaggregateFirstOrLastOperator(final boolean isFirst) {
             final ColumnName redirectionColumnName = ColumnName.of(makeRedirectionName(nextColumnIdentifier++));
             resultPairs = Stream.concat(
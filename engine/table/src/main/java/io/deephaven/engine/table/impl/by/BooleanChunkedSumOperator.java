@@ -281,6 +281,11 @@ public final class BooleanChunkedSumOperator implements IterativeChunkedAggregat
         falseCount.ensureCapacity(tableSize);
     }
 
+    @Override
+    public boolean supportsConcurrentInitialAddition() {
+        return true;
+    }
+
     @Override
     public Map<String, ? extends ColumnSource<?>> getResultColumns() {
         return Collections.singletonMap(name, resultColumn);
@@ -126,6 +126,11 @@ class ByteChunkedAvgOperator implements IterativeChunkedAggregationOperator {
         runningSum.ensureCapacity(tableSize);
     }
 
+    @Override
+    public boolean supportsConcurrentInitialAddition() {
+        return true;
+    }
+
     @Override
     public Map<String, ? extends ColumnSource<?>> getResultColumns() {
         if (exposeInternalColumns) {
@@ -176,6 +176,11 @@ public class ByteChunkedSumOperator implements IterativeChunkedAggregationOperat
         nonNullCount.ensureCapacity(tableSize);
     }
 
+    @Override
+    public boolean supportsConcurrentInitialAddition() {
+        return true;
+    }
+
     @Override
     public Map<String, ? extends ColumnSource<?>> getResultColumns() {
         return Collections.singletonMap(name, resultColumn);
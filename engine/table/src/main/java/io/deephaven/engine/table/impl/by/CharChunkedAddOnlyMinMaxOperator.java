@@ -39,6 +39,8 @@ class CharChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationOpe
     }
 
     private char min(CharChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        // region vectorized min
+        // endregion vectorized min
         int nonNull = 0;
         char value = QueryConstants.NULL_CHAR;
         for (int ii = chunkStart; ii < chunkEnd; ++ii) {
@@ -56,6 +58,8 @@ class CharChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationOpe
     }
 
     private char max(CharChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        // region vectorized max
+        // endregion vectorized max
         int nonNull = 0;
         char value = QueryConstants.NULL_CHAR;
         for (int ii = chunkStart; ii < chunkEnd; ++ii) {
@@ -161,6 +165,11 @@ class CharChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationOpe
         resultColumn.ensureCapacity(tableSize);
     }
 
+    @Override
+    public boolean supportsConcurrentInitialAddition() {
+        return true;
+    }
+
     @Override
     public Map<String, ? extends ColumnSource<?>> getResultColumns() {
         // region getResultColumns
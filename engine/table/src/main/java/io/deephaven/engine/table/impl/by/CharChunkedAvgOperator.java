@@ -122,6 +122,11 @@ class CharChunkedAvgOperator implements IterativeChunkedAggregationOperator {
         runningSum.ensureCapacity(tableSize);
     }
 
+    @Override
+    public boolean supportsConcurrentInitialAddition() {
+        return true;
+    }
+
     @Override
     public Map<String, ? extends ColumnSource<?>> getResultColumns() {
         if (exposeInternalColumns) {
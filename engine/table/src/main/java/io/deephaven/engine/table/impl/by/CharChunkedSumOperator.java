@@ -172,6 +172,11 @@ public class CharChunkedSumOperator implements IterativeChunkedAggregationOperat
         nonNullCount.ensureCapacity(tableSize);
     }
 
+    @Override
+    public boolean supportsConcurrentInitialAddition() {
+        return true;
+    }
+
     @Override
     public Map<String, ? extends ColumnSource<?>> getResultColumns() {
         return Collections.singletonMap(name, resultColumn);
@@ -156,6 +156,11 @@ class CharChunkedVarOperator implements IterativeChunkedAggregationOperator {
         sum2Source.ensureCapacity(tableSize);
     }
 
+    @Override
+    public boolean supportsConcurrentInitialAddition() {
+        return true;
+    }
+
     @Override
     public Map<String, ? extends ColumnSource<?>> getResultColumns() {
         if (exposeInternalColumns) {
@@ -3,13 +3,16 @@
 //
 package io.deephaven.engine.table.impl.by;
 
+import gnu.trove.list.array.TLongArrayList;
 import io.deephaven.api.ColumnName;
 import io.deephaven.base.verify.Assert;
 import io.deephaven.base.verify.Require;
 import io.deephaven.chunk.*;
 import io.deephaven.chunk.attributes.ChunkLengths;
 import io.deephaven.chunk.attributes.ChunkPositions;
+import io.deephaven.chunk.attributes.HashCodes;
 import io.deephaven.chunk.attributes.Values;
+import io.deephaven.chunk.util.hashing.ChunkHasher;
 import io.deephaven.configuration.Configuration;
 import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.liveness.LivenessScopeStack;
@@ -31,12 +34,16 @@ import io.deephaven.engine.table.impl.sources.ArrayBackedColumnSource;
 import io.deephaven.engine.table.impl.sources.ReinterpretUtils;
 import io.deephaven.engine.table.impl.sources.regioned.SymbolTableSource;
 import io.deephaven.engine.table.impl.util.ChunkUtils;
+import io.deephaven.engine.table.impl.util.ImmediateJobScheduler;
+import io.deephaven.engine.table.impl.util.JobScheduler;
+import io.deephaven.engine.table.impl.util.OperationInitializerJobScheduler;
 import io.deephaven.engine.table.impl.util.UpdateSizeCalculator;
 import io.deephaven.engine.table.iterators.ChunkedColumnIterator;
 import io.deephaven.util.SafeCloseable;
 import io.deephaven.util.SafeCloseableArray;
 import io.deephaven.util.SafeCloseableList;
 import io.deephaven.util.annotations.VisibleForTesting;
+import io.deephaven.util.datastructures.LongSizedDataStructure;
 import io.deephaven.util.mutable.MutableInt;
 import org.apache.commons.lang3.mutable.Mutable;
 import org.apache.commons.lang3.mutable.MutableObject;
@@ -182,17 +189,29 @@ public class ChunkedOperatorAggregationHelper {
         final Supplier<OperatorAggregationStateManager> stateManagerSupplier =
                 () -> makeStateManager(control, input, keySources, reinterpretedKeySources, ac,
                         useSymbolTable ? symbolTable : null);
+        final int initialBuildPartitions = initialKeys == null && dataIndex == null && !useSymbolTable
+                && !input.isRefreshing() && ac.supportsConcurrentInitialAddition()
+                && Arrays.stream(reinterpretedKeySources).allMatch(ColumnSource::isStateless)
+                        ? control.initialBuildPartitions(input)
+                        : 1;
         final OperatorAggregationStateManager stateManager;
-        if (initialKeys == null) {
+        if (initialBuildPartitions > 1) {
+            stateManager = new PartitionedInitialBuild(input.getRowSet(), reinterpretedKeySources, ac,
+                    permuteKernels, stateManagerSupplier, initialBuildPartitions).build(outputPosition);
+        } else if (initialKeys == null) {
             stateManager = stateManagerSupplier.get();
         } else {
             stateManager = initialKeyTableAddition(control, initialKeys, keyNames, ac, outputPosition,
                     stateManagerSupplier);
         }
+        ac.supplyRowLookup(() -> stateManager::findPositionForKey);
 
         final RowSetBuilderRandom initialRowsBuilder =
                 initialKeys != null && !preserveEmpty ? new BitmapRandomBuilder(stateManager.maxTableSize() - 1) : null;
-        if (dataIndex != null) {
+        if (initialBuildPartitions > 1) {
+            // The partitioned build has already added all rows
+            Assert.eqNull(initialRowsBuilder, "initialRowsBuilder");
+        } else if (dataIndex != null) {
             initialIndexedKeyAddition(dataIndex, keySources, ac, stateManager, outputPosition, initialRowsBuilder,
                     usePrev);
         } else {
@@ -329,7 +348,6 @@ public class ChunkedOperatorAggregationHelper {
                         control.getTargetLoadFactor());
             }
         }
-        ac.supplyRowLookup(() -> stateManager::findPositionForKey);
         return stateManager;
     }
 
@@ -1832,16 +1850,6 @@ public class ChunkedOperatorAggregationHelper {
             MutableInt outputPosition,
             RowSetBuilderRandom initialRowsBuilder,
             boolean usePrev) {
-        final boolean findRuns = ac.requiresRunFinds(SKIP_RUN_FIND);
-
-        final ChunkSource.GetContext[] getContexts = new ChunkSource.GetContext[ac.size()];
-        // noinspection unchecked
-        final WritableChunk<Values>[] workingChunks = findRuns ? new WritableChunk[ac.size()] : null;
-        // noinspection unchecked
-        final Chunk<? extends Values>[] valueChunks = new Chunk[ac.size()];
-        final IterativeChunkedAggregationOperator.BucketedContext[] bucketedContexts =
-                new IterativeChunkedAggregationOperator.BucketedContext[ac.size()];
-
         final ColumnSource<?>[] buildSources;
         if (usePrev) {
             buildSources = Arrays.stream(reinterpretedKeySources)
@@ -1856,6 +1864,37 @@ public class ChunkedOperatorAggregationHelper {
             return;
         }
 
+        doInitialBucketedKeyAddition(rowSet, buildSources, ac, permuteKernels, stateManager, outputPosition, null,
+                initialRowsBuilder, usePrev);
+    }
+
+    /**
+     * Add {@code rowSet} to {@code stateManager} and to the operators in {@code ac}.
+     *
+     * @param destinationMapping If non-null, a mapping from {@code stateManager} output positions to the destinations
+     *        that should be passed to the operators. In this case, the operators must already have sufficient capacity
+     *        for all destinations, and {@code stateManager} is not expected to add any new states.
+     */
+    private static void doInitialBucketedKeyAddition(
+            @NotNull final RowSet rowSet,
+            @NotNull final ColumnSource<?>[] buildSources,
+            @NotNull final AggregationContext ac,
+            @NotNull final PermuteKernel[] permuteKernels,
+            @NotNull final OperatorAggregationStateManager stateManager,
+            @NotNull final MutableInt outputPosition,
+            @Nullable final int[] destinationMapping,
+            @Nullable final RowSetBuilderRandom initialRowsBuilder,
+            final boolean usePrev) {
+        final boolean findRuns = ac.requiresRunFinds(SKIP_RUN_FIND);
+
+        final ChunkSource.GetContext[] getContexts = new ChunkSource.GetContext[ac.size()];
+        // noinspection unchecked
+        final WritableChunk<Values>[] workingChunks = findRuns ? new WritableChunk[ac.size()] : null;
+        // noinspection unchecked
+        final Chunk<? extends Values>[] valueChunks = new Chunk[ac.size()];
+        final IterativeChunkedAggregationOperator.BucketedContext[] bucketedContexts =
+                new IterativeChunkedAggregationOperator.BucketedContext[ac.size()];
+
         final int chunkSize = chunkSize(rowSet.size());
 
         try (final SafeCloseable bc = stateManager.makeAggregationStateBuildContext(buildSources, chunkSize);
@@ -1887,11 +1926,18 @@ public class ChunkedOperatorAggregationHelper {
                 sharedContext.reset();
 
                 stateManager.add(bc, chunkOk, buildSources, outputPosition, outputPositions);
+                if (destinationMapping != null) {
+                    for (int ii = 0; ii < outputPositions.size(); ++ii) {
+                        outputPositions.set(ii, destinationMapping[outputPositions.get(ii)]);
+                    }
+                }
                 if (initialRowsBuilder != null) {
                     initialRowsBuilder.addRowKeysChunk(outputPositions);
                 }
 
-                ac.ensureCapacity(outputPosition.get());
+                if (destinationMapping == null) {
+                    ac.ensureCapacity(outputPosition.get());
+                }
 
                 final boolean permute = findSlotRuns(sortKernelContext, hashedRunContext, runStarts, runLengths,
                         chunkPosition, outputPositions,
@@ -1939,6 +1985,327 @@ public class ChunkedOperatorAggregationHelper {
         }
     }
 
+    /**
+     * Performs the initial addition for a static, bucketed aggregation by hash-partitioning the input rows by key, so
+     * that each partition's keys can be added to an independent state manager, and each partition's rows passed to the
+     * operators, concurrently. This proceeds in three parallel phases:
+     * <ol>
+     * <li>Segments of the input are hashed, producing a row set of the input rows for each partition.</li>
+     * <li>Each partition's rows are added to its own state manager, recording the first row key for each new
+     * state.</li>
+     * <li>Each partition's rows are passed to the operators, and its keys copied into the result key columns.</li>
+     * </ol>
+     * Between the second and third phases, the partitions' states are merged by first row key to assign their result
+     * destinations, so that the result is in order of first appearance, exactly as for a single-threaded build. The
+     * partitions have disjoint destinations, which is what allows the operators to be invoked concurrently.
+     */
+    private static final class PartitionedInitialBuild {
+
+        private final RowSet rowSet;
+        private final ColumnSource<?>[] buildSources;
+        private final AggregationContext ac;
+        private final PermuteKernel[] permuteKernels;
+        private final Supplier<OperatorAggregationStateManager> stateManagerSupplier;
+        private final int partitionCount;
+        private final int segmentCount;
+
+        private final JobScheduler jobScheduler;
+        private final ExecutionContext executionContext;
+
+        /**
+         * The input rows for each (segment, partition) pair, produced by the partitioning phase.
+         */
+        private final WritableRowSet[][] segmentPartitionRowSets;
+        /**
+         * The input rows for each partition.
+         */
+        private final WritableRowSet[] partitionRowSets;
+        private final OperatorAggregationStateManager[] partitionStateManagers;
+        /**
+         * For each partition, the first row key for each state, in output position order.
+         */
+        private final TLongArrayList[] partitionFirstRowKeys;
+        /**
+         * For each partition, the result destination for each state, in output position order.
+         */
+        private final int[][] partitionDestinations;
+
+        private int resultSize;
+        private WritableColumnSource<?>[] resultKeySources;
+
+        private PartitionedInitialBuild(
+                @NotNull final RowSet rowSet,
+                @NotNull final ColumnSource<?>[] buildSources,
+                @NotNull final AggregationContext ac,
+                @NotNull final PermuteKernel[] permuteKernels,
+                @NotNull final Supplier<OperatorAggregationStateManager> stateManagerSupplier,
+                final int partitionCount) {
+            this.rowSet = rowSet;
+            this.buildSources = buildSources;
+            this.ac = ac;
+            this.permuteKernels = permuteKernels;
+            this.stateManagerSupplier = stateManagerSupplier;
+            this.partitionCount = partitionCount;
+            segmentCount = (int) Math.max(1, Math.min(partitionCount, rowSet.size() / CHUNK_SIZE));
+
+            if (ExecutionContext.getContext().getOperationInitializer().canParallelize()) {
+                jobScheduler = new OperationInitializerJobScheduler();
+            } else {
+                jobScheduler = new ImmediateJobScheduler();
+            }
+            executionContext = ExecutionContext.getContext();
+
+            segmentPartitionRowSets = new WritableRowSet[segmentCount][];
+            partitionRowSets = new WritableRowSet[partitionCount];
+            partitionStateManagers = new OperatorAggregationStateManager[partitionCount];
+            partitionFirstRowKeys = new TLongArrayList[partitionCount];
+            partitionDestinations = new int[partitionCount][];
+        }
+
+        private OperatorAggregationStateManager build(@NotNull final MutableInt outputPosition) {
+            try {
+                jobScheduler.runAndWait("performing the partitioned initial aggregation",
+                        (onComplete, onError) -> jobScheduler.iterateParallel(
+                                executionContext,
+                                logOutput -> logOutput.append("PartitionedInitialBuild-partition"),
+                                JobScheduler.DEFAULT_CONTEXT_FACTORY,
+                                0, segmentCount,
+                                (context, segmentIndex, nestedErrorConsumer) -> partitionSegment(segmentIndex),
+                                () -> jobScheduler.iterateParallel(
+                                        executionContext,
+                                        logOutput -> logOutput.append("PartitionedInitialBuild-build"),
+                                        JobScheduler.DEFAULT_CONTEXT_FACTORY,
+                                        0, partitionCount,
+                                        (context, partitionIndex,
+                                                nestedErrorConsumer) -> buildPartition(partitionIndex),
+                                        () -> {
+                                            assignDestinations();
+                                            jobScheduler.iterateParallel(
+                                                    executionContext,
+                                                    logOutput -> logOutput.append("PartitionedInitialBuild-accumulate"),
+                                                    JobScheduler.DEFAULT_CONTEXT_FACTORY,
+                                                    0, partitionCount,
+                                                    (context, partitionIndex,
+                                                            nestedErrorConsumer) -> accumulatePartition(partitionIndex),
+                                                    onComplete,
+                                                    onError);
+                                        },
+                                        onError),
+                                onError));
+            } finally {
+                SafeCloseable.closeAll(Arrays.stream(segmentPartitionRowSets)
+                        .filter(Objects::nonNull).flatMap(Arrays::stream));
+                SafeCloseable.closeAll(partitionRowSets);
+            }
+
+            outputPosition.set(resultSize);
+            return new PartitionedStaticAggregationStateManager(
+                    partitionStateManagers, partitionDestinations, resultKeySources, resultSize);
+        }
+
+        /**
+         * Map a key hash code to a partition. We use the high bits of a multiplicative hash, so that the partition is
+         * not correlated with the low bits that each partition's state manager uses to choose hash table locations.
+         */
+        private int partitionOf(final int hashCode) {
+            return (int) ((((hashCode * 0x9E3779B9L) & 0xFFFFFFFFL) * partitionCount) >>> 32);
+        }
+
+        private void partitionSegment(final int segmentIndex) {
+            final long firstPosition = rowSet.size() * segmentIndex / segmentCount;
+            final long lastPositionExclusive = rowSet.size() * (segmentIndex + 1) / segmentCount;
+            final RowSetBuilderSequential[] builders = new RowSetBuilderSequential[partitionCount];
+            for (int pi = 0; pi < partitionCount; ++pi) {
+                builders[pi] = RowSetFactory.builderSequential();
+            }
+            final ChunkHasher[] hashers = Arrays.stream(buildSources)
+                    .map(cs -> ChunkHasher.makeHasher(cs.getChunkType())).toArray(ChunkHasher[]::new);
+            final ChunkSource.GetContext[] getContexts = new ChunkSource.GetContext[buildSources.length];
+
+            try (final RowSet segment = rowSet.subSetByPositionRange(firstPosition, lastPositionExclusive);
+                    final RowSequence.Iterator rsIt = segment.getRowSequenceIterator();
+                    final SafeCloseable ignored = new SafeCloseableArray<>(getContexts);
+                    final WritableIntChunk<HashCodes> hashCodes =
+                            WritableIntChunk.makeWritableChunk(chunkSize(segment.size()))) {
+                final int chunkSize = chunkSize(segment.size());
+                for (int kci = 0; kci < buildSources.length; ++kci) {
+                    getContexts[kci] = buildSources[kci].makeGetContext(chunkSize);
+                }
+                while (rsIt.hasMore()) {
+                    final RowSequence chunkOk = rsIt.getNextRowSequenceWithLength(chunkSize);
+                    for (int kci = 0; kci < buildSources.length; ++kci) {
+                        // noinspection unchecked
+                        final Chunk<Values> keyChunk =
+                                (Chunk<Values>) buildSources[kci].getChunk(getContexts[kci], chunkOk);
+                        if (kci == 0) {
+                            hashers[kci].hashInitial(keyChunk, hashCodes);
+                        } else {
+                            hashers[kci].hashUpdate(keyChunk, hashCodes);
+                        }
+                    }
+                    final LongChunk<OrderedRowKeys> rowKeys = chunkOk.asRowKeyChunk();
+                    for (int ii = 0; ii < rowKeys.size(); ++ii) {
+                        builders[partitionOf(hashCodes.get(ii))].appendKey(rowKeys.get(ii));
+                    }
+                }
+            }
+
+            segmentPartitionRowSets[segmentIndex] = Arrays.stream(builders)
+                    .map(RowSetBuilderSequential::build).toArray(WritableRowSet[]::new);
+        }
+
+        private void buildPartition(final int partitionIndex) {
+            // Segments are in row key order, so we can append them
+            final RowSetBuilderSequential builder = RowSetFactory.builderSequential();
+            for (int si = 0; si < segmentCount; ++si) {
+                try (final RowSet segmentPartition = segmentPartitionRowSets[si][partitionIndex]) {
+                    builder.appendRowSequence(segmentPartition);
+                }
+                segmentPartitionRowSets[si][partitionIndex] = null;
+            }
+            final RowSet partitionRows = partitionRowSets[partitionIndex] = builder.build();
+
+            final OperatorAggregationStateManager stateManager =
+                    partitionStateManagers[partitionIndex] = stateManagerSupplier.get();
+            final TLongArrayList firstRowKeys = partitionFirstRowKeys[partitionIndex] = new TLongArrayList();
+            if (partitionRows.isEmpty()) {
+                return;
+            }
+
+            final int chunkSize = chunkSize(partitionRows.size());
+            final MutableInt nextOutputPosition = new MutableInt();
+            try (final SafeCloseable bc = stateManager.makeAggregationStateBuildContext(buildSources, chunkSize);
+                    final RowSequence.Iterator rsIt = partitionRows.getRowSequenceIterator();
+                    final WritableIntChunk<RowKeys> outputPositions = WritableIntChunk.makeWritableChunk(chunkSize)) {
+                while (rsIt.hasMore()) {
+                    final RowSequence chunkOk = rsIt.getNextRowSequenceWithLength(chunkSize);
+                    stateManager.add(bc, chunkOk, buildSources, nextOutputPosition, outputPositions);
+                    final LongChunk<OrderedRowKeys> rowKeys = chunkOk.asRowKeyChunk();
+                    for (int ii = 0; ii < outputPositions.size(); ++ii) {
+                        // New states are assigned the next output position, in row key order
+                        if (outputPositions.get(ii) == firstRowKeys.size()) {
+                            firstRowKeys.add(rowKeys.get(ii));
+                        }
+                    }
+                }
+            }
+            Assert.eq(firstRowKeys.size(), "firstRowKeys.size()", nextOutputPosition.get(),
+                    "nextOutputPosition.get()");
+        }
+
+        /**
+         * Merge the partitions' states by first row key in order to assign result destinations, and prepare the
+         * operators and result key columns for concurrent accumulation.
+         */
+        private void assignDestinations() {
+            final int[] heap = new int[partitionCount];
+            final int[] cursors = new int[partitionCount];
+            int heapSize = 0;
+            long totalSize = 0;
+            for (int pi = 0; pi < partitionCount; ++pi) {
+                final int partitionSize = partitionFirstRowKeys[pi].size();
+                partitionDestinations[pi] = new int[partitionSize];
+                totalSize += partitionSize;
+                if (partitionSize > 0) {
+                    heap[heapSize++] = pi;
+                }
+            }
+            resultSize = LongSizedDataStructure.intSize("PartitionedInitialBuild", totalSize);
+            for (int hi = heapSize / 2 - 1; hi >= 0; --hi) {
+                siftDown(heap, heapSize, hi, cursors);
+            }
+
+            int nextDestination = 0;
+            while (heapSize > 0) {
+                final int pi = heap[0];
+                partitionDestinations[pi][cursors[pi]++] = nextDestination++;
+                if (cursors[pi] == partitionDestinations[pi].length) {
+                    heap[0] = heap[--heapSize];
+                }
+                siftDown(heap, heapSize, 0, cursors);
+            }
+            Arrays.fill(partitionFirstRowKeys, null);
+
+            ac.ensureCapacity(resultSize);
+
+            final ColumnSource[] partitionKeySources = partitionStateManagers[0].getKeyHashTableSources();
+            resultKeySources = new WritableColumnSource[partitionKeySources.length];
+            for (int kci = 0; kci < partitionKeySources.length; ++kci) {
+                // noinspection unchecked
+                resultKeySources[kci] = ArrayBackedColumnSource.getMemoryColumnSource(resultSize,
+                        partitionKeySources[kci].getType(), partitionKeySources[kci].getComponentType());
+            }
+        }
+
+        private long heapKey(final int partitionIndex, final int[] cursors) {
+            return partitionFirstRowKeys[partitionIndex].get(cursors[partitionIndex]);
+        }
+
+        private void siftDown(final int[] heap, final int heapSize, int index, final int[] cursors) {
+            while (true) {
+                final int left = 2 * index + 1;
+                if (left >= heapSize) {
+                    return;
+                }
+                final int right = left + 1;
+                final int smallest = right < heapSize && heapKey(heap[right], cursors) < heapKey(heap[left], cursors)
+                        ? right
+                        : left;
+                if (heapKey(heap[index], cursors) <= heapKey(heap[smallest], cursors)) {
+                    return;
+                }
+                final int swap = heap[index];
+                heap[index] = heap[smallest];
+                heap[smallest] = swap;
+                index = smallest;
+            }
+        }
+
+        private void accumulatePartition(final int partitionIndex) {
+            final RowSet partitionRows = partitionRowSets[partitionIndex];
+            final OperatorAggregationStateManager stateManager = partitionStateManagers[partitionIndex];
+            final int[] destinations = partitionDestinations[partitionIndex];
+            if (partitionRows.isEmpty()) {
+                return;
+            }
+
+            doInitialBucketedKeyAddition(partitionRows, buildSources, ac, permuteKernels, stateManager,
+                    new MutableInt(destinations.length), destinations, null, false);
+
+            // Copy this partition's keys into the result key columns, at the destinations we assigned
+            final ColumnSource[] partitionKeySources = stateManager.getKeyHashTableSources();
+            final int chunkSize = chunkSize(destinations.length);
+            for (int kci = 0; kci < partitionKeySources.length; ++kci) {
+                final ColumnSource<?> partitionKeySource = partitionKeySources[kci];
+                final WritableColumnSource<?> resultKeySource = resultKeySources[kci];
+                try (final ChunkSource.FillContext fillContext = partitionKeySource.makeFillContext(chunkSize);
+                        final ChunkSink.FillFromContext fillFromContext =
+                                resultKeySource.makeFillFromContext(chunkSize);
+                        final WritableChunk<Values> keyValues =
+                                partitionKeySource.getChunkType().makeWritableChunk(chunkSize);
+                        final WritableLongChunk<OrderedRowKeys> resultRowKeys =
+                                WritableLongChunk.makeWritableChunk(chunkSize)) {
+                    for (int start = 0; start < destinations.length; start += chunkSize) {
+                        final int length = Math.min(chunkSize, destinations.length - start);
+                        try (final RowSequence partitionPositions =
+                                RowSequenceFactory.forRange(start, start + length - 1)) {
+                            partitionKeySource.fillChunk(fillContext, keyValues, partitionPositions);
+                        }
+                        // Destinations are increasing within a partition, since they follow first row key order
+                        resultRowKeys.setSize(length);
+                        for (int ii = 0; ii < length; ++ii) {
+                            resultRowKeys.set(ii, destinations[start + ii]);
+                        }
+                        try (final RowSequence resultPositions =
+                                RowSequenceFactory.wrapRowKeysChunkAsRowSequence(resultRowKeys)) {
+                            resultKeySource.fillFromChunk(fillFromContext, keyValues, resultPositions);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
     private static void initialIndexedKeyAddition(
             final BasicDataIndex dataIndex,
             final ColumnSource<?>[] keySources,
@@ -130,6 +130,11 @@ class CountAggregationOperator extends BasicStateChangeRecorder implements Itera
         countColumnSource.ensureCapacity(tableSize, false);
     }
 
+    @Override
+    public boolean supportsConcurrentInitialAddition() {
+        return true;
+    }
+
     @Override
     public Map<String, ? extends ColumnSource<?>> getResultColumns() {
         return exposesResult() ? Collections.singletonMap(resultName, countColumnSource) : Collections.emptyMap();
@@ -43,6 +43,11 @@ class DoubleChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationO
     }
 
     private double min(DoubleChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        // region vectorized min
+        if (VectorizedAggregationKernels.DOUBLE != null) {
+            return VectorizedAggregationKernels.DOUBLE.min(values, chunkNonNull, chunkStart, chunkEnd);
+        }
+        // endregion vectorized min
         int nonNull = 0;
         double value = QueryConstants.NULL_DOUBLE;
         for (int ii = chunkStart; ii < chunkEnd; ++ii) {
@@ -60,6 +65,11 @@ class DoubleChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationO
     }
 
     private double max(DoubleChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        // region vectorized max
+        if (VectorizedAggregationKernels.DOUBLE != null) {
+            return VectorizedAggregationKernels.DOUBLE.max(values, chunkNonNull, chunkStart, chunkEnd);
+        }
+        // endregion vectorized max
         int nonNull = 0;
         double value = QueryConstants.NULL_DOUBLE;
         for (int ii = chunkStart; ii < chunkEnd; ++ii) {
@@ -165,6 +175,11 @@ class DoubleChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationO
         resultColumn.ensureCapacity(tableSize);
     }
 
+    @Override
+    public boolean supportsConcurrentInitialAddition() {
+        return true;
+    }
+
     @Override
     public Map<String, ? extends ColumnSource<?>> getResultColumns() {
         // region getResultColumns
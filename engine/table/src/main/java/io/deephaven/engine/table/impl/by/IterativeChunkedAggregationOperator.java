@@ -256,6 +256,19 @@ public interface IterativeChunkedAggregationOperator {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Whether the operator's bucketed {@link #addChunk(BucketedContext, Chunk, LongChunk, IntChunk, IntChunk, IntChunk,
+     * WritableBooleanChunk) addChunk} may be invoked concurrently during the initial addition for a static input. When
+     * this is the case, each thread uses its own {@link BucketedContext}, every thread's destinations are disjoint from
+     * every other thread's destinations, and {@link #ensureCapacity(long)} is called for all destinations before any
+     * chunks are added. Operators must only return true if all state they modify while adding is per-destination.
+     *
+     * @return true if the operator supports concurrent initial addition for disjoint destinations, false otherwise
+     */
+    default boolean supportsConcurrentInitialAddition() {
+        return false;
+    }
+
     /**
      * Ensure that this operator can handle destinations up to tableSize - 1.
      *
@@ -54,6 +54,11 @@ class LongChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationOpe
     }
 
     private long min(LongChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        // region vectorized min
+        if (VectorizedAggregationKernels.LONG != null) {
+            return VectorizedAggregationKernels.LONG.min(values, chunkNonNull, chunkStart, chunkEnd);
+        }
+        // endregion vectorized min
         int nonNull = 0;
         long value = QueryConstants.NULL_LONG;
         for (int ii = chunkStart; ii < chunkEnd; ++ii) {
@@ -71,6 +76,11 @@ class LongChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationOpe
     }
 
     private long max(LongChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        // region vectorized max
+        if (VectorizedAggregationKernels.LONG != null) {
+            return VectorizedAggregationKernels.LONG.max(values, chunkNonNull, chunkStart, chunkEnd);
+        }
+        // endregion vectorized max
         int nonNull = 0;
         long value = QueryConstants.NULL_LONG;
         for (int ii = chunkStart; ii < chunkEnd; ++ii) {
@@ -176,6 +186,11 @@ class LongChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationOpe
         resultColumn.ensureCapacity(tableSize);
     }
 
+    @Override
+    public boolean supportsConcurrentInitialAddition() {
+        return true;
+    }
+
     @Override
     public Map<String, ? extends ColumnSource<?>> getResultColumns() {
         // region getResultColumns
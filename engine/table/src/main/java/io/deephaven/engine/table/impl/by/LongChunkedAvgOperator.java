@@ -126,6 +126,11 @@ class LongChunkedAvgOperator implements IterativeChunkedAggregationOperator {
         runningSum.ensureCapacity(tableSize);
     }
 
+    @Override
+    public boolean supportsConcurrentInitialAddition() {
+        return true;
+    }
+
     @Override
     public Map<String, ? extends ColumnSource<?>> getResultColumns() {
         if (exposeInternalColumns) {
@@ -160,6 +160,11 @@ class LongChunkedVarOperator implements IterativeChunkedAggregationOperator {
         sum2Source.ensureCapacity(tableSize);
     }
 
+    @Override
+    public boolean supportsConcurrentInitialAddition() {
+        return true;
+    }
+
     @Override
     public Map<String, ? extends ColumnSource<?>> getResultColumns() {
         if (exposeInternalColumns) {
@@ -43,6 +43,8 @@ class ObjectChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationO
     }
 
     private Object min(ObjectChunk<Object, ?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        // region vectorized min
+        // endregion vectorized min
         int nonNull = 0;
         Object value = null;
         for (int ii = chunkStart; ii < chunkEnd; ++ii) {
@@ -60,6 +62,8 @@ class ObjectChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationO
     }
 
     private Object max(ObjectChunk<Object, ?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd) {
+        // region vectorized max
+        // endregion vectorized max
         int nonNull = 0;
         Object value = null;
         for (int ii = chunkStart; ii < chunkEnd; ++ii) {
@@ -165,6 +169,11 @@ class ObjectChunkedAddOnlyMinMaxOperator implements IterativeChunkedAggregationO
         resultColumn.ensureCapacity(tableSize);
     }
 
+    @Override
+    public boolean supportsConcurrentInitialAddition() {
+        return true;
+    }
+
     @Override
     public Map<String, ? extends ColumnSource<?>> getResultColumns() {
         // region getResultColumns
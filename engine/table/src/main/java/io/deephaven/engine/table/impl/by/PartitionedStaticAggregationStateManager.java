@@ -0,0 +1,78 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.by;
+
+import io.deephaven.chunk.WritableIntChunk;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.util.SafeCloseable;
+import io.deephaven.util.mutable.MutableInt;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The result of a hash-partitioned initial build for a static aggregation. Each partition's keys were added to an
+ * independent state manager, and the partitions' states were then assigned destinations in the combined result.
+ * <p>
+ * This state manager is read-only: it exposes the combined key columns and supports key lookups, but no further keys
+ * may be added.
+ */
+final class PartitionedStaticAggregationStateManager implements OperatorAggregationStateManager {
+
+    private final OperatorAggregationStateManager[] partitionStateManagers;
+    private final int[][] partitionDestinations;
+    private final ColumnSource[] keyHashTableSources;
+    private final int size;
+
+    /**
+     * @param partitionStateManagers The state managers for each partition
+     * @param partitionDestinations For each partition, a mapping from the partition state manager's output positions to
+     *        destinations in the combined result
+     * @param keyHashTableSources Flat key columns for the combined result, indexed by destination
+     * @param size The number of destinations in the combined result
+     */
+    PartitionedStaticAggregationStateManager(
+            @NotNull final OperatorAggregationStateManager[] partitionStateManagers,
+            @NotNull final int[][] partitionDestinations,
+            @NotNull final ColumnSource[] keyHashTableSources,
+            final int size) {
+        this.partitionStateManagers = partitionStateManagers;
+        this.partitionDestinations = partitionDestinations;
+        this.keyHashTableSources = keyHashTableSources;
+        this.size = size;
+    }
+
+    @Override
+    public int maxTableSize() {
+        return size;
+    }
+
+    @Override
+    public SafeCloseable makeAggregationStateBuildContext(ColumnSource<?>[] buildSources, long maxSize) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void add(SafeCloseable bc, RowSequence rowSequence, ColumnSource<?>[] sources,
+            MutableInt nextOutputPosition, WritableIntChunk<RowKeys> outputPositions) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public ColumnSource[] getKeyHashTableSources() {
+        return keyHashTableSources;
+    }
+
+    @Override
+    public int findPositionForKey(final Object key) {
+        // Partitions are disjoint, so at most one of them can know this key
+        for (int pi = 0; pi < partitionStateManagers.length; ++pi) {
+            final int partitionPosition = partitionStateManagers[pi].findPositionForKey(key);
+            if (partitionPosition != UNKNOWN_ROW) {
+                return partitionDestinations[pi][partitionPosition];
+            }
+        }
+        return UNKNOWN_ROW;
+    }
+}
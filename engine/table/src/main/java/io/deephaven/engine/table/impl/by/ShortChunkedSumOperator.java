@@ -176,6 +176,11 @@ public class ShortChunkedSumOperator implements IterativeChunkedAggregationOpera
         nonNullCount.ensureCapacity(tableSize);
     }
 
+    @Override
+    public boolean supportsConcurrentInitialAddition() {
+        return true;
+    }
+
     @Override
     public Map<String, ? extends ColumnSource<?>> getResultColumns() {
         return Collections.singletonMap(name, resultColumn);
@@ -13,6 +13,8 @@ public class SumCharChunk {
     private SumCharChunk() {} // static use only
 
     static long sumCharChunk(CharChunk<? extends Any> values, int chunkStart, int chunkSize, MutableInt nonNullCount) {
+        // region vectorized sum
+        // endregion vectorized sum
         final int end = chunkStart + chunkSize;
         long sum = 0;
         for (int ii = chunkStart; ii < end; ++ii) {
@@ -42,6 +44,8 @@ public class SumCharChunk {
      */
     static double sum2CharChunk(CharChunk<? extends Any> values, int chunkStart, int chunkSize, MutableInt nonNullCount,
             MutableDouble sum2out) {
+        // region vectorized sum2
+        // endregion vectorized sum2
         final int end = chunkStart + chunkSize;
         double sum = 0;
         double sum2 = 0;
@@ -21,6 +21,12 @@ class SumDoubleChunk {
             MutableInt chunkNanCount,
             MutableInt chunkInfinityCount,
             MutableInt chunkMinusInfinityCount) {
+        // region vectorized sum
+        if (VectorizedAggregationKernels.DOUBLE != null) {
+            return VectorizedAggregationKernels.DOUBLE.sum(values, chunkStart, chunkSize, chunkNormalCount,
+                    chunkNanCount, chunkInfinityCount, chunkMinusInfinityCount);
+        }
+        // endregion vectorized sum
         final int end = chunkStart + chunkSize;
         double sum = 0;
         for (int ii = chunkStart; ii < end; ++ii) {
@@ -46,6 +52,12 @@ class SumDoubleChunk {
             MutableInt chunkInfinityCount,
             MutableInt chunkMinusInfinityCount,
             MutableDouble sum2out) {
+        // region vectorized sum2
+        if (VectorizedAggregationKernels.DOUBLE != null) {
+            return VectorizedAggregationKernels.DOUBLE.sum2(values, chunkStart, chunkSize, chunkNormalCount,
+                    chunkNanCount, chunkInfinityCount, chunkMinusInfinityCount, sum2out);
+        }
+        // endregion vectorized sum2
         final int end = chunkStart + chunkSize;
         double sum = 0;
         double sum2 = 0;
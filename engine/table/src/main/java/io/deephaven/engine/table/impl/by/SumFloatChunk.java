@@ -17,6 +17,8 @@ class SumFloatChunk {
             MutableInt chunkNanCount,
             MutableInt chunkInfinityCount,
             MutableInt chunkMinusInfinityCount) {
+        // region vectorized sum
+        // endregion vectorized sum
         final int end = chunkStart + chunkSize;
         double sum = 0;
         for (int ii = chunkStart; ii < end; ++ii) {
@@ -42,6 +44,8 @@ class SumFloatChunk {
             MutableInt chunkInfinityCount,
             MutableInt chunkMinusInfinityCount,
             MutableDouble sum2out) {
+        // region vectorized sum2
+        // endregion vectorized sum2
         final int end = chunkStart + chunkSize;
         double sum = 0;
         double sum2 = 0;
@@ -17,6 +17,11 @@ public class SumLongChunk {
     private SumLongChunk() {} // static use only
 
     static long sumLongChunk(LongChunk<? extends Any> values, int chunkStart, int chunkSize, MutableInt nonNullCount) {
+        // region vectorized sum
+        if (VectorizedAggregationKernels.LONG != null) {
+            return VectorizedAggregationKernels.LONG.sum(values, chunkStart, chunkSize, nonNullCount);
+        }
+        // endregion vectorized sum
         final int end = chunkStart + chunkSize;
         long sum = 0;
         for (int ii = chunkStart; ii < end; ++ii) {
@@ -46,6 +51,11 @@ public class SumLongChunk {
      */
     static double sum2LongChunk(LongChunk<? extends Any> values, int chunkStart, int chunkSize, MutableInt nonNullCount,
             MutableDouble sum2out) {
+        // region vectorized sum2
+        if (VectorizedAggregationKernels.LONG != null) {
+            return VectorizedAggregationKernels.LONG.sum2(values, chunkStart, chunkSize, nonNullCount, sum2out);
+        }
+        // endregion vectorized sum2
         final int end = chunkStart + chunkSize;
         double sum = 0;
         double sum2 = 0;
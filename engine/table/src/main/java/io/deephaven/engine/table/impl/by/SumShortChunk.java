@@ -17,6 +17,8 @@ public class SumShortChunk {
     private SumShortChunk() {} // static use only
 
     static long sumShortChunk(ShortChunk<? extends Any> values, int chunkStart, int chunkSize, MutableInt nonNullCount) {
+        // region vectorized sum
+        // endregion vectorized sum
         final int end = chunkStart + chunkSize;
         long sum = 0;
         for (int ii = chunkStart; ii < end; ++ii) {
@@ -46,6 +48,8 @@ public class SumShortChunk {
      */
     static double sum2ShortChunk(ShortChunk<? extends Any> values, int chunkStart, int chunkSize, MutableInt nonNullCount,
             MutableDouble sum2out) {
+        // region vectorized sum2
+        // endregion vectorized sum2
         final int end = chunkStart + chunkSize;
         double sum = 0;
         double sum2 = 0;
@@ -0,0 +1,162 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.by;
+
+import io.deephaven.chunk.DoubleChunk;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.attributes.Any;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.configuration.Configuration;
+import io.deephaven.internal.log.LoggerFactory;
+import io.deephaven.io.logger.Logger;
+import io.deephaven.util.mutable.MutableInt;
+import org.apache.commons.lang3.mutable.MutableDouble;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Optional vectorized implementations of the per-run kernels used by the sum, average, variance and add-only min/max
+ * aggregation operators.
+ *
+ * <p>
+ * When {@code Aggregation.vectorized} is {@code true}, a {@link Provider} is loaded via {@link ServiceLoader}, and the
+ * {@code long} and {@code double} kernels in {@link SumLongChunk}, {@code SumDoubleChunk},
+ * {@code LongChunkedAddOnlyMinMaxOperator} and {@code DoubleChunkedAddOnlyMinMaxOperator} delegate to the kernels it
+ * supplies. Each operator calls a kernel once per run of values for a single destination, so the vectorized kernels
+ * are most effective for zero-key and low-cardinality aggregations, where runs are long.
+ *
+ * <p>
+ * Integral results are identical to the scalar kernels. Floating point sums are accumulated in a different order, and
+ * may therefore differ from the scalar sums in rounding; floating point minimums and maximums may differ in the sign of
+ * a zero result.
+ */
+public final class VectorizedAggregationKernels {
+
+    private static final Logger log = LoggerFactory.getLogger(VectorizedAggregationKernels.class);
+
+    private static final boolean VECTORIZED =
+            Configuration.getInstance().getBooleanWithDefault("Aggregation.vectorized", false);
+
+    @Nullable
+    private static final Provider PROVIDER = VECTORIZED ? loadProvider() : null;
+
+    @Nullable
+    static final LongKernel LONG = PROVIDER == null ? null : PROVIDER.longKernel();
+
+    @Nullable
+    static final DoubleKernel DOUBLE = PROVIDER == null ? null : PROVIDER.doubleKernel();
+
+    private VectorizedAggregationKernels() {} // static use only
+
+    /**
+     * A source of vectorized aggregation kernels. Each method returns {@code null} if the provider has no kernels for
+     * the type.
+     */
+    public interface Provider {
+        @Nullable
+        default LongKernel longKernel() {
+            return null;
+        }
+
+        @Nullable
+        default DoubleKernel doubleKernel() {
+            return null;
+        }
+    }
+
+    /**
+     * Kernels for {@code long} values. Each method has the same contract as the scalar method it replaces.
+     */
+    public interface LongKernel {
+        /**
+         * The sum of the non-null values in the run, as computed by {@code SumLongChunk.sumLongChunk}.
+         */
+        long sum(LongChunk<? extends Any> values, int chunkStart, int chunkSize, MutableInt nonNullCount);
+
+        /**
+         * The sum and sum of squares of the non-null values in the run, as computed by
+         * {@code SumLongChunk.sum2LongChunk}.
+         */
+        double sum2(LongChunk<? extends Any> values, int chunkStart, int chunkSize, MutableInt nonNullCount,
+                MutableDouble sum2out);
+
+        /**
+         * The minimum non-null value in {@code [chunkStart, chunkEnd)}, or null if there are none.
+         */
+        long min(LongChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd);
+
+        /**
+         * The maximum non-null value in {@code [chunkStart, chunkEnd)}, or null if there are none.
+         */
+        long max(LongChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd);
+    }
+
+    /**
+     * Kernels for {@code double} values. Each method has the same contract as the scalar method it replaces.
+     */
+    public interface DoubleKernel {
+        /**
+         * The sum of the finite, non-null values in the run, as computed by {@code SumDoubleChunk.sumDoubleChunk}.
+         */
+        double sum(DoubleChunk<? extends Values> values, int chunkStart, int chunkSize,
+                MutableInt chunkNormalCount,
+                MutableInt chunkNanCount,
+                MutableInt chunkInfinityCount,
+                MutableInt chunkMinusInfinityCount);
+
+        /**
+         * The sum and sum of squares of the finite, non-null values in the run, as computed by
+         * {@code SumDoubleChunk.sum2DoubleChunk}.
+         */
+        double sum2(DoubleChunk<? extends Values> values, int chunkStart, int chunkSize,
+                MutableInt chunkNormalCount,
+                MutableInt chunkNanCount,
+                MutableInt chunkInfinityCount,
+                MutableInt chunkMinusInfinityCount,
+                MutableDouble sum2out);
+
+        /**
+         * The minimum non-null value in {@code [chunkStart, chunkEnd)} according to
+         * {@link io.deephaven.util.compare.DoubleComparisons}, or null if there are none.
+         */
+        double min(DoubleChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd);
+
+        /**
+         * The maximum non-null value in {@code [chunkStart, chunkEnd)} according to
+         * {@link io.deephaven.util.compare.DoubleComparisons}, or null if there are none.
+         */
+        double max(DoubleChunk<?> values, MutableInt chunkNonNull, int chunkStart, int chunkEnd);
+    }
+
+    /**
+     * @return whether a vectorized {@link Provider} is in use
+     */
+    public static boolean isEnabled() {
+        return PROVIDER != null;
+    }
+
+    @Nullable
+    private static Provider loadProvider() {
+        try {
+            final Iterator<Provider> it = ServiceLoader.load(Provider.class).iterator();
+            if (!it.hasNext()) {
+                log.warn().append("Aggregation.vectorized is set, but no ")
+                        .append(Provider.class.getName()).append(" is available; using scalar aggregation kernels")
+                        .endl();
+                return null;
+            }
+            final Provider provider = it.next();
+            log.info().append("Using vectorized aggregation kernels from ").append(provider.getClass().getName())
+                    .endl();
+            return provider;
+        } catch (ServiceConfigurationError | LinkageError e) {
+            log.warn().append("Unable to load vectorized aggregation kernels; using scalar aggregation kernels: ")
+                    .append(e).endl();
+            return null;
+        }
+    }
+}
@@ -0,0 +1,391 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.by.hll;
+
+import io.deephaven.chunk.*;
+import io.deephaven.chunk.attributes.ChunkLengths;
+import io.deephaven.chunk.attributes.ChunkPositions;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.impl.by.IterativeChunkedAggregationOperator;
+import io.deephaven.engine.table.impl.sources.LongArraySource;
+import io.deephaven.engine.table.impl.sources.ObjectArraySource;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static io.deephaven.engine.table.impl.by.RollupConstants.ROLLUP_COLUMN_SUFFIX;
+import static io.deephaven.engine.table.impl.by.RollupConstants.ROLLUP_HLL_SKETCH_COLUMN_ID;
+import static io.deephaven.util.QueryConstants.*;
+
+/**
+ * Iterative approximate count distinct operator, backed by a {@link HyperLogLogSketch} per destination.
+ *
+ * <p>
+ * Null values are not counted. Values are hashed from their content with a 64-bit hash, because
+ * {@link Object#hashCode()} is only 32 bits, and its collisions would bias the estimate at high cardinalities. Object
+ * columns are therefore limited to the {@link #SUPPORTED_OBJECT_TYPES supported object types}.
+ *
+ * <p>
+ * Sketches can only grow, so this operator supports static, add-only, and blink tables;
+ * removals and modifications of input values throw {@link UnsupportedOperationException}. When reaggregating for a
+ * rollup, the input is the exposed sketch column of the level below, and child sketches are merged into each parent
+ * sketch. Because merging is idempotent, a modified child sketch (which has only grown) is simply merged again.
+ */
+public class HyperLogLogCountDistinctOperator implements IterativeChunkedAggregationOperator {
+
+    public static final int PRECISION_DEFAULT = 12;
+
+    private static final long HASH_SEED = 0x9E3779B97F4A7C15L;
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    /**
+     * The object column types that can be counted, each of which is hashed from its content.
+     */
+    public static final Set<Class<?>> SUPPORTED_OBJECT_TYPES = Set.of(
+            String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class, BigInteger.class, BigDecimal.class, LocalDate.class, LocalTime.class,
+            ZonedDateTime.class);
+
+    private final int precision;
+    private final boolean reaggregated;
+    private final ChunkType chunkType;
+    private final String resultName;
+    private final String sketchColumnName;
+
+    private final ObjectArraySource<HyperLogLogSketch> sketches;
+    private final LongArraySource resultColumn;
+
+    /**
+     * @param type The input column type, or {@link HyperLogLogSketch} when {@code reaggregated}
+     * @param resultName The result column name
+     * @param precision The {@link HyperLogLogSketch#precision() precision} of each sketch
+     * @param exposeSketches Whether to expose the sketch column for use by a rollup's reaggregated levels
+     * @param reaggregated Whether the input is a column of sketches to merge, rather than a column of values
+     */
+    public HyperLogLogCountDistinctOperator(
+            @NotNull final Class<?> type,
+            @NotNull final String resultName,
+            final int precision,
+            final boolean exposeSketches,
+            final boolean reaggregated) {
+        this.precision = precision;
+        this.reaggregated = reaggregated;
+        chunkType = ChunkType.fromElementType(type == Instant.class ? long.class : type);
+        if (reaggregated && chunkType != ChunkType.Object) {
+            throw new IllegalArgumentException("Reaggregated input must be a column of sketches, found " + type);
+        }
+        if (!reaggregated && chunkType == ChunkType.Object && !SUPPORTED_OBJECT_TYPES.contains(type)) {
+            throw new IllegalArgumentException("Approximate count distinct does not support columns of type "
+                    + type.getName() + "; supported object types are " + SUPPORTED_OBJECT_TYPES);
+        }
+        this.resultName = resultName;
+        sketchColumnName = exposeSketches ? resultName + ROLLUP_HLL_SKETCH_COLUMN_ID + ROLLUP_COLUMN_SUFFIX : null;
+        sketches = new ObjectArraySource<>(HyperLogLogSketch.class);
+        resultColumn = new LongArraySource();
+    }
+
+    private static UnsupportedOperationException modificationUnsupported() {
+        return new UnsupportedOperationException(
+                "HyperLogLog approximate count distinct does not support data modification");
+    }
+
+    private static UnsupportedOperationException removalUnsupported() {
+        return new UnsupportedOperationException(
+                "HyperLogLog approximate count distinct does not support data removal");
+    }
+
+    @Override
+    public void addChunk(BucketedContext bucketedContext, Chunk<? extends Values> values,
+            LongChunk<? extends RowKeys> inputRowKeys, IntChunk<RowKeys> destinations,
+            IntChunk<ChunkPositions> startPositions, IntChunk<ChunkLengths> length,
+            WritableBooleanChunk<Values> stateModified) {
+        for (int ii = 0; ii < startPositions.size(); ++ii) {
+            final int startPosition = startPositions.get(ii);
+            final long destination = destinations.get(startPosition);
+            stateModified.set(ii, addValues(values, startPosition, length.get(ii), destination));
+        }
+    }
+
+    @Override
+    public void removeChunk(BucketedContext bucketedContext, Chunk<? extends Values> values,
+            LongChunk<? extends RowKeys> inputRowKeys, IntChunk<RowKeys> destinations,
+            IntChunk<ChunkPositions> startPositions, IntChunk<ChunkLengths> length,
+            WritableBooleanChunk<Values> stateModified) {
+        throw removalUnsupported();
+    }
+
+    @Override
+    public void modifyChunk(BucketedContext bucketedContext, Chunk<? extends Values> preValues,
+            Chunk<? extends Values> postValues, LongChunk<? extends RowKeys> postShiftRowKeys,
+            IntChunk<RowKeys> destinations, IntChunk<ChunkPositions> startPositions, IntChunk<ChunkLengths> length,
+            WritableBooleanChunk<Values> stateModified) {
+        if (!reaggregated) {
+            throw modificationUnsupported();
+        }
+        for (int ii = 0; ii < startPositions.size(); ++ii) {
+            final int startPosition = startPositions.get(ii);
+            final long destination = destinations.get(startPosition);
+            stateModified.set(ii, addValues(postValues, startPosition, length.get(ii), destination));
+        }
+    }
+
+    @Override
+    public boolean addChunk(SingletonContext singletonContext, int chunkSize, Chunk<? extends Values> values,
+            LongChunk<? extends RowKeys> inputRowKeys, long destination) {
+        return addValues(values, 0, values.size(), destination);
+    }
+
+    @Override
+    public boolean removeChunk(SingletonContext singletonContext, int chunkSize, Chunk<? extends Values> values,
+            LongChunk<? extends RowKeys> inputRowKeys, long destination) {
+        throw removalUnsupported();
+    }
+
+    @Override
+    public boolean modifyChunk(SingletonContext context, int chunkSize, Chunk<? extends Values> previousValues,
+            Chunk<? extends Values> newValues, LongChunk<? extends RowKeys> postShiftRowKeys, long destination) {
+        if (!reaggregated) {
+            throw modificationUnsupported();
+        }
+        return addValues(newValues, 0, newValues.size(), destination);
+    }
+
+    @Override
+    public boolean supportsConcurrentInitialAddition() {
+        return true;
+    }
+
+    /**
+     * Add {@code values[start, start + length)} to the sketch for {@code destination}, updating the result if the
+     * sketch changed.
+     *
+     * @return Whether the result for {@code destination} changed
+     */
+    private boolean addValues(
+            @NotNull final Chunk<? extends Values> values,
+            final int start,
+            final int length,
+            final long destination) {
+        HyperLogLogSketch sketch = sketches.getUnsafe(destination);
+        final boolean created = sketch == null;
+        if (created) {
+            sketches.set(destination, sketch = new HyperLogLogSketch(precision));
+        }
+        if (addValues(sketch, values, start, start + length)) {
+            resultColumn.set(destination, sketch.estimate());
+            return true;
+        }
+        if (created) {
+            resultColumn.set(destination, 0L);
+            return true;
+        }
+        return false;
+    }
+
+    private boolean addValues(
+            @NotNull final HyperLogLogSketch sketch,
+            @NotNull final Chunk<? extends Values> values,
+            final int start,
+            final int end) {
+        boolean changed = false;
+        switch (chunkType) {
+            case Boolean: {
+                final BooleanChunk<? extends Values> typed = values.asBooleanChunk();
+                for (int ii = start; ii < end; ++ii) {
+                    changed |= sketch.add(hashLong(typed.get(ii) ? 1 : 0));
+                }
+                break;
+            }
+            case Char: {
+                final CharChunk<? extends Values> typed = values.asCharChunk();
+                for (int ii = start; ii < end; ++ii) {
+                    final char value = typed.get(ii);
+                    if (value != NULL_CHAR) {
+                        changed |= sketch.add(hashLong(value));
+                    }
+                }
+                break;
+            }
+            case Byte: {
+                final ByteChunk<? extends Values> typed = values.asByteChunk();
+                for (int ii = start; ii < end; ++ii) {
+                    final byte value = typed.get(ii);
+                    if (value != NULL_BYTE) {
+                        changed |= sketch.add(hashLong(value));
+                    }
+                }
+                break;
+            }
+            case Short: {
+                final ShortChunk<? extends Values> typed = values.asShortChunk();
+                for (int ii = start; ii < end; ++ii) {
+                    final short value = typed.get(ii);
+                    if (value != NULL_SHORT) {
+                        changed |= sketch.add(hashLong(value));
+                    }
+                }
+                break;
+            }
+            case Int: {
+                final IntChunk<? extends Values> typed = values.asIntChunk();
+                for (int ii = start; ii < end; ++ii) {
+                    final int value = typed.get(ii);
+                    if (value != NULL_INT) {
+                        changed |= sketch.add(hashLong(value));
+                    }
+                }
+                break;
+            }
+            case Long: {
+                final LongChunk<? extends Values> typed = values.asLongChunk();
+                for (int ii = start; ii < end; ++ii) {
+                    final long value = typed.get(ii);
+                    if (value != NULL_LONG) {
+                        changed |= sketch.add(hashLong(value));
+                    }
+                }
+                break;
+            }
+            case Float: {
+                final FloatChunk<? extends Values> typed = values.asFloatChunk();
+                for (int ii = start; ii < end; ++ii) {
+                    final float value = typed.get(ii);
+                    if (value != NULL_FLOAT) {
+                        changed |= sketch.add(hashDouble(value));
+                    }
+                }
+                break;
+            }
+            case Double: {
+                final DoubleChunk<? extends Values> typed = values.asDoubleChunk();
+                for (int ii = start; ii < end; ++ii) {
+                    final double value = typed.get(ii);
+                    if (value != NULL_DOUBLE) {
+                        changed |= sketch.add(hashDouble(value));
+                    }
+                }
+                break;
+            }
+            case Object: {
+                final ObjectChunk<?, ? extends Values> typed = values.asObjectChunk();
+                for (int ii = start; ii < end; ++ii) {
+                    final Object value = typed.get(ii);
+                    if (value == null) {
+                        continue;
+                    }
+                    changed |= reaggregated
+                            ? sketch.merge((HyperLogLogSketch) value)
+                            : sketch.add(hashObject(value));
+                }
+                break;
+            }
+            default:
+                throw new UnsupportedOperationException("Unexpected chunk type " + chunkType);
+        }
+        return changed;
+    }
+
+    /**
+     * Mix {@code value} into a uniformly distributed 64-bit hash, using the SplitMix64 finalizer.
+     */
+    private static long hashLong(final long value) {
+        long hash = value + HASH_SEED;
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+
+    private static long hashDouble(final double value) {
+        // Treat -0.0 as equal to 0.0; doubleToLongBits canonicalizes NaN
+        return hashLong(Double.doubleToLongBits(value == 0.0 ? 0.0 : value));
+    }
+
+    private static long hashChars(long hash, @NotNull final CharSequence chars) {
+        for (int ci = 0; ci < chars.length(); ++ci) {
+            hash = (hash ^ chars.charAt(ci)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long hashBytes(long hash, @NotNull final byte[] bytes) {
+        for (final byte b : bytes) {
+            hash = (hash ^ (b & 0xFF)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * Hash {@code value}, which must be an instance of one of the {@link #SUPPORTED_OBJECT_TYPES}, from its content.
+     */
+    private static long hashObject(@NotNull final Object value) {
+        if (value instanceof String) {
+            return hashLong(hashChars(FNV_OFFSET_BASIS, (String) value));
+        }
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return hashLong(((Number) value).longValue());
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return hashDouble(((Number) value).doubleValue());
+        }
+        if (value instanceof Character) {
+            return hashLong((Character) value);
+        }
+        if (value instanceof Boolean) {
+            return hashLong((Boolean) value ? 1 : 0);
+        }
+        if (value instanceof BigInteger) {
+            return hashLong(hashBytes(FNV_OFFSET_BASIS, ((BigInteger) value).toByteArray()));
+        }
+        if (value instanceof BigDecimal) {
+            // Values that differ only in scale are not equal, so the scale is part of the hash
+            final BigDecimal decimal = (BigDecimal) value;
+            return hashLong(hashBytes((FNV_OFFSET_BASIS ^ decimal.scale()) * FNV_PRIME,
+                    decimal.unscaledValue().toByteArray()));
+        }
+        if (value instanceof LocalDate) {
+            return hashLong(((LocalDate) value).toEpochDay());
+        }
+        if (value instanceof LocalTime) {
+            return hashLong(((LocalTime) value).toNanoOfDay());
+        }
+        if (value instanceof ZonedDateTime) {
+            final ZonedDateTime zdt = (ZonedDateTime) value;
+            final long instantHash = hashLong(hashLong(zdt.toEpochSecond()) ^ zdt.getNano());
+            return hashLong(instantHash ^ hashChars(FNV_OFFSET_BASIS, zdt.getZone().getId()));
+        }
+        throw new IllegalStateException("Unsupported value type " + value.getClass().getName());
+    }
+
+    @Override
+    public void ensureCapacity(long tableSize) {
+        sketches.ensureCapacity(tableSize);
+        resultColumn.ensureCapacity(tableSize);
+    }
+
+    @Override
+    public Map<String, ? extends ColumnSource<?>> getResultColumns() {
+        final Map<String, ColumnSource<?>> results = new LinkedHashMap<>(2);
+        results.put(resultName, resultColumn);
+        if (sketchColumnName != null) {
+            results.put(sketchColumnName, sketches);
+        }
+        return results;
+    }
+
+    @Override
+    public void startTrackingPrevValues() {
+        resultColumn.startTrackingPrevValues();
+    }
+}
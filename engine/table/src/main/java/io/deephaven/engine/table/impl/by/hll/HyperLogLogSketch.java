@@ -0,0 +1,229 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.by.hll;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * A HyperLogLog sketch for estimating the number of distinct 64-bit hashes added to it.
+ *
+ * <p>
+ * The sketch has {@code 2^precision} registers, each recording the maximum rank (position of the first set bit) of the
+ * hashes assigned to it. While few registers are set, they are stored sparsely as a sorted array of encoded
+ * {@code index/rank} pairs; once the sparse representation would exceed one eighth of the dense size it is converted
+ * to a dense array of one byte per register. A histogram of register ranks is maintained as registers change so that
+ * {@link #estimate()} does not need to visit every register.
+ *
+ * <p>
+ * Registers only ever grow, so {@link #add(long) adding} a hash or {@link #merge(HyperLogLogSketch) merging} another
+ * sketch is idempotent, and merging produces exactly the sketch that would have resulted from adding the union of both
+ * sketches' inputs. Removal is not possible.
+ *
+ * <p>
+ * This class is not thread-safe.
+ */
+public final class HyperLogLogSketch {
+
+    private static final int RANK_BITS = 6;
+    private static final int RANK_MASK = (1 << RANK_BITS) - 1;
+    private static final int INITIAL_SPARSE_CAPACITY = 8;
+
+    private final int precision;
+    private final int numRegisters;
+    private final int sparseLimit;
+
+    /**
+     * The number of registers with each rank; {@code rankCounts[0]} is the number of unset registers.
+     */
+    private final int[] rankCounts = new int[Long.SIZE + 1];
+
+    /**
+     * Sparse registers, encoded as {@code index << RANK_BITS | rank} and sorted by index. {@code null} once dense.
+     */
+    private int[] sparse;
+    private int sparseSize;
+
+    /**
+     * Dense registers, one rank per index. {@code null} while sparse.
+     */
+    private byte[] dense;
+
+    /**
+     * @param precision The base-2 logarithm of the number of registers; must be between 4 and 18, inclusive
+     */
+    public HyperLogLogSketch(final int precision) {
+        if (precision < 4 || precision > 18) {
+            throw new IllegalArgumentException("HyperLogLog precision must be between 4 and 18, inclusive; was "
+                    + precision);
+        }
+        this.precision = precision;
+        numRegisters = 1 << precision;
+        sparseLimit = numRegisters >> 3;
+        rankCounts[0] = numRegisters;
+        sparse = new int[INITIAL_SPARSE_CAPACITY];
+    }
+
+    /**
+     * @return The base-2 logarithm of the number of registers in this sketch
+     */
+    public int precision() {
+        return precision;
+    }
+
+    /**
+     * Add a 64-bit hash to this sketch. The hash should be uniformly distributed over all 64 bits.
+     *
+     * @param hash The hash to add
+     * @return Whether this sketch changed as a result
+     */
+    public boolean add(final long hash) {
+        final int index = (int) (hash >>> (Long.SIZE - precision));
+        // The guard bit bounds the rank at (64 - precision + 1) when all remaining bits are zero
+        final int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+        return updateRegister(index, rank);
+    }
+
+    /**
+     * Merge {@code other} into this sketch, taking the maximum of each pair of registers.
+     *
+     * @param other The sketch to merge; must have the same {@link #precision()} as this sketch
+     * @return Whether this sketch changed as a result
+     */
+    public boolean merge(@NotNull final HyperLogLogSketch other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Cannot merge HyperLogLog sketches with different precisions: "
+                    + precision + " and " + other.precision);
+        }
+        boolean changed = false;
+        if (other.dense != null) {
+            if (dense == null) {
+                convertToDense();
+            }
+            for (int ii = 0; ii < numRegisters; ++ii) {
+                final int rank = other.dense[ii];
+                if (rank != 0) {
+                    changed |= updateRegister(ii, rank);
+                }
+            }
+        } else {
+            for (int ii = 0; ii < other.sparseSize; ++ii) {
+                final int encoded = other.sparse[ii];
+                changed |= updateRegister(encoded >>> RANK_BITS, encoded & RANK_MASK);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Estimate the number of distinct hashes added to this sketch, directly or by merging.
+     *
+     * <p>
+     * Uses the raw HyperLogLog estimate, falling back to linear counting over unset registers for small cardinalities.
+     * Hashes are 64 bits, so no large-range correction is needed.
+     *
+     * @return The estimated number of distinct hashes
+     */
+    public long estimate() {
+        final int zeroRegisters = rankCounts[0];
+        double inverseSum = 0;
+        for (int rank = 0; rank < rankCounts.length; ++rank) {
+            if (rankCounts[rank] != 0) {
+                inverseSum += Math.scalb((double) rankCounts[rank], -rank);
+            }
+        }
+        final double m = numRegisters;
+        double estimate = alpha() * m * m / inverseSum;
+        if (estimate <= 2.5 * m && zeroRegisters != 0) {
+            estimate = m * Math.log(m / zeroRegisters);
+        }
+        return Math.round(estimate);
+    }
+
+    private double alpha() {
+        switch (numRegisters) {
+            case 16:
+                return 0.673;
+            case 32:
+                return 0.697;
+            case 64:
+                return 0.709;
+            default:
+                return 0.7213 / (1.0 + 1.079 / numRegisters);
+        }
+    }
+
+    private boolean updateRegister(final int index, final int rank) {
+        if (dense != null) {
+            final int oldRank = dense[index];
+            if (rank <= oldRank) {
+                return false;
+            }
+            dense[index] = (byte) rank;
+            --rankCounts[oldRank];
+            ++rankCounts[rank];
+            return true;
+        }
+
+        final int position = findSparse(index);
+        if (position >= 0) {
+            final int oldRank = sparse[position] & RANK_MASK;
+            if (rank <= oldRank) {
+                return false;
+            }
+            sparse[position] = index << RANK_BITS | rank;
+            --rankCounts[oldRank];
+            ++rankCounts[rank];
+            return true;
+        }
+
+        if (sparseSize == sparseLimit) {
+            convertToDense();
+            return updateRegister(index, rank);
+        }
+        final int insertionPoint = -position - 1;
+        if (sparseSize == sparse.length) {
+            sparse = Arrays.copyOf(sparse, Math.min(sparseLimit, sparse.length * 2));
+        }
+        System.arraycopy(sparse, insertionPoint, sparse, insertionPoint + 1, sparseSize - insertionPoint);
+        sparse[insertionPoint] = index << RANK_BITS | rank;
+        ++sparseSize;
+        --rankCounts[0];
+        ++rankCounts[rank];
+        return true;
+    }
+
+    /**
+     * Binary search the sparse registers for {@code index}.
+     *
+     * @return The position of {@code index} if found, else {@code -(insertionPoint + 1)}
+     */
+    private int findSparse(final int index) {
+        int low = 0;
+        int high = sparseSize - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int midIndex = sparse[mid] >>> RANK_BITS;
+            if (midIndex < index) {
+                low = mid + 1;
+            } else if (midIndex > index) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private void convertToDense() {
+        dense = new byte[numRegisters];
+        for (int ii = 0; ii < sparseSize; ++ii) {
+            final int encoded = sparse[ii];
+            dense[encoded >>> RANK_BITS] = (byte) (encoded & RANK_MASK);
+        }
+        sparse = null;
+        sparseSize = 0;
+    }
+}
@@ -66,8 +66,13 @@ public class ByteRangeComparator {
         }
     }
 
-    public static ByteChunkFilter makeByteFilter(byte lower, byte upper, boolean lowerInclusive,
+    public static ChunkFilter makeByteFilter(byte lower, byte upper, boolean lowerInclusive,
             boolean upperInclusive) {
+        final ChunkFilter vectorized =
+                VectorizedChunkFilters.makeRangeFilter(lower, upper, lowerInclusive, upperInclusive);
+        if (vectorized != null) {
+            return vectorized;
+        }
         if (lowerInclusive) {
             if (upperInclusive) {
                 return new ByteByteInclusiveInclusiveFilter(lower, upper);
@@ -62,8 +62,13 @@ public class CharRangeComparator {
         }
     }
 
-    public static CharChunkFilter makeCharFilter(char lower, char upper, boolean lowerInclusive,
+    public static ChunkFilter makeCharFilter(char lower, char upper, boolean lowerInclusive,
             boolean upperInclusive) {
+        final ChunkFilter vectorized =
+                VectorizedChunkFilters.makeRangeFilter(lower, upper, lowerInclusive, upperInclusive);
+        if (vectorized != null) {
+            return vectorized;
+        }
         if (lowerInclusive) {
             if (upperInclusive) {
                 return new CharCharInclusiveInclusiveFilter(lower, upper);
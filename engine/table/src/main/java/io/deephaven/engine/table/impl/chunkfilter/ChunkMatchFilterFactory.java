@@ -31,18 +31,34 @@ public class ChunkMatchFilterFactory {
         }
         if (type == int.class) {
             final int[] intKeys = ArrayTypeUtils.getUnboxedIntArray(keys);
+            final ChunkFilter vectorized = VectorizedChunkFilters.makeMatchFilter(invertMatch, intKeys);
+            if (vectorized != null) {
+                return vectorized;
+            }
             return IntChunkMatchFilterFactory.makeFilter(invertMatch, intKeys);
         }
         if (type == long.class) {
             final long[] longKeys = ArrayTypeUtils.getUnboxedLongArray(keys);
+            final ChunkFilter vectorized = VectorizedChunkFilters.makeMatchFilter(invertMatch, longKeys);
+            if (vectorized != null) {
+                return vectorized;
+            }
             return LongChunkMatchFilterFactory.makeFilter(invertMatch, longKeys);
         }
         if (type == float.class) {
             final float[] floatKeys = ArrayTypeUtils.getUnboxedFloatArray(keys);
+            final ChunkFilter vectorized = VectorizedChunkFilters.makeMatchFilter(invertMatch, floatKeys);
+            if (vectorized != null) {
+                return vectorized;
+            }
             return FloatChunkMatchFilterFactory.makeFilter(invertMatch, floatKeys);
         }
         if (type == double.class) {
             final double[] doubleKeys = ArrayTypeUtils.getUnboxedDoubleArray(keys);
+            final ChunkFilter vectorized = VectorizedChunkFilters.makeMatchFilter(invertMatch, doubleKeys);
+            if (vectorized != null) {
+                return vectorized;
+            }
             return DoubleChunkMatchFilterFactory.makeFilter(invertMatch, doubleKeys);
         }
         if (type == String.class && caseInsensitive) {
@@ -66,8 +66,13 @@ public class DoubleRangeComparator {
         }
     }
 
-    public static DoubleChunkFilter makeDoubleFilter(double lower, double upper, boolean lowerInclusive,
+    public static ChunkFilter makeDoubleFilter(double lower, double upper, boolean lowerInclusive,
             boolean upperInclusive) {
+        final ChunkFilter vectorized =
+                VectorizedChunkFilters.makeRangeFilter(lower, upper, lowerInclusive, upperInclusive);
+        if (vectorized != null) {
+            return vectorized;
+        }
         if (lowerInclusive) {
             if (upperInclusive) {
                 return new DoubleDoubleInclusiveInclusiveFilter(lower, upper);
@@ -62,8 +62,13 @@ public class FloatRangeComparator {
         }
     }
 
-    public static FloatChunkFilter makeFloatFilter(float lower, float upper, boolean lowerInclusive,
+    public static ChunkFilter makeFloatFilter(float lower, float upper, boolean lowerInclusive,
             boolean upperInclusive) {
+        final ChunkFilter vectorized =
+                VectorizedChunkFilters.makeRangeFilter(lower, upper, lowerInclusive, upperInclusive);
+        if (vectorized != null) {
+            return vectorized;
+        }
         if (lowerInclusive) {
             if (upperInclusive) {
                 return new FloatDoubleInclusiveInclusiveFilter(lower, upper);
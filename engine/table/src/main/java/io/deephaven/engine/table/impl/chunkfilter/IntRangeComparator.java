@@ -66,8 +66,13 @@ public class IntRangeComparator {
         }
     }
 
-    public static IntChunkFilter makeIntFilter(int lower, int upper, boolean lowerInclusive,
+    public static ChunkFilter makeIntFilter(int lower, int upper, boolean lowerInclusive,
             boolean upperInclusive) {
+        final ChunkFilter vectorized =
+                VectorizedChunkFilters.makeRangeFilter(lower, upper, lowerInclusive, upperInclusive);
+        if (vectorized != null) {
+            return vectorized;
+        }
         if (lowerInclusive) {
             if (upperInclusive) {
                 return new IntIntInclusiveInclusiveFilter(lower, upper);
@@ -66,8 +66,13 @@ public class LongRangeComparator {
         }
     }
 
-    public static LongChunkFilter makeLongFilter(long lower, long upper, boolean lowerInclusive,
+    public static ChunkFilter makeLongFilter(long lower, long upper, boolean lowerInclusive,
             boolean upperInclusive) {
+        final ChunkFilter vectorized =
+                VectorizedChunkFilters.makeRangeFilter(lower, upper, lowerInclusive, upperInclusive);
+        if (vectorized != null) {
+            return vectorized;
+        }
         if (lowerInclusive) {
             if (upperInclusive) {
                 return new LongLongInclusiveInclusiveFilter(lower, upper);
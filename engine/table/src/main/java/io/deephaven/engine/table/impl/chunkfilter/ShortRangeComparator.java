@@ -66,8 +66,13 @@ public class ShortRangeComparator {
         }
     }
 
-    public static ShortChunkFilter makeShortFilter(short lower, short upper, boolean lowerInclusive,
+    public static ChunkFilter makeShortFilter(short lower, short upper, boolean lowerInclusive,
             boolean upperInclusive) {
+        final ChunkFilter vectorized =
+                VectorizedChunkFilters.makeRangeFilter(lower, upper, lowerInclusive, upperInclusive);
+        if (vectorized != null) {
+            return vectorized;
+        }
         if (lowerInclusive) {
             if (upperInclusive) {
                 return new ShortShortInclusiveInclusiveFilter(lower, upper);
@@ -0,0 +1,181 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.chunkfilter;
+
+import io.deephaven.configuration.Configuration;
+import io.deephaven.internal.log.LoggerFactory;
+import io.deephaven.io.logger.Logger;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+/**
+ * Optional vectorized implementations of the primitive range and match {@link ChunkFilter chunk filters}.
+ *
+ * <p>
+ * When {@code ChunkFilter.vectorized} is {@code true}, a {@link Provider} is loaded via {@link ServiceLoader}. The
+ * {@link CharRangeComparator range comparators} and the {@link ChunkMatchFilterFactory} consult the provider before
+ * creating their scalar filters, and fall back to the scalar filters for anything the provider does not support. If no
+ * provider can be loaded (for example, because its module is not on the classpath, or the JVM does not expose the
+ * modules it requires), the scalar filters are always used.
+ */
+public final class VectorizedChunkFilters {
+
+    private static final Logger log = LoggerFactory.getLogger(VectorizedChunkFilters.class);
+
+    private static final boolean VECTORIZED =
+            Configuration.getInstance().getBooleanWithDefault("ChunkFilter.vectorized", false);
+
+    @Nullable
+    private static final Provider PROVIDER = VECTORIZED ? loadProvider() : null;
+
+    private VectorizedChunkFilters() {} // static use only
+
+    /**
+     * A source of vectorized chunk filters. Each method returns {@code null} if the provider has no implementation for
+     * the requested filter; the filters it does return must produce exactly the same results as the scalar filters.
+     */
+    public interface Provider {
+        @Nullable
+        default ChunkFilter makeRangeFilter(char lower, char upper, boolean lowerInclusive, boolean upperInclusive) {
+            return null;
+        }
+
+        @Nullable
+        default ChunkFilter makeRangeFilter(byte lower, byte upper, boolean lowerInclusive, boolean upperInclusive) {
+            return null;
+        }
+
+        @Nullable
+        default ChunkFilter makeRangeFilter(short lower, short upper, boolean lowerInclusive,
+                boolean upperInclusive) {
+            return null;
+        }
+
+        @Nullable
+        default ChunkFilter makeRangeFilter(int lower, int upper, boolean lowerInclusive, boolean upperInclusive) {
+            return null;
+        }
+
+        @Nullable
+        default ChunkFilter makeRangeFilter(long lower, long upper, boolean lowerInclusive, boolean upperInclusive) {
+            return null;
+        }
+
+        @Nullable
+        default ChunkFilter makeRangeFilter(float lower, float upper, boolean lowerInclusive,
+                boolean upperInclusive) {
+            return null;
+        }
+
+        @Nullable
+        default ChunkFilter makeRangeFilter(double lower, double upper, boolean lowerInclusive,
+                boolean upperInclusive) {
+            return null;
+        }
+
+        @Nullable
+        default ChunkFilter makeMatchFilter(boolean invertMatch, int... values) {
+            return null;
+        }
+
+        @Nullable
+        default ChunkFilter makeMatchFilter(boolean invertMatch, long... values) {
+            return null;
+        }
+
+        @Nullable
+        default ChunkFilter makeMatchFilter(boolean invertMatch, float... values) {
+            return null;
+        }
+
+        @Nullable
+        default ChunkFilter makeMatchFilter(boolean invertMatch, double... values) {
+            return null;
+        }
+    }
+
+    /**
+     * @return whether a vectorized {@link Provider} is in use
+     */
+    public static boolean isEnabled() {
+        return PROVIDER != null;
+    }
+
+    @Nullable
+    static ChunkFilter makeRangeFilter(char lower, char upper, boolean lowerInclusive, boolean upperInclusive) {
+        return PROVIDER == null ? null : PROVIDER.makeRangeFilter(lower, upper, lowerInclusive, upperInclusive);
+    }
+
+    @Nullable
+    static ChunkFilter makeRangeFilter(byte lower, byte upper, boolean lowerInclusive, boolean upperInclusive) {
+        return PROVIDER == null ? null : PROVIDER.makeRangeFilter(lower, upper, lowerInclusive, upperInclusive);
+    }
+
+    @Nullable
+    static ChunkFilter makeRangeFilter(short lower, short upper, boolean lowerInclusive, boolean upperInclusive) {
+        return PROVIDER == null ? null : PROVIDER.makeRangeFilter(lower, upper, lowerInclusive, upperInclusive);
+    }
+
+    @Nullable
+    static ChunkFilter makeRangeFilter(int lower, int upper, boolean lowerInclusive, boolean upperInclusive) {
+        return PROVIDER == null ? null : PROVIDER.makeRangeFilter(lower, upper, lowerInclusive, upperInclusive);
+    }
+
+    @Nullable
+    static ChunkFilter makeRangeFilter(long lower, long upper, boolean lowerInclusive, boolean upperInclusive) {
+        return PROVIDER == null ? null : PROVIDER.makeRangeFilter(lower, upper, lowerInclusive, upperInclusive);
+    }
+
+    @Nullable
+    static ChunkFilter makeRangeFilter(float lower, float upper, boolean lowerInclusive, boolean upperInclusive) {
+        return PROVIDER == null ? null : PROVIDER.makeRangeFilter(lower, upper, lowerInclusive, upperInclusive);
+    }
+
+    @Nullable
+    static ChunkFilter makeRangeFilter(double lower, double upper, boolean lowerInclusive, boolean upperInclusive) {
+        return PROVIDER == null ? null : PROVIDER.makeRangeFilter(lower, upper, lowerInclusive, upperInclusive);
+    }
+
+    @Nullable
+    static ChunkFilter makeMatchFilter(boolean invertMatch, int... values) {
+        return PROVIDER == null ? null : PROVIDER.makeMatchFilter(invertMatch, values);
+    }
+
+    @Nullable
+    static ChunkFilter makeMatchFilter(boolean invertMatch, long... values) {
+        return PROVIDER == null ? null : PROVIDER.makeMatchFilter(invertMatch, values);
+    }
+
+    @Nullable
+    static ChunkFilter makeMatchFilter(boolean invertMatch, float... values) {
+        return PROVIDER == null ? null : PROVIDER.makeMatchFilter(invertMatch, values);
+    }
+
+    @Nullable
+    static ChunkFilter makeMatchFilter(boolean invertMatch, double... values) {
+        return PROVIDER == null ? null : PROVIDER.makeMatchFilter(invertMatch, values);
+    }
+
+    @Nullable
+    private static Provider loadProvider() {
+        try {
+            final Iterator<Provider> it = ServiceLoader.load(Provider.class).iterator();
+            if (!it.hasNext()) {
+                log.warn().append("ChunkFilter.vectorized is set, but no ")
+                        .append(Provider.class.getName()).append(" is available; using scalar chunk filters").endl();
+                return null;
+            }
+            final Provider provider = it.next();
+            log.info().append("Using vectorized chunk filters from ").append(provider.getClass().getName()).endl();
+            return provider;
+        } catch (ServiceConfigurationError | LinkageError e) {
+            log.warn().append("Unable to load vectorized chunk filters; using scalar chunk filters: ").append(e)
+                    .endl();
+            return null;
+        }
+    }
+}
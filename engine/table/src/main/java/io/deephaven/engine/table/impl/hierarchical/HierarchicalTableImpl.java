@@ -21,6 +21,8 @@ import io.deephaven.engine.table.impl.*;
 import io.deephaven.engine.table.impl.remote.ConstructSnapshot;
 import io.deephaven.engine.table.impl.remote.ConstructSnapshot.SnapshotControl;
 import io.deephaven.engine.table.impl.sources.immutable.ImmutableConstantIntSource;
+import io.deephaven.engine.table.impl.util.JobScheduler;
+import io.deephaven.engine.table.impl.util.OperationInitializerJobScheduler;
 import io.deephaven.engine.table.iterators.ByteColumnIterator;
 import io.deephaven.engine.table.iterators.ChunkedByteColumnIterator;
 import io.deephaven.engine.table.iterators.ChunkedColumnIterator;
@@ -31,6 +33,7 @@ import io.deephaven.internal.log.LoggerFactory;
 import io.deephaven.io.logger.Logger;
 import io.deephaven.util.SafeCloseable;
 import io.deephaven.util.SafeCloseableArray;
+import io.deephaven.util.annotations.TestUseOnly;
 import io.deephaven.util.datastructures.linked.IntrusiveDoublyLinkedNode;
 import io.deephaven.util.datastructures.linked.IntrusiveDoublyLinkedQueue;
 import org.apache.commons.lang3.mutable.MutableObject;
@@ -39,6 +42,9 @@ import org.jetbrains.annotations.Nullable;
 
 import javax.annotation.OverridingMethodsMustInvokeSuper;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.function.LongUnaryOperator;
 import java.util.function.Supplier;
@@ -128,6 +134,15 @@ abstract class HierarchicalTableImpl<IFACE_TYPE extends HierarchicalTable<IFACE_
         return new SnapshotStateImpl();
     }
 
+    /**
+     * @param snapshotState A snapshot state {@link #makeSnapshotState() made} by this HierarchicalTableImpl
+     * @return The number of node table states {@code snapshotState} has created, including those it has since released
+     */
+    @TestUseOnly
+    public int nodeTableStatesCreated(@NotNull final HierarchicalTable.SnapshotState snapshotState) {
+        return ((SnapshotStateImpl) snapshotState).nodeTableStatesCreated;
+    }
+
     IFACE_TYPE noopResult() {
         if (getSource().isRefreshing()) {
             manageWithCurrentScope();
@@ -161,6 +176,7 @@ abstract class HierarchicalTableImpl<IFACE_TYPE extends HierarchicalTable<IFACE_
         private ResettableWritableChunk<Any>[] destinationSlices;
         private WritableByteChunk<? super Values> expandedDestination;
         ResettableWritableByteChunk<Any> expandedDestinationSlice;
+        private boolean fillInParallel;
         // endregion Per-snapshot parameters and state
 
         // region Per-attempt and intra-attempt parameters and state
@@ -169,6 +185,11 @@ abstract class HierarchicalTableImpl<IFACE_TYPE extends HierarchicalTable<IFACE_
         private boolean expandingAll;
         private long visitedSize = NULL_LONG;
         private int includedSize = NULL_INT;
+        /**
+         * Fills of the "normal" destinations that were deferred during traversal so that they can be performed in
+         * parallel, or {@code null} if we are filling during traversal.
+         */
+        private List<PendingFill> pendingFills;
         // endregion Per-attempt and intra-attempt parameters and state
 
         /**
@@ -176,6 +197,17 @@ abstract class HierarchicalTableImpl<IFACE_TYPE extends HierarchicalTable<IFACE_
          */
         private int snapshotClock = 0;
 
+        /**
+         * The {@link io.deephaven.engine.updategraph.LogicalClock logical clock} step of the last successful snapshot,
+         * or {@link io.deephaven.util.QueryConstants#NULL_LONG NULL_LONG} if the source is not refreshing.
+         */
+        private long lastSuccessfulSnapshotStep = NULL_LONG;
+
+        /**
+         * The number of node table states created by this snapshot state, for testing re-use.
+         */
+        private int nodeTableStatesCreated;
+
         private SnapshotStateImpl() {
             if (HierarchicalTableImpl.this.getSource().isRefreshing()) {
                 manage(HierarchicalTableImpl.this);
@@ -194,6 +226,7 @@ abstract class HierarchicalTableImpl<IFACE_TYPE extends HierarchicalTable<IFACE_
             }
             final NodeTableState created = new NodeTableState(nodeId, base);
             nodeTableStates.put(nodeId, created);
+            ++nodeTableStatesCreated;
             return created;
         }
 
@@ -245,6 +278,9 @@ abstract class HierarchicalTableImpl<IFACE_TYPE extends HierarchicalTable<IFACE_
                     .toArray(ResettableWritableChunk[]::new);
             expandedDestination = destinations[ROW_EXPANDED_COLUMN_INDEX].asWritableByteChunk();
             expandedDestinationSlice = destinationSlices[ROW_EXPANDED_COLUMN_INDEX].asResettableWritableByteChunk();
+            fillInParallel = QueryTable.ENABLE_PARALLEL_SNAPSHOT
+                    && targetIncludedSize >= QueryTable.MINIMUM_PARALLEL_HIERARCHICAL_SNAPSHOT_ROWS
+                    && ExecutionContext.getContext().getOperationInitializer().canParallelize();
             return this::releaseSnapshotResources;
         }
 
@@ -261,6 +297,9 @@ abstract class HierarchicalTableImpl<IFACE_TYPE extends HierarchicalTable<IFACE_
             expandingAll = false;
             visitedSize = 0;
             includedSize = 0;
+            // Discard any fills deferred by a failed attempt
+            releasePendingFills();
+            pendingFills = fillInParallel ? new ArrayList<>() : null;
             snapshotClock++;
         }
 
@@ -359,10 +398,21 @@ abstract class HierarchicalTableImpl<IFACE_TYPE extends HierarchicalTable<IFACE_
          * @return The total number of expanded rows traversed
          */
         private long finalizeSuccessfulSnapshot() {
+            // Node tables that were not visited are retained until the logical clock advances; consecutive snapshots
+            // taken at the same step (e.g. while scrolling, or contracting and re-expanding a node) can then re-use
+            // them rather than re-applying the node's filters and sorts, and retaining them has no update cost.
+            final long previousSnapshotStep = lastSuccessfulSnapshotStep;
+            lastSuccessfulSnapshotStep = source.isRefreshing()
+                    ? source.getUpdateGraph().clock().currentStep()
+                    : NULL_LONG;
+            final boolean sameStep = previousSnapshotStep != NULL_LONG
+                    && previousSnapshotStep == lastSuccessfulSnapshotStep;
             final Iterator<NodeTableState> cachedNodesIter = nodeTableStates.iterator();
             while (cachedNodesIter.hasNext()) {
                 final NodeTableState nodeTableState = cachedNodesIter.next();
-                if (!nodeTableState.visited(snapshotClock)) {
+                if (nodeTableState.visited(snapshotClock)) {
+                    nodeTableState.visitedSnapshotStep = lastSuccessfulSnapshotStep;
+                } else if (!sameStep || nodeTableState.visitedSnapshotStep != lastSuccessfulSnapshotStep) {
                     nodeTableState.release();
                     cachedNodesIter.remove();
                 }
@@ -371,7 +421,183 @@ abstract class HierarchicalTableImpl<IFACE_TYPE extends HierarchicalTable<IFACE_
             return visitedSize;
         }
 
+        /**
+         * Perform any fills that were deferred during traversal, in parallel.
+         */
+        private void fillPendingDestinations() {
+            if (pendingFills == null || pendingFills.isEmpty()) {
+                return;
+            }
+            try {
+                if (pendingFills.size() == 1) {
+                    pendingFills.get(0).fill();
+                    return;
+                }
+                final JobScheduler jobScheduler = new OperationInitializerJobScheduler();
+                final CompletableFuture<Void> waitForParallelFill = new CompletableFuture<>();
+                jobScheduler.iterateParallel(
+                        ExecutionContext.getContext(),
+                        logOutput -> logOutput.append("HierarchicalTable.fillPendingDestinations"),
+                        JobScheduler.DEFAULT_CONTEXT_FACTORY,
+                        0, pendingFills.size(),
+                        (context, fillIndex, nestedErrorConsumer) -> pendingFills.get(fillIndex).fill(),
+                        () -> waitForParallelFill.complete(null),
+                        waitForParallelFill::completeExceptionally);
+                try {
+                    waitForParallelFill.get();
+                } catch (final InterruptedException e) {
+                    throw new CancellationException("Interrupted during parallel hierarchical table snapshot");
+                } catch (final ExecutionException e) {
+                    failIfConcurrentAttemptInconsistent();
+                    throw new HierarchicalTableSnapshotException("HierarchicalTable.snapshot parallel fill error",
+                            e.getCause());
+                }
+            } finally {
+                releasePendingFills();
+            }
+        }
+
+        /**
+         * @param dataSources The data sources for a node, indexed by column
+         * @return Whether the included {@code dataSources} may be filled out of order; sources that are not
+         *         {@link ColumnSource#isStateless() stateless} (e.g. some formula columns) must be filled serially
+         */
+        private boolean canFillInParallel(@NotNull final ChunkSource.WithPrev<? extends Values>[] dataSources) {
+            for (int ci = columns.nextSetBit(0); ci >= 0; ci = columns.nextSetBit(ci + 1)) {
+                if (ci == ROW_EXPANDED_COLUMN_INDEX) {
+                    continue;
+                }
+                if (dataSources[ci] instanceof ColumnSource && !((ColumnSource<?>) dataSources[ci]).isStateless()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Perform any deferred fills serially, in order, and fill directly for the remainder of this snapshot.
+         */
+        private void stopDeferringFills() {
+            try {
+                if (pendingFills != null) {
+                    pendingFills.forEach(PendingFill::fill);
+                }
+            } finally {
+                releasePendingFills();
+            }
+            fillInParallel = false;
+        }
+
+        private void releasePendingFills() {
+            if (pendingFills != null) {
+                pendingFills.forEach(PendingFill::close);
+                pendingFills = null;
+            }
+        }
+
+        /**
+         * Fill all destinations except the one for the "row expanded" column for the supplied {@code rows}.
+         *
+         * @param dataSources The chunk sources to fill from, indexed by column
+         * @param fillContexts The fill contexts to use, indexed by destination
+         * @param sharedContext The shared context for {@code fillContexts}
+         * @param destinationSlices The slices to use for filling destinations, indexed by destination
+         * @param rows The row keys to fill from
+         * @param offset The offset in the destinations to begin filling at
+         * @param capacity The capacity of the destinations from {@code offset}
+         * @param chunkSize The maximum number of rows to fill at a time
+         */
+        private void fillNormalDestinations(
+                @NotNull final ChunkSource.WithPrev<? extends Values>[] dataSources,
+                @NotNull final ChunkSource.FillContext[] fillContexts,
+                @NotNull final SharedContext sharedContext,
+                @NotNull final ResettableWritableChunk<Any>[] destinationSlices,
+                @NotNull final RowSequence rows,
+                int offset,
+                int capacity,
+                final int chunkSize) {
+            try (final RowSequence.Iterator rowsIter =
+                    rows.size() >= chunkSize ? rows.getRowSequenceIterator() : null) {
+                do {
+                    final RowSequence chunkRows = rowsIter == null
+                            ? rows
+                            : rowsIter.getNextRowSequenceWithLength(chunkSize);
+                    final int chunkRowsSize = chunkRows.intSize();
+                    Assert.leq(chunkRowsSize, "chunkRowsSize", capacity, "capacity");
+                    for (int di = 0, ci = columns.nextSetBit(0); ci >= 0; ++di, ci = columns.nextSetBit(ci + 1)) {
+                        if (ci == ROW_EXPANDED_COLUMN_INDEX) {
+                            continue;
+                        }
+                        final ChunkSource.WithPrev<? extends Values> chunkSource = dataSources[ci];
+                        final ChunkSource.FillContext fillContext = fillContexts[di];
+                        final WritableChunk<? super Values> destination = destinations[di];
+                        final WritableChunk<? super Values> destinationSlice = destinationSlices[di].resetFromChunk(
+                                destination, offset, capacity);
+                        if (usePrev) {
+                            chunkSource.fillPrevChunk(fillContext, destinationSlice, chunkRows);
+                        } else {
+                            chunkSource.fillChunk(fillContext, destinationSlice, chunkRows);
+                        }
+                    }
+                    sharedContext.reset();
+                    offset += chunkRowsSize;
+                    capacity -= chunkRowsSize;
+                } while (rowsIter != null && rowsIter.hasMore());
+            }
+        }
+
+        /**
+         * A fill of the "normal" destinations for a contiguous range of the snapshot from a single node, deferred
+         * during traversal. Each pending fill writes a disjoint range of the destinations with its own contexts, so
+         * pending fills may be performed concurrently.
+         */
+        private final class PendingFill implements SafeCloseable {
+
+            private final ChunkSource.WithPrev<? extends Values>[] dataSources;
+            private final RowSet rows;
+            private final int offset;
+
+            private PendingFill(
+                    @NotNull final ChunkSource.WithPrev<? extends Values>[] dataSources,
+                    @NotNull final RowSequence rows,
+                    final int offset) {
+                this.dataSources = dataSources;
+                try (final RowSet rowsView = rows.asRowSet()) {
+                    this.rows = rowsView.copy();
+                }
+                this.offset = offset;
+            }
+
+            private void fill() {
+                final int size = rows.intSize();
+                final int chunkSize = Math.min(size, CHUNK_SIZE);
+                final ChunkSource.FillContext[] fillContexts = new ChunkSource.FillContext[destinations.length];
+                // noinspection unchecked
+                final ResettableWritableChunk<Any>[] slices = new ResettableWritableChunk[destinations.length];
+                try (final SharedContext sharedContext = SharedContext.makeSharedContext();
+                        final SafeCloseable ignored1 = () -> SafeCloseableArray.close(fillContexts);
+                        final SafeCloseable ignored2 = () -> SafeCloseableArray.close(slices)) {
+                    for (int di = 0, ci = columns.nextSetBit(0); ci >= 0; ++di, ci = columns.nextSetBit(ci + 1)) {
+                        if (ci == ROW_EXPANDED_COLUMN_INDEX) {
+                            continue;
+                        }
+                        fillContexts[di] = dataSources[ci].makeFillContext(chunkSize, sharedContext);
+                        slices[di] = destinations[di].getChunkType().makeResettableWritableChunk();
+                    }
+                    fillNormalDestinations(dataSources, fillContexts, sharedContext, slices, rows, offset, size,
+                            chunkSize);
+                }
+            }
+
+            @Override
+            public void close() {
+                rows.close();
+            }
+        }
+
         private void releaseSnapshotResources() {
+            releasePendingFills();
+            fillInParallel = false;
             usePrev = false;
             currentDepth = NULL_INT;
             expandingAll = false;
@@ -458,6 +684,12 @@ abstract class HierarchicalTableImpl<IFACE_TYPE extends HierarchicalTable<IFACE_
              */
             private int visitedSnapshotClock;
 
+            /**
+             * The {@link SnapshotStateImpl#lastSuccessfulSnapshotStep logical clock step} of the last successful
+             * snapshot that visited this node.
+             */
+            private long visitedSnapshotStep = NULL_LONG;
+
             private NodeTableState(final long nodeId, @NotNull final Table base) {
                 this.id = nodeId;
                 this.base = base;
@@ -1193,6 +1425,9 @@ abstract class HierarchicalTableImpl<IFACE_TYPE extends HierarchicalTable<IFACE_
 
         // Depth-first traversal of expanded nodes
         visitExpandedNode(snapshotState, rootNodeId(), rootNodeAction, rootNodeDirective.getChildren());
+
+        // Now that we know where each node's rows belong in the destinations, fill any deferred nodes in parallel
+        snapshotState.fillPendingDestinations();
     }
 
     private void visitExpandedNode(
@@ -1468,48 +1703,30 @@ abstract class HierarchicalTableImpl<IFACE_TYPE extends HierarchicalTable<IFACE_
                 return;
             }
 
-            prepareToFill();
-
-            final BitSet columns = snapshotState.getColumns();
-            final WritableChunk<? super Values>[] destinations = snapshotState.destinations;
-            final ResettableWritableChunk<Any>[] destinationSlices = snapshotState.destinationSlices;
+            if (snapshotState.pendingFills != null) {
+                if (dataSources == null) {
+                    dataSources = nodeTableState.getDataSources();
+                }
+                if (snapshotState.canFillInParallel(dataSources)) {
+                    snapshotState.pendingFills.add(snapshotState.new PendingFill(
+                            dataSources, rows, snapshotState.includedSize));
+                    return;
+                }
+                snapshotState.stopDeferringFills();
+            }
 
-            int offset = snapshotState.includedSize;
-            int capacity = snapshotState.remainingToFill();
+            prepareToFill();
 
-            try (final RowSequence.Iterator rowsIter =
-                    rows.size() >= chunkSize ? rows.getRowSequenceIterator() : null) {
-                do {
-                    final RowSequence chunkRows = rowsIter == null
-                            ? rows
-                            : rowsIter.getNextRowSequenceWithLength(chunkSize);
-                    final int chunkRowsSize = chunkRows.intSize();
-                    Assert.leq(chunkRowsSize, "chunkRowsSize", capacity, "capacity");
-                    for (int di = 0, ci = columns.nextSetBit(0); ci >= 0; ++di, ci = columns.nextSetBit(ci + 1)) {
-                        if (ci == ROW_EXPANDED_COLUMN_INDEX) {
-                            continue;
-                        }
-                        final ChunkSource.WithPrev<? extends Values> chunkSource = dataSources[ci];
-                        final ChunkSource.FillContext fillContext = fillContexts[di];
-                        final WritableChunk<? super Values> destination = destinations[di];
-                        final WritableChunk<? super Values> destinationSlice = destinationSlices[di].resetFromChunk(
-                                destination, offset, capacity);
-                        if (snapshotState.usePrev()) {
-                            chunkSource.fillPrevChunk(fillContext, destinationSlice, chunkRows);
-                        } else {
-                            chunkSource.fillChunk(fillContext, destinationSlice, chunkRows);
-                        }
-                    }
-                    sharedContext.reset();
-                    offset += chunkRowsSize;
-                    capacity -= chunkRowsSize;
-                } while (rowsIter != null && rowsIter.hasMore());
-            }
+            snapshotState.fillNormalDestinations(dataSources, fillContexts, sharedContext,
+                    snapshotState.destinationSlices, rows, snapshotState.includedSize, snapshotState.remainingToFill(),
+                    chunkSize);
         }
 
         private void prepareToFill() {
-            if (dataSources == null) {
-                dataSources = nodeTableState.getDataSources();
+            if (fillContexts == null) {
+                if (dataSources == null) {
+                    dataSources = nodeTableState.getDataSources();
+                }
                 sharedContext = snapshotState.getSharedContextForLevel();
                 fillContexts = snapshotState.getFillContextArrayForLevel();
                 final BitSet columns = snapshotState.getColumns();
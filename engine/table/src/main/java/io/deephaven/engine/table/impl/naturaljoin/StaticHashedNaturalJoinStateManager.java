@@ -41,6 +41,16 @@ public abstract class StaticHashedNaturalJoinStateManager extends StaticNaturalJ
             final ColumnSource<?>[] leftSources,
             final LongArraySource leftRedirections);
 
+    /**
+     * Decorate the left side, probing {@code segmentCount} contiguous segments of {@code leftRowSet} concurrently on
+     * the operation initializer. The hash table must be fully built, as it is read without synchronization.
+     */
+    public abstract void decorateLeftSide(
+            final RowSet leftRowSet,
+            final ColumnSource<?>[] leftSources,
+            final LongArraySource leftRedirections,
+            final int segmentCount);
+
     public abstract void decorateWithRightSide(
             final Table rightTable,
             final ColumnSource<?>[] rightSources);
@@ -8,6 +8,7 @@ import io.deephaven.base.verify.Require;
 import io.deephaven.chunk.Chunk;
 import io.deephaven.chunk.ChunkType;
 import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.rowset.RowSequence;
 import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.engine.table.*;
@@ -15,12 +16,15 @@ import io.deephaven.engine.table.impl.JoinControl;
 import io.deephaven.engine.table.impl.QueryTable;
 import io.deephaven.engine.table.impl.sources.*;
 import io.deephaven.engine.table.impl.sources.immutable.ImmutableLongArraySource;
+import io.deephaven.engine.table.impl.util.JobScheduler;
+import io.deephaven.engine.table.impl.util.OperationInitializerJobScheduler;
 import io.deephaven.engine.table.impl.util.TypedHasherUtil;
 import io.deephaven.engine.table.impl.util.TypedHasherUtil.BuildOrProbeContext.BuildContext;
 import io.deephaven.engine.table.impl.util.TypedHasherUtil.BuildOrProbeContext.ProbeContext;
 import io.deephaven.engine.table.impl.util.WritableRowRedirection;
 import io.deephaven.util.QueryConstants;
 
+
 import static io.deephaven.engine.table.impl.JoinControl.CHUNK_SIZE;
 import static io.deephaven.engine.table.impl.JoinControl.MAX_TABLE_SIZE;
 import static io.deephaven.engine.table.impl.util.TypedHasherUtil.getKeyChunks;
@@ -109,10 +113,15 @@ public abstract class StaticNaturalJoinStateManagerTypedBase extends StaticHashe
 
     private class LeftProbeHandler implements TypedHasherUtil.ProbeHandler {
         final LongArraySource leftRedirections;
-        long offset = 0;
+        long offset;
 
         private LeftProbeHandler(LongArraySource leftRedirections) {
+            this(leftRedirections, 0);
+        }
+
+        private LeftProbeHandler(LongArraySource leftRedirections, long offset) {
             this.leftRedirections = leftRedirections;
+            this.offset = offset;
         }
 
         @Override
@@ -159,6 +168,38 @@ public abstract class StaticNaturalJoinStateManagerTypedBase extends StaticHashe
         }
     }
 
+    @Override
+    public void decorateLeftSide(RowSet leftRowSet, ColumnSource<?>[] leftSources, LongArraySource leftRedirections,
+            int segmentCount) {
+        final long leftSize = leftRowSet.size();
+        if (segmentCount <= 1 || leftSize < segmentCount) {
+            decorateLeftSide(leftRowSet, leftSources, leftRedirections);
+            return;
+        }
+
+        // each segment writes a disjoint range of redirections, but the source may not be grown concurrently
+        leftRedirections.ensureCapacity(leftSize);
+
+        final JobScheduler jobScheduler = new OperationInitializerJobScheduler();
+        jobScheduler.runAndWait("probing natural join", (onComplete, onError) -> jobScheduler.iterateParallel(
+                ExecutionContext.getContext(),
+                logOutput -> logOutput.append("StaticNaturalJoinStateManager.decorateLeftSide"),
+                JobScheduler.DEFAULT_CONTEXT_FACTORY,
+                0, segmentCount,
+                (context, segmentIndex, nestedErrorConsumer) -> {
+                    final long firstPosition = leftSize * segmentIndex / segmentCount;
+                    final long lastPositionExclusive = leftSize * (segmentIndex + 1) / segmentCount;
+                    try (final RowSet segment =
+                            leftRowSet.subSetByPositionRange(firstPosition, lastPositionExclusive);
+                            final ProbeContext pc = makeProbeContext(leftSources, segment.size())) {
+                        probeTable(pc, segment, false, leftSources,
+                                new LeftProbeHandler(leftRedirections, firstPosition));
+                    }
+                },
+                onComplete,
+                onError));
+    }
+
     abstract protected void decorateLeftSide(RowSequence rowSequence, Chunk[] sourceKeyChunks,
             LongArraySource leftRedirections, long redirectionsOffset);
 
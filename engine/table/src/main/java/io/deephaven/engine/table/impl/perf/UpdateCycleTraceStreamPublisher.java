@@ -0,0 +1,113 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.perf;
+
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.engine.table.impl.perf.UpdateCycleTracer.CycleLevelDetails;
+import io.deephaven.engine.table.impl.perf.UpdateCycleTracer.NotificationTrace;
+import io.deephaven.engine.table.impl.sources.ArrayBackedColumnSource;
+import io.deephaven.stream.StreamChunkUtils;
+import io.deephaven.stream.StreamConsumer;
+import io.deephaven.stream.StreamPublisher;
+import io.deephaven.util.BooleanUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+class UpdateCycleTraceStreamPublisher implements StreamPublisher {
+    private static final TableDefinition DEFINITION = TableDefinition.of(
+            ColumnDefinition.ofString("UpdateGraph"),
+            ColumnDefinition.ofLong("Step"),
+            ColumnDefinition.ofTime("CycleStartTime"),
+            ColumnDefinition.ofTime("CycleEndTime"),
+            ColumnDefinition.ofLong("NotificationId"),
+            ColumnDefinition.ofLong("ParentNotificationId"),
+            ColumnDefinition.ofString("Description"),
+            ColumnDefinition.ofBoolean("Terminal"),
+            ColumnDefinition.ofString("ThreadName"),
+            ColumnDefinition.ofTime("EnqueueTime"),
+            ColumnDefinition.ofTime("SatisfiedTime"),
+            ColumnDefinition.ofTime("StartTime"),
+            ColumnDefinition.ofTime("EndTime"),
+            ColumnDefinition.ofLong("UsageNanos"));
+
+    public static TableDefinition definition() {
+        return DEFINITION;
+    }
+
+    private static final int CHUNK_SIZE = ArrayBackedColumnSource.BLOCK_SIZE;
+
+    private WritableChunk<Values>[] chunks;
+    private StreamConsumer consumer;
+
+    public UpdateCycleTraceStreamPublisher() {
+        chunks = StreamChunkUtils.makeChunksForDefinition(DEFINITION, CHUNK_SIZE);
+    }
+
+    @Override
+    public void register(@NotNull StreamConsumer consumer) {
+        if (this.consumer != null) {
+            throw new IllegalStateException("Can not register multiple StreamConsumers.");
+        }
+        this.consumer = Objects.requireNonNull(consumer);
+    }
+
+    public synchronized void add(final CycleLevelDetails cycleLevelDetails, final NotificationTrace trace) {
+        // ColumnDefinition.ofString("UpdateGraph"),
+        chunks[0].<String>asWritableObjectChunk().add(cycleLevelDetails.getUpdateGraphName());
+        // ColumnDefinition.ofLong("Step"),
+        chunks[1].asWritableLongChunk().add(cycleLevelDetails.getStep());
+        // ColumnDefinition.ofTime("CycleStartTime"),
+        chunks[2].asWritableLongChunk().add(cycleLevelDetails.getCycleStartTimeEpochNanos());
+        // ColumnDefinition.ofTime("CycleEndTime"),
+        chunks[3].asWritableLongChunk().add(cycleLevelDetails.getCycleEndTimeEpochNanos());
+        // ColumnDefinition.ofLong("NotificationId"),
+        chunks[4].asWritableLongChunk().add(trace.getId());
+        // ColumnDefinition.ofLong("ParentNotificationId"),
+        chunks[5].asWritableLongChunk().add(trace.getParentId());
+        // ColumnDefinition.ofString("Description"),
+        chunks[6].<String>asWritableObjectChunk().add(trace.getDescription());
+        // ColumnDefinition.ofBoolean("Terminal"),
+        chunks[7].asWritableByteChunk().add(BooleanUtils.booleanAsByte(trace.isTerminal()));
+        // ColumnDefinition.ofString("ThreadName"),
+        chunks[8].<String>asWritableObjectChunk().add(trace.getThreadName());
+        // ColumnDefinition.ofTime("EnqueueTime"),
+        chunks[9].asWritableLongChunk().add(cycleLevelDetails.toEpochNanos(trace.getEnqueueNanos()));
+        // ColumnDefinition.ofTime("SatisfiedTime"),
+        chunks[10].asWritableLongChunk().add(cycleLevelDetails.toEpochNanos(trace.getSatisfiedNanos()));
+        // ColumnDefinition.ofTime("StartTime"),
+        chunks[11].asWritableLongChunk().add(cycleLevelDetails.toEpochNanos(trace.getStartNanos()));
+        // ColumnDefinition.ofTime("EndTime"),
+        chunks[12].asWritableLongChunk().add(cycleLevelDetails.toEpochNanos(trace.getEndNanos()));
+        // ColumnDefinition.ofLong("UsageNanos"));
+        chunks[13].asWritableLongChunk().add(trace.getEndNanos() - trace.getStartNanos());
+
+        if (chunks[0].size() == CHUNK_SIZE) {
+            flushInternal();
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        if (chunks[0].size() == 0) {
+            return;
+        }
+        flushInternal();
+    }
+
+    private void flushInternal() {
+        consumer.accept(chunks);
+        chunks = StreamChunkUtils.makeChunksForDefinition(DEFINITION, CHUNK_SIZE);
+    }
+
+    public void acceptFailure(Throwable e) {
+        consumer.acceptFailure(e);
+    }
+
+    @Override
+    public void shutdown() {}
+}
@@ -0,0 +1,395 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.perf;
+
+import io.deephaven.base.clock.Clock;
+import io.deephaven.base.verify.Assert;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.BlinkTableTools;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.updategraph.NotificationQueue.Notification;
+import io.deephaven.engine.updategraph.UpdateGraph;
+import io.deephaven.engine.updategraph.impl.BaseUpdateGraph;
+import io.deephaven.io.log.impl.LogOutputStringImpl;
+import io.deephaven.stream.StreamToBlinkTableAdapter;
+import io.deephaven.util.QueryConstants;
+import io.deephaven.util.SafeCloseable;
+import io.deephaven.util.annotations.TestUseOnly;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * This tool records, for each traced cycle of an {@link UpdateGraph}, when every notification was enqueued, when its
+ * dependencies were satisfied, and when it started and finished running, along with the notification that was running
+ * on the enqueuing thread (its parent). Records are published as a blink table at the end of each cycle.
+ * <p>
+ * Whereas {@link UpdatePerformanceTracker} aggregates usage per entry over an interval, these records preserve the
+ * ordering within a cycle. The critical path of a cycle can be found by following {@code ParentNotificationId} back
+ * from the notification with the latest {@code EndTime}, and the cycle's parallelism ratio is the sum of
+ * {@code UsageNanos} divided by the cycle duration.
+ * <p>
+ * Tracing is disabled by default, and costs a single volatile read per notification when disabled. Enabling or
+ * disabling tracing takes effect at the start of the next cycle.
+ *
+ * @apiNote {@link #beginCycle(long)} and {@link #endCycle()} must be called by the update graph's refresh thread while
+ *          holding its exclusive lock; the notification callbacks may be invoked concurrently from any update thread.
+ */
+public class UpdateCycleTracer {
+
+    private static InternalState INSTANCE;
+
+    private static InternalState getInternalState() {
+        InternalState local;
+        if ((local = INSTANCE) == null) {
+            synchronized (UpdateCycleTracer.class) {
+                if ((local = INSTANCE) == null) {
+                    INSTANCE = local = new InternalState();
+                }
+            }
+        }
+        return local;
+    }
+
+    private static class InternalState {
+        private final UpdateCycleTraceStreamPublisher publisher;
+
+        // Eventually, we can close the StreamToBlinkTableAdapter
+        @SuppressWarnings("FieldCanBeLocal")
+        private final StreamToBlinkTableAdapter adapter;
+        private final Table blink;
+
+        private InternalState() {
+            final UpdateGraph publishingGraph =
+                    BaseUpdateGraph.getInstance(BaseUpdateGraph.DEFAULT_UPDATE_GRAPH_NAME);
+            Assert.neqNull(publishingGraph, "The " + BaseUpdateGraph.DEFAULT_UPDATE_GRAPH_NAME + " UpdateGraph "
+                    + "must be created before UpdateCycleTracer can be initialized.");
+            try (final SafeCloseable ignored = ExecutionContext.getContext().withUpdateGraph(publishingGraph).open()) {
+                publisher = new UpdateCycleTraceStreamPublisher();
+                adapter = new StreamToBlinkTableAdapter(
+                        UpdateCycleTraceStreamPublisher.definition(),
+                        publisher,
+                        publishingGraph,
+                        UpdateCycleTracer.class.getName());
+                blink = adapter.table();
+            }
+        }
+
+        /**
+         * @implNote this method is synchronized so that the records of a cycle are published contiguously, even when
+         *           several update graphs are traced
+         */
+        private synchronized void publish(
+                final CycleLevelDetails cycleLevelDetails,
+                final Queue<NotificationTrace> traces) {
+            NotificationTrace trace;
+            while ((trace = traces.poll()) != null) {
+                trace.computeDescription();
+                publisher.add(cycleLevelDetails, trace);
+            }
+        }
+    }
+
+    private static final AtomicLong notificationIdCounter = new AtomicLong(1);
+
+    private final UpdateGraph updateGraph;
+
+    /**
+     * Whether tracing has been requested; sampled at the start of each cycle.
+     */
+    private volatile boolean enabled;
+
+    /**
+     * Whether the current cycle is being traced.
+     */
+    private volatile boolean tracingCycle;
+
+    /**
+     * Traces for notifications that have been enqueued on the current cycle, but have not yet started running.
+     */
+    private final Map<Notification, NotificationTrace> pending = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    /**
+     * Traces for notifications that have finished running on the current cycle.
+     */
+    private final Queue<NotificationTrace> completed = new ConcurrentLinkedQueue<>();
+
+    /**
+     * The trace for the notification running on the current thread, if any.
+     */
+    private final ThreadLocal<NotificationTrace> running = new ThreadLocal<>();
+
+    private long cycleStep;
+    private long cycleStartTimeEpochNanos;
+    private long cycleStartNanos;
+
+    public UpdateCycleTracer(@NotNull final UpdateGraph updateGraph) {
+        this.updateGraph = Objects.requireNonNull(updateGraph);
+    }
+
+    /**
+     * Enable or disable tracing, beginning with the next cycle.
+     *
+     * @param enabled whether cycles should be traced
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return whether tracing has been enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Begin tracing a cycle, if tracing is enabled.
+     *
+     * @param step the logical clock step of the cycle
+     */
+    public void beginCycle(final long step) {
+        if (!enabled) {
+            return;
+        }
+        cycleStep = step;
+        cycleStartTimeEpochNanos = Clock.system().currentTimeNanos();
+        cycleStartNanos = System.nanoTime();
+        tracingCycle = true;
+    }
+
+    /**
+     * Finish tracing the current cycle, if it is being traced, and publish its notification records.
+     */
+    public void endCycle() {
+        if (!tracingCycle) {
+            return;
+        }
+        tracingCycle = false;
+        final long cycleEndNanos = System.nanoTime();
+        final CycleLevelDetails cycleLevelDetails = new CycleLevelDetails(
+                updateGraph.getName(),
+                cycleStep,
+                cycleStartTimeEpochNanos,
+                cycleStartNanos,
+                cycleStartTimeEpochNanos + (cycleEndNanos - cycleStartNanos));
+        // Notifications that were enqueued but never run on this cycle (e.g. terminal notifications enqueued during the
+        // idle phase) will be traced from their start on a later cycle.
+        pending.clear();
+        getInternalState().publish(cycleLevelDetails, completed);
+    }
+
+    /**
+     * Record that {@code notification} was enqueued. Its parent is the notification running on the current thread.
+     *
+     * @param notification the notification
+     */
+    public void onNotificationEnqueued(@NotNull final Notification notification) {
+        if (!tracingCycle) {
+            return;
+        }
+        final NotificationTrace trace = new NotificationTrace(notification, running.get());
+        trace.enqueueNanos = System.nanoTime();
+        pending.put(notification, trace);
+    }
+
+    /**
+     * Record that {@code notification} had its dependencies satisfied and was submitted for processing.
+     *
+     * @param notification the notification
+     */
+    public void onNotificationSatisfied(@NotNull final Notification notification) {
+        if (!tracingCycle) {
+            return;
+        }
+        final NotificationTrace trace = pending.get(notification);
+        if (trace != null) {
+            trace.satisfiedNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Record that {@code notification} is about to run on the current thread.
+     *
+     * @param notification the notification
+     * @return the trace to pass to {@link #onNotificationEnd(NotificationTrace)}, or null if this cycle is not traced
+     */
+    @Nullable
+    public NotificationTrace onNotificationStart(@NotNull final Notification notification) {
+        if (!tracingCycle) {
+            return null;
+        }
+        final NotificationTrace current = running.get();
+        NotificationTrace trace = pending.remove(notification);
+        if (trace == null) {
+            // Update source refreshes are submitted directly, rather than enqueued
+            trace = new NotificationTrace(notification, current);
+        }
+        trace.enclosing = current;
+        trace.threadName = Thread.currentThread().getName();
+        running.set(trace);
+        trace.startNanos = System.nanoTime();
+        return trace;
+    }
+
+    /**
+     * Record that the notification traced by {@code trace} has finished running on the current thread.
+     *
+     * @param trace the result of the matching {@link #onNotificationStart(Notification)}
+     */
+    public void onNotificationEnd(@Nullable final NotificationTrace trace) {
+        if (trace == null) {
+            return;
+        }
+        trace.endNanos = System.nanoTime();
+        if (trace.enclosing == null) {
+            running.remove();
+        } else {
+            running.set(trace.enclosing);
+            trace.enclosing = null;
+        }
+        completed.add(trace);
+    }
+
+    /**
+     * The record of a single notification's execution on a traced cycle.
+     */
+    public static final class NotificationTrace {
+        private final long id;
+        private final long parentId;
+        private final boolean terminal;
+
+        private Notification notification;
+        private String description;
+        private String threadName;
+        private NotificationTrace enclosing;
+
+        private volatile long enqueueNanos = QueryConstants.NULL_LONG;
+        private volatile long satisfiedNanos = QueryConstants.NULL_LONG;
+        private long startNanos = QueryConstants.NULL_LONG;
+        private long endNanos = QueryConstants.NULL_LONG;
+
+        private NotificationTrace(@NotNull final Notification notification, @Nullable final NotificationTrace parent) {
+            this.id = notificationIdCounter.getAndIncrement();
+            this.parentId = parent == null ? QueryConstants.NULL_LONG : parent.id;
+            this.terminal = notification.isTerminal();
+            this.notification = notification;
+        }
+
+        private void computeDescription() {
+            description = new LogOutputStringImpl().append(notification).toString();
+            notification = null;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public long getParentId() {
+            return parentId;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public boolean isTerminal() {
+            return terminal;
+        }
+
+        public String getThreadName() {
+            return threadName;
+        }
+
+        public long getEnqueueNanos() {
+            return enqueueNanos;
+        }
+
+        public long getSatisfiedNanos() {
+            return satisfiedNanos;
+        }
+
+        public long getStartNanos() {
+            return startNanos;
+        }
+
+        public long getEndNanos() {
+            return endNanos;
+        }
+    }
+
+    /**
+     * Holder for logging details that are the same for every {@link NotificationTrace} in a cycle.
+     */
+    public static class CycleLevelDetails {
+        private final String updateGraphName;
+        private final long step;
+        private final long cycleStartTimeEpochNanos;
+        private final long cycleStartNanos;
+        private final long cycleEndTimeEpochNanos;
+
+        CycleLevelDetails(
+                final String updateGraphName,
+                final long step,
+                final long cycleStartTimeEpochNanos,
+                final long cycleStartNanos,
+                final long cycleEndTimeEpochNanos) {
+            this.updateGraphName = updateGraphName;
+            this.step = step;
+            this.cycleStartTimeEpochNanos = cycleStartTimeEpochNanos;
+            this.cycleStartNanos = cycleStartNanos;
+            this.cycleEndTimeEpochNanos = cycleEndTimeEpochNanos;
+        }
+
+        public String getUpdateGraphName() {
+            return updateGraphName;
+        }
+
+        public long getStep() {
+            return step;
+        }
+
+        public long getCycleStartTimeEpochNanos() {
+            return cycleStartTimeEpochNanos;
+        }
+
+        public long getCycleEndTimeEpochNanos() {
+            return cycleEndTimeEpochNanos;
+        }
+
+        /**
+         * Convert a {@link System#nanoTime()} value recorded during this cycle to nanoseconds since the epoch.
+         *
+         * @param nanos the {@link System#nanoTime()} value, or {@link QueryConstants#NULL_LONG}
+         * @return the corresponding nanoseconds since the epoch, or {@link QueryConstants#NULL_LONG}
+         */
+        public long toEpochNanos(final long nanos) {
+            if (nanos == QueryConstants.NULL_LONG) {
+                return QueryConstants.NULL_LONG;
+            }
+            return cycleStartTimeEpochNanos + (nanos - cycleStartNanos);
+        }
+    }
+
+    @NotNull
+    public static QueryTable getQueryTable() {
+        return (QueryTable) BlinkTableTools.blinkToAppendOnly(getInternalState().blink);
+    }
+
+    @TestUseOnly
+    public static void resetForUnitTests() {
+        synchronized (UpdateCycleTracer.class) {
+            INSTANCE = null;
+        }
+    }
+}
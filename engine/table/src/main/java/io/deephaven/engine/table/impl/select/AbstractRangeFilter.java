@@ -7,10 +7,13 @@ import io.deephaven.engine.rowset.WritableRowSet;
 import io.deephaven.engine.table.impl.chunkfilter.ChunkFilter;
 import io.deephaven.engine.table.impl.SortingOrder;
 import io.deephaven.engine.table.impl.SortedColumnsAttribute;
+import io.deephaven.engine.table.impl.sources.regioned.RegionStatisticsFilter;
+import io.deephaven.engine.table.impl.sources.regioned.RegionedColumnSource;
 import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.rowset.RowSet;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.math.BigDecimal;
 import java.util.Collections;
@@ -100,9 +103,29 @@ public abstract class AbstractRangeFilter extends WhereFilterImpl implements Exp
         if (longFilter != null && columnSource.allowsReinterpret(long.class)) {
             return ChunkFilter.applyChunkFilter(selection, columnSource.reinterpret(long.class), usePrev, longFilter);
         }
+        final RegionStatisticsFilter statisticsFilter;
+        if (columnSource instanceof RegionedColumnSource && (statisticsFilter = regionStatisticsFilter()) != null) {
+            // Skip any regions whose statistics exclude our range before reading any values
+            try (final WritableRowSet pruned =
+                    ((RegionedColumnSource<?>) columnSource).pruneByStatistics(selection, statisticsFilter)) {
+                if (pruned != null) {
+                    return ChunkFilter.applyChunkFilter(pruned, columnSource, usePrev, chunkFilter);
+                }
+            }
+        }
         return ChunkFilter.applyChunkFilter(selection, columnSource, usePrev, chunkFilter);
     }
 
+    /**
+     * Make a {@link RegionStatisticsFilter} that tests region statistics against this filter's range.
+     *
+     * @return The statistics filter, or {@code null} if this filter cannot be evaluated against region statistics
+     */
+    @Nullable
+    RegionStatisticsFilter regionStatisticsFilter() {
+        return null;
+    }
+
     abstract WritableRowSet binarySearch(
             @NotNull RowSet selection, @NotNull ColumnSource<?> columnSource, boolean usePrev, boolean reverse);
 
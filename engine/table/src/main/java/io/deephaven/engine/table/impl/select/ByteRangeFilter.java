@@ -14,6 +14,7 @@ import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.TableDefinition;
 import io.deephaven.engine.table.impl.chunkfilter.ByteRangeComparator;
 import io.deephaven.engine.table.impl.chunkfilter.ChunkFilter;
+import io.deephaven.engine.table.impl.sources.regioned.RegionStatisticsFilter;
 import io.deephaven.gui.table.filters.Condition;
 import io.deephaven.util.QueryConstants;
 import io.deephaven.util.compare.ByteComparisons;
@@ -105,6 +106,29 @@ public class ByteRangeFilter extends AbstractRangeFilter {
                 (upperInclusive ? "]" : ")") + ")";
     }
 
+    @Override
+    RegionStatisticsFilter regionStatisticsFilter() {
+        final boolean nullsMatch = lowerInclusive && lower == QueryConstants.NULL_BYTE;
+        return (min, max, hasNulls) -> {
+            if (hasNulls && nullsMatch) {
+                return true;
+            }
+            if (min == null || max == null) {
+                // The region contains only nulls
+                return false;
+            }
+            final byte regionMin = (Byte) min;
+            final byte regionMax = (Byte) max;
+            final boolean reachesLower = lowerInclusive
+                    ? ByteComparisons.geq(regionMax, lower)
+                    : ByteComparisons.gt(regionMax, lower);
+            final boolean reachesUpper = upperInclusive
+                    ? ByteComparisons.leq(regionMin, upper)
+                    : ByteComparisons.lt(regionMin, upper);
+            return reachesLower && reachesUpper;
+        };
+    }
+
     @NotNull
     @Override
     WritableRowSet binarySearch(
@@ -10,6 +10,7 @@ import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.TableDefinition;
 import io.deephaven.engine.table.impl.chunkfilter.CharRangeComparator;
 import io.deephaven.engine.table.impl.chunkfilter.ChunkFilter;
+import io.deephaven.engine.table.impl.sources.regioned.RegionStatisticsFilter;
 import io.deephaven.gui.table.filters.Condition;
 import io.deephaven.util.QueryConstants;
 import io.deephaven.util.compare.CharComparisons;
@@ -101,6 +102,29 @@ public class CharRangeFilter extends AbstractRangeFilter {
                 (upperInclusive ? "]" : ")") + ")";
     }
 
+    @Override
+    RegionStatisticsFilter regionStatisticsFilter() {
+        final boolean nullsMatch = lowerInclusive && lower == QueryConstants.NULL_CHAR;
+        return (min, max, hasNulls) -> {
+            if (hasNulls && nullsMatch) {
+                return true;
+            }
+            if (min == null || max == null) {
+                // The region contains only nulls
+                return false;
+            }
+            final char regionMin = (Character) min;
+            final char regionMax = (Character) max;
+            final boolean reachesLower = lowerInclusive
+                    ? CharComparisons.geq(regionMax, lower)
+                    : CharComparisons.gt(regionMax, lower);
+            final boolean reachesUpper = upperInclusive
+                    ? CharComparisons.leq(regionMin, upper)
+                    : CharComparisons.lt(regionMin, upper);
+            return reachesLower && reachesUpper;
+        };
+    }
+
     @NotNull
     @Override
     WritableRowSet binarySearch(
@@ -14,6 +14,7 @@ import io.deephaven.util.compare.DoubleComparisons;
 import io.deephaven.engine.table.impl.chunkfilter.DoubleRangeComparator;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.table.impl.sources.regioned.RegionStatisticsFilter;
 import io.deephaven.gui.table.filters.Condition;
 import io.deephaven.util.QueryConstants;
 import org.jetbrains.annotations.NotNull;
@@ -107,6 +108,36 @@ public class DoubleRangeFilter extends AbstractRangeFilter {
                 (upperInclusive ? "]" : ")") + ")";
     }
 
+    @Override
+    RegionStatisticsFilter regionStatisticsFilter() {
+        if (Double.isNaN(upper)) {
+            // NaN values are never reflected in statistics, so we can't exclude regions that might contain them
+            return null;
+        }
+        final boolean nullsMatch = lowerInclusive && lower == QueryConstants.NULL_DOUBLE;
+        return (min, max, hasNulls) -> {
+            if (hasNulls && nullsMatch) {
+                return true;
+            }
+            if (min == null || max == null) {
+                // The region contains only nulls
+                return false;
+            }
+            final double regionMin = (Double) min;
+            final double regionMax = (Double) max;
+            if (Double.isNaN(regionMin) || Double.isNaN(regionMax)) {
+                return true;
+            }
+            final boolean reachesLower = lowerInclusive
+                    ? DoubleComparisons.geq(regionMax, lower)
+                    : DoubleComparisons.gt(regionMax, lower);
+            final boolean reachesUpper = upperInclusive
+                    ? DoubleComparisons.leq(regionMin, upper)
+                    : DoubleComparisons.lt(regionMin, upper);
+            return reachesLower && reachesUpper;
+        };
+    }
+
     @NotNull
     @Override
     WritableRowSet binarySearch(
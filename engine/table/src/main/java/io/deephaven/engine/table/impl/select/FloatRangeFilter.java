@@ -10,6 +10,7 @@ import io.deephaven.util.compare.FloatComparisons;
 import io.deephaven.engine.table.impl.chunkfilter.FloatRangeComparator;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.table.impl.sources.regioned.RegionStatisticsFilter;
 import io.deephaven.gui.table.filters.Condition;
 import io.deephaven.util.QueryConstants;
 import org.jetbrains.annotations.NotNull;
@@ -103,6 +104,36 @@ public class FloatRangeFilter extends AbstractRangeFilter {
                 (upperInclusive ? "]" : ")") + ")";
     }
 
+    @Override
+    RegionStatisticsFilter regionStatisticsFilter() {
+        if (Float.isNaN(upper)) {
+            // NaN values are never reflected in statistics, so we can't exclude regions that might contain them
+            return null;
+        }
+        final boolean nullsMatch = lowerInclusive && lower == QueryConstants.NULL_FLOAT;
+        return (min, max, hasNulls) -> {
+            if (hasNulls && nullsMatch) {
+                return true;
+            }
+            if (min == null || max == null) {
+                // The region contains only nulls
+                return false;
+            }
+            final float regionMin = (Float) min;
+            final float regionMax = (Float) max;
+            if (Float.isNaN(regionMin) || Float.isNaN(regionMax)) {
+                return true;
+            }
+            final boolean reachesLower = lowerInclusive
+                    ? FloatComparisons.geq(regionMax, lower)
+                    : FloatComparisons.gt(regionMax, lower);
+            final boolean reachesUpper = upperInclusive
+                    ? FloatComparisons.leq(regionMin, upper)
+                    : FloatComparisons.lt(regionMin, upper);
+            return reachesLower && reachesUpper;
+        };
+    }
+
     @NotNull
     @Override
     WritableRowSet binarySearch(
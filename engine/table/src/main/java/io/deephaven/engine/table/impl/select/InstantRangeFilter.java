@@ -10,6 +10,7 @@ import io.deephaven.engine.table.impl.chunkfilter.ChunkFilter;
 import io.deephaven.engine.rowset.chunkattributes.OrderedRowKeys;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.impl.sources.ReinterpretUtils;
+import io.deephaven.engine.table.impl.sources.regioned.RegionStatisticsFilter;
 import io.deephaven.chunk.*;
 import io.deephaven.chunk.attributes.Values;
 import io.deephaven.engine.rowset.WritableRowSet;
@@ -72,6 +73,12 @@ public class InstantRangeFilter extends LongRangeFilter {
                 + (upperInclusive ? "]" : ")") + ")";
     }
 
+    @Override
+    RegionStatisticsFilter regionStatisticsFilter() {
+        // Region statistics are expressed in terms of Instants, not the epoch nanos we compare against
+        return null;
+    }
+
     @NotNull
     @Override
     WritableRowSet binarySearch(
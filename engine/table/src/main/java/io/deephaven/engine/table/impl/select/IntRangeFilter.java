@@ -14,6 +14,7 @@ import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.TableDefinition;
 import io.deephaven.engine.table.impl.chunkfilter.IntRangeComparator;
 import io.deephaven.engine.table.impl.chunkfilter.ChunkFilter;
+import io.deephaven.engine.table.impl.sources.regioned.RegionStatisticsFilter;
 import io.deephaven.gui.table.filters.Condition;
 import io.deephaven.util.QueryConstants;
 import io.deephaven.util.compare.IntComparisons;
@@ -105,6 +106,29 @@ public class IntRangeFilter extends AbstractRangeFilter {
                 (upperInclusive ? "]" : ")") + ")";
     }
 
+    @Override
+    RegionStatisticsFilter regionStatisticsFilter() {
+        final boolean nullsMatch = lowerInclusive && lower == QueryConstants.NULL_INT;
+        return (min, max, hasNulls) -> {
+            if (hasNulls && nullsMatch) {
+                return true;
+            }
+            if (min == null || max == null) {
+                // The region contains only nulls
+                return false;
+            }
+            final int regionMin = (Integer) min;
+            final int regionMax = (Integer) max;
+            final boolean reachesLower = lowerInclusive
+                    ? IntComparisons.geq(regionMax, lower)
+                    : IntComparisons.gt(regionMax, lower);
+            final boolean reachesUpper = upperInclusive
+                    ? IntComparisons.leq(regionMin, upper)
+                    : IntComparisons.lt(regionMin, upper);
+            return reachesLower && reachesUpper;
+        };
+    }
+
     @NotNull
     @Override
     WritableRowSet binarySearch(
@@ -14,6 +14,7 @@ import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.TableDefinition;
 import io.deephaven.engine.table.impl.chunkfilter.LongRangeComparator;
 import io.deephaven.engine.table.impl.chunkfilter.ChunkFilter;
+import io.deephaven.engine.table.impl.sources.regioned.RegionStatisticsFilter;
 import io.deephaven.gui.table.filters.Condition;
 import io.deephaven.util.QueryConstants;
 import io.deephaven.util.compare.LongComparisons;
@@ -105,6 +106,29 @@ public class LongRangeFilter extends AbstractRangeFilter {
                 (upperInclusive ? "]" : ")") + ")";
     }
 
+    @Override
+    RegionStatisticsFilter regionStatisticsFilter() {
+        final boolean nullsMatch = lowerInclusive && lower == QueryConstants.NULL_LONG;
+        return (min, max, hasNulls) -> {
+            if (hasNulls && nullsMatch) {
+                return true;
+            }
+            if (min == null || max == null) {
+                // The region contains only nulls
+                return false;
+            }
+            final long regionMin = (Long) min;
+            final long regionMax = (Long) max;
+            final boolean reachesLower = lowerInclusive
+                    ? LongComparisons.geq(regionMax, lower)
+                    : LongComparisons.gt(regionMax, lower);
+            final boolean reachesUpper = upperInclusive
+                    ? LongComparisons.leq(regionMin, upper)
+                    : LongComparisons.lt(regionMin, upper);
+            return reachesLower && reachesUpper;
+        };
+    }
+
     @NotNull
     @Override
     WritableRowSet binarySearch(
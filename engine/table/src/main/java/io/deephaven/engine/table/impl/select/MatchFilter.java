@@ -22,10 +22,12 @@ import io.deephaven.engine.table.impl.lang.QueryLanguageFunctionUtils;
 import io.deephaven.engine.table.impl.preview.DisplayWrapper;
 import io.deephaven.engine.table.impl.DependencyStreamProvider;
 import io.deephaven.engine.table.impl.indexer.DataIndexer;
+import io.deephaven.engine.table.impl.sources.regioned.RegionedColumnSource;
 import io.deephaven.engine.updategraph.NotificationQueue;
 import io.deephaven.time.DateTimeUtils;
 import io.deephaven.util.QueryConstants;
 import io.deephaven.util.SafeCloseable;
+import io.deephaven.util.compare.ObjectComparisons;
 import io.deephaven.util.datastructures.CachingSupplier;
 import io.deephaven.util.type.ArrayTypeUtils;
 import io.deephaven.util.type.TypeUtils;
@@ -296,7 +298,7 @@ public class MatchFilter extends WhereFilterImpl implements DependencyStreamProv
         }
 
         final ColumnSource<?> columnSource = table.getColumnSource(columnName);
-        return columnSource.match(invertMatch, usePrev, caseInsensitive, dataIndex, selection, values);
+        return match(columnSource, invertMatch, usePrev, selection);
     }
 
     @NotNull
@@ -309,7 +311,79 @@ public class MatchFilter extends WhereFilterImpl implements DependencyStreamProv
         }
 
         final ColumnSource<?> columnSource = table.getColumnSource(columnName);
-        return columnSource.match(!invertMatch, usePrev, caseInsensitive, dataIndex, selection, values);
+        return match(columnSource, !invertMatch, usePrev, selection);
+    }
+
+    private WritableRowSet match(
+            @NotNull final ColumnSource<?> columnSource,
+            final boolean invert,
+            final boolean usePrev,
+            @NotNull final RowSet selection) {
+        if (!invert && !caseInsensitive && dataIndex == null && columnSource instanceof RegionedColumnSource) {
+            // Skip any regions whose statistics exclude all of our values before reading any data
+            try (final WritableRowSet pruned = ((RegionedColumnSource<?>) columnSource)
+                    .pruneByStatistics(selection, this::mayMatchStatistics)) {
+                if (pruned != null) {
+                    return matchValues(columnSource, false, usePrev, pruned);
+                }
+            }
+        }
+        return matchValues(columnSource, invert, usePrev, selection);
+    }
+
+    private WritableRowSet matchValues(
+            @NotNull final ColumnSource<?> columnSource,
+            final boolean invert,
+            final boolean usePrev,
+            @NotNull final RowSet selection) {
+        if (dataIndex == null) {
+            final WritableRowSet matched = SymbolTableFilterHelper.filter(columnSource, selection, usePrev,
+                    (symbolSource, symbolRows) -> symbolSource.match(
+                            invert, false, caseInsensitive, null, symbolRows, values));
+            if (matched != null) {
+                return matched;
+            }
+        }
+        return columnSource.match(invert, usePrev, caseInsensitive, dataIndex, selection, values);
+    }
+
+    /**
+     * Test region statistics against our values. Only values whose natural ordering agrees with the engine's comparison
+     * semantics can be used to exclude a region; any other value (e.g. floating point values, which may be NaN or
+     * signed zeros) conservatively matches every region.
+     */
+    private boolean mayMatchStatistics(@Nullable final Object min, @Nullable final Object max, final boolean hasNulls) {
+        for (final Object value : values) {
+            if (isNullValue(value)) {
+                if (hasNulls) {
+                    return true;
+                }
+                continue;
+            }
+            if (!(value instanceof String || value instanceof Long || value instanceof Integer
+                    || value instanceof Short || value instanceof Byte)) {
+                return true;
+            }
+            if (min == null || max == null) {
+                // The region contains only nulls
+                continue;
+            }
+            if (value.getClass() != min.getClass() || value.getClass() != max.getClass()) {
+                return true;
+            }
+            if (ObjectComparisons.geq(value, min) && ObjectComparisons.leq(value, max)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isNullValue(@Nullable final Object value) {
+        return value == null
+                || (value instanceof Long && (Long) value == QueryConstants.NULL_LONG)
+                || (value instanceof Integer && (Integer) value == QueryConstants.NULL_INT)
+                || (value instanceof Short && (Short) value == QueryConstants.NULL_SHORT)
+                || (value instanceof Byte && (Byte) value == QueryConstants.NULL_BYTE);
     }
 
     private ChunkFilter chunkFilter;
@@ -14,6 +14,7 @@ import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.TableDefinition;
 import io.deephaven.engine.table.impl.chunkfilter.ShortRangeComparator;
 import io.deephaven.engine.table.impl.chunkfilter.ChunkFilter;
+import io.deephaven.engine.table.impl.sources.regioned.RegionStatisticsFilter;
 import io.deephaven.gui.table.filters.Condition;
 import io.deephaven.util.QueryConstants;
 import io.deephaven.util.compare.ShortComparisons;
@@ -105,6 +106,29 @@ public class ShortRangeFilter extends AbstractRangeFilter {
                 (upperInclusive ? "]" : ")") + ")";
     }
 
+    @Override
+    RegionStatisticsFilter regionStatisticsFilter() {
+        final boolean nullsMatch = lowerInclusive && lower == QueryConstants.NULL_SHORT;
+        return (min, max, hasNulls) -> {
+            if (hasNulls && nullsMatch) {
+                return true;
+            }
+            if (min == null || max == null) {
+                // The region contains only nulls
+                return false;
+            }
+            final short regionMin = (Short) min;
+            final short regionMax = (Short) max;
+            final boolean reachesLower = lowerInclusive
+                    ? ShortComparisons.geq(regionMax, lower)
+                    : ShortComparisons.gt(regionMax, lower);
+            final boolean reachesUpper = upperInclusive
+                    ? ShortComparisons.leq(regionMin, upper)
+                    : ShortComparisons.lt(regionMin, upper);
+            return reachesLower && reachesUpper;
+        };
+    }
+
     @NotNull
     @Override
     WritableRowSet binarySearch(
@@ -0,0 +1,116 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.select;
+
+import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.WritableRowSet;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.chunkfilter.ChunkFilter;
+import io.deephaven.engine.table.impl.chunkfilter.LongChunkMatchFilterFactory;
+import io.deephaven.engine.table.impl.sources.NullValueColumnSource;
+import io.deephaven.engine.table.impl.sources.regioned.SymbolTableSource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static io.deephaven.util.QueryConstants.NULL_LONG;
+
+/**
+ * Helper for evaluating single-column filters against the symbol table of a {@link SymbolTableSource}, e.g. a
+ * dictionary-encoded Parquet column. The filter is evaluated once per symbol in each region's dictionary, and once for
+ * {@code null}, after which rows are selected by matching their {@code long} symbol identifiers. For low-cardinality
+ * columns this replaces a decode and comparison per row with a decode and comparison per symbol.
+ */
+final class SymbolTableFilterHelper {
+
+    /**
+     * The minimum ratio of selected rows to symbols for which filtering by symbol table is worthwhile. Every symbol in
+     * each region that the selection touches is evaluated, so narrow selections are better served by evaluating the
+     * selected rows directly.
+     */
+    private static final int MIN_ROWS_PER_SYMBOL =
+            Configuration.getInstance().getIntegerWithDefault("SymbolTableFilterHelper.minRowsPerSymbol", 4);
+
+    /**
+     * A single-column filter, applied to a column of symbols.
+     */
+    @FunctionalInterface
+    interface SymbolFilter {
+        /**
+         * @param symbolSource The source of symbols to filter, with the same data type as the original column
+         * @param symbolRows The row keys of {@code symbolSource} to filter
+         * @return The subset of {@code symbolRows} accepted by the filter; ownership passes to the caller
+         */
+        WritableRowSet filter(@NotNull ColumnSource<?> symbolSource, @NotNull RowSet symbolRows);
+    }
+
+    private SymbolTableFilterHelper() {}
+
+    /**
+     * Filter {@code selection} by evaluating {@code symbolFilter} against the symbol table of {@code columnSource}, if
+     * it has one that covers {@code selection} and doing so is expected to be cheaper than evaluating every row.
+     *
+     * @param columnSource The column source to filter
+     * @param selection The row keys to filter
+     * @param usePrev Whether to use previous values
+     * @param symbolFilter The filter to evaluate against each symbol
+     * @return The subset of {@code selection} accepted by {@code symbolFilter}, or {@code null} if the symbol table was
+     *         not used and the caller should evaluate the filter itself
+     */
+    @Nullable
+    static WritableRowSet filter(
+            @NotNull final ColumnSource<?> columnSource,
+            @NotNull final RowSet selection,
+            final boolean usePrev,
+            @NotNull final SymbolFilter symbolFilter) {
+        if (!QueryTable.USE_SYMBOL_TABLE_FOR_WHERE
+                || selection.size() < MIN_ROWS_PER_SYMBOL
+                || !SymbolTableSource.hasSymbolTable(columnSource, selection)) {
+            return null;
+        }
+        final Table symbolTable = ((SymbolTableSource<?>) columnSource).getStaticSymbolTable(selection, false);
+        final RowSet symbolIds = symbolTable.getRowSet();
+        if (symbolIds.size() > selection.size() / MIN_ROWS_PER_SYMBOL) {
+            return null;
+        }
+
+        final boolean nullMatches;
+        try (final RowSet nullRow = RowSetFactory.flat(1);
+                final RowSet nullMatch = symbolFilter.filter(
+                        NullValueColumnSource.getInstance(columnSource.getType(), columnSource.getComponentType()),
+                        nullRow)) {
+            nullMatches = nullMatch.isNonempty();
+        }
+
+        // The symbol table's row keys are its symbol identifiers
+        final ChunkFilter idFilter;
+        try (final WritableRowSet matchingIds = symbolFilter.filter(
+                symbolTable.getColumnSource(SymbolTableSource.SYMBOL_COLUMN_NAME), symbolIds)) {
+            if (matchingIds.isEmpty() && !nullMatches) {
+                return RowSetFactory.empty();
+            }
+            if (matchingIds.size() <= symbolIds.size() / 2) {
+                idFilter = LongChunkMatchFilterFactory.makeFilter(false, toIdArray(matchingIds, nullMatches));
+            } else {
+                // Most symbols match, so it's cheaper to test for the ones that don't
+                try (final RowSet nonMatchingIds = symbolIds.minus(matchingIds)) {
+                    idFilter = LongChunkMatchFilterFactory.makeFilter(true, toIdArray(nonMatchingIds, !nullMatches));
+                }
+            }
+        }
+        return ChunkFilter.applyChunkFilter(selection, columnSource.reinterpret(long.class), usePrev, idFilter);
+    }
+
+    private static long[] toIdArray(@NotNull final RowSet ids, final boolean includeNull) {
+        final long[] idArray = new long[ids.intSize() + (includeNull ? 1 : 0)];
+        ids.toRowKeyArray(idArray);
+        if (includeNull) {
+            idArray[idArray.length - 1] = NULL_LONG;
+        }
+        return idArray;
+    }
+}
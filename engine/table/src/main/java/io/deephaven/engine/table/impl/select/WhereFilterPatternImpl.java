@@ -58,7 +58,7 @@ final class WhereFilterPatternImpl extends WhereFilterImpl {
     public WritableRowSet filter(
             @NotNull RowSet selection, @NotNull RowSet fullSet, @NotNull Table table, boolean usePrev) {
         final ColumnSource<?> columnSource = table.getColumnSource(columnName());
-        return ChunkFilter.applyChunkFilter(selection, columnSource, usePrev, chunkFilterImpl);
+        return applyChunkFilter(selection, columnSource, usePrev, chunkFilterImpl);
     }
 
     @NotNull
@@ -66,7 +66,21 @@ final class WhereFilterPatternImpl extends WhereFilterImpl {
     public WritableRowSet filterInverse(
             @NotNull RowSet selection, @NotNull RowSet fullSet, @NotNull Table table, boolean usePrev) {
         final ColumnSource<?> columnSource = table.getColumnSource(columnName());
-        return ChunkFilter.applyChunkFilter(selection, columnSource, usePrev, chunkFilterInverseImpl);
+        return applyChunkFilter(selection, columnSource, usePrev, chunkFilterInverseImpl);
+    }
+
+    private static WritableRowSet applyChunkFilter(
+            @NotNull final RowSet selection,
+            @NotNull final ColumnSource<?> columnSource,
+            final boolean usePrev,
+            @NotNull final ChunkFilter chunkFilter) {
+        final WritableRowSet matched = SymbolTableFilterHelper.filter(columnSource, selection, usePrev,
+                (symbolSource, symbolRows) -> ChunkFilter.applyChunkFilter(symbolRows, symbolSource, false,
+                        chunkFilter));
+        if (matched != null) {
+            return matched;
+        }
+        return ChunkFilter.applyChunkFilter(selection, columnSource, usePrev, chunkFilter);
     }
 
     @Override
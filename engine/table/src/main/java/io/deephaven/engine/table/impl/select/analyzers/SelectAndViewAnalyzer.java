@@ -29,6 +29,7 @@ import io.deephaven.engine.table.impl.sources.PossiblyImmutableColumnSource;
 import io.deephaven.engine.table.impl.sources.RedirectedColumnSource;
 import io.deephaven.engine.table.impl.sources.SingleValueColumnSource;
 import io.deephaven.engine.table.impl.sources.WritableRedirectedColumnSource;
+import io.deephaven.engine.table.impl.sources.offheap.OffHeapColumnSource;
 import io.deephaven.engine.table.impl.util.InverseWrappedRowSetRowRedirection;
 import io.deephaven.engine.table.impl.util.JobScheduler;
 import io.deephaven.engine.table.impl.util.RowRedirection;
@@ -230,9 +231,8 @@ public class SelectAndViewAnalyzer implements LogOutputAppendable {
                 case SELECT_STATIC: {
                     // We need to call newDestInstance because only newDestInstance has the knowledge to endow our
                     // created array with the proper componentType (in the case of Vectors).
-                    final WritableColumnSource<?> scs = parentIsFlat || context.flatResult
-                            ? sc.newFlatDestInstance(targetDestinationCapacity)
-                            : sc.newDestInstance(targetDestinationCapacity);
+                    final boolean flat = parentIsFlat || context.flatResult;
+                    final WritableColumnSource<?> scs = newDestInstance(sc, targetDestinationCapacity, flat, flat);
                     maybeSetStaticColumnSourceImmutable(scs);
                     maybeCreateAlias.accept(scs);
                     context.addLayer(new SelectColumnLayer(
@@ -241,7 +241,7 @@ public class SelectAndViewAnalyzer implements LogOutputAppendable {
                     break;
                 }
                 case SELECT_REDIRECTED_STATIC: {
-                    final WritableColumnSource<?> underlyingSource = sc.newDestInstance(rowSet.size());
+                    final WritableColumnSource<?> underlyingSource = newDestInstance(sc, rowSet.size(), false, true);
                     final WritableColumnSource<?> scs = WritableRedirectedColumnSource.maybeRedirect(
                             rowRedirection, underlyingSource, rowSet.size());
                     maybeSetStaticColumnSourceImmutable(scs);
@@ -255,7 +255,8 @@ public class SelectAndViewAnalyzer implements LogOutputAppendable {
                 case SELECT_REFRESHING: {
                     // We need to call newDestInstance because only newDestInstance has the knowledge to endow our
                     // created array with the proper componentType (in the case of Vectors).
-                    WritableColumnSource<?> scs = sc.newDestInstance(targetDestinationCapacity);
+                    WritableColumnSource<?> scs =
+                            newDestInstance(sc, targetDestinationCapacity, false, rowRedirection != null);
                     WritableColumnSource<?> underlyingSource = null;
                     if (rowRedirection != null) {
                         underlyingSource = scs;
@@ -276,6 +277,23 @@ public class SelectAndViewAnalyzer implements LogOutputAppendable {
         return context;
     }
 
+    /**
+     * Create the destination column source for a select column, preferring an {@link OffHeapColumnSource off-heap}
+     * source when they are enabled and the destination is densely addressed.
+     */
+    private static WritableColumnSource<?> newDestInstance(
+            final SelectColumn sc,
+            final long capacity,
+            final boolean flat,
+            final boolean dense) {
+        final WritableColumnSource<?> offHeap =
+                dense ? OffHeapColumnSource.maybeMake(sc.getReturnedType(), capacity) : null;
+        if (offHeap != null) {
+            return offHeap;
+        }
+        return flat ? sc.newFlatDestInstance(capacity) : sc.newDestInstance(capacity);
+    }
+
     private static void maybeSetStaticColumnSourceImmutable(final ColumnSource<?> columnSource) {
         if (columnSource instanceof PossiblyImmutableColumnSource) {
             ((PossiblyImmutableColumnSource) columnSource).setImmutable();
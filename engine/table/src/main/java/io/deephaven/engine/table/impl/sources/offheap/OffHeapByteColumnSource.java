@@ -0,0 +1,101 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+// ****** AUTO-GENERATED CLASS - DO NOT EDIT MANUALLY
+// ****** Edit OffHeapCharColumnSource and run "./gradlew replicateSourcesAndChunks" to regenerate
+//
+// @formatter:off
+package io.deephaven.engine.table.impl.sources.offheap;
+
+import io.deephaven.engine.table.impl.MutableColumnSourceGetDefaults;
+import io.deephaven.util.SoftRecycler;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+
+// region boxing imports
+import static io.deephaven.util.QueryConstants.NULL_BYTE;
+import static io.deephaven.util.type.TypeUtils.unbox;
+// endregion boxing imports
+
+/**
+ * Off-heap column source for byte data.
+ */
+public class OffHeapByteColumnSource extends OffHeapColumnSource<Byte, ByteBuffer>
+        implements MutableColumnSourceGetDefaults.ForByte {
+
+    private static final int LOG_ELEMENT_SIZE = Integer.numberOfTrailingZeros(Byte.BYTES);
+
+    private static final ByteBuffer NULL_BLOCK = allocate(LOG_ELEMENT_SIZE);
+    static {
+        // region nullBlock
+        final ByteBuffer nulls = NULL_BLOCK;
+        // endregion nullBlock
+        for (int ii = 0; ii < BLOCK_SIZE; ++ii) {
+            nulls.put(ii, NULL_BYTE);
+        }
+    }
+
+    private static final SoftRecycler<ByteBuffer> BLOCK_RECYCLER =
+            new SoftRecycler<>(BLOCK_RECYCLER_CAPACITY, () -> allocate(LOG_ELEMENT_SIZE), null);
+
+    public OffHeapByteColumnSource() {
+        super(byte.class, LOG_ELEMENT_SIZE, NULL_BLOCK, BLOCK_RECYCLER);
+    }
+
+    // region view
+    @Override
+    ByteBuffer view(@NotNull final ByteBuffer bytes) {
+        return bytes;
+    }
+    // endregion view
+
+    @Override
+    public final byte getByte(final long rowKey) {
+        if (rowKey < 0) {
+            return NULL_BYTE;
+        }
+        final Block<ByteBuffer> block = getBlock(rowKey);
+        return block == null ? NULL_BYTE : block.data.get((int) (rowKey & INDEX_MASK));
+    }
+
+    @Override
+    public final byte getPrevByte(final long rowKey) {
+        if (rowKey < 0) {
+            return NULL_BYTE;
+        }
+        final Block<ByteBuffer> block = getBlock(rowKey);
+        if (block == null) {
+            return NULL_BYTE;
+        }
+        final int index = (int) (rowKey & INDEX_MASK);
+        return previousOrCurrent(block, index).get(index);
+    }
+
+    @Override
+    public final void set(final long key, final byte value) {
+        final Block<ByteBuffer> block = ensureBlock(key);
+        final int index = (int) (key & INDEX_MASK);
+        maybeRecordPrevious(block, index);
+        block.data.put(index, value);
+    }
+
+    @Override
+    public void set(final long key, final Byte value) {
+        set(key, unbox(value));
+    }
+
+    @Override
+    public void setNull(final long key) {
+        final Block<ByteBuffer> block = getBlock(key);
+        if (block == null) {
+            return;
+        }
+        final int index = (int) (key & INDEX_MASK);
+        if (block.data.get(index) == NULL_BYTE) {
+            return;
+        }
+        maybeRecordPrevious(block, index);
+        block.data.put(index, NULL_BYTE);
+    }
+}
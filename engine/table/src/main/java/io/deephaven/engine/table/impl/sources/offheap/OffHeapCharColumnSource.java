@@ -0,0 +1,98 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.sources.offheap;
+
+import io.deephaven.engine.table.impl.MutableColumnSourceGetDefaults;
+import io.deephaven.util.SoftRecycler;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
+// region boxing imports
+import static io.deephaven.util.QueryConstants.NULL_CHAR;
+import static io.deephaven.util.type.TypeUtils.unbox;
+// endregion boxing imports
+
+/**
+ * Off-heap column source for char data.
+ */
+public class OffHeapCharColumnSource extends OffHeapColumnSource<Character, CharBuffer>
+        implements MutableColumnSourceGetDefaults.ForChar {
+
+    private static final int LOG_ELEMENT_SIZE = Integer.numberOfTrailingZeros(Character.BYTES);
+
+    private static final ByteBuffer NULL_BLOCK = allocate(LOG_ELEMENT_SIZE);
+    static {
+        // region nullBlock
+        final CharBuffer nulls = NULL_BLOCK.asCharBuffer();
+        // endregion nullBlock
+        for (int ii = 0; ii < BLOCK_SIZE; ++ii) {
+            nulls.put(ii, NULL_CHAR);
+        }
+    }
+
+    private static final SoftRecycler<ByteBuffer> BLOCK_RECYCLER =
+            new SoftRecycler<>(BLOCK_RECYCLER_CAPACITY, () -> allocate(LOG_ELEMENT_SIZE), null);
+
+    public OffHeapCharColumnSource() {
+        super(char.class, LOG_ELEMENT_SIZE, NULL_BLOCK, BLOCK_RECYCLER);
+    }
+
+    // region view
+    @Override
+    CharBuffer view(@NotNull final ByteBuffer bytes) {
+        return bytes.asCharBuffer();
+    }
+    // endregion view
+
+    @Override
+    public final char getChar(final long rowKey) {
+        if (rowKey < 0) {
+            return NULL_CHAR;
+        }
+        final Block<CharBuffer> block = getBlock(rowKey);
+        return block == null ? NULL_CHAR : block.data.get((int) (rowKey & INDEX_MASK));
+    }
+
+    @Override
+    public final char getPrevChar(final long rowKey) {
+        if (rowKey < 0) {
+            return NULL_CHAR;
+        }
+        final Block<CharBuffer> block = getBlock(rowKey);
+        if (block == null) {
+            return NULL_CHAR;
+        }
+        final int index = (int) (rowKey & INDEX_MASK);
+        return previousOrCurrent(block, index).get(index);
+    }
+
+    @Override
+    public final void set(final long key, final char value) {
+        final Block<CharBuffer> block = ensureBlock(key);
+        final int index = (int) (key & INDEX_MASK);
+        maybeRecordPrevious(block, index);
+        block.data.put(index, value);
+    }
+
+    @Override
+    public void set(final long key, final Character value) {
+        set(key, unbox(value));
+    }
+
+    @Override
+    public void setNull(final long key) {
+        final Block<CharBuffer> block = getBlock(key);
+        if (block == null) {
+            return;
+        }
+        final int index = (int) (key & INDEX_MASK);
+        if (block.data.get(index) == NULL_CHAR) {
+            return;
+        }
+        maybeRecordPrevious(block, index);
+        block.data.put(index, NULL_CHAR);
+    }
+}
@@ -0,0 +1,563 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.sources.offheap;
+
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.LongChunk;
+import io.deephaven.chunk.WritableChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
+import io.deephaven.engine.table.WritableColumnSource;
+import io.deephaven.engine.table.WritableSourceWithPrepareForParallelPopulation;
+import io.deephaven.engine.table.impl.AbstractColumnSource;
+import io.deephaven.engine.table.impl.sources.FillUnordered;
+import io.deephaven.engine.table.impl.sources.InMemoryColumnSource;
+import io.deephaven.engine.updategraph.UpdateCommitter;
+import io.deephaven.util.SoftRecycler;
+import io.deephaven.util.mutable.MutableInt;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An in-memory column source that keeps its data outside the Java heap, in direct {@link ByteBuffer ByteBuffers}.
+ * <p>
+ * Data is divided into blocks of {@link #BLOCK_SIZE} elements, which are allocated and null-filled when they are first
+ * written. Blocks are found through a two-level directory: the upper level is indexed by the bits of the row key above
+ * {@link #LOG_REGION_SIZE}, and the lower level by the block within that region. Flat row keys therefore share a single
+ * lower-level directory, while the row keys of regioned sources use one lower-level directory per region. Row keys that
+ * have never been written read as null.
+ * <p>
+ * Previous values are tracked per block, in the same way as the array sources: the first write to an element during an
+ * update cycle copies its old value to a previous block (which is also off-heap), and marks the element in an in-use
+ * bitset. Previous blocks are recycled when the cycle's updates are committed.
+ * <p>
+ * Chunks are always backed by Java arrays, so these sources never expose their backing store, and every read and write
+ * copies between a chunk and the off-heap blocks. Off-heap memory is limited by {@code -XX:MaxDirectMemorySize}. Data
+ * blocks are shared by every table that uses the source, so they are never recycled; their memory is released only when
+ * they are garbage collected, which off-heap usage alone does not trigger.
+ * <p>
+ * When {@code OffHeapColumnSource.enabled} is {@code true}, the columns that {@code select} and {@code update} create
+ * use off-heap sources for primitive types, if they are densely addressed and at least
+ * {@code OffHeapColumnSource.minimumCapacity} rows; see {@link #maybeMake}. Every block that is written costs a full
+ * {@link #BLOCK_SIZE}-element allocation, so small and sparse sources, and the columns of input tables, which start
+ * empty, stay on the heap. The general in-memory column source factories are unaffected, because the hash tables that
+ * use them rely on sources that expose their backing store.
+ *
+ * @param <T> the boxed type of the column source
+ * @param <B> the type of {@link Buffer} view used for each block
+ */
+public abstract class OffHeapColumnSource<T, B extends Buffer> extends AbstractColumnSource<T>
+        implements WritableColumnSource<T>, FillUnordered<Values>, InMemoryColumnSource,
+        WritableSourceWithPrepareForParallelPopulation {
+
+    private static final boolean ENABLED =
+            Configuration.getInstance().getBooleanWithDefault("OffHeapColumnSource.enabled", false);
+
+    static final int LOG_BLOCK_SIZE = 16;
+    public static final int BLOCK_SIZE = 1 << LOG_BLOCK_SIZE;
+    static final long INDEX_MASK = BLOCK_SIZE - 1;
+
+    private static final long MINIMUM_CAPACITY = Configuration.getInstance().getLongWithDefault(
+            "OffHeapColumnSource.minimumCapacity", BLOCK_SIZE);
+
+    /**
+     * The number of low-order row key bits covered by a single lower-level directory. This matches the region size of
+     * the regioned column sources, so that each region of a partitioned table gets its own, dense, lower-level
+     * directory.
+     */
+    static final int LOG_REGION_SIZE = 40;
+    private static final int DIRECTORY_MASK = (1 << (LOG_REGION_SIZE - LOG_BLOCK_SIZE)) - 1;
+
+    private static final int LOG_INUSE_BITSET_SIZE = 6;
+    private static final int IN_USE_MASK = (1 << LOG_INUSE_BITSET_SIZE) - 1;
+
+    /**
+     * Recycled blocks are off-heap, and soft references are not cleared in response to off-heap memory pressure, so we
+     * keep far fewer of them than the array sources do.
+     */
+    static final int BLOCK_RECYCLER_CAPACITY = 64;
+
+    private static final SoftRecycler<long[]> inUseRecycler = new SoftRecycler<>(BLOCK_RECYCLER_CAPACITY,
+            () -> new long[BLOCK_SIZE >> LOG_INUSE_BITSET_SIZE],
+            inUse -> Arrays.fill(inUse, 0));
+
+    /**
+     * Make an off-heap column source for {@code dataType}, if off-heap column sources are enabled and support the type,
+     * and {@code capacity} is large enough that the source's blocks will be well used.
+     *
+     * @param dataType the data type of the column source
+     * @param capacity the number of rows the source will initially hold, at row keys densely addressed from zero
+     * @return a new off-heap column source, or {@code null} if the caller should create an on-heap source
+     */
+    @Nullable
+    public static <T> WritableColumnSource<T> maybeMake(@NotNull final Class<T> dataType, final long capacity) {
+        if (!ENABLED || capacity < MINIMUM_CAPACITY) {
+            return null;
+        }
+        final WritableColumnSource<?> result;
+        if (dataType == char.class || dataType == Character.class) {
+            result = new OffHeapCharColumnSource();
+        } else if (dataType == byte.class || dataType == Byte.class) {
+            result = new OffHeapByteColumnSource();
+        } else if (dataType == short.class || dataType == Short.class) {
+            result = new OffHeapShortColumnSource();
+        } else if (dataType == int.class || dataType == Integer.class) {
+            result = new OffHeapIntColumnSource();
+        } else if (dataType == long.class || dataType == Long.class) {
+            result = new OffHeapLongColumnSource();
+        } else if (dataType == float.class || dataType == Float.class) {
+            result = new OffHeapFloatColumnSource();
+        } else if (dataType == double.class || dataType == Double.class) {
+            result = new OffHeapDoubleColumnSource();
+        } else {
+            return null;
+        }
+        // noinspection unchecked
+        return (WritableColumnSource<T>) result;
+    }
+
+    static final class Block<B extends Buffer> {
+        private final ByteBuffer bytes;
+        final B data;
+
+        private ByteBuffer prevBytes;
+        private B prev;
+        private long[] prevInUse;
+
+        private Block(@NotNull final ByteBuffer bytes, @NotNull final B data) {
+            this.bytes = bytes;
+            this.data = data;
+        }
+    }
+
+    private final int logElementSize;
+    private final ByteBuffer nullBlock;
+    private final SoftRecycler<ByteBuffer> blockRecycler;
+
+    private Block<B>[][] directory;
+
+    /**
+     * The presence of a prevFlusher means that this source wants to track previous values.
+     */
+    private transient UpdateCommitter<OffHeapColumnSource<T, B>> prevFlusher = null;
+
+    /**
+     * If prepareForParallelPopulation has been called, we need not check previous values when filling.
+     */
+    private transient long prepareForParallelPopulationClockCycle = -1;
+
+    /**
+     * The blocks that have previous values in the current cycle.
+     */
+    private transient final List<Block<B>> prevAllocated = new ArrayList<>();
+
+    OffHeapColumnSource(
+            @NotNull final Class<T> type,
+            final int logElementSize,
+            @NotNull final ByteBuffer nullBlock,
+            @NotNull final SoftRecycler<ByteBuffer> blockRecycler) {
+        super(type);
+        this.logElementSize = logElementSize;
+        this.nullBlock = nullBlock;
+        this.blockRecycler = blockRecycler;
+        directory = newDirectory(0);
+    }
+
+    /**
+     * Allocate an uninitialized, native-ordered, direct block.
+     */
+    static ByteBuffer allocate(final int logElementSize) {
+        return ByteBuffer.allocateDirect(BLOCK_SIZE << logElementSize).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * @param bytes a block
+     * @return a typed view of {@code bytes}
+     */
+    abstract B view(@NotNull ByteBuffer bytes);
+
+    @Override
+    public void ensureCapacity(final long capacity, final boolean nullFilled) {
+        // Nothing to do here. Off-heap sources allocate blocks on demand and always null-fill them.
+    }
+
+    // region directory
+
+    @Nullable
+    final Block<B> getBlock(final long rowKey) {
+        final Block<B>[][] localDirectory = directory;
+        final long region = rowKey >>> LOG_REGION_SIZE;
+        if (region >= localDirectory.length) {
+            return null;
+        }
+        final Block<B>[] blocks = localDirectory[(int) region];
+        if (blocks == null) {
+            return null;
+        }
+        final int blockNo = (int) (rowKey >> LOG_BLOCK_SIZE) & DIRECTORY_MASK;
+        return blockNo < blocks.length ? blocks[blockNo] : null;
+    }
+
+    /**
+     * Get the block for {@code rowKey}, allocating it if necessary. Only one thread may allocate blocks at a time; see
+     * {@link #prepareForParallelPopulation(RowSequence)}.
+     */
+    final Block<B> ensureBlock(final long rowKey) {
+        final int region = (int) (rowKey >>> LOG_REGION_SIZE);
+        Block<B>[][] localDirectory = directory;
+        if (region >= localDirectory.length) {
+            directory = localDirectory = Arrays.copyOf(localDirectory, grownLength(localDirectory.length, region));
+        }
+        final int blockNo = (int) (rowKey >> LOG_BLOCK_SIZE) & DIRECTORY_MASK;
+        Block<B>[] blocks = localDirectory[region];
+        if (blocks == null) {
+            localDirectory[region] = blocks = newBlocks(grownLength(0, blockNo));
+        } else if (blockNo >= blocks.length) {
+            localDirectory[region] = blocks = Arrays.copyOf(blocks, grownLength(blocks.length, blockNo));
+        }
+        Block<B> block = blocks[blockNo];
+        if (block == null) {
+            final ByteBuffer bytes = blockRecycler.borrowItem();
+            bytes.clear();
+            bytes.put(nullBlock.duplicate()).clear();
+            blocks[blockNo] = block = new Block<>(bytes, view(bytes));
+        }
+        return block;
+    }
+
+    /**
+     * @return the smallest power of two that is at least double {@code length}, and greater than {@code index}
+     */
+    private static int grownLength(final int length, final int index) {
+        return Math.max(Math.max(length * 2, 1), Integer.highestOneBit(index) << 1);
+    }
+
+    private static <B extends Buffer> Block<B>[][] newDirectory(final int length) {
+        // noinspection unchecked
+        return (Block<B>[][]) new Block[length][];
+    }
+
+    private static <B extends Buffer> Block<B>[] newBlocks(final int length) {
+        // noinspection unchecked
+        return (Block<B>[]) new Block[length];
+    }
+
+    // endregion directory
+
+    // region previous values
+
+    final boolean shouldTrackPrevious() {
+        // prevFlusher == null means we are not tracking previous values yet (or maybe ever).
+        // If prepareForParallelPopulation was called on this cycle, it's assumed that all previous values have already
+        // been recorded.
+        return prevFlusher != null && prepareForParallelPopulationClockCycle != updateGraph.clock().currentStep();
+    }
+
+    /**
+     * Record the previous value of the element at {@code index} in {@code block}, if we are tracking previous values
+     * and it has not yet been recorded this cycle. Must be called before the element is written.
+     */
+    final void maybeRecordPrevious(@NotNull final Block<B> block, final int index) {
+        if (shouldTrackPrevious()) {
+            recordPrevious(block, index, 1);
+        }
+    }
+
+    private void recordPrevious(@NotNull final Block<B> block, final int index, final int length) {
+        // If we want to track previous values, we make sure we are registered with the update graph.
+        prevFlusher.maybeActivate();
+
+        if (block.prevInUse == null) {
+            block.prevBytes = blockRecycler.borrowItem();
+            block.prev = view(block.prevBytes);
+            block.prevInUse = inUseRecycler.borrowItem();
+            prevAllocated.add(block);
+        }
+        final long[] inUse = block.prevInUse;
+        for (int ii = index; ii < index + length; ++ii) {
+            final int indexWithinInUse = ii >> LOG_INUSE_BITSET_SIZE;
+            final long maskWithinInUse = 1L << (ii & IN_USE_MASK);
+            if ((inUse[indexWithinInUse] & maskWithinInUse) == 0) {
+                copyElement(block.bytes, block.prevBytes, ii);
+                inUse[indexWithinInUse] |= maskWithinInUse;
+            }
+        }
+    }
+
+    private void copyElement(@NotNull final ByteBuffer src, @NotNull final ByteBuffer dest, final int index) {
+        final int position = index << logElementSize;
+        switch (logElementSize) {
+            case 0:
+                dest.put(position, src.get(position));
+                break;
+            case 1:
+                dest.putShort(position, src.getShort(position));
+                break;
+            case 2:
+                dest.putInt(position, src.getInt(position));
+                break;
+            case 3:
+                dest.putLong(position, src.getLong(position));
+                break;
+            default:
+                throw new IllegalStateException("Unexpected element size " + (1 << logElementSize));
+        }
+    }
+
+    /**
+     * @return the view that holds the previous value of the element at {@code index} in {@code block}
+     */
+    final B previousOrCurrent(@NotNull final Block<B> block, final int index) {
+        final long[] inUse = block.prevInUse;
+        if (inUse != null && (inUse[index >> LOG_INUSE_BITSET_SIZE] & (1L << (index & IN_USE_MASK))) != 0) {
+            final B prev = block.prev;
+            if (prev != null) {
+                return prev;
+            }
+        }
+        return block.data;
+    }
+
+    @Override
+    public void startTrackingPrevValues() {
+        if (prevFlusher != null) {
+            throw new IllegalStateException("Can't call startTrackingPrevValues() twice: " +
+                    this.getClass().getCanonicalName());
+        }
+        prevFlusher = new UpdateCommitter<>(this, updateGraph, OffHeapColumnSource::commitPrevious);
+    }
+
+    private void commitPrevious() {
+        for (final Block<B> block : prevAllocated) {
+            final long[] inUse = block.prevInUse;
+            final ByteBuffer prevBytes = block.prevBytes;
+            block.prevInUse = null;
+            block.prev = null;
+            block.prevBytes = null;
+            inUseRecycler.returnItem(inUse);
+            blockRecycler.returnItem(prevBytes);
+        }
+        prevAllocated.clear();
+    }
+
+    @Override
+    public void prepareForParallelPopulation(@NotNull final RowSequence rowSequence) {
+        final long currentStep = updateGraph.clock().currentStep();
+        if (prepareForParallelPopulationClockCycle == currentStep) {
+            throw new IllegalStateException("May not call prepareForParallelPopulation twice on one clock cycle!");
+        }
+        prepareForParallelPopulationClockCycle = currentStep;
+
+        // Allocate every block that will be written, and record every previous value, so that the writers need neither
+        // allocate nor record anything.
+        final boolean trackPrevious = prevFlusher != null;
+        rowSequence.forAllRowKeyRanges((final long first, final long last) -> {
+            long key = first;
+            while (true) {
+                final long lastInBlock = Math.min(last, key | INDEX_MASK);
+                final Block<B> block = ensureBlock(key);
+                if (trackPrevious) {
+                    recordPrevious(block, (int) (key & INDEX_MASK), (int) (lastInBlock - key + 1));
+                }
+                if (lastInBlock == last) {
+                    break;
+                }
+                key = lastInBlock + 1;
+            }
+        });
+    }
+
+    // endregion previous values
+
+    // region chunk methods
+
+    @Override
+    public void fillChunk(
+            @NotNull final FillContext context,
+            @NotNull final WritableChunk<? super Values> destination,
+            @NotNull final RowSequence rowSequence) {
+        fillChunk(destination, rowSequence, false);
+    }
+
+    @Override
+    public void fillPrevChunk(
+            @NotNull final FillContext context,
+            @NotNull final WritableChunk<? super Values> destination,
+            @NotNull final RowSequence rowSequence) {
+        fillChunk(destination, rowSequence, prevFlusher != null);
+    }
+
+    private void fillChunk(
+            @NotNull final WritableChunk<? super Values> destination,
+            @NotNull final RowSequence rowSequence,
+            final boolean usePrev) {
+        final MutableInt destOffset = new MutableInt(0);
+        rowSequence.forAllRowKeyRanges((final long first, final long last) -> {
+            long key = first;
+            while (true) {
+                final long lastInBlock = Math.min(last, key | INDEX_MASK);
+                final int length = (int) (lastInBlock - key + 1);
+                final int offset = destOffset.getAndAdd(length);
+                final Block<B> block = getBlock(key);
+                if (block == null) {
+                    destination.fillWithNullValue(offset, length);
+                } else {
+                    final int index = (int) (key & INDEX_MASK);
+                    destination.copyFromBuffer(block.data.duplicate(), index, offset, length);
+                    if (usePrev) {
+                        copyPrevious(block, index, length, destination, offset);
+                    }
+                }
+                if (lastInBlock == last) {
+                    break;
+                }
+                key = lastInBlock + 1;
+            }
+        });
+        destination.setSize(destOffset.get());
+    }
+
+    /**
+     * Overwrite the current values that {@link #fillChunk} copied to {@code destination} with any previous values.
+     */
+    private void copyPrevious(
+            @NotNull final Block<B> block,
+            final int index,
+            final int length,
+            @NotNull final WritableChunk<? super Values> destination,
+            final int offset) {
+        final long[] inUse = block.prevInUse;
+        final B prev = block.prev;
+        if (inUse == null || prev == null) {
+            return;
+        }
+        Buffer prevView = null;
+        for (int ii = 0; ii < length; ++ii) {
+            final int indexWithinBlock = index + ii;
+            if ((inUse[indexWithinBlock >> LOG_INUSE_BITSET_SIZE] & (1L << (indexWithinBlock & IN_USE_MASK))) != 0) {
+                if (prevView == null) {
+                    prevView = prev.duplicate();
+                }
+                destination.copyFromBuffer(prevView, indexWithinBlock, offset + ii, 1);
+            }
+        }
+    }
+
+    @Override
+    public void fillChunkUnordered(
+            @NotNull final FillContext context,
+            @NotNull final WritableChunk<? super Values> dest,
+            @NotNull final LongChunk<? extends RowKeys> keys) {
+        fillChunkUnordered(dest, keys, false);
+    }
+
+    @Override
+    public void fillPrevChunkUnordered(
+            @NotNull final FillContext context,
+            @NotNull final WritableChunk<? super Values> dest,
+            @NotNull final LongChunk<? extends RowKeys> keys) {
+        fillChunkUnordered(dest, keys, prevFlusher != null);
+    }
+
+    private void fillChunkUnordered(
+            @NotNull final WritableChunk<? super Values> dest,
+            @NotNull final LongChunk<? extends RowKeys> keys,
+            final boolean usePrev) {
+        Block<B> lastBlock = null;
+        Buffer lastView = null;
+        Buffer lastPrevView = null;
+        for (int ii = 0; ii < keys.size(); ++ii) {
+            final long key = keys.get(ii);
+            final Block<B> block = key == RowSet.NULL_ROW_KEY || key < 0 ? null : getBlock(key);
+            if (block == null) {
+                dest.fillWithNullValue(ii, 1);
+                continue;
+            }
+            if (block != lastBlock) {
+                lastBlock = block;
+                lastView = block.data.duplicate();
+                lastPrevView = null;
+            }
+            final int index = (int) (key & INDEX_MASK);
+            if (usePrev) {
+                final B source = previousOrCurrent(block, index);
+                if (source != block.data) {
+                    if (lastPrevView == null) {
+                        lastPrevView = source.duplicate();
+                    }
+                    dest.copyFromBuffer(lastPrevView, index, ii, 1);
+                    continue;
+                }
+            }
+            dest.copyFromBuffer(lastView, index, ii, 1);
+        }
+        dest.setSize(keys.size());
+    }
+
+    @Override
+    public boolean providesFillUnordered() {
+        return true;
+    }
+
+    @Override
+    public void fillFromChunk(
+            @NotNull final FillFromContext context,
+            @NotNull final Chunk<? extends Values> src,
+            @NotNull final RowSequence rowSequence) {
+        final boolean trackPrevious = shouldTrackPrevious();
+        final MutableInt srcOffset = new MutableInt(0);
+        rowSequence.forAllRowKeyRanges((final long first, final long last) -> {
+            long key = first;
+            while (true) {
+                final long lastInBlock = Math.min(last, key | INDEX_MASK);
+                final int length = (int) (lastInBlock - key + 1);
+                final int index = (int) (key & INDEX_MASK);
+                final Block<B> block = ensureBlock(key);
+                if (trackPrevious) {
+                    recordPrevious(block, index, length);
+                }
+                src.copyToBuffer(srcOffset.getAndAdd(length), block.data.duplicate(), index, length);
+                if (lastInBlock == last) {
+                    break;
+                }
+                key = lastInBlock + 1;
+            }
+        });
+    }
+
+    @Override
+    public void fillFromChunkUnordered(
+            @NotNull final FillFromContext context,
+            @NotNull final Chunk<? extends Values> src,
+            @NotNull final LongChunk<RowKeys> keys) {
+        final boolean trackPrevious = shouldTrackPrevious();
+        Block<B> lastBlock = null;
+        Buffer lastView = null;
+        for (int ii = 0; ii < keys.size(); ++ii) {
+            final long key = keys.get(ii);
+            final Block<B> block = ensureBlock(key);
+            if (block != lastBlock) {
+                lastBlock = block;
+                lastView = block.data.duplicate();
+            }
+            final int index = (int) (key & INDEX_MASK);
+            if (trackPrevious) {
+                recordPrevious(block, index, 1);
+            }
+            src.copyToBuffer(ii, lastView, index, 1);
+        }
+    }
+
+    // endregion chunk methods
+}
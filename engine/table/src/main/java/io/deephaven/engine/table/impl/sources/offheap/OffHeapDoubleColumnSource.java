@@ -0,0 +1,102 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+// ****** AUTO-GENERATED CLASS - DO NOT EDIT MANUALLY
+// ****** Edit OffHeapCharColumnSource and run "./gradlew replicateSourcesAndChunks" to regenerate
+//
+// @formatter:off
+package io.deephaven.engine.table.impl.sources.offheap;
+
+import io.deephaven.engine.table.impl.MutableColumnSourceGetDefaults;
+import io.deephaven.util.SoftRecycler;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+
+// region boxing imports
+import static io.deephaven.util.QueryConstants.NULL_DOUBLE;
+import static io.deephaven.util.type.TypeUtils.unbox;
+// endregion boxing imports
+
+/**
+ * Off-heap column source for double data.
+ */
+public class OffHeapDoubleColumnSource extends OffHeapColumnSource<Double, DoubleBuffer>
+        implements MutableColumnSourceGetDefaults.ForDouble {
+
+    private static final int LOG_ELEMENT_SIZE = Integer.numberOfTrailingZeros(Double.BYTES);
+
+    private static final ByteBuffer NULL_BLOCK = allocate(LOG_ELEMENT_SIZE);
+    static {
+        // region nullBlock
+        final DoubleBuffer nulls = NULL_BLOCK.asDoubleBuffer();
+        // endregion nullBlock
+        for (int ii = 0; ii < BLOCK_SIZE; ++ii) {
+            nulls.put(ii, NULL_DOUBLE);
+        }
+    }
+
+    private static final SoftRecycler<ByteBuffer> BLOCK_RECYCLER =
+            new SoftRecycler<>(BLOCK_RECYCLER_CAPACITY, () -> allocate(LOG_ELEMENT_SIZE), null);
+
+    public OffHeapDoubleColumnSource() {
+        super(double.class, LOG_ELEMENT_SIZE, NULL_BLOCK, BLOCK_RECYCLER);
+    }
+
+    // region view
+    @Override
+    DoubleBuffer view(@NotNull final ByteBuffer bytes) {
+        return bytes.asDoubleBuffer();
+    }
+    // endregion view
+
+    @Override
+    public final double getDouble(final long rowKey) {
+        if (rowKey < 0) {
+            return NULL_DOUBLE;
+        }
+        final Block<DoubleBuffer> block = getBlock(rowKey);
+        return block == null ? NULL_DOUBLE : block.data.get((int) (rowKey & INDEX_MASK));
+    }
+
+    @Override
+    public final double getPrevDouble(final long rowKey) {
+        if (rowKey < 0) {
+            return NULL_DOUBLE;
+        }
+        final Block<DoubleBuffer> block = getBlock(rowKey);
+        if (block == null) {
+            return NULL_DOUBLE;
+        }
+        final int index = (int) (rowKey & INDEX_MASK);
+        return previousOrCurrent(block, index).get(index);
+    }
+
+    @Override
+    public final void set(final long key, final double value) {
+        final Block<DoubleBuffer> block = ensureBlock(key);
+        final int index = (int) (key & INDEX_MASK);
+        maybeRecordPrevious(block, index);
+        block.data.put(index, value);
+    }
+
+    @Override
+    public void set(final long key, final Double value) {
+        set(key, unbox(value));
+    }
+
+    @Override
+    public void setNull(final long key) {
+        final Block<DoubleBuffer> block = getBlock(key);
+        if (block == null) {
+            return;
+        }
+        final int index = (int) (key & INDEX_MASK);
+        if (block.data.get(index) == NULL_DOUBLE) {
+            return;
+        }
+        maybeRecordPrevious(block, index);
+        block.data.put(index, NULL_DOUBLE);
+    }
+}
@@ -0,0 +1,102 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+// ****** AUTO-GENERATED CLASS - DO NOT EDIT MANUALLY
+// ****** Edit OffHeapCharColumnSource and run "./gradlew replicateSourcesAndChunks" to regenerate
+//
+// @formatter:off
+package io.deephaven.engine.table.impl.sources.offheap;
+
+import io.deephaven.engine.table.impl.MutableColumnSourceGetDefaults;
+import io.deephaven.util.SoftRecycler;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.nio.ShortBuffer;
+
+// region boxing imports
+import static io.deephaven.util.QueryConstants.NULL_SHORT;
+import static io.deephaven.util.type.TypeUtils.unbox;
+// endregion boxing imports
+
+/**
+ * Off-heap column source for short data.
+ */
+public class OffHeapShortColumnSource extends OffHeapColumnSource<Short, ShortBuffer>
+        implements MutableColumnSourceGetDefaults.ForShort {
+
+    private static final int LOG_ELEMENT_SIZE = Integer.numberOfTrailingZeros(Short.BYTES);
+
+    private static final ByteBuffer NULL_BLOCK = allocate(LOG_ELEMENT_SIZE);
+    static {
+        // region nullBlock
+        final ShortBuffer nulls = NULL_BLOCK.asShortBuffer();
+        // endregion nullBlock
+        for (int ii = 0; ii < BLOCK_SIZE; ++ii) {
+            nulls.put(ii, NULL_SHORT);
+        }
+    }
+
+    private static final SoftRecycler<ByteBuffer> BLOCK_RECYCLER =
+            new SoftRecycler<>(BLOCK_RECYCLER_CAPACITY, () -> allocate(LOG_ELEMENT_SIZE), null);
+
+    public OffHeapShortColumnSource() {
+        super(short.class, LOG_ELEMENT_SIZE, NULL_BLOCK, BLOCK_RECYCLER);
+    }
+
+    // region view
+    @Override
+    ShortBuffer view(@NotNull final ByteBuffer bytes) {
+        return bytes.asShortBuffer();
+    }
+    // endregion view
+
+    @Override
+    public final short getShort(final long rowKey) {
+        if (rowKey < 0) {
+            return NULL_SHORT;
+        }
+        final Block<ShortBuffer> block = getBlock(rowKey);
+        return block == null ? NULL_SHORT : block.data.get((int) (rowKey & INDEX_MASK));
+    }
+
+    @Override
+    public final short getPrevShort(final long rowKey) {
+        if (rowKey < 0) {
+            return NULL_SHORT;
+        }
+        final Block<ShortBuffer> block = getBlock(rowKey);
+        if (block == null) {
+            return NULL_SHORT;
+        }
+        final int index = (int) (rowKey & INDEX_MASK);
+        return previousOrCurrent(block, index).get(index);
+    }
+
+    @Override
+    public final void set(final long key, final short value) {
+        final Block<ShortBuffer> block = ensureBlock(key);
+        final int index = (int) (key & INDEX_MASK);
+        maybeRecordPrevious(block, index);
+        block.data.put(index, value);
+    }
+
+    @Override
+    public void set(final long key, final Short value) {
+        set(key, unbox(value));
+    }
+
+    @Override
+    public void setNull(final long key) {
+        final Block<ShortBuffer> block = getBlock(key);
+        if (block == null) {
+            return;
+        }
+        final int index = (int) (key & INDEX_MASK);
+        if (block.data.get(index) == NULL_SHORT) {
+            return;
+        }
+        maybeRecordPrevious(block, index);
+        block.data.put(index, NULL_SHORT);
+    }
+}
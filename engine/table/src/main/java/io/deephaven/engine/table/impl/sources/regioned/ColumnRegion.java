@@ -3,6 +3,7 @@
 //
 package io.deephaven.engine.table.impl.sources.regioned;
 
+import io.deephaven.engine.rowset.WritableRowSet;
 import io.deephaven.engine.table.Releasable;
 import io.deephaven.chunk.attributes.Any;
 import io.deephaven.chunk.WritableChunk;
@@ -23,6 +24,19 @@ public interface ColumnRegion<ATTR extends Any> extends Page<ATTR>, Releasable {
      */
     void invalidate();
 
+    /**
+     * Remove from {@code regionSelection} any row keys that this region can prove, using only summary statistics that
+     * are available without reading values, cannot match {@code filter}.
+     * <p>
+     * The default implementation has no statistics and leaves the selection unchanged.
+     *
+     * @param regionSelection The selected row keys to narrow; all keys must fall within this region
+     * @param filter The filter to test against this region's statistics
+     */
+    default void pruneByStatistics(
+            @NotNull final WritableRowSet regionSelection,
+            @NotNull final RegionStatisticsFilter filter) {}
+
     abstract class Null<ATTR extends Any>
             extends GenericColumnRegionBase<ATTR>
             implements ColumnRegion<ATTR>, WithDefaultsForRepeatingValues<ATTR> {
@@ -39,5 +53,14 @@ public interface ColumnRegion<ATTR extends Any> extends Page<ATTR>, Releasable {
             destination.fillWithNullValue(offset, length);
             destination.setSize(offset + length);
         }
+
+        @Override
+        public void pruneByStatistics(
+                @NotNull final WritableRowSet regionSelection,
+                @NotNull final RegionStatisticsFilter filter) {
+            if (!filter.mayMatch(null, null, true)) {
+                regionSelection.clear();
+            }
+        }
     }
 }
@@ -7,6 +7,7 @@ import io.deephaven.base.verify.Require;
 import io.deephaven.chunk.attributes.Any;
 import io.deephaven.chunk.*;
 import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.WritableRowSet;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.OverridingMethodsMustInvokeSuper;
@@ -64,6 +65,13 @@ public abstract class DeferredColumnRegionBase<ATTR extends Any, REGION_TYPE ext
         }
     }
 
+    @Override
+    public void pruneByStatistics(
+            @NotNull final WritableRowSet regionSelection,
+            @NotNull final RegionStatisticsFilter filter) {
+        getResultRegion().pruneByStatistics(regionSelection, filter);
+    }
+
     @Override
     public ChunkType getChunkType() {
         return getResultRegion().getChunkType();
@@ -0,0 +1,482 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.sources.regioned;
+
+import gnu.trove.map.hash.TLongObjectHashMap;
+import io.deephaven.UncheckedDeephavenException;
+import io.deephaven.base.verify.Assert;
+import io.deephaven.base.verify.Require;
+import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.primitive.iterator.CloseableIterator;
+import io.deephaven.engine.rowset.*;
+import io.deephaven.engine.table.BasicDataIndex;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.DataIndexOptions;
+import io.deephaven.engine.table.ModifiedColumnSet;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.TableUpdate;
+import io.deephaven.engine.table.TableUpdateListener;
+import io.deephaven.engine.table.WritableColumnSource;
+import io.deephaven.engine.table.impl.BaseTable;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.TableUpdateImpl;
+import io.deephaven.engine.table.impl.dataindex.AbstractDataIndex;
+import io.deephaven.engine.table.impl.dataindex.DataIndexUtils;
+import io.deephaven.engine.table.impl.indexer.DataIndexer;
+import io.deephaven.engine.table.impl.locations.TableLocation;
+import io.deephaven.engine.table.impl.sources.ArrayBackedColumnSource;
+import io.deephaven.engine.table.impl.sources.ObjectArraySource;
+import io.deephaven.engine.table.impl.sources.RowSetColumnSourceWrapper;
+import io.deephaven.engine.table.iterators.ChunkedColumnIterator;
+import io.deephaven.hash.KeyedObjectHashMap;
+import io.deephaven.util.annotations.InternalUseOnly;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * DataIndex that accumulates the individual per-{@link TableLocation} data indexes of a refreshing {@link Table} backed
+ * by a {@link RegionedColumnSourceManager}, and maintains the merged index incrementally as locations are added,
+ * modified, or removed.
+ *
+ * <p>
+ * Unlike {@link MergedDataIndex}, which defers all work until the index table is first requested and supports only
+ * static location tables, this index is built when it is constructed and updated on each cycle that changes the
+ * location table. The index tables of the locations changed in a cycle are loaded in parallel, and their row sets are
+ * merged into the existing per-key row sets, so the cost of a cycle is proportional to the locations it changes rather
+ * than to the whole table. Keys never move once assigned a row in the index table; keys whose row sets become empty
+ * are removed, and re-added if they reappear.
+ *
+ * <p>
+ * Every location must provide the data index. A location added later without it causes the index to fail, and the
+ * failure is delivered to listeners of the index table.
+ */
+@InternalUseOnly
+class IncrementalMergedDataIndex extends AbstractDataIndex implements DataIndexer.RetainableDataIndex {
+
+    /**
+     * Whether {@link RegionedColumnSourceManager} should create incremental merged data indexes for refreshing tables.
+     * Doing so loads the index tables of all initial locations when the table is created, whether or not the index is
+     * ever used. Setting the Configuration property "IncrementalMergedDataIndex.enabled" to true enables this behavior;
+     * otherwise, refreshing tables only have indexes for their partitioning columns.
+     */
+    public static boolean ENABLED = Configuration.getInstance()
+            .getBooleanWithDefault("IncrementalMergedDataIndex.enabled", false);
+
+    private final List<String> keyColumnNames;
+    private final String[] keyColumnNamesArray;
+
+    private final Map<ColumnSource<?>, String> keyColumnNamesByIndexedColumn;
+
+    private final ColumnSource<TableLocation> locationTableLocationSource;
+
+    /** The table containing the index. Consists of the key columns and an associated RowSet column. */
+    private final QueryTable indexTable;
+    private final WritableColumnSource<?>[] indexKeySources;
+    private final ObjectArraySource<RowSet> indexRowSetSource;
+
+    /** Provides fast lookup from keys to positions in the index table. */
+    private final KeyedObjectHashMap<Object, KeyPosition> keyPositionMap;
+
+    /** The positions in the index table of the keys found in each location, by location row key. */
+    private final TLongObjectHashMap<int[]> locationKeyPositions;
+
+    private final ModifiedColumnSet upstreamLocationModified;
+    private final ModifiedColumnSet upstreamRowSetModified;
+    private final ModifiedColumnSet downstreamRowSetModified;
+
+    /**
+     * Whether all the initial locations have the data index. If not, the index is never built.
+     */
+    private final boolean isValid;
+
+    /**
+     * Construct a new IncrementalMergedDataIndex. Note that this must be constructed by the
+     * {@link RegionedColumnSourceManager} at a time when there cannot be any concurrent "refresh" behavior, and so we
+     * can safely use the {@link RegionedColumnSourceManager#locationTable() location table} without snapshotting or
+     * considering previous values.
+     *
+     * @param keyColumnNames The key column names
+     * @param keySources The key sources in the indexed table
+     * @param columnSourceManager The column source manager that provides locations and region indexes
+     */
+    IncrementalMergedDataIndex(
+            @NotNull final String[] keyColumnNames,
+            @NotNull final ColumnSource<?>[] keySources,
+            @NotNull final RegionedColumnSourceManager columnSourceManager) {
+        Require.eq(keyColumnNames.length, "keyColumnNames.length", keySources.length, "keySources.length");
+        Require.elementsNeqNull(keyColumnNames, "keyColumnNames");
+        Require.elementsNeqNull(keySources, "keySources");
+
+        this.keyColumnNames = List.of(keyColumnNames);
+        keyColumnNamesArray = keyColumnNames.clone();
+
+        // Create an in-order reverse lookup map for the key column names
+        keyColumnNamesByIndexedColumn = Collections.unmodifiableMap(IntStream.range(0, keySources.length).sequential()
+                .collect(LinkedHashMap::new, (m, i) -> m.put(keySources[i], keyColumnNames[i]), Assert::neverInvoked));
+        if (keyColumnNamesByIndexedColumn.size() != keySources.length) {
+            throw new IllegalArgumentException(String.format("Duplicate key sources found in %s for %s",
+                    Arrays.toString(keySources), Arrays.toString(keyColumnNames)));
+        }
+
+        final QueryTable locationTable = (QueryTable) columnSourceManager.locationTable().coalesce();
+        Require.eqTrue(locationTable.isRefreshing(), "locationTable.isRefreshing()");
+        locationTableLocationSource =
+                locationTable.getColumnSource(columnSourceManager.locationColumnName(), TableLocation.class);
+
+        // Build the index table
+        indexKeySources = Arrays.stream(keySources)
+                .map(ks -> ArrayBackedColumnSource.getMemoryColumnSource(0, ks.getType(), ks.getComponentType()))
+                .toArray(WritableColumnSource[]::new);
+        indexRowSetSource = new ObjectArraySource<>(RowSet.class);
+        final Map<String, ColumnSource<?>> indexColumns = new LinkedHashMap<>();
+        for (int ki = 0; ki < keyColumnNames.length; ++ki) {
+            indexColumns.put(keyColumnNames[ki], indexKeySources[ki]);
+        }
+        indexColumns.put(ROW_SET_COLUMN_NAME, RowSetColumnSourceWrapper.from(indexRowSetSource));
+        indexTable = new QueryTable(RowSetFactory.empty().toTracking(), indexColumns);
+
+        keyPositionMap = new KeyedObjectHashMap<>(KeyPosition.KEYED_OBJECT_KEY);
+        locationKeyPositions = new TLongObjectHashMap<>();
+
+        upstreamLocationModified = locationTable.newModifiedColumnSet(columnSourceManager.locationColumnName());
+        upstreamRowSetModified = locationTable.newModifiedColumnSet(columnSourceManager.rowSetColumnName());
+        downstreamRowSetModified = indexTable.newModifiedColumnSet(rowSetColumnName());
+
+        try (final CloseableIterator<TableLocation> locations =
+                locationTable.objectColumnIterator(columnSourceManager.locationColumnName())) {
+            isValid = locations.stream().parallel().allMatch(l -> l.hasDataIndex(keyColumnNamesArray));
+        }
+        if (!isValid) {
+            return;
+        }
+
+        // Create a dummy update for the initial state.
+        final TableUpdate initialUpdate = new TableUpdateImpl(
+                locationTable.getRowSet().copy(),
+                RowSetFactory.empty(),
+                RowSetFactory.empty(),
+                RowSetShiftData.EMPTY,
+                ModifiedColumnSet.EMPTY);
+        try {
+            processUpdate(initialUpdate, true);
+        } finally {
+            initialUpdate.release();
+        }
+
+        // No need to track previous values; we mutate the index table's RowSets in-place, and we never move a key.
+        indexTable.getRowSet().writableCast().initializePreviousValue();
+        final TableUpdateListener tableListener = new BaseTable.ListenerImpl(String.format(
+                "Incremental Merged Data Index - %s", String.join(", ", keyColumnNames)), locationTable, indexTable) {
+            @Override
+            public void onUpdate(@NotNull final TableUpdate upstream) {
+                processUpdate(upstream, false);
+            }
+        };
+        locationTable.addUpdateListener(tableListener);
+        manage(indexTable);
+    }
+
+    private synchronized void processUpdate(
+            @NotNull final TableUpdate upstream,
+            final boolean initializing) {
+        if (upstream.empty()) {
+            return;
+        }
+        if (upstream.shifted().nonempty()) {
+            throw new UnsupportedOperationException("Shifted locations are not currently supported");
+        }
+        if (upstream.modified().isNonempty() && upstream.modifiedColumnSet().containsAny(upstreamLocationModified)) {
+            throw new UnsupportedOperationException("Modified locations are not currently supported");
+        }
+
+        final int previousSize = keyPositionMap.size();
+        final RowSetBuilderRandom modifiedPositionBuilder = initializing ? null : RowSetFactory.builderRandom();
+
+        // Modified locations are handled as a removal followed by an addition of their new contents
+        final RowSet modifiedLocations =
+                upstream.modified().isNonempty() && upstream.modifiedColumnSet().containsAny(upstreamRowSetModified)
+                        ? upstream.modified()
+                        : RowSetFactory.empty();
+        if (upstream.removed().isNonempty() || modifiedLocations.isNonempty()) {
+            Assert.eqFalse(initializing, "initializing");
+            upstream.removed().forAllRowKeys(locationRowKey -> removeLocation(locationRowKey, modifiedPositionBuilder));
+            modifiedLocations.forAllRowKeys(locationRowKey -> removeLocation(locationRowKey, modifiedPositionBuilder));
+        }
+
+        final long[] locationsToAdd;
+        try (final WritableRowSet addedAndModified = upstream.added().union(modifiedLocations)) {
+            locationsToAdd = addedAndModified.toArray();
+        }
+        // Load the location indexes in parallel, and merge them serially in location order
+        final LocationIndex[] locationIndexes = Arrays.stream(locationsToAdd).parallel()
+                .mapToObj(this::loadLocationIndex)
+                .toArray(LocationIndex[]::new);
+        for (final LocationIndex locationIndex : locationIndexes) {
+            addLocation(locationIndex, modifiedPositionBuilder);
+        }
+
+        final int newSize = keyPositionMap.size();
+        if (initializing) {
+            if (newSize > 0) {
+                indexTable.getRowSet().writableCast().insertRange(0, newSize - 1);
+            }
+            return;
+        }
+
+        final WritableRowSet modified = modifiedPositionBuilder.build();
+        final WritableRowSet added;
+        if (previousSize == newSize) {
+            added = RowSetFactory.empty();
+        } else {
+            // Keys first seen this cycle are added, even if more than one location contributed to them
+            added = RowSetFactory.fromRange(previousSize, newSize - 1);
+            modified.removeRange(previousSize, newSize - 1);
+        }
+        if (added.isEmpty() && modified.isEmpty()) {
+            modified.close();
+            added.close();
+            return;
+        }
+
+        // Positions that transitioned to empty are removed, and positions that transitioned from empty are re-added
+        final RowSetBuilderSequential removedPositionsBuilder = RowSetFactory.builderSequential();
+        final RowSetBuilderSequential resurrectedPositionsBuilder = RowSetFactory.builderSequential();
+        modified.forAllRowKeys((final long pos) -> {
+            final RowSet indexRowSet = indexRowSetSource.get(pos);
+            // noinspection DataFlowIssue
+            final boolean wasEmpty = indexRowSet.trackingCast().prev().isEmpty();
+            if (indexRowSet.isEmpty()) {
+                if (!wasEmpty) {
+                    removedPositionsBuilder.appendKey(pos);
+                }
+            } else if (wasEmpty) {
+                resurrectedPositionsBuilder.appendKey(pos);
+            }
+        });
+        final RowSet removed = removedPositionsBuilder.build();
+        modified.remove(removed);
+        try (final RowSet resurrected = resurrectedPositionsBuilder.build()) {
+            added.insert(resurrected);
+            modified.remove(resurrected);
+        }
+
+        final WritableRowSet indexRowSet = indexTable.getRowSet().writableCast();
+        indexRowSet.remove(removed);
+        indexRowSet.insert(added);
+
+        // Send the downstream updates to any listeners of the index table
+        final TableUpdate downstream = new TableUpdateImpl(
+                added,
+                removed,
+                modified,
+                RowSetShiftData.EMPTY,
+                modified.isNonempty() ? downstreamRowSetModified : ModifiedColumnSet.EMPTY);
+        indexTable.notifyListeners(downstream);
+    }
+
+    /**
+     * The keys and shifted row sets of the data index of a single location.
+     */
+    private static final class LocationIndex {
+        private final long locationRowKey;
+        private final Object[] lookupKeys;
+        private final Object[][] keyValues;
+        private final WritableRowSet[] rowSets;
+
+        private LocationIndex(
+                final long locationRowKey,
+                @NotNull final Object[] lookupKeys,
+                @NotNull final Object[][] keyValues,
+                @NotNull final WritableRowSet[] rowSets) {
+            this.locationRowKey = locationRowKey;
+            this.lookupKeys = lookupKeys;
+            this.keyValues = keyValues;
+            this.rowSets = rowSets;
+        }
+    }
+
+    /**
+     * Load the data index of the location at {@code locationRowKey}, with its row sets shifted by the location's region
+     * offset. May be called concurrently for different locations.
+     */
+    private LocationIndex loadLocationIndex(final long locationRowKey) {
+        final TableLocation location = locationTableLocationSource.get(locationRowKey);
+        Assert.neqNull(location, "location");
+        // noinspection DataFlowIssue
+        final BasicDataIndex dataIndex = location.getDataIndex(keyColumnNamesArray);
+        if (dataIndex == null) {
+            throw new UncheckedDeephavenException(String.format("Failed to load data index [%s] for location %s",
+                    String.join(", ", keyColumnNamesArray), location));
+        }
+        final Table locationIndexTable = dataIndex.table();
+        final RowSet locationIndexRowSet = locationIndexTable.getRowSet();
+        final int size = locationIndexTable.intSize();
+        final ColumnSource<?>[] locationKeySources = Arrays.stream(keyColumnNamesArray)
+                .map(locationIndexTable::getColumnSource)
+                .toArray(ColumnSource[]::new);
+
+        final Object[] lookupKeys = new Object[size];
+        final Object[][] keyValues = new Object[keyColumnNamesArray.length][size];
+        final WritableRowSet[] rowSets = new WritableRowSet[size];
+        if (size == 0) {
+            return new LocationIndex(locationRowKey, lookupKeys, keyValues, rowSets);
+        }
+
+        try (final CloseableIterator<Object> lookupKeyIterator = ChunkedColumnIterator.make(
+                DataIndexUtils.makeBoxedKeySource(locationKeySources), locationIndexRowSet)) {
+            for (int ri = 0; ri < size; ++ri) {
+                lookupKeys[ri] = lookupKeyIterator.next();
+            }
+        }
+        for (int ki = 0; ki < locationKeySources.length; ++ki) {
+            try (final CloseableIterator<Object> keyIterator =
+                    ChunkedColumnIterator.make(locationKeySources[ki], locationIndexRowSet)) {
+                for (int ri = 0; ri < size; ++ri) {
+                    keyValues[ki][ri] = keyIterator.next();
+                }
+            }
+        }
+        final long shiftAmount = RegionedColumnSource.getFirstRowKey(Math.toIntExact(locationRowKey));
+        try (final CloseableIterator<RowSet> rowSetIterator =
+                locationIndexTable.objectColumnIterator(dataIndex.rowSetColumnName())) {
+            for (int ri = 0; ri < size; ++ri) {
+                final RowSet locationRowSet = rowSetIterator.next();
+                rowSets[ri] = shiftAmount == 0 ? locationRowSet.copy() : locationRowSet.shift(shiftAmount);
+            }
+        }
+        return new LocationIndex(locationRowKey, lookupKeys, keyValues, rowSets);
+    }
+
+    private void addLocation(
+            @NotNull final LocationIndex locationIndex,
+            @Nullable final RowSetBuilderRandom modifiedPositionBuilder) {
+        final int[] positions = new int[locationIndex.lookupKeys.length];
+        for (int ri = 0; ri < positions.length; ++ri) {
+            final Object lookupKey = locationIndex.lookupKeys[ri];
+            final WritableRowSet rowSet = locationIndex.rowSets[ri];
+            final KeyPosition existing = keyPositionMap.get(lookupKey);
+            if (existing == null) {
+                // Inserting a new key
+                final int addedKeyPos = keyPositionMap.size();
+                keyPositionMap.add(new KeyPosition(lookupKey, addedKeyPos));
+                for (int ki = 0; ki < indexKeySources.length; ++ki) {
+                    // noinspection unchecked
+                    final WritableColumnSource<Object> indexKeySource =
+                            (WritableColumnSource<Object>) indexKeySources[ki];
+                    indexKeySource.ensureCapacity(addedKeyPos + 1);
+                    indexKeySource.set(addedKeyPos, locationIndex.keyValues[ki][ri]);
+                }
+                indexRowSetSource.ensureCapacity(addedKeyPos + 1);
+                indexRowSetSource.set(addedKeyPos, rowSet.toTracking());
+                positions[ri] = addedKeyPos;
+                continue;
+            }
+            // Updating an existing key
+            // noinspection DataFlowIssue
+            indexRowSetSource.get(existing.position).writableCast().insert(rowSet);
+            rowSet.close();
+            positions[ri] = existing.position;
+            if (modifiedPositionBuilder != null) {
+                modifiedPositionBuilder.addKey(existing.position);
+            }
+        }
+        locationKeyPositions.put(locationIndex.locationRowKey, positions);
+    }
+
+    private void removeLocation(
+            final long locationRowKey,
+            @NotNull final RowSetBuilderRandom modifiedPositionBuilder) {
+        final int[] positions = locationKeyPositions.remove(locationRowKey);
+        if (positions == null) {
+            throw new IllegalStateException(String.format("Removed location (index=%d): Location not found",
+                    locationRowKey));
+        }
+        // Every row key in the location's region belongs to the location, so we can remove the whole region
+        final int regionIndex = Math.toIntExact(locationRowKey);
+        final long regionFirstKey = RegionedColumnSource.getFirstRowKey(regionIndex);
+        final long regionLastKey = RegionedColumnSource.getLastRowKey(regionIndex);
+        for (final int pos : positions) {
+            // noinspection DataFlowIssue
+            indexRowSetSource.get(pos).writableCast().removeRange(regionFirstKey, regionLastKey);
+            modifiedPositionBuilder.addKey(pos);
+        }
+    }
+
+    private static final class KeyPosition {
+
+        private static final DataIndexUtils.LookupKeyedObjectKey<KeyPosition> KEYED_OBJECT_KEY =
+                new DataIndexUtils.LookupKeyedObjectKey<>() {
+
+                    @Override
+                    public Object getKey(@NotNull final KeyPosition keyPosition) {
+                        return keyPosition.lookupKey;
+                    }
+                };
+
+        private final Object lookupKey;
+        private final int position;
+
+        private KeyPosition(final Object lookupKey, final int position) {
+            this.lookupKey = lookupKey;
+            this.position = position;
+        }
+    }
+
+    @Override
+    @NotNull
+    public List<String> keyColumnNames() {
+        return keyColumnNames;
+    }
+
+    @Override
+    @NotNull
+    public Map<ColumnSource<?>, String> keyColumnNamesByIndexedColumn() {
+        return keyColumnNamesByIndexedColumn;
+    }
+
+    @Override
+    @NotNull
+    public Table table(final DataIndexOptions unused) {
+        if (!isValid) {
+            throw new IllegalStateException(String.format(
+                    "Data index [%s] is not available for all locations", String.join(", ", keyColumnNames)));
+        }
+        return indexTable;
+    }
+
+    @Override
+    @NotNull
+    public RowKeyLookup rowKeyLookup(final DataIndexOptions unusedOptions) {
+        return (final Object key, final boolean usePrev) -> {
+            final KeyPosition keyPosition = keyPositionMap.get(key);
+            if (keyPosition == null) {
+                return RowSequence.NULL_ROW_KEY;
+            }
+            final TrackingRowSet rowSet = indexRowSetSource.get(keyPosition.position).trackingCast();
+            // noinspection DataFlowIssue
+            if (usePrev ? rowSet.prev().isEmpty() : rowSet.isEmpty()) {
+                return RowSequence.NULL_ROW_KEY;
+            }
+            return keyPosition.position;
+        };
+    }
+
+    @Override
+    public boolean isRefreshing() {
+        return indexTable.isRefreshing();
+    }
+
+    @Override
+    public boolean isValid() {
+        return isValid;
+    }
+
+    @Override
+    public boolean shouldRetain() {
+        return true;
+    }
+}
@@ -43,10 +43,9 @@ import java.util.stream.LongStream;
  *
  * @implNote This implementation is responsible for ensuring that the provided table accounts for the relative positions
  *           of individual table locations in the provided table of indices. Work to coalesce the index table is
- *           deferred until the first call to {@link #table()}. Refreshing inputs/indexes are not supported at this time
+ *           deferred until the first call to {@link #table()}. Refreshing inputs/indexes are not supported
  *           due to concurrency limitations (w.r.t. the UpdateGraph) of the underlying table operations used to compute
- *           the merged index table, as well as a lack of use cases beyond "new static partitions are added to a live
- *           source table".
+ *           the merged index table; refreshing location tables use {@link IncrementalMergedDataIndex} instead.
  */
 @InternalUseOnly
 class MergedDataIndex extends AbstractDataIndex implements DataIndexer.RetainableDataIndex {
@@ -126,7 +125,8 @@ class MergedDataIndex extends AbstractDataIndex implements DataIndexer.Retainabl
         }
 
         if (columnSourceManager.locationTable().isRefreshing()) {
-            throw new UnsupportedOperationException("Refreshing location tables are not currently supported");
+            throw new UnsupportedOperationException(
+                    "Refreshing location tables are not supported, use IncrementalMergedDataIndex");
         }
 
         // Defer the actual index table creation until it is needed
@@ -0,0 +1,28 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.sources.regioned;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A conservative test of a filter against the summary statistics of a {@link ColumnRegion}. Regions that can supply
+ * statistics without reading any values (e.g. from file metadata) use this to exclude themselves from a filter's
+ * selection before any column data is read.
+ */
+@FunctionalInterface
+public interface RegionStatisticsFilter {
+
+    /**
+     * Determine whether a region with the supplied statistics might contain a value that matches this filter.
+     * <p>
+     * Statistics are expressed in the boxed form of the column's data type (e.g. {@link Long} for {@code long}
+     * columns). Implementations must be conservative: returning {@code false} guarantees the region is skipped.
+     *
+     * @param min The minimum non-null value in the region, or {@code null} if the region contains only nulls
+     * @param max The maximum non-null value in the region, or {@code null} if the region contains only nulls
+     * @param hasNulls Whether the region may contain null values
+     * @return {@code false} if no value in the region can match, {@code true} otherwise
+     */
+    boolean mayMatch(@Nullable Object min, @Nullable Object max, boolean hasNulls);
+}
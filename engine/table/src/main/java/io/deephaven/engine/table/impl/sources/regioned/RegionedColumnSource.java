@@ -9,8 +9,10 @@ import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.impl.locations.ColumnLocation;
 import io.deephaven.engine.table.impl.ImmutableColumnSource;
 import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.WritableRowSet;
 import io.deephaven.util.annotations.VisibleForTesting;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * <p>
@@ -118,4 +120,17 @@ public interface RegionedColumnSource<DATA_TYPE>
      * @param regionIndex the region to invalidate
      */
     void invalidateRegion(int regionIndex);
+
+    /**
+     * Narrow {@code selection} by excluding the rows of any regions (or sub-regions) whose summary statistics prove
+     * that they cannot match {@code filter}. This allows filters to skip entire locations, or parts of locations such
+     * as Parquet row groups, without reading their data.
+     *
+     * @param selection The selected row keys
+     * @param filter The filter to test against region statistics
+     * @return A new row set containing the rows of {@code selection} that might match, or {@code null} if no rows were
+     *         excluded
+     */
+    @Nullable
+    WritableRowSet pruneByStatistics(@NotNull RowSet selection, @NotNull RegionStatisticsFilter filter);
 }
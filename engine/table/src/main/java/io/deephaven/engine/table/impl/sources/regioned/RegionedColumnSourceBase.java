@@ -8,6 +8,8 @@ import io.deephaven.chunk.attributes.Values;
 import io.deephaven.engine.table.impl.AbstractColumnSource;
 import io.deephaven.chunk.WritableChunk;
 import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.WritableRowSet;
 import io.deephaven.util.annotations.TestUseOnly;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -47,6 +49,20 @@ abstract class RegionedColumnSourceBase<DATA_TYPE, ATTR extends Values, REGION_T
         return PARAMETERS;
     }
 
+    @Override
+    @Nullable
+    public WritableRowSet pruneByStatistics(
+            @NotNull final RowSet selection,
+            @NotNull final RegionStatisticsFilter filter) {
+        final WritableRowSet pruned = selection.copy();
+        pruneRegionsByStatistics(pruned, filter);
+        if (pruned.size() == selection.size()) {
+            pruned.close();
+            return null;
+        }
+        return pruned;
+    }
+
     /**
      * Use the more efficient fill chunk implementation, rather than the default which uses get().
      */
@@ -323,8 +323,9 @@ public class RegionedColumnSourceManager implements ColumnSourceManager, Delegat
             }
         });
 
-        // If we're static, add all data indexes present in the included locations
-        if (!isRefreshing && initialRowSet.isNonempty()) {
+        // If we're static, or incremental merged data indexes are enabled, add all data indexes present in the included
+        // locations
+        if ((!isRefreshing || IncrementalMergedDataIndex.ENABLED) && initialRowSet.isNonempty()) {
             // Use the first location as a proxy for the whole table; since data indexes must be complete over all
             // locations, this is a valid approach.
             final TableLocation firstLocation = includedTableLocations.iterator().next().location;
@@ -340,6 +341,20 @@ public class RegionedColumnSourceManager implements ColumnSourceManager, Delegat
                     // DataIndex.
                     continue;
                 }
+                if (isRefreshing) {
+                    try (final SafeCloseable ignored = LivenessScopeStack.open()) {
+                        final DataIndex mergedIndex =
+                                new IncrementalMergedDataIndex(keyColumnNames, keySources, this);
+                        if (!mergedIndex.isValid()) {
+                            // Not all locations have this index, and we can't add it later
+                            continue;
+                        }
+                        retainedDataIndexes.add(mergedIndex);
+                        livenessNode.manage(mergedIndex);
+                        DataIndexer.of(initialRowSet).addDataIndex(mergedIndex);
+                    }
+                    continue;
+                }
                 final DataIndex mergedIndex = new MergedDataIndex(keyColumnNames, keySources, this);
                 retainedDataIndexes.add(mergedIndex);
                 // Not refreshing, so no need to manage mergedIndex
@@ -9,6 +9,9 @@ import io.deephaven.chunk.attributes.Any;
 import io.deephaven.engine.page.Page;
 import io.deephaven.engine.page.PageStore;
 import io.deephaven.engine.rowset.RowSequence;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.WritableRowSet;
 import io.deephaven.util.annotations.FinalDefault;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -83,6 +86,49 @@ public interface RegionedPageStore<ATTR extends Any, INNER_ATTR extends ATTR, RE
         return getRegion(getRegionIndex(elementRowKey));
     }
 
+    /**
+     * Remove from {@code selection} any row keys in regions that can prove, using only summary statistics that are
+     * available without reading values, that they cannot match {@code filter}. Regions that are not
+     * {@link ColumnRegion column regions} are never pruned.
+     *
+     * @param selection The selected row keys to narrow; all keys must fall within this page store
+     * @param filter The filter to test against each region's statistics
+     */
+    @FinalDefault
+    default void pruneRegionsByStatistics(
+            @NotNull final WritableRowSet selection,
+            @NotNull final RegionStatisticsFilter filter) {
+        WritableRowSet excluded = null;
+        try (final RowSequence.Iterator rowSequenceIterator = selection.getRowSequenceIterator()) {
+            while (rowSequenceIterator.hasMore()) {
+                final long regionFirstKey = rowSequenceIterator.peekNextKey() & ~regionMask();
+                final RowSequence regionRows =
+                        rowSequenceIterator.getNextRowSequenceThrough(regionFirstKey | regionMask());
+                final REGION_TYPE region = lookupRegion(regionFirstKey);
+                if (!(region instanceof ColumnRegion)) {
+                    continue;
+                }
+                try (final RowSet regionRowSet = regionRows.asRowSet();
+                        final WritableRowSet regionSelection = regionRowSet.copy()) {
+                    ((ColumnRegion<?>) region).pruneByStatistics(regionSelection, filter);
+                    if (regionSelection.size() == regionRowSet.size()) {
+                        continue;
+                    }
+                    if (excluded == null) {
+                        excluded = RowSetFactory.empty();
+                    }
+                    try (final WritableRowSet regionExcluded = regionRowSet.minus(regionSelection)) {
+                        excluded.insert(regionExcluded);
+                    }
+                }
+            }
+        }
+        if (excluded != null) {
+            selection.remove(excluded);
+            excluded.close();
+        }
+    }
+
     @Override
     @NotNull
     @FinalDefault
@@ -163,5 +209,18 @@ public interface RegionedPageStore<ATTR extends Any, INNER_ATTR extends ATTR, RE
         public final REGION_TYPE getRegion(final int regionIndex) {
             return regions[regionIndex];
         }
+
+        /**
+         * Implements {@link ColumnRegion#pruneByStatistics(WritableRowSet, RegionStatisticsFilter)} for static page
+         * stores of column regions, by consulting each sub-region's statistics in turn.
+         *
+         * @param regionSelection The selected row keys to narrow; all keys must fall within this page store
+         * @param filter The filter to test against each sub-region's statistics
+         */
+        public void pruneByStatistics(
+                @NotNull final WritableRowSet regionSelection,
+                @NotNull final RegionStatisticsFilter filter) {
+            pruneRegionsByStatistics(regionSelection, filter);
+        }
     }
 }
@@ -62,6 +62,25 @@ public abstract class UpdateBy {
     private static final int PARALLEL_CACHE_CHUNK_SIZE =
             Configuration.getInstance().getIntegerWithDefault("UpdateBy.parallelCacheChunkSize", 1 << 16);
 
+    /**
+     * When a single bucket is processed, cumulative operators that support it are computed concurrently over segments
+     * of this many affected rows. (1M default)
+     */
+    static long PARALLEL_CUMULATIVE_ROWS_PER_SEGMENT =
+            Configuration.getInstance().getLongWithDefault("UpdateBy.parallelCumulativeRowsPerSegment", 1 << 20);
+    /** Disable segmented processing of cumulative operators. */
+    static boolean DISABLE_PARALLEL_CUMULATIVE =
+            Configuration.getInstance().getBooleanWithDefault("UpdateBy.disableParallelCumulative", false);
+    /**
+     * Also use segmented processing for floating point and BigDecimal cumulative sums and products. Segments regroup
+     * their operations, so the rounding of the results depends on the segment boundaries.
+     */
+    static boolean PARALLEL_CUMULATIVE_INEXACT =
+            Configuration.getInstance().getBooleanWithDefault("UpdateBy.parallelCumulativeInexact", false);
+    /** Use segmented processing of cumulative operators even when the job scheduler has a single thread. */
+    static boolean FORCE_PARALLEL_CUMULATIVE =
+            Configuration.getInstance().getBooleanWithDefault("UpdateBy.forceParallelCumulative", false);
+
     /** When extracting keys from the redirection, what size chunks to use? (2K default) */
     private static final int REDIRECTION_CHUNK_SIZE = 1 << 11;
 
@@ -824,6 +843,61 @@ public abstract class UpdateBy {
                 }
             }
 
+            final int segmentCount = cumulativeSegmentCount(winIdx, opIndices);
+            if (segmentCount > 1) {
+                final UpdateByWindowCumulative win = (UpdateByWindowCumulative) windows[winIdx];
+                final UpdateByWindow.UpdateByWindowBucketContext bucketContext = dirtyBuckets[0].windowContexts[winIdx];
+                final RowSet affectedRows = bucketContext.affectedRows;
+                final long segmentSize = PARALLEL_CUMULATIVE_ROWS_PER_SEGMENT;
+
+                // Compute every segment concurrently; all but the first start from an initialized state.
+                jobScheduler.iterateParallel(executionContext,
+                        chainAppendables(this, stringAndIndexToAppendable("-processCumulativeSegments", winIdx)),
+                        OperatorThreadContext::new,
+                        0, segmentCount,
+                        (context, segIdx, nec) -> {
+                            final long firstPos = segIdx * segmentSize;
+                            try (final RowSet segmentRows =
+                                    affectedRows.subSetByPositionRange(firstPos, firstPos + segmentSize)) {
+                                win.processWindowBucketOperatorSetSegment(bucketContext, opIndices, srcIndices,
+                                        context.winOpContexts, context.chunkArr, context.chunkContexts,
+                                        segmentRows, segIdx == 0);
+                            }
+                        },
+                        // Propagate the carry through the last row of each segment in order, then adjust the
+                        // remaining rows of every segment concurrently.
+                        () -> jobScheduler.iterateSerial(executionContext,
+                                chainAppendables(this, stringAndIndexToAppendable("-carryCumulativeSegments", winIdx)),
+                                OperatorThreadContext::new,
+                                1, segmentCount - 1,
+                                (context, segIdx, nec, resume) -> {
+                                    final long lastPos = Math.min((segIdx + 1) * segmentSize, affectedRows.size()) - 1;
+                                    try (final RowSet lastRow = RowSetFactory.fromKeys(affectedRows.get(lastPos))) {
+                                        win.applySegmentCarry(bucketContext, opIndices, context.winOpContexts,
+                                                lastRow, affectedRows.get(segIdx * segmentSize - 1));
+                                    }
+                                    resume.run();
+                                },
+                                () -> jobScheduler.iterateParallel(executionContext,
+                                        chainAppendables(this,
+                                                stringAndIndexToAppendable("-adjustCumulativeSegments", winIdx)),
+                                        OperatorThreadContext::new,
+                                        1, segmentCount - 1,
+                                        (context, segIdx, nec) -> {
+                                            final long firstPos = segIdx * segmentSize;
+                                            final long lastPos =
+                                                    Math.min(firstPos + segmentSize, affectedRows.size()) - 1;
+                                            try (final RowSet rows =
+                                                    affectedRows.subSetByPositionRange(firstPos, lastPos)) {
+                                                win.applySegmentCarry(bucketContext, opIndices, context.winOpContexts,
+                                                        rows, affectedRows.get(firstPos - 1));
+                                            }
+                                        }, onProcessWindowOperatorSetComplete, onProcessWindowOperatorSetError),
+                                onProcessWindowOperatorSetError),
+                        onProcessWindowOperatorSetError);
+                return;
+            }
+
             jobScheduler.iterateParallel(executionContext,
                     chainAppendables(this, stringAndIndexToAppendable("-processWindowBucketOperators", winIdx)),
                     OperatorThreadContext::new,
@@ -844,6 +918,32 @@ public abstract class UpdateBy {
         }
 
 
+        /**
+         * Determine how many segments should be used to compute the operators {@code opIndices} of cumulative window
+         * {@code winIdx} concurrently. A single bucket is otherwise processed by one thread from start to finish, so
+         * when it has enough affected rows and every dirty operator supports it, the affected rows are split into
+         * segments that are computed in parallel and then joined by propagating each segment's final value.
+         *
+         * @return the number of segments, or {@code 1} if the operators should not be segmented
+         */
+        private int cumulativeSegmentCount(final int winIdx, final int[] opIndices) {
+            if (DISABLE_PARALLEL_CUMULATIVE
+                    || dirtyBuckets.length != 1
+                    || !(windows[winIdx] instanceof UpdateByWindowCumulative)
+                    || (jobScheduler.threadCount() <= 1 && !FORCE_PARALLEL_CUMULATIVE)) {
+                return 1;
+            }
+            final UpdateByWindow.UpdateByWindowBucketContext bucketContext = dirtyBuckets[0].windowContexts[winIdx];
+            if (!bucketContext.isDirty
+                    || bucketContext.affectedRows.size() <= PARALLEL_CUMULATIVE_ROWS_PER_SEGMENT
+                    || !((UpdateByWindowCumulative) windows[winIdx]).supportsSegmentedProcessing(bucketContext,
+                            opIndices)) {
+                return 1;
+            }
+            return Math.toIntExact((bucketContext.affectedRows.size() + PARALLEL_CUMULATIVE_ROWS_PER_SEGMENT - 1)
+                    / PARALLEL_CUMULATIVE_ROWS_PER_SEGMENT);
+        }
+
         /** Release the input sources that will not be needed for the rest of this update */
         private void releaseInputSources(int[] sources) {
             try (final ResettableWritableObjectChunk<?, ?> backingChunk =
@@ -24,6 +24,9 @@ import org.jetbrains.annotations.Nullable;
 import javax.annotation.OverridingMethodsMustInvokeSuper;
 import java.util.Map;
 
+import static io.deephaven.engine.rowset.RowSequence.NULL_ROW_KEY;
+import static io.deephaven.util.QueryConstants.NULL_LONG;
+
 /**
  * An operator that performs a specific computation for {@link Table#updateBy}. When adding implementations of this
  * interface, the pattern of calls will be as follows.
@@ -142,6 +145,20 @@ public abstract class UpdateByOperator {
                 int affectedCount,
                 int influencerCount);
 
+        /**
+         * For cumulative operators that {@link UpdateByOperator#supportsSegmentedCumulative() support segmented}
+         * computation only, adjust the output values for {@code inputKeys} (which were computed from the state set by
+         * {@link UpdateByOperator#initializeCumulativeSegment(Context, long, RowSet)}) using the final output value of
+         * the preceding segment.
+         *
+         * @param inputKeys the keys of the rows to adjust, all from a single segment
+         * @param carryKey the key of the last row of the preceding segment, whose output value is final
+         */
+        public void applyCumulativeCarry(@NotNull final RowSequence inputKeys, final long carryKey) {
+            throw new UnsupportedOperationException(
+                    "applyCumulativeCarry() must be overridden by segmented cumulative operators");
+        }
+
         /**
          * Write the current value for this row to the output chunk
          */
@@ -213,6 +230,47 @@ public abstract class UpdateByOperator {
         context.reset();
     }
 
+    /**
+     * Whether this cumulative operator can be computed over contiguous segments of the affected rows concurrently.
+     * Each segment after the first is initialized with {@link #initializeCumulativeSegment(Context, long, RowSet)},
+     * and once the preceding segment is final its outputs are adjusted with
+     * {@link Context#applyCumulativeCarry(RowSequence, long)}. This is possible when the preceding rows affect the
+     * outputs only through an associative combination with the preceding output (e.g. sums, products, minimums and
+     * fills), or not at all.
+     *
+     * @return true if this operator supports segmented computation
+     */
+    public boolean supportsSegmentedCumulative() {
+        return false;
+    }
+
+    /**
+     * Whether cumulative operators whose results are rounded (e.g. floating point and BigDecimal sums and products) may
+     * {@link #supportsSegmentedCumulative() support segmented} computation. Regrouping their operations into segments
+     * changes the rounding, so this is only permitted when {@code UpdateBy.parallelCumulativeInexact} is set.
+     *
+     * @return true if inexact cumulative operators may be computed over segments
+     */
+    protected static boolean permitInexactSegmentedCumulative() {
+        return UpdateBy.PARALLEL_CUMULATIVE_INEXACT;
+    }
+
+    /**
+     * Initialize the bucket context for a segment of the affected rows that will be computed concurrently with the
+     * preceding segments. The outputs of the preceding rows are not yet available, so the default implementation
+     * starts from a reset state, as if the segment began the bucket.
+     *
+     * @param context the context to initialize
+     * @param segmentKeyBefore the key of the row immediately preceding the segment
+     * @param bucketRowSet the row set of the bucket
+     */
+    public void initializeCumulativeSegment(
+            @NotNull final Context context,
+            final long segmentKeyBefore,
+            @NotNull final RowSet bucketRowSet) {
+        initializeCumulative(context, NULL_ROW_KEY, NULL_LONG, bucketRowSet);
+    }
+
     /**
      * Initialize the bucket context for a windowed operator and pass in the bucket key values. Most operators will not
      * need the key values, but those that do can override this method.
@@ -37,6 +37,7 @@ import io.deephaven.engine.table.impl.updateby.rollingformula.*;
 import io.deephaven.engine.table.impl.updateby.rollingformulamulticolumn.RollingFormulaMultiColumnOperator;
 import io.deephaven.engine.table.impl.updateby.rollinggroup.RollingGroupOperator;
 import io.deephaven.engine.table.impl.updateby.rollingminmax.*;
+import io.deephaven.engine.table.impl.updateby.rollingpercentile.*;
 import io.deephaven.engine.table.impl.updateby.rollingproduct.*;
 import io.deephaven.engine.table.impl.updateby.rollingstd.*;
 import io.deephaven.engine.table.impl.updateby.rollingsum.*;
@@ -595,6 +596,20 @@ public class UpdateByOperatorFactory {
             return null;
         }
 
+        @Override
+        public Void visit(@NotNull final RollingPercentileSpec spec) {
+            final boolean isTimeBased = spec.revWindowScale().isTimeBased();
+            final String timestampCol = spec.revWindowScale().timestampCol();
+
+            Arrays.stream(pairs)
+                    .filter(p -> !isTimeBased || !p.rightColumn().equals(timestampCol))
+                    .map(fc -> makeRollingPercentileOperator(fc,
+                            tableDef,
+                            spec))
+                    .forEach(ops::add);
+            return null;
+        }
+
         private UpdateByOperator makeEmaOperator(@NotNull final MatchPair pair,
                 @NotNull final TableDefinition tableDef,
                 @NotNull final EmaSpec spec) {
@@ -1464,6 +1479,57 @@ public class UpdateByOperatorFactory {
             throw new IllegalArgumentException("Can not perform RollingStd on type " + csType);
         }
 
+        private UpdateByOperator makeRollingPercentileOperator(@NotNull final MatchPair pair,
+                @NotNull final TableDefinition tableDef,
+                @NotNull final RollingPercentileSpec rs) {
+            final ColumnDefinition<?> columnDef = tableDef.getColumn(pair.rightColumn);
+            final Class<?> csType = columnDef.getDataType();
+
+            final String[] affectingColumns;
+            if (rs.revWindowScale().timestampCol() == null) {
+                affectingColumns = new String[] {pair.rightColumn};
+            } else {
+                affectingColumns = new String[] {rs.revWindowScale().timestampCol(), pair.rightColumn};
+            }
+
+            final long prevWindowScaleUnits = rs.revWindowScale().getTimeScaleUnits();
+            final long fwdWindowScaleUnits = rs.fwdWindowScale().getTimeScaleUnits();
+            final double percentile = rs.percentile();
+            final boolean averageEvenlyDivided = rs.averageEvenlyDivided();
+
+            if (csType == byte.class || csType == Byte.class) {
+                return new ByteRollingPercentileOperator(pair, affectingColumns,
+                        rs.revWindowScale().timestampCol(),
+                        prevWindowScaleUnits, fwdWindowScaleUnits, percentile, averageEvenlyDivided);
+            } else if (csType == char.class || csType == Character.class) {
+                return new CharRollingPercentileOperator(pair, affectingColumns,
+                        rs.revWindowScale().timestampCol(),
+                        prevWindowScaleUnits, fwdWindowScaleUnits, percentile, averageEvenlyDivided);
+            } else if (csType == short.class || csType == Short.class) {
+                return new ShortRollingPercentileOperator(pair, affectingColumns,
+                        rs.revWindowScale().timestampCol(),
+                        prevWindowScaleUnits, fwdWindowScaleUnits, percentile, averageEvenlyDivided);
+            } else if (csType == int.class || csType == Integer.class) {
+                return new IntRollingPercentileOperator(pair, affectingColumns,
+                        rs.revWindowScale().timestampCol(),
+                        prevWindowScaleUnits, fwdWindowScaleUnits, percentile, averageEvenlyDivided);
+            } else if (csType == long.class || csType == Long.class) {
+                return new LongRollingPercentileOperator(pair, affectingColumns,
+                        rs.revWindowScale().timestampCol(),
+                        prevWindowScaleUnits, fwdWindowScaleUnits, percentile, averageEvenlyDivided);
+            } else if (csType == float.class || csType == Float.class) {
+                return new FloatRollingPercentileOperator(pair, affectingColumns,
+                        rs.revWindowScale().timestampCol(),
+                        prevWindowScaleUnits, fwdWindowScaleUnits, percentile, averageEvenlyDivided);
+            } else if (csType == double.class || csType == Double.class) {
+                return new DoubleRollingPercentileOperator(pair, affectingColumns,
+                        rs.revWindowScale().timestampCol(),
+                        prevWindowScaleUnits, fwdWindowScaleUnits, percentile, averageEvenlyDivided);
+            }
+
+            throw new IllegalArgumentException("Can not perform RollingPercentile on type " + csType);
+        }
+
         private UpdateByOperator makeRollingWAvgOperator(@NotNull final MatchPair pair,
                 @NotNull final TableDefinition tableDef,
                 @NotNull final RollingWAvgSpec rs) {
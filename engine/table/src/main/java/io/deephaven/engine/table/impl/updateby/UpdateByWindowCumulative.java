@@ -204,44 +204,140 @@ class UpdateByWindowCumulative extends UpdateByWindow {
                         context.bucketKeyValues);
             }
 
-            while (affectedIt.hasMore()) {
-                final RowSequence affectedRs = affectedIt.getNextRowSequenceWithLength(context.workingChunkSize);
+            accumulateRows(context, opIndices, srcIndices, winOpContexts, chunkArr, chunkContexts, affectedIt,
+                    tsGetContext);
+            finishOperators(context, opIndices, winOpContexts);
+        }
+    }
 
-                // Create the timestamp chunk if needed.
-                LongChunk<? extends Values> tsChunk = context.timestampColumnSource == null ? null
-                        : context.timestampColumnSource.getChunk(tsGetContext, affectedRs).asLongChunk();
+    /**
+     * Whether the dirty operators in {@code opIndices} can be computed concurrently over contiguous segments of the
+     * affected rows of this bucket, using {@link #processWindowBucketOperatorSetSegment} and
+     * {@link #applySegmentCarry}.
+     */
+    boolean supportsSegmentedProcessing(final UpdateByWindowBucketContext context, final int[] opIndices) {
+        if (timestampColumnName != null) {
+            return false;
+        }
+        for (final int opIdx : opIndices) {
+            if (context.dirtyOperators.get(opIdx) && !operators[opIdx].supportsSegmentedCumulative()) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-                // Prep the chunk array needed by the accumulate call.
-                for (int ii = 0; ii < srcIndices.length; ii++) {
-                    int srcIdx = srcIndices[ii];
-                    chunkArr[ii] = context.inputSources[srcIdx].getChunk(chunkContexts[ii], affectedRs);
-                }
+    /**
+     * Process a contiguous segment of the affected rows for the dirty operators in {@code opIndices}. The first segment
+     * continues from the row preceding the affected rows, exactly as {@link #processWindowBucketOperatorSet} would.
+     * Later segments are initialized with {@link UpdateByOperator#initializeCumulativeSegment} so they may be computed
+     * concurrently, and must be passed to {@link #applySegmentCarry} once the preceding segment is final.
+     */
+    void processWindowBucketOperatorSetSegment(final UpdateByWindowBucketContext context,
+            final int[] opIndices,
+            final int[] srcIndices,
+            final UpdateByOperator.Context[] winOpContexts,
+            final Chunk<? extends Values>[] chunkArr,
+            final ChunkSource.GetContext[] chunkContexts,
+            final RowSet segmentRows,
+            final boolean firstSegment) {
+        Assert.neqNull(context.inputSources, "assignInputSources() must be called before processRow()");
+
+        final long pos = context.sourceRowSet.find(segmentRows.firstRowKey());
+        final long keyBefore = pos == 0 ? NULL_ROW_KEY : context.sourceRowSet.get(pos - 1);
+
+        for (int ii = 0; ii < opIndices.length; ii++) {
+            final int opIdx = opIndices[ii];
+            if (!context.dirtyOperators.get(opIdx)) {
+                // Skip if not dirty.
+                continue;
+            }
+            UpdateByOperator cumOp = operators[opIdx];
+            if (firstSegment) {
+                cumOp.initializeCumulativeWithKeyValues(winOpContexts[ii], keyBefore, NULL_LONG,
+                        context.sourceRowSet, context.bucketKeyValues);
+            } else {
+                cumOp.initializeCumulativeSegment(winOpContexts[ii], keyBefore, context.sourceRowSet);
+            }
+        }
 
-                // Make the specialized call for windowed operators.
+        try (final RowSequence.Iterator segmentIt = segmentRows.getRowSequenceIterator()) {
+            accumulateRows(context, opIndices, srcIndices, winOpContexts, chunkArr, chunkContexts, segmentIt, null);
+        }
+        finishOperators(context, opIndices, winOpContexts);
+    }
+
+    /**
+     * Adjust the outputs of the dirty operators in {@code opIndices} for {@code rows}, which must all belong to a
+     * single segment after the first, using the final outputs at {@code carryKey}, the last row of the preceding
+     * segment.
+     */
+    void applySegmentCarry(final UpdateByWindowBucketContext context,
+            final int[] opIndices,
+            final UpdateByOperator.Context[] winOpContexts,
+            final RowSet rows,
+            final long carryKey) {
+        try (final RowSequence.Iterator rowsIt = rows.getRowSequenceIterator()) {
+            while (rowsIt.hasMore()) {
+                final RowSequence chunkRs = rowsIt.getNextRowSequenceWithLength(context.workingChunkSize);
                 for (int ii = 0; ii < opIndices.length; ii++) {
-                    final int opIdx = opIndices[ii];
-                    if (!context.dirtyOperators.get(opIdx)) {
-                        // Skip if not dirty.
-                        continue;
+                    if (context.dirtyOperators.get(opIndices[ii])) {
+                        winOpContexts[ii].applyCumulativeCarry(chunkRs, carryKey);
                     }
-                    winOpContexts[ii].accumulateCumulative(
-                            affectedRs,
-                            chunkArr,
-                            tsChunk,
-                            affectedRs.intSize());
                 }
             }
+        }
+    }
+
+    private void accumulateRows(final UpdateByWindowBucketContext context,
+            final int[] opIndices,
+            final int[] srcIndices,
+            final UpdateByOperator.Context[] winOpContexts,
+            final Chunk<? extends Values>[] chunkArr,
+            final ChunkSource.GetContext[] chunkContexts,
+            final RowSequence.Iterator affectedIt,
+            @Nullable final ChunkSource.GetContext tsGetContext) {
+        while (affectedIt.hasMore()) {
+            final RowSequence affectedRs = affectedIt.getNextRowSequenceWithLength(context.workingChunkSize);
+
+            // Create the timestamp chunk if needed.
+            LongChunk<? extends Values> tsChunk = tsGetContext == null ? null
+                    : context.timestampColumnSource.getChunk(tsGetContext, affectedRs).asLongChunk();
+
+            // Prep the chunk array needed by the accumulate call.
+            for (int ii = 0; ii < srcIndices.length; ii++) {
+                int srcIdx = srcIndices[ii];
+                chunkArr[ii] = context.inputSources[srcIdx].getChunk(chunkContexts[ii], affectedRs);
+            }
 
-            // Finalize the operator.
+            // Make the specialized call for windowed operators.
             for (int ii = 0; ii < opIndices.length; ii++) {
                 final int opIdx = opIndices[ii];
                 if (!context.dirtyOperators.get(opIdx)) {
                     // Skip if not dirty.
                     continue;
                 }
-                UpdateByOperator cumOp = operators[opIdx];
-                cumOp.finishUpdate(winOpContexts[ii]);
+                winOpContexts[ii].accumulateCumulative(
+                        affectedRs,
+                        chunkArr,
+                        tsChunk,
+                        affectedRs.intSize());
+            }
+        }
+    }
+
+    private void finishOperators(final UpdateByWindowBucketContext context,
+            final int[] opIndices,
+            final UpdateByOperator.Context[] winOpContexts) {
+        // Finalize the operator.
+        for (int ii = 0; ii < opIndices.length; ii++) {
+            final int opIdx = opIndices[ii];
+            if (!context.dirtyOperators.get(opIdx)) {
+                // Skip if not dirty.
+                continue;
             }
+            UpdateByOperator cumOp = operators[opIdx];
+            cumOp.finishUpdate(winOpContexts[ii]);
         }
     }
 
@@ -9,6 +9,7 @@ import io.deephaven.base.verify.Assert;
 import io.deephaven.chunk.Chunk;
 import io.deephaven.chunk.ObjectChunk;
 import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSequence;
 import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.Table;
@@ -22,6 +23,7 @@ import org.jetbrains.annotations.Nullable;
 import java.math.BigDecimal;
 
 import static io.deephaven.engine.rowset.RowSequence.NULL_ROW_KEY;
+import static io.deephaven.util.QueryConstants.NULL_LONG;
 
 public class BigDecimalDeltaOperator extends BaseObjectUpdateByOperator<BigDecimal> {
     private final DeltaControl control;
@@ -62,6 +64,11 @@ public class BigDecimalDeltaOperator extends BaseObjectUpdateByOperator<BigDecim
 
             lastVal = currentVal;
         }
+
+        @Override
+        public void applyCumulativeCarry(@NotNull final RowSequence inputKeys, final long carryKey) {
+            // Segments are initialized from the preceding input value, so there is nothing to adjust.
+        }
     }
 
     public BigDecimalDeltaOperator(@NotNull final MatchPair pair, @NotNull final DeltaControl control) {
@@ -97,6 +104,20 @@ public class BigDecimalDeltaOperator extends BaseObjectUpdateByOperator<BigDecim
         }
     }
 
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return true;
+    }
+
+    @Override
+    public void initializeCumulativeSegment(
+            @NotNull final UpdateByOperator.Context context,
+            final long segmentKeyBefore,
+            @NotNull final RowSet bucketRowSet) {
+        // Only the input column is read, so the preceding segment does not need to be complete.
+        initializeCumulative(context, segmentKeyBefore, NULL_LONG, bucketRowSet);
+    }
+
     @NotNull
     @Override
     public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
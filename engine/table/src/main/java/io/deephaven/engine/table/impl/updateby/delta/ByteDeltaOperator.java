@@ -13,6 +13,7 @@ import io.deephaven.base.verify.Assert;
 import io.deephaven.chunk.Chunk;
 import io.deephaven.chunk.ByteChunk;
 import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSequence;
 import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.Table;
@@ -25,6 +26,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import static io.deephaven.engine.rowset.RowSequence.NULL_ROW_KEY;
+import static io.deephaven.util.QueryConstants.NULL_LONG;
 import static io.deephaven.util.QueryConstants.NULL_BYTE;
 
 public class ByteDeltaOperator extends BaseByteUpdateByOperator {
@@ -68,6 +70,11 @@ public class ByteDeltaOperator extends BaseByteUpdateByOperator {
 
             lastVal = currentVal;
         }
+
+        @Override
+        public void applyCumulativeCarry(@NotNull final RowSequence inputKeys, final long carryKey) {
+            // Segments are initialized from the preceding input value, so there is nothing to adjust.
+        }
     }
 
     public ByteDeltaOperator(
@@ -110,6 +117,20 @@ public class ByteDeltaOperator extends BaseByteUpdateByOperator {
         }
     }
 
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return true;
+    }
+
+    @Override
+    public void initializeCumulativeSegment(
+            @NotNull final UpdateByOperator.Context context,
+            final long segmentKeyBefore,
+            @NotNull final RowSet bucketRowSet) {
+        // Only the input column is read, so the preceding segment does not need to be complete.
+        initializeCumulative(context, segmentKeyBefore, NULL_LONG, bucketRowSet);
+    }
+
     // region extra-methods
     // endregion extra-methods
 
@@ -9,6 +9,7 @@ import io.deephaven.base.verify.Assert;
 import io.deephaven.chunk.Chunk;
 import io.deephaven.chunk.CharChunk;
 import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSequence;
 import io.deephaven.engine.rowset.RowSet;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.Table;
@@ -21,6 +22,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import static io.deephaven.engine.rowset.RowSequence.NULL_ROW_KEY;
+import static io.deephaven.util.QueryConstants.NULL_LONG;
 import static io.deephaven.util.QueryConstants.NULL_CHAR;
 
 public class CharDeltaOperator extends BaseCharUpdateByOperator {
@@ -64,6 +66,11 @@ public class CharDeltaOperator extends BaseCharUpdateByOperator {
 
             lastVal = currentVal;
         }
+
+        @Override
+        public void applyCumulativeCarry(@NotNull final RowSequence inputKeys, final long carryKey) {
+            // Segments are initialized from the preceding input value, so there is nothing to adjust.
+        }
     }
 
     public CharDeltaOperator(
@@ -106,6 +113,20 @@ public class CharDeltaOperator extends BaseCharUpdateByOperator {
         }
     }
 
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return true;
+    }
+
+    @Override
+    public void initializeCumulativeSegment(
+            @NotNull final UpdateByOperator.Context context,
+            final long segmentKeyBefore,
+            @NotNull final RowSet bucketRowSet) {
+        // Only the input column is read, so the preceding segment does not need to be complete.
+        initializeCumulative(context, segmentKeyBefore, NULL_LONG, bucketRowSet);
+    }
+
     // region extra-methods
     // endregion extra-methods
 
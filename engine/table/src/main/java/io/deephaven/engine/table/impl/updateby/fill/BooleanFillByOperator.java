@@ -50,6 +50,11 @@ public class BooleanFillByOperator extends BaseByteUpdateByOperator {
                 curVal = val;
             }
         }
+
+        @Override
+        protected byte combineWithCarry(final byte carry, final byte val) {
+            return !BooleanUtils.isNull(val) ? val : carry;
+        }
     }
 
     public BooleanFillByOperator(
@@ -71,6 +76,11 @@ public class BooleanFillByOperator extends BaseByteUpdateByOperator {
             );
     }
 
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return true;
+    }
+
     @NotNull
     @Override
     public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
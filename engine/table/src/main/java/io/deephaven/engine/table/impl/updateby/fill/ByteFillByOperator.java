@@ -43,6 +43,11 @@ public class ByteFillByOperator extends BaseByteUpdateByOperator {
                 curVal = val;
             }
         }
+
+        @Override
+        protected byte combineWithCarry(final byte carry, final byte val) {
+            return val != NULL_BYTE ? val : carry;
+        }
     }
 
     public ByteFillByOperator(
@@ -64,6 +69,11 @@ public class ByteFillByOperator extends BaseByteUpdateByOperator {
             );
     }
 
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return true;
+    }
+
     @NotNull
     @Override
     public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
@@ -40,6 +40,11 @@ public class CharFillByOperator extends BaseCharUpdateByOperator {
                 curVal = val;
             }
         }
+
+        @Override
+        protected char combineWithCarry(final char carry, final char val) {
+            return val != NULL_CHAR ? val : carry;
+        }
     }
 
     public CharFillByOperator(
@@ -61,6 +66,11 @@ public class CharFillByOperator extends BaseCharUpdateByOperator {
             );
     }
 
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return true;
+    }
+
     @NotNull
     @Override
     public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
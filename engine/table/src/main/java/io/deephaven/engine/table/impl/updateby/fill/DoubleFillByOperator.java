@@ -43,6 +43,11 @@ public class DoubleFillByOperator extends BaseDoubleUpdateByOperator {
                 curVal = val;
             }
         }
+
+        @Override
+        protected double combineWithCarry(final double carry, final double val) {
+            return val != NULL_DOUBLE ? val : carry;
+        }
     }
 
     public DoubleFillByOperator(
@@ -64,6 +69,11 @@ public class DoubleFillByOperator extends BaseDoubleUpdateByOperator {
             );
     }
 
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return true;
+    }
+
     @NotNull
     @Override
     public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
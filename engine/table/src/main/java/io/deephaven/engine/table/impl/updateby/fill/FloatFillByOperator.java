@@ -43,6 +43,11 @@ public class FloatFillByOperator extends BaseFloatUpdateByOperator {
                 curVal = val;
             }
         }
+
+        @Override
+        protected float combineWithCarry(final float carry, final float val) {
+            return val != NULL_FLOAT ? val : carry;
+        }
     }
 
     public FloatFillByOperator(
@@ -64,6 +69,11 @@ public class FloatFillByOperator extends BaseFloatUpdateByOperator {
             );
     }
 
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return true;
+    }
+
     @NotNull
     @Override
     public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
@@ -43,6 +43,11 @@ public class IntFillByOperator extends BaseIntUpdateByOperator {
                 curVal = val;
             }
         }
+
+        @Override
+        protected int combineWithCarry(final int carry, final int val) {
+            return val != NULL_INT ? val : carry;
+        }
     }
 
     public IntFillByOperator(
@@ -64,6 +69,11 @@ public class IntFillByOperator extends BaseIntUpdateByOperator {
             );
     }
 
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return true;
+    }
+
     @NotNull
     @Override
     public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
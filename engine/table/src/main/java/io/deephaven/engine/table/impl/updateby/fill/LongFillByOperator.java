@@ -51,6 +51,11 @@ public class LongFillByOperator extends BaseLongUpdateByOperator {
                 curVal = val;
             }
         }
+
+        @Override
+        protected long combineWithCarry(final long carry, final long val) {
+            return val != NULL_LONG ? val : carry;
+        }
     }
 
     public LongFillByOperator(
@@ -75,6 +80,11 @@ public class LongFillByOperator extends BaseLongUpdateByOperator {
             );
     }
 
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return true;
+    }
+
     @NotNull
     @Override
     public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
@@ -44,6 +44,11 @@ public class ObjectFillByOperator<T> extends BaseObjectUpdateByOperator<T> {
                 curVal = val;
             }
         }
+
+        @Override
+        protected T combineWithCarry(final T carry, final T val) {
+            return val != null ? val : carry;
+        }
     }
 
     public ObjectFillByOperator(
@@ -67,6 +72,11 @@ public class ObjectFillByOperator<T> extends BaseObjectUpdateByOperator<T> {
             );
     }
 
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return true;
+    }
+
     @NotNull
     @Override
     public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
@@ -43,6 +43,11 @@ public class ShortFillByOperator extends BaseShortUpdateByOperator {
                 curVal = val;
             }
         }
+
+        @Override
+        protected short combineWithCarry(final short carry, final short val) {
+            return val != NULL_SHORT ? val : carry;
+        }
     }
 
     public ShortFillByOperator(
@@ -64,6 +69,11 @@ public class ShortFillByOperator extends BaseShortUpdateByOperator {
             );
     }
 
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return true;
+    }
+
     @NotNull
     @Override
     public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
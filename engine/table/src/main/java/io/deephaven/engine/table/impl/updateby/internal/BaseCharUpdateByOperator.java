@@ -36,6 +36,7 @@ public abstract class BaseCharUpdateByOperator extends UpdateByOperator {
     protected abstract class Context extends UpdateByOperator.Context {
         protected final ChunkSink.FillFromContext outputFillContext;
         protected final WritableCharChunk<Values> outputValues;
+        private ChunkSource.FillContext carryFillContext;
 
         public char curVal = NULL_CHAR;
 
@@ -124,6 +125,32 @@ public abstract class BaseCharUpdateByOperator extends UpdateByOperator {
             outputSource.fillFromChunk(outputFillContext, outputValues, inputKeys);
         }
 
+        @Override
+        public void applyCumulativeCarry(@NotNull final RowSequence inputKeys, final long carryKey) {
+            if (carryFillContext == null) {
+                carryFillContext = outputSource.makeFillContext(outputValues.capacity());
+            }
+            final char carry = outputSource.getChar(carryKey);
+            outputSource.fillChunk(carryFillContext, outputValues, inputKeys);
+            for (int ii = 0; ii < outputValues.size(); ii++) {
+                outputValues.set(ii, combineWithCarry(carry, outputValues.get(ii)));
+            }
+            writeToOutputColumn(inputKeys);
+        }
+
+        /**
+         * Combine the final value of a preceding segment with a value computed from a reset state. Must be overridden
+         * by operators that {@link UpdateByOperator#supportsSegmentedCumulative() support segmented} computation.
+         *
+         * @param carry the final value of the preceding segment
+         * @param val the value computed from a reset state
+         * @return the value that would have been computed by starting from {@code carry}
+         */
+        protected char combineWithCarry(final char carry, final char val) {
+            throw new UnsupportedOperationException(
+                    "combineWithCarry() must be overridden by segmented cumulative operators");
+        }
+
         @Override
         public void reset() {
             curVal = NULL_CHAR;
@@ -134,6 +161,9 @@ public abstract class BaseCharUpdateByOperator extends UpdateByOperator {
         public void close() {
             outputValues.close();
             outputFillContext.close();
+            if (carryFillContext != null) {
+                carryFillContext.close();
+            }
         }
     }
 
@@ -40,6 +40,7 @@ public abstract class BaseFloatUpdateByOperator extends UpdateByOperator {
     protected abstract class Context extends UpdateByOperator.Context {
         protected final ChunkSink.FillFromContext outputFillContext;
         protected final WritableFloatChunk<Values> outputValues;
+        private ChunkSource.FillContext carryFillContext;
 
         public float curVal = NULL_FLOAT;
 
@@ -128,6 +129,32 @@ public abstract class BaseFloatUpdateByOperator extends UpdateByOperator {
             outputSource.fillFromChunk(outputFillContext, outputValues, inputKeys);
         }
 
+        @Override
+        public void applyCumulativeCarry(@NotNull final RowSequence inputKeys, final long carryKey) {
+            if (carryFillContext == null) {
+                carryFillContext = outputSource.makeFillContext(outputValues.capacity());
+            }
+            final float carry = outputSource.getFloat(carryKey);
+            outputSource.fillChunk(carryFillContext, outputValues, inputKeys);
+            for (int ii = 0; ii < outputValues.size(); ii++) {
+                outputValues.set(ii, combineWithCarry(carry, outputValues.get(ii)));
+            }
+            writeToOutputColumn(inputKeys);
+        }
+
+        /**
+         * Combine the final value of a preceding segment with a value computed from a reset state. Must be overridden
+         * by operators that {@link UpdateByOperator#supportsSegmentedCumulative() support segmented} computation.
+         *
+         * @param carry the final value of the preceding segment
+         * @param val the value computed from a reset state
+         * @return the value that would have been computed by starting from {@code carry}
+         */
+        protected float combineWithCarry(final float carry, final float val) {
+            throw new UnsupportedOperationException(
+                    "combineWithCarry() must be overridden by segmented cumulative operators");
+        }
+
         @Override
         public void reset() {
             curVal = NULL_FLOAT;
@@ -138,6 +165,9 @@ public abstract class BaseFloatUpdateByOperator extends UpdateByOperator {
         public void close() {
             outputValues.close();
             outputFillContext.close();
+            if (carryFillContext != null) {
+                carryFillContext.close();
+            }
         }
     }
 
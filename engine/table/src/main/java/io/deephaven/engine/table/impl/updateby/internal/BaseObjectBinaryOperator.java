@@ -36,6 +36,14 @@ public abstract class BaseObjectBinaryOperator<T> extends BaseObjectUpdateByOper
             }
         }
 
+        @Override
+        protected T combineWithCarry(final T carry, final T val) {
+            if (carry == null) {
+                return val;
+            }
+            return val == null ? carry : doOperation(carry, val);
+        }
+
         @Override
         public void reset() {
             curVal = null;
@@ -52,6 +52,16 @@ public class ByteCumMinMaxOperator extends BaseByteUpdateByOperator {
                 }
             }
         }
+
+        @Override
+        protected byte combineWithCarry(final byte carry, final byte val) {
+            if (carry == nullValue) {
+                return val;
+            } else if (val != nullValue && ((isMax && val > carry) || (!isMax && val < carry))) {
+                return val;
+            }
+            return carry;
+        }
     }
 
     public ByteCumMinMaxOperator(
@@ -79,6 +89,13 @@ public class ByteCumMinMaxOperator extends BaseByteUpdateByOperator {
         );
     }
 
+    // region segmented
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return true;
+    }
+    // endregion segmented
+
     @NotNull
     @Override
     public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
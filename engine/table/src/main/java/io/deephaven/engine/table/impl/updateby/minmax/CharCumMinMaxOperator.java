@@ -47,6 +47,16 @@ public class CharCumMinMaxOperator extends BaseCharUpdateByOperator {
                 }
             }
         }
+
+        @Override
+        protected char combineWithCarry(final char carry, final char val) {
+            if (carry == NULL_CHAR) {
+                return val;
+            } else if (val != NULL_CHAR && ((isMax && val > carry) || (!isMax && val < carry))) {
+                return val;
+            }
+            return carry;
+        }
     }
 
     public CharCumMinMaxOperator(
@@ -71,6 +81,13 @@ public class CharCumMinMaxOperator extends BaseCharUpdateByOperator {
         );
     }
 
+    // region segmented
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return true;
+    }
+    // endregion segmented
+
     @NotNull
     @Override
     public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
@@ -23,6 +23,11 @@ public final class ComparableCumMinMaxOperator<T extends Comparable<T>> extends
         return new ComparableCumMinMaxOperator<>(pair, isMax, colType);
     }
 
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return true;
+    }
+
     @Override
     protected T doOperation(T bucketCurVal, T chunkCurVal) {
         if ((isMax && chunkCurVal.compareTo(bucketCurVal) > 0) ||
@@ -51,6 +51,16 @@ public class DoubleCumMinMaxOperator extends BaseDoubleUpdateByOperator {
                 }
             }
         }
+
+        @Override
+        protected double combineWithCarry(final double carry, final double val) {
+            if (carry == NULL_DOUBLE) {
+                return val;
+            } else if (val != NULL_DOUBLE && ((isMax && val > carry) || (!isMax && val < carry))) {
+                return val;
+            }
+            return carry;
+        }
     }
 
     public DoubleCumMinMaxOperator(
@@ -75,6 +85,9 @@ public class DoubleCumMinMaxOperator extends BaseDoubleUpdateByOperator {
         );
     }
 
+    // region segmented
+    // endregion segmented
+
     @NotNull
     @Override
     public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
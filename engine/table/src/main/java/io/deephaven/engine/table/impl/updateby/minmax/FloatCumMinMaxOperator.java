@@ -51,6 +51,16 @@ public class FloatCumMinMaxOperator extends BaseFloatUpdateByOperator {
                 }
             }
         }
+
+        @Override
+        protected float combineWithCarry(final float carry, final float val) {
+            if (carry == NULL_FLOAT) {
+                return val;
+            } else if (val != NULL_FLOAT && ((isMax && val > carry) || (!isMax && val < carry))) {
+                return val;
+            }
+            return carry;
+        }
     }
 
     public FloatCumMinMaxOperator(
@@ -75,6 +85,9 @@ public class FloatCumMinMaxOperator extends BaseFloatUpdateByOperator {
         );
     }
 
+    // region segmented
+    // endregion segmented
+
     @NotNull
     @Override
     public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
@@ -51,6 +51,16 @@ public class IntCumMinMaxOperator extends BaseIntUpdateByOperator {
                 }
             }
         }
+
+        @Override
+        protected int combineWithCarry(final int carry, final int val) {
+            if (carry == NULL_INT) {
+                return val;
+            } else if (val != NULL_INT && ((isMax && val > carry) || (!isMax && val < carry))) {
+                return val;
+            }
+            return carry;
+        }
     }
 
     public IntCumMinMaxOperator(
@@ -75,6 +85,13 @@ public class IntCumMinMaxOperator extends BaseIntUpdateByOperator {
         );
     }
 
+    // region segmented
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return true;
+    }
+    // endregion segmented
+
     @NotNull
     @Override
     public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
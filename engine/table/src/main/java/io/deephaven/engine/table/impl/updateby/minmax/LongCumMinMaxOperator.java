@@ -59,6 +59,16 @@ public class LongCumMinMaxOperator extends BaseLongUpdateByOperator {
                 }
             }
         }
+
+        @Override
+        protected long combineWithCarry(final long carry, final long val) {
+            if (carry == NULL_LONG) {
+                return val;
+            } else if (val != NULL_LONG && ((isMax && val > carry) || (!isMax && val < carry))) {
+                return val;
+            }
+            return carry;
+        }
     }
 
     public LongCumMinMaxOperator(
@@ -86,6 +96,13 @@ public class LongCumMinMaxOperator extends BaseLongUpdateByOperator {
         );
     }
 
+    // region segmented
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return true;
+    }
+    // endregion segmented
+
     @NotNull
     @Override
     public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
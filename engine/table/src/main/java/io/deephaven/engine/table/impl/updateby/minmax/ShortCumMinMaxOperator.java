@@ -51,6 +51,16 @@ public class ShortCumMinMaxOperator extends BaseShortUpdateByOperator {
                 }
             }
         }
+
+        @Override
+        protected short combineWithCarry(final short carry, final short val) {
+            if (carry == NULL_SHORT) {
+                return val;
+            } else if (val != NULL_SHORT && ((isMax && val > carry) || (!isMax && val < carry))) {
+                return val;
+            }
+            return carry;
+        }
     }
 
     public ShortCumMinMaxOperator(
@@ -75,6 +85,13 @@ public class ShortCumMinMaxOperator extends BaseShortUpdateByOperator {
         );
     }
 
+    // region segmented
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return true;
+    }
+    // endregion segmented
+
     @NotNull
     @Override
     public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
@@ -46,6 +46,14 @@ public final class BigDecimalCumProdOperator extends BaseObjectUpdateByOperator<
         public void reset() {
             curVal = null;
         }
+
+        @Override
+        protected BigDecimal combineWithCarry(final BigDecimal carry, final BigDecimal val) {
+            if (carry == null) {
+                return val;
+            }
+            return val == null ? carry : carry.multiply(val, mathContext);
+        }
     }
 
     public BigDecimalCumProdOperator(
@@ -60,6 +68,11 @@ public final class BigDecimalCumProdOperator extends BaseObjectUpdateByOperator<
         return new BigDecimalCumProdOperator(pair, mathContext);
     }
 
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return permitInexactSegmentedCumulative();
+    }
+
     @NotNull
     @Override
     public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
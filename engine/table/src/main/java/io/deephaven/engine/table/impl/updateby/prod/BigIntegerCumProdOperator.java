@@ -42,6 +42,14 @@ public final class BigIntegerCumProdOperator extends BaseObjectUpdateByOperator<
         public void reset() {
             curVal = null;
         }
+
+        @Override
+        protected BigInteger combineWithCarry(final BigInteger carry, final BigInteger val) {
+            if (carry == null) {
+                return val;
+            }
+            return val == null ? carry : carry.multiply(val);
+        }
     }
 
     public BigIntegerCumProdOperator(@NotNull final MatchPair inputPair) {
@@ -53,6 +61,11 @@ public final class BigIntegerCumProdOperator extends BaseObjectUpdateByOperator<
         return new BigIntegerCumProdOperator(pair);
     }
 
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return true;
+    }
+
     @NotNull
     @Override
     public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
@@ -46,6 +46,14 @@ public class ByteCumProdOperator extends BaseLongUpdateByOperator {
                 curVal = curVal == NULL_LONG ? val : curVal * val;
             }
         }
+
+        @Override
+        protected long combineWithCarry(final long carry, final long val) {
+            if (carry == NULL_LONG) {
+                return val;
+            }
+            return val == NULL_LONG ? carry : carry * val;
+        }
     }
 
     public ByteCumProdOperator(
@@ -70,6 +78,11 @@ public class ByteCumProdOperator extends BaseLongUpdateByOperator {
         );
     }
 
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return true;
+    }
+
     @NotNull
     @Override
     public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
@@ -41,6 +41,14 @@ public class FloatCumProdOperator extends BaseDoubleUpdateByOperator {
                 curVal = curVal == NULL_DOUBLE ? val : curVal * val;
             }
         }
+
+        @Override
+        protected double combineWithCarry(final double carry, final double val) {
+            if (carry == NULL_DOUBLE) {
+                return val;
+            }
+            return val == NULL_DOUBLE ? carry : carry * val;
+        }
     }
 
     public FloatCumProdOperator(
@@ -62,6 +70,11 @@ public class FloatCumProdOperator extends BaseDoubleUpdateByOperator {
         );
     }
 
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return permitInexactSegmentedCumulative();
+    }
+
     @NotNull
     @Override
     public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
@@ -45,6 +45,14 @@ public class LongCumProdOperator extends BaseLongUpdateByOperator {
                 curVal = curVal == NULL_LONG ? val : curVal * val;
             }
         }
+
+        @Override
+        protected long combineWithCarry(final long carry, final long val) {
+            if (carry == NULL_LONG) {
+                return val;
+            }
+            return val == NULL_LONG ? carry : carry * val;
+        }
     }
 
     public LongCumProdOperator(
@@ -66,6 +74,11 @@ public class LongCumProdOperator extends BaseLongUpdateByOperator {
         );
     }
 
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return true;
+    }
+
     @NotNull
     @Override
     public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
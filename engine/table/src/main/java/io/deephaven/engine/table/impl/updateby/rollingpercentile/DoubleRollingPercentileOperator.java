@@ -0,0 +1,286 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+// ****** AUTO-GENERATED CLASS - DO NOT EDIT MANUALLY
+// ****** Edit CharRollingPercentileOperator and run "./gradlew replicateUpdateBy" to regenerate
+//
+// @formatter:off
+package io.deephaven.engine.table.impl.updateby.rollingpercentile;
+
+import io.deephaven.base.ringbuffer.DoubleRingBuffer;
+import io.deephaven.base.verify.Assert;
+import io.deephaven.chunk.*;
+import io.deephaven.chunk.attributes.ChunkLengths;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.table.impl.MatchPair;
+import io.deephaven.engine.table.impl.ssms.DoubleSegmentedSortedMultiset;
+import io.deephaven.engine.table.impl.ssms.SegmentedSortedMultiSet;
+import io.deephaven.engine.table.impl.updateby.UpdateByOperator;
+import io.deephaven.engine.table.impl.updateby.internal.BaseDoubleUpdateByOperator;
+import io.deephaven.engine.table.impl.util.compact.DoubleCompactKernel;
+import io.deephaven.util.compare.DoubleComparisons;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import static io.deephaven.util.QueryConstants.NULL_DOUBLE;
+
+/**
+ * Rolling percentile operator. The values in the window are held in a ring buffer (so they can be removed in the order
+ * they were added) and in a pair of {@link SegmentedSortedMultiSet segmented sorted multisets}: the low multiset holds
+ * the smallest values up to and including the percentile, and the high multiset holds the remainder. Pushing and
+ * popping values only inserts into or removes from the multisets, and the result is read from the maximum of the low
+ * multiset after moving the few values that cross the pivot.
+ */
+public class DoubleRollingPercentileOperator extends BaseDoubleUpdateByOperator {
+    private static final int BUFFER_INITIAL_CAPACITY = 128;
+    private static final int NODE_SIZE =
+            Configuration.getInstance().getIntegerWithDefault("RollingPercentileOperator.nodeSize", 4096);
+    // region extra-fields
+    // endregion extra-fields
+
+    private final double percentile;
+    private final boolean averageEvenlyDivided;
+
+    protected class Context extends BaseDoubleUpdateByOperator.Context {
+        protected DoubleChunk<? extends Values> influencerValuesChunk;
+        protected DoubleRingBuffer valueBuffer;
+        protected DoubleSegmentedSortedMultiset ssmLo;
+        protected DoubleSegmentedSortedMultiset ssmHi;
+
+        private final int scratchCapacity;
+        private final WritableDoubleChunk<Values> scratchValues;
+        private final WritableIntChunk<ChunkLengths> scratchCounts;
+        private final ResettableWritableDoubleChunk<Values> valueSlice;
+        private final ResettableWritableIntChunk<ChunkLengths> countSlice;
+        private final SegmentedSortedMultiSet.RemoveContext removeContext;
+
+        @SuppressWarnings("unused")
+        protected Context(final int affectedChunkSize, final int influencerChunkSize) {
+            super(affectedChunkSize);
+            valueBuffer = new DoubleRingBuffer(BUFFER_INITIAL_CAPACITY, true);
+            ssmLo = new DoubleSegmentedSortedMultiset(NODE_SIZE);
+            ssmHi = new DoubleSegmentedSortedMultiset(NODE_SIZE);
+            scratchCapacity = Math.max(influencerChunkSize, 1);
+            scratchValues = WritableDoubleChunk.makeWritableChunk(scratchCapacity);
+            scratchCounts = WritableIntChunk.makeWritableChunk(scratchCapacity);
+            valueSlice = ResettableWritableDoubleChunk.makeResettableChunk();
+            countSlice = ResettableWritableIntChunk.makeResettableChunk();
+            removeContext = SegmentedSortedMultiSet.makeRemoveContext(NODE_SIZE);
+        }
+
+        @Override
+        public void close() {
+            super.close();
+            scratchValues.close();
+            scratchCounts.close();
+            valueSlice.close();
+            countSlice.close();
+            valueBuffer = null;
+            ssmLo = null;
+            ssmHi = null;
+        }
+
+        @Override
+        public void setValueChunks(@NotNull final Chunk<? extends Values>[] valueChunks) {
+            influencerValuesChunk = valueChunks[0].asDoubleChunk();
+        }
+
+        @Override
+        public void push(int pos, int count) {
+            valueBuffer.ensureRemaining(count);
+
+            while (count > 0) {
+                final int batchSize = Math.min(count, scratchCapacity);
+                scratchValues.setSize(batchSize);
+                for (int ii = 0; ii < batchSize; ii++) {
+                    final double val = influencerValuesChunk.get(pos + ii);
+                    valueBuffer.addUnsafe(val);
+                    scratchValues.set(ii, val);
+                }
+                // Sorts the values and drops nulls (and NaNs)
+                DoubleCompactKernel.compactAndCount(scratchValues, scratchCounts);
+                if (scratchValues.size() > 0) {
+                    pivotedInsertion();
+                }
+                pos += batchSize;
+                count -= batchSize;
+            }
+        }
+
+        @Override
+        public void pop(int count) {
+            Assert.geq(valueBuffer.size(), "valueBuffer.size()", count);
+
+            while (count > 0) {
+                final int batchSize = Math.min(count, scratchCapacity);
+                scratchValues.setSize(batchSize);
+                for (int ii = 0; ii < batchSize; ii++) {
+                    scratchValues.set(ii, valueBuffer.removeUnsafe());
+                }
+                DoubleCompactKernel.compactAndCount(scratchValues, scratchCounts);
+                if (scratchValues.size() > 0) {
+                    pivotedRemoval();
+                }
+                count -= batchSize;
+            }
+        }
+
+        /**
+         * Insert the sorted, compacted values in the scratch chunks. Values no greater than the current maximum of
+         * {@code ssmLo} belong in {@code ssmLo}, and the rest belong in {@code ssmHi}.
+         */
+        private void pivotedInsertion() {
+            final int size = scratchValues.size();
+            final int loPivot = ssmLo.size() == 0 ? 0 : upperBound(scratchValues, 0, size, ssmLo.getMaxDouble());
+
+            if (loPivot > 0) {
+                ssmLo.insert(valueSlice.resetFromChunk(scratchValues, 0, loPivot),
+                        countSlice.resetFromChunk(scratchCounts, 0, loPivot));
+            }
+            if (loPivot < size) {
+                ssmHi.insert(valueSlice.resetFromChunk(scratchValues, loPivot, size - loPivot),
+                        countSlice.resetFromChunk(scratchCounts, loPivot, size - loPivot));
+            }
+        }
+
+        /**
+         * Remove the sorted, compacted values in the scratch chunks. Copies of the maximum of {@code ssmLo} may also be
+         * present at the front of {@code ssmHi}, so any copies beyond those held by {@code ssmLo} are removed from
+         * {@code ssmHi}.
+         */
+        private void pivotedRemoval() {
+            final int size = scratchValues.size();
+            int loPivot = 0;
+            int leftOvers = 0;
+            if (ssmLo.size() > 0) {
+                final double loMax = ssmLo.getMaxDouble();
+                loPivot = upperBound(scratchValues, 0, size, loMax);
+                if (loPivot > 0 && DoubleComparisons.eq(scratchValues.get(loPivot - 1), loMax)) {
+                    final long loMaxCount = ssmLo.getMaxCount();
+                    if (scratchCounts.get(loPivot - 1) > loMaxCount) {
+                        leftOvers = (int) (scratchCounts.get(loPivot - 1) - loMaxCount);
+                    }
+                }
+            }
+
+            if (loPivot > 0) {
+                if (leftOvers > 0) {
+                    scratchCounts.set(loPivot - 1, scratchCounts.get(loPivot - 1) - leftOvers);
+                }
+                ssmLo.remove(removeContext, valueSlice.resetFromChunk(scratchValues, 0, loPivot),
+                        countSlice.resetFromChunk(scratchCounts, 0, loPivot));
+            }
+
+            if (leftOvers > 0) {
+                scratchCounts.set(loPivot - 1, leftOvers);
+                loPivot--;
+            }
+
+            if (loPivot < size) {
+                ssmHi.remove(removeContext, valueSlice.resetFromChunk(scratchValues, loPivot, size - loPivot),
+                        countSlice.resetFromChunk(scratchCounts, loPivot, size - loPivot));
+            }
+        }
+
+        @Override
+        public void writeToOutputChunk(int outIdx) {
+            final long loSize = ssmLo.totalSize();
+            final long hiSize = ssmHi.totalSize();
+            final long totalSize = loSize + hiSize;
+
+            if (totalSize == 0) {
+                outputValues.set(outIdx, NULL_DOUBLE);
+                return;
+            }
+
+            // Match the rounding used by the percentile and median aggregations
+            final long targetLo = averageEvenlyDivided
+                    ? (long) ((totalSize - 1) * percentile) + 1
+                    : Math.round((totalSize - 1) * percentile) + 1;
+            if (loSize < targetLo) {
+                ssmHi.moveFrontToBack(ssmLo, targetLo - loSize);
+            } else if (loSize > targetLo) {
+                ssmLo.moveBackToFront(ssmHi, loSize - targetLo);
+            }
+
+            if (averageEvenlyDivided && ssmLo.totalSize() == ssmHi.totalSize()) {
+                outputValues.set(outIdx, ((double) ssmLo.getMaxDouble() + (double) ssmHi.getMinDouble()) / 2.0);
+            } else {
+                outputValues.set(outIdx, ssmLo.getMaxDouble());
+            }
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            valueBuffer.clear();
+            if (ssmLo.size() > 0) {
+                ssmLo = new DoubleSegmentedSortedMultiset(NODE_SIZE);
+            }
+            if (ssmHi.size() > 0) {
+                ssmHi = new DoubleSegmentedSortedMultiset(NODE_SIZE);
+            }
+        }
+    }
+
+    /**
+     * Return the index one past the last position in valuesToSearch that is less than or equal to searchValue.
+     *
+     * @param valuesToSearch the sorted values to search for searchValue in
+     * @param lo the first index to search
+     * @param hi one past the last index to search
+     * @param searchValue the value to find
+     * @return the index of the first value greater than searchValue, or hi if there is none
+     */
+    private static int upperBound(DoubleChunk<? extends Values> valuesToSearch, int lo, int hi, double searchValue) {
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (DoubleComparisons.gt(valuesToSearch.get(mid), searchValue)) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return hi;
+    }
+
+    @NotNull
+    @Override
+    public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
+        return new Context(affectedChunkSize, influencerChunkSize);
+    }
+
+    public DoubleRollingPercentileOperator(
+            @NotNull final MatchPair pair,
+            @NotNull final String[] affectingColumns,
+            @Nullable final String timestampColumnName,
+            final long reverseWindowScaleUnits,
+            final long forwardWindowScaleUnits,
+            final double percentile,
+            final boolean averageEvenlyDivided
+    // region extra-constructor-args
+    // endregion extra-constructor-args
+    ) {
+        super(pair, affectingColumns, timestampColumnName, reverseWindowScaleUnits, forwardWindowScaleUnits, true);
+        this.percentile = percentile;
+        this.averageEvenlyDivided = averageEvenlyDivided;
+        // region constructor
+        // endregion constructor
+    }
+
+    @Override
+    public UpdateByOperator copy() {
+        return new DoubleRollingPercentileOperator(
+                pair,
+                affectingColumns,
+                timestampColumnName,
+                reverseWindowScaleUnits,
+                forwardWindowScaleUnits,
+                percentile,
+                averageEvenlyDivided
+        // region extra-copy-args
+        // endregion extra-copy-args
+        );
+    }
+}
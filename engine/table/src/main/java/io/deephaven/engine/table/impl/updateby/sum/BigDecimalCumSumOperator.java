@@ -48,6 +48,14 @@ public final class BigDecimalCumSumOperator extends BaseObjectUpdateByOperator<B
                 }
             }
         }
+
+        @Override
+        protected BigDecimal combineWithCarry(final BigDecimal carry, final BigDecimal val) {
+            if (carry == null) {
+                return val;
+            }
+            return val == null ? carry : carry.add(val, mathContext);
+        }
     }
 
     public BigDecimalCumSumOperator(
@@ -62,6 +70,11 @@ public final class BigDecimalCumSumOperator extends BaseObjectUpdateByOperator<B
         return new BigDecimalCumSumOperator(pair, mathContext);
     }
 
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return permitInexactSegmentedCumulative();
+    }
+
     @NotNull
     @Override
     public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
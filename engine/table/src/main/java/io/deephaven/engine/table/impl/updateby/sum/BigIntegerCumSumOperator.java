@@ -43,6 +43,14 @@ public final class BigIntegerCumSumOperator extends BaseObjectUpdateByOperator<B
                 }
             }
         }
+
+        @Override
+        protected BigInteger combineWithCarry(final BigInteger carry, final BigInteger val) {
+            if (carry == null) {
+                return val;
+            }
+            return val == null ? carry : carry.add(val);
+        }
     }
 
     public BigIntegerCumSumOperator(
@@ -55,6 +63,11 @@ public final class BigIntegerCumSumOperator extends BaseObjectUpdateByOperator<B
         return new BigIntegerCumSumOperator(pair);
     }
 
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return true;
+    }
+
     @NotNull
     @Override
     public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
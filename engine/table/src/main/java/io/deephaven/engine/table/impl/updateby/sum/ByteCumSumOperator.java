@@ -49,6 +49,14 @@ public class ByteCumSumOperator extends BaseLongUpdateByOperator {
                 curVal += currentVal;
             }
         }
+
+        @Override
+        protected long combineWithCarry(final long carry, final long val) {
+            if (carry == NULL_LONG) {
+                return val;
+            }
+            return val == NULL_LONG ? carry : carry + val;
+        }
     }
 
     public ByteCumSumOperator(@NotNull final MatchPair pair
@@ -71,6 +79,11 @@ public class ByteCumSumOperator extends BaseLongUpdateByOperator {
         );
     }
 
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return true;
+    }
+
     @NotNull
     @Override
     public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
@@ -44,6 +44,14 @@ public class CharCumSumOperator extends BaseLongUpdateByOperator {
                 curVal += currentVal;
             }
         }
+
+        @Override
+        protected long combineWithCarry(final long carry, final long val) {
+            if (carry == NULL_LONG) {
+                return val;
+            }
+            return val == NULL_LONG ? carry : carry + val;
+        }
     }
 
     public CharCumSumOperator(@NotNull final MatchPair pair
@@ -63,6 +71,11 @@ public class CharCumSumOperator extends BaseLongUpdateByOperator {
         );
     }
 
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return true;
+    }
+
     @NotNull
     @Override
     public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
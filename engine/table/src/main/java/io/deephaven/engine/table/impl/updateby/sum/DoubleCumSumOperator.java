@@ -44,6 +44,14 @@ public class DoubleCumSumOperator extends BaseDoubleUpdateByOperator {
                 curVal = curVal == NULL_DOUBLE ? val : curVal + val;
             }
         }
+
+        @Override
+        protected double combineWithCarry(final double carry, final double val) {
+            if (carry == NULL_DOUBLE) {
+                return val;
+            }
+            return val == NULL_DOUBLE ? carry : carry + val;
+        }
     }
 
     public DoubleCumSumOperator(@NotNull final MatchPair pair) {
@@ -55,6 +63,11 @@ public class DoubleCumSumOperator extends BaseDoubleUpdateByOperator {
         return new DoubleCumSumOperator(pair);
     }
 
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return permitInexactSegmentedCumulative();
+    }
+
     @NotNull
     @Override
     public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
@@ -40,6 +40,14 @@ public class FloatCumSumOperator extends BaseDoubleUpdateByOperator {
                 curVal = curVal == NULL_DOUBLE ? val : curVal + val;
             }
         }
+
+        @Override
+        protected double combineWithCarry(final double carry, final double val) {
+            if (carry == NULL_DOUBLE) {
+                return val;
+            }
+            return val == NULL_DOUBLE ? carry : carry + val;
+        }
     }
 
     public FloatCumSumOperator(@NotNull final MatchPair pair) {
@@ -51,6 +59,11 @@ public class FloatCumSumOperator extends BaseDoubleUpdateByOperator {
         return new FloatCumSumOperator(pair);
     }
 
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return permitInexactSegmentedCumulative();
+    }
+
     @NotNull
     @Override
     public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
@@ -48,6 +48,14 @@ public class IntCumSumOperator extends BaseLongUpdateByOperator {
                 curVal += currentVal;
             }
         }
+
+        @Override
+        protected long combineWithCarry(final long carry, final long val) {
+            if (carry == NULL_LONG) {
+                return val;
+            }
+            return val == NULL_LONG ? carry : carry + val;
+        }
     }
 
     public IntCumSumOperator(@NotNull final MatchPair pair
@@ -67,6 +75,11 @@ public class IntCumSumOperator extends BaseLongUpdateByOperator {
         );
     }
 
+    @Override
+    public boolean supportsSegmentedCumulative() {
+        return true;
+    }
+
     @NotNull
     @Override
     public UpdateByOperator.Context makeUpdateContext(final int affectedChunkSize, final int influencerChunkSize) {
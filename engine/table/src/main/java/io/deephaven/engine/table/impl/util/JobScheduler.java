@@ -3,12 +3,14 @@
 //
 package io.deephaven.engine.table.impl.util;
 
+import io.deephaven.UncheckedDeephavenException;
 import io.deephaven.base.log.LogOutput;
 import io.deephaven.base.log.LogOutputAppendable;
 import io.deephaven.base.verify.Assert;
 import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.table.Context;
 import io.deephaven.engine.table.impl.perf.BasePerformanceEntry;
+import io.deephaven.engine.table.impl.perf.QueryPerformanceRecorder;
 import io.deephaven.io.log.impl.LogOutputStringImpl;
 import io.deephaven.util.SafeCloseable;
 import io.deephaven.util.annotations.FinalDefault;
@@ -18,8 +20,12 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -430,4 +436,41 @@ public interface JobScheduler {
                 new IterationManager<>(description, start, count, action, onComplete, onError);
         iterationManager.startTasks(this, executionContext, taskThreadContextFactory, 1);
     }
+
+    /**
+     * Start work on this scheduler and block the calling thread until it completes. The
+     * {@link #getAccumulatedPerformance() accumulated performance} of the scheduler is added to the enclosing
+     * performance nugget. This is intended for operations that parallelize their initialization, and must not be used
+     * from a thread that the work itself depends on.
+     *
+     * @param description what the work is doing, used in exception messages; e.g. "sorting"
+     * @param work starts the work given a completion callback and an error callback, exactly one of which must
+     *        eventually be called
+     * @throws CancellationException if the calling thread is interrupted while waiting
+     * @throws UncheckedDeephavenException if the work fails, wrapping the cause
+     */
+    @FinalDefault
+    default void runAndWait(
+            @NotNull final String description,
+            @NotNull final BiConsumer<Runnable, Consumer<Exception>> work) {
+        final CompletableFuture<Void> completed = new CompletableFuture<>();
+        try {
+            work.accept(() -> completed.complete(null), completed::completeExceptionally);
+        } catch (Exception e) {
+            completed.completeExceptionally(e);
+        }
+
+        try {
+            completed.get();
+        } catch (InterruptedException e) {
+            throw new CancellationException("interrupted while " + description);
+        } catch (ExecutionException e) {
+            throw new UncheckedDeephavenException("an exception occurred while " + description, e.getCause());
+        } finally {
+            final BasePerformanceEntry baseEntry = getAccumulatedPerformance();
+            if (baseEntry != null) {
+                QueryPerformanceRecorder.getInstance().getEnclosingNugget().accumulate(baseEntry);
+            }
+        }
+    }
 }
@@ -3,6 +3,7 @@
 //
 package io.deephaven.engine.table.impl.util;
 
+import io.deephaven.engine.table.impl.perf.UpdateCycleTracer;
 import io.deephaven.engine.table.impl.perf.UpdatePerformanceTracker;
 import io.deephaven.engine.table.impl.QueryTable;
 import io.deephaven.util.annotations.ScriptApi;
@@ -21,6 +22,17 @@ public class TableLoggers {
         return UpdatePerformanceTracker.getQueryTable();
     }
 
+    /**
+     * Return a table with per-notification timing and dependency data for traced update graph cycles. Tracing must be
+     * enabled for an update graph (see {@code UpdateGraph.cycleTracing}) for it to contribute rows.
+     *
+     * @return A table with update graph cycle trace data.
+     */
+    @ScriptApi
+    public static QueryTable updateCycleTraceLog() {
+        return UpdateCycleTracer.getQueryTable();
+    }
+
     /**
      * Return a table with query performance data. Individual sub-operations in the query are referenced in
      * QueryOperationPerformanceLog.
@@ -12,6 +12,7 @@ import io.deephaven.engine.liveness.LivenessManager;
 import io.deephaven.engine.liveness.LivenessScope;
 import io.deephaven.engine.liveness.LivenessScopeStack;
 import io.deephaven.engine.table.impl.perf.PerformanceEntry;
+import io.deephaven.engine.table.impl.perf.UpdateCycleTracer;
 import io.deephaven.engine.table.impl.perf.UpdatePerformanceTracker;
 import io.deephaven.engine.table.impl.util.StepUpdater;
 import io.deephaven.engine.updategraph.*;
@@ -221,10 +222,20 @@ public abstract class BaseUpdateGraph implements UpdateGraph, LogOutputAppendabl
     private final boolean printDependencyInformation =
             Configuration.getInstance().getBooleanWithDefault("UpdateGraph.printDependencyInformation", false);
 
+    /**
+     * When UpdateGraph.cycleTracing is set to true, each UpdateGraph will record the enqueue, satisfaction, start, and
+     * end times of every notification, and publish them as a blink table (see {@link UpdateCycleTracer}). Tracing can
+     * also be toggled at runtime with {@link #setCycleTracingEnabled(boolean)}.
+     */
+    private static final boolean DEFAULT_CYCLE_TRACING =
+            Configuration.getInstance().getBooleanWithDefault("UpdateGraph.cycleTracing", false);
+
     private final String name;
 
     final UpdatePerformanceTracker updatePerformanceTracker;
 
+    private final UpdateCycleTracer updateCycleTracer;
+
     /**
      * The BaseUpdateGraph is an abstract class that is suitable for extension by UpdateGraphs that process a set of
      * sources and then the resulting {@link io.deephaven.engine.updategraph.NotificationQueue.Notification
@@ -248,6 +259,8 @@ public abstract class BaseUpdateGraph implements UpdateGraph, LogOutputAppendabl
         jvmIntrospectionContext = new JvmIntrospectionContext();
         lock = UpdateGraphLock.create(this, allowUnitTestMode);
         updatePerformanceTracker = new UpdatePerformanceTracker(this);
+        updateCycleTracer = new UpdateCycleTracer(this);
+        updateCycleTracer.setEnabled(DEFAULT_CYCLE_TRACING);
     }
 
     public String getName() {
@@ -267,6 +280,22 @@ public abstract class BaseUpdateGraph implements UpdateGraph, LogOutputAppendabl
     public LogicalClock clock() {
         return logicalClock;
     }
+
+    /**
+     * Enable or disable {@link UpdateCycleTracer per-notification cycle tracing}, beginning with the next cycle.
+     *
+     * @param enabled whether cycles should be traced
+     */
+    public void setCycleTracingEnabled(final boolean enabled) {
+        updateCycleTracer.setEnabled(enabled);
+    }
+
+    /**
+     * @return whether {@link UpdateCycleTracer per-notification cycle tracing} is enabled
+     */
+    public boolean isCycleTracingEnabled() {
+        return updateCycleTracer.isEnabled();
+    }
     // region Accessors for the shared and exclusive locks
 
     /**
@@ -386,6 +415,7 @@ public abstract class BaseUpdateGraph implements UpdateGraph, LogOutputAppendabl
      */
     @Override
     public void addNotification(@NotNull final Notification notification) {
+        updateCycleTracer.onNotificationEnqueued(notification);
         if (notification.isTerminal()) {
             synchronized (terminalNotifications) {
                 terminalNotifications.offer(notification);
@@ -416,6 +446,7 @@ public abstract class BaseUpdateGraph implements UpdateGraph, LogOutputAppendabl
             final long logicalClockValue = logicalClock.currentValue();
             if (LogicalClock.getState(logicalClockValue) == LogicalClock.State.Updating
                     && LogicalClock.getStep(logicalClockValue) == deliveryStep) {
+                updateCycleTracer.onNotificationEnqueued(notification);
                 pendingNormalNotifications.offer(notification);
                 added = true;
             } else {
@@ -564,6 +595,7 @@ public abstract class BaseUpdateGraph implements UpdateGraph, LogOutputAppendabl
                 if (satisfied) {
                     nothingBecameSatisfied = false;
                     it.remove();
+                    updateCycleTracer.onNotificationSatisfied(notification);
                     logDependencies().append(Thread.currentThread().getName())
                             .append(": Submitting to notification processor ").append(notification).endl();
                     notificationProcessor.submit(notification);
@@ -707,6 +739,7 @@ public abstract class BaseUpdateGraph implements UpdateGraph, LogOutputAppendabl
             releaseScopeOnClose = false;
         }
 
+        final UpdateCycleTracer.NotificationTrace trace = updateCycleTracer.onNotificationStart(notification);
         try (final SafeCloseable ignored = scope == null ? null : LivenessScopeStack.open(scope, releaseScopeOnClose)) {
             notification.run();
             logDependencies().append(Thread.currentThread().getName()).append(": Completed ").append(notification)
@@ -717,6 +750,8 @@ public abstract class BaseUpdateGraph implements UpdateGraph, LogOutputAppendabl
                     .append(": ").append(e).endl();
             ProcessEnvironment.getGlobalFatalErrorReporter()
                     .report("Exception while processing UpdateGraph notification", e);
+        } finally {
+            updateCycleTracer.onNotificationEnd(trace);
         }
     }
 
@@ -923,12 +958,18 @@ public abstract class BaseUpdateGraph implements UpdateGraph, LogOutputAppendabl
             final long updatingCycleValue = logicalClock.startUpdateCycle();
             logDependencies().append("Beginning UpdateGraph cycle step=")
                     .append(logicalClock.currentStep()).endl();
+            updateCycleTracer.beginCycle(logicalClock.currentStep());
             try (final SafeCloseable ignored = LivenessScopeStack.open(refreshScope, true)) {
                 refreshFunction.run();
                 flushNotificationsAndCompleteCycle(true);
             } finally {
                 logicalClock.ensureUpdateCycleCompleted(updatingCycleValue);
                 refreshScope = null;
+                try {
+                    updateCycleTracer.endCycle();
+                } catch (Exception err) {
+                    log.error().append("Error publishing UpdateCycleTracer records: ").append(err).endl();
+                }
             }
             logDependencies().append("Completed UpdateGraph cycle step=")
                     .append(logicalClock.currentStep()).endl();
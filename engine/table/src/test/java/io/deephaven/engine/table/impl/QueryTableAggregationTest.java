@@ -196,6 +196,44 @@ public class QueryTableAggregationTest {
         individualStaticByTest(input6, control, "A", "B", "C");
     }
 
+    @Test
+    public void testStaticPartitionedInitialBuild() {
+        final AggregationControl partitioned = new AggregationControl() {
+            @Override
+            public int initialBuildPartitions(@NotNull final Table inputTable) {
+                return 5;
+            }
+        };
+        final List<Aggregation> aggregations = List.of(
+                AggCount("Count"),
+                AggSum("SumI=I", "SumL=L"),
+                AggAvg("AvgI=I"),
+                AggStd("StdL=L"),
+                AggMin("MinI=I", "MinS=S"),
+                AggMax("MaxL=L"),
+                AggFirst("FirstI=I"),
+                AggLast("LastS=S"));
+
+        final Table input = emptyTable(100_000).update(
+                "A=(int) ((ii * 7919) % 1013)",
+                "B=ii % 3 == 0 ? null : `B` + (ii % 7)",
+                "C=(ii * 104729) % 100003",
+                "I=ii % 11 == 0 ? NULL_INT : (int) (ii % 997)",
+                "L=ii * 31",
+                "S=`S` + (ii % 89)");
+
+        for (final String[] keyColumns : new String[][] {{"A"}, {"B"}, {"A", "B"}, {"C"}}) {
+            final Table expected = ChunkedOperatorAggregationHelper.aggregation(AggregationControl.DEFAULT,
+                    AggregationProcessor.forAggregation(aggregations), (QueryTable) input, false, null,
+                    ColumnName.from(keyColumns));
+            final Table actual = ChunkedOperatorAggregationHelper.aggregation(partitioned,
+                    AggregationProcessor.forAggregation(aggregations), (QueryTable) input, false, null,
+                    ColumnName.from(keyColumns));
+            // The partitioned build must preserve first-appearance order, so we compare without sorting
+            assertTableEquals(expected, actual);
+        }
+    }
+
     @Test
     public void testStaticGroupedByWithChunks() {
         final Table input1 = emptyTable(10000).update("A=Integer.toString(i % 5)", "B=i / 5", "C=ii");
@@ -2970,6 +3008,119 @@ public class QueryTableAggregationTest {
         }
     }
 
+    @Test
+    public void testApproxCountDistinct() {
+        final Table source = emptyTable(200_000).update(
+                "Sym=(int)(ii % 4)",
+                "intCol=(int)(ii % 100)",
+                "longCol=ii % 50_000",
+                "doubleCol=(ii % 7 == 0) ? NULL_DOUBLE : (double)(ii % 20_000) / 3",
+                "stringCol=`S` + (ii % 30_000)");
+        final String[] columns = new String[] {"intCol", "longCol", "doubleCol", "stringCol"};
+
+        final Table exact = source.aggBy(AggCountDistinct(columns), "Sym");
+        checkApproxCountDistinct(exact, source.aggBy(AggApproxCountDistinct(columns), "Sym"), columns, 0.065);
+        checkApproxCountDistinct(exact, source.aggBy(AggApproxCountDistinct(16, columns), "Sym"), columns, 0.02);
+
+        final Table empty = source.where("false").aggBy(AggApproxCountDistinct(columns), "Sym");
+        assertEquals(0, empty.size());
+        final Table allNull = emptyTable(10).update("Sym=(int)(ii % 2)", "longCol=NULL_LONG")
+                .aggBy(AggApproxCountDistinct("longCol"), "Sym");
+        assertTableEquals(TableTools.newTable(intCol("Sym", 0, 1), longCol("longCol", 0, 0)), allNull);
+    }
+
+    @Test
+    public void testApproxCountDistinctObjectTypes() {
+        final Table source = emptyTable(100_000).update(
+                "Sym=(int)(ii % 4)",
+                "decimalCol=java.math.BigDecimal.valueOf(ii % 20_000, 2)",
+                "bigIntCol=java.math.BigInteger.valueOf(ii % 30_000).shiftLeft(40)",
+                "dateCol=java.time.LocalDate.ofEpochDay(ii % 10_000)",
+                "boxedCol=(Long)(ii % 25_000)");
+        final String[] columns = new String[] {"decimalCol", "bigIntCol", "dateCol", "boxedCol"};
+
+        final Table exact = source.aggBy(AggCountDistinct(columns), "Sym");
+        checkApproxCountDistinct(exact, source.aggBy(AggApproxCountDistinct(16, columns), "Sym"), columns, 0.02);
+
+        final Table arrays = emptyTable(10).update("Sym=(int)(ii % 2)", "arrayCol=new int[] {i}");
+        assertThrows(IllegalArgumentException.class,
+                () -> arrays.aggBy(AggApproxCountDistinct("arrayCol"), "Sym"));
+    }
+
+    private static void checkApproxCountDistinct(
+            final Table exact,
+            final Table approximate,
+            final String[] columns,
+            final double maxError) {
+        assertEquals(exact.size(), approximate.size());
+        for (final String column : columns) {
+            final long[] exactCounts = ColumnVectors.ofLong(exact, column).toArray();
+            final long[] approximateCounts = ColumnVectors.ofLong(approximate, column).toArray();
+            for (int ii = 0; ii < exactCounts.length; ++ii) {
+                final double error = Math.abs(approximateCounts[ii] - exactCounts[ii]) / (double) exactCounts[ii];
+                assertThat(error)
+                        .withFailMessage("Approximate count distinct error too high for %s: exact=%d, approximate=%d",
+                                column, exactCounts[ii], approximateCounts[ii])
+                        .isLessThan(maxError);
+            }
+        }
+    }
+
+    @Test
+    public void testApproxCountDistinctIncremental() {
+        final int size = 1000;
+        final Random random = new Random(0);
+        final ColumnInfo<?, ?>[] columnInfos;
+        final QueryTable queryTable = getTable(size, random,
+                columnInfos = initColumnInfos(new String[] {"Sym", "intCol", "longCol", "doubleCol", "stringCol"},
+                        new SetGenerator<>("a", "b", "c", "d"),
+                        new IntGenerator(0, 1000, 0.1),
+                        new LongGenerator(0, 1_000_000_000L, 0.1),
+                        new DoubleGenerator(-100, 100, 0.1, 0.05),
+                        new StringGenerator(100_000, 0.1)));
+        queryTable.setAttribute(Table.ADD_ONLY_TABLE_ATTRIBUTE, true);
+
+        // Sketches are deterministic given the set of values, so incremental results must exactly match recomputation
+        final Aggregation aggregation = AggApproxCountDistinct("intCol", "longCol", "doubleCol", "stringCol");
+        final EvalNugget[] en = new EvalNugget[] {
+                EvalNugget.from(() -> queryTable.aggBy(aggregation)),
+                EvalNugget.Sorted.from(() -> queryTable.aggBy(aggregation, "Sym"), "Sym"),
+                EvalNugget.from(() -> queryTable.rollup(List.of(aggregation), "Sym").getRoot()
+                        .view("intCol", "longCol", "doubleCol", "stringCol")),
+        };
+
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        for (int step = 0; step < 10; ++step) {
+            final int fstep = step;
+            updateGraph.runWithinUnitTestCycle(() -> {
+                final RowSet added = RowSetFactory.fromRange(size * (fstep + 1), size * (fstep + 2) - 1);
+                queryTable.getRowSet().writableCast().insert(added);
+
+                final ColumnHolder<?>[] columnHolders = new ColumnHolder[columnInfos.length];
+                for (int ii = 0; ii < columnInfos.length; ii++) {
+                    columnHolders[ii] = columnInfos[ii].generateUpdateColumnHolder(added, random);
+                }
+                addToTable(queryTable, added, columnHolders);
+
+                queryTable.notifyListeners(added, i(), i());
+            });
+            validate("step = " + fstep, en);
+        }
+    }
+
+    @Test
+    public void testApproxCountDistinctRollup() {
+        final Table source = emptyTable(100_000).update(
+                "A=(int)(ii % 3)",
+                "B=(int)(ii % 7)",
+                "Value=ii % 25_000");
+        final Aggregation aggregation = AggApproxCountDistinct("Value");
+
+        // Merged sketches are identical to a sketch of the union of their inputs
+        final Table root = source.rollup(List.of(aggregation), "A", "B").getRoot();
+        assertTableEquals(source.aggBy(aggregation), root.view("Value"));
+    }
+
     @Test
     public void testMedianTypes() {
         final Boolean[] booleans = new Boolean[] {null, false, true};
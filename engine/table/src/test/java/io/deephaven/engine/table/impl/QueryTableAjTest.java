@@ -1721,4 +1721,40 @@ public class QueryTableAjTest {
                 rightTable.partitionBy("Bucket"),
                 true, true);
     }
+
+    @Test
+    public void testAjStaticParallelStamp() {
+        final JoinControl serialControl = new JoinControl() {
+            @Override
+            long parallelProbeThreshold() {
+                return 0;
+            }
+        };
+        final JoinControl parallelControl = new JoinControl() {
+            @Override
+            long parallelProbeThreshold() {
+                return 1;
+            }
+
+            @Override
+            int parallelProbeMinimumSegmentSize() {
+                return 9_999;
+            }
+        };
+
+        final QueryTable leftTable = (QueryTable) emptyTable(100_000).update(
+                "Bucket=`B` + ((ii * 7919) % 1_009)", "LeftStamp=(int) ((ii * 104729) % 100_000)", "LeftSentinel=ii");
+        final QueryTable rightTable = (QueryTable) emptyTable(50_000).update(
+                "Bucket=`B` + ((ii * 31) % 997)", "RightStamp=(int) ((ii * 13) % 100_000)", "RightSentinel=ii");
+
+        for (final SortingOrder order : SortingOrder.values()) {
+            final MatchPair[] columnsToMatch = MatchPairFactory.getExpressions("Bucket", "LeftStamp=RightStamp");
+            final MatchPair[] columnsToAdd = MatchPairFactory.getExpressions("RightStamp", "RightSentinel");
+            final Table expected = AsOfJoinHelper.asOfJoin(serialControl, leftTable, rightTable,
+                    columnsToMatch, columnsToAdd, order, false);
+            final Table actual = AsOfJoinHelper.asOfJoin(parallelControl, leftTable, rightTable,
+                    columnsToMatch, columnsToAdd, order, false);
+            assertTableEquals(expected, actual);
+        }
+    }
 }
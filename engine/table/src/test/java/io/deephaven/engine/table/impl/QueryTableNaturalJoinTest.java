@@ -2335,6 +2335,43 @@ public class QueryTableNaturalJoinTest extends QueryTableTestBase {
         }
     }
 
+    public void testNaturalJoinStaticParallelProbe() {
+        final JoinControl serialControl = new JoinControl() {
+            @Override
+            long parallelProbeThreshold() {
+                return 0;
+            }
+        };
+        // Use small, uneven segments so that chunks straddle segment boundaries
+        final JoinControl parallelControl = new JoinControl() {
+            @Override
+            long parallelProbeThreshold() {
+                return 1;
+            }
+
+            @Override
+            int parallelProbeMinimumSegmentSize() {
+                return 9_999;
+            }
+        };
+
+        final QueryTable right = (QueryTable) emptyTable(10_000).update("Key=`K` + ii", "RightSentinel=ii * 3");
+        // A flat left table uses a contiguous redirection, and a filtered one a sparse redirection
+        final QueryTable flatLeft = (QueryTable) emptyTable(100_000)
+                .update("Key=`K` + ((ii * 7919) % 12_007)", "LeftSentinel=ii");
+        final QueryTable filteredLeft = (QueryTable) flatLeft.where("LeftSentinel % 7 != 3");
+        for (final QueryTable left : new QueryTable[] {flatLeft, filteredLeft}) {
+            final Table expected = NaturalJoinHelper.naturalJoin(left, right,
+                    MatchPairFactory.getExpressions("Key"), MatchPairFactory.getExpressions("RightSentinel"),
+                    NaturalJoinType.ERROR_ON_DUPLICATE, serialControl);
+            final Table actual = NaturalJoinHelper.naturalJoin(left, right,
+                    MatchPairFactory.getExpressions("Key"), MatchPairFactory.getExpressions("RightSentinel"),
+                    NaturalJoinType.ERROR_ON_DUPLICATE, parallelControl);
+            assertTableEquals(expected, actual);
+            assertTableEquals(left.naturalJoin(right, "Key", "RightSentinel"), actual);
+        }
+    }
+
     @NotNull
     private Table makeLeftDiskTable(File leftLocation) {
         final TableDefinition leftDefinition = TableDefinition.of(
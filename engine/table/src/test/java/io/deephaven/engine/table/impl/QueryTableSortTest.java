@@ -894,4 +894,35 @@ public class QueryTableSortTest extends QueryTableTestBase {
         final Table sd = t.sortDescending("Key");
         assertNotSame(t.getRowSet(), sd.getRowSet());
     }
+
+    public void testParallelSort() {
+        final long parallelSortThreshold = SortHelpers.parallelSortThreshold;
+        final int parallelSortMinimumSegmentSize = SortHelpers.parallelSortMinimumSegmentSize;
+        try {
+            for (final String column : new String[] {"I", "L", "D", "S"}) {
+                SortHelpers.parallelSortThreshold = 0;
+                final Table expected = parallelSortSource().sort(column);
+                final Table expectedDescending = parallelSortSource().sortDescending(column);
+
+                // Use small, uneven segments so that there are several merge levels, with an unpaired run
+                SortHelpers.parallelSortThreshold = 1;
+                SortHelpers.parallelSortMinimumSegmentSize = 9_999;
+                assertTableEquals(expected, parallelSortSource().sort(column));
+                assertTableEquals(expectedDescending, parallelSortSource().sortDescending(column));
+            }
+        } finally {
+            SortHelpers.parallelSortThreshold = parallelSortThreshold;
+            SortHelpers.parallelSortMinimumSegmentSize = parallelSortMinimumSegmentSize;
+        }
+    }
+
+    private static Table parallelSortSource() {
+        // Low cardinality values with a sentinel column, so that we verify equal values retain their original order
+        return emptyTable(100_000).where("ii % 7 != 3").update(
+                "Sentinel=ii",
+                "I=(int) ((ii * 7919) % 101)",
+                "L=ii % 13 == 0 ? NULL_LONG : (ii * 104729) % 1009",
+                "D=ii % 17 == 0 ? Double.NaN : ((ii * 31) % 97) / 3.0",
+                "S=ii % 19 == 0 ? null : `S` + ((ii * 13) % 53)");
+    }
 }
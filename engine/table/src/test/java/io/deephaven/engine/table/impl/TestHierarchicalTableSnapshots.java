@@ -10,6 +10,7 @@ import io.deephaven.chunk.WritableChunk;
 import io.deephaven.csv.CsvTools;
 import io.deephaven.csv.util.CsvReaderException;
 import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.context.QueryScope;
 import io.deephaven.engine.rowset.RowSequence;
 import io.deephaven.engine.rowset.RowSetFactory;
 import io.deephaven.engine.rowset.RowSetShiftData;
@@ -18,6 +19,7 @@ import io.deephaven.engine.table.hierarchical.HierarchicalTable;
 import io.deephaven.engine.table.hierarchical.HierarchicalTable.SnapshotState;
 import io.deephaven.engine.table.hierarchical.RollupTable;
 import io.deephaven.engine.table.hierarchical.TreeTable;
+import io.deephaven.engine.table.impl.hierarchical.RollupTableImpl;
 import io.deephaven.engine.testutil.ControlledUpdateGraph;
 import io.deephaven.engine.testutil.junit4.EngineCleanup;
 import io.deephaven.engine.util.TableTools;
@@ -248,4 +250,153 @@ public class TestHierarchicalTableSnapshots {
         freeSnapshotTableChunks(snapshot);
         freeSnapshotTableChunks(snapshotSort);
     }
+
+    @Test
+    public void testParallelFill() {
+        final long minimumParallelRows = QueryTable.MINIMUM_PARALLEL_HIERARCHICAL_SNAPSHOT_ROWS;
+        try {
+            final Table source = emptyTable(10_000).update(
+                    "A=(int) (ii % 7)", "B=(int) (ii % 61)", "C=`C` + (ii % 997)", "N=ii * 31 % 10_007");
+            final RollupTable rollupTable = source.rollup(List.of(AggMax("MaxN=N")), true, "A", "B");
+            final RollupTable sortedRollup = rollupTable.withNodeOperations(
+                    rollupTable.makeNodeOperationsRecorder(RollupTable.NodeType.Aggregated).sortDescending("MaxN"),
+                    rollupTable.makeNodeOperationsRecorder(RollupTable.NodeType.Constituent).sort("C"));
+
+            final Table keyTable = newTable(
+                    intCol(rollupTable.getRowDepthColumn().name(), 0),
+                    intCol("A", NULL_INT),
+                    intCol("B", NULL_INT),
+                    byteCol("Action", HierarchicalTable.KEY_TABLE_ACTION_EXPAND_ALL));
+
+            for (final RollupTable toSnapshot : new RollupTable[] {rollupTable, sortedRollup}) {
+                QueryTable.MINIMUM_PARALLEL_HIERARCHICAL_SNAPSHOT_ROWS = Long.MAX_VALUE;
+                final Table expected = snapshotToTable(toSnapshot, toSnapshot.makeSnapshotState(),
+                        keyTable, ColumnName.of("Action"), null, RowSetFactory.flat(12_000));
+
+                QueryTable.MINIMUM_PARALLEL_HIERARCHICAL_SNAPSHOT_ROWS = 1;
+                final SnapshotState snapshotState = toSnapshot.makeSnapshotState();
+                final Table actual = snapshotToTable(toSnapshot, snapshotState,
+                        keyTable, ColumnName.of("Action"), null, RowSetFactory.flat(12_000));
+                assertTableEquals(expected, actual);
+
+                // A viewport in the middle of the expanded rows begins part of the way through a node
+                final Table expectedSlice = expected.slice(5_003, 8_011);
+                final Table actualSlice = snapshotToTable(toSnapshot, snapshotState,
+                        keyTable, ColumnName.of("Action"), null, RowSetFactory.fromRange(5_003, 8_010));
+                assertTableEquals(expectedSlice, actualSlice);
+
+                freeSnapshotTableChunks(expected);
+                freeSnapshotTableChunks(actual);
+                freeSnapshotTableChunks(actualSlice);
+            }
+        } finally {
+            QueryTable.MINIMUM_PARALLEL_HIERARCHICAL_SNAPSHOT_ROWS = minimumParallelRows;
+        }
+    }
+
+    @Test
+    public void testParallelFillWithStatefulNodeColumns() {
+        final long minimumParallelRows = QueryTable.MINIMUM_PARALLEL_HIERARCHICAL_SNAPSHOT_ROWS;
+        try {
+            // A mutable query scope parameter makes the node format formulas not stateless
+            QueryScope.addParam("formatThresholds", new long[] {5_000});
+            final Table source = emptyTable(10_000).update(
+                    "A=(int) (ii % 7)", "B=(int) (ii % 61)", "N=ii * 31 % 10_007");
+            final RollupTable rollupTable = source.rollup(List.of(AggMax("MaxN=N")), true, "A", "B");
+            final RollupTable formattedRollup = rollupTable.withNodeOperations(
+                    rollupTable.makeNodeOperationsRecorder(RollupTable.NodeType.Aggregated)
+                            .formatColumns("MaxN=MaxN > formatThresholds[0] ? `GREEN` : `RED`"),
+                    rollupTable.makeNodeOperationsRecorder(RollupTable.NodeType.Constituent)
+                            .formatColumns("N=N > formatThresholds[0] ? `GREEN` : `RED`"));
+
+            final Table keyTable = newTable(
+                    intCol(rollupTable.getRowDepthColumn().name(), 0),
+                    intCol("A", NULL_INT),
+                    intCol("B", NULL_INT),
+                    byteCol("Action", HierarchicalTable.KEY_TABLE_ACTION_EXPAND_ALL));
+
+            QueryTable.MINIMUM_PARALLEL_HIERARCHICAL_SNAPSHOT_ROWS = Long.MAX_VALUE;
+            final Table expected = snapshotToTable(formattedRollup, formattedRollup.makeSnapshotState(),
+                    keyTable, ColumnName.of("Action"), null, RowSetFactory.flat(12_000));
+
+            QueryTable.MINIMUM_PARALLEL_HIERARCHICAL_SNAPSHOT_ROWS = 1;
+            final Table actual = snapshotToTable(formattedRollup, formattedRollup.makeSnapshotState(),
+                    keyTable, ColumnName.of("Action"), null, RowSetFactory.flat(12_000));
+            assertTableEquals(expected, actual);
+
+            freeSnapshotTableChunks(expected);
+            freeSnapshotTableChunks(actual);
+        } finally {
+            QueryTable.MINIMUM_PARALLEL_HIERARCHICAL_SNAPSHOT_ROWS = minimumParallelRows;
+        }
+    }
+
+    @Test
+    public void testNodeTablesRetainedWithinStep() {
+        // noinspection resource
+        final QueryTable source = testRefreshingTable(
+                RowSetFactory.fromKeys(10, 11, 12, 13).toTracking(),
+                intCol("A", 1, 1, 2, 2),
+                intCol("B", 1, 2, 3, 4),
+                intCol("C", 4, 3, 2, 1));
+        final RollupTable rollupTable = source.rollup(List.of(AggMax("MaxC=C")), "A", "B");
+        final RollupTable sortedRollup = rollupTable.withNodeOperations(
+                rollupTable.makeNodeOperationsRecorder(RollupTable.NodeType.Aggregated).sort("MaxC"));
+        final RollupTableImpl sortedRollupImpl = (RollupTableImpl) sortedRollup;
+        final SnapshotState snapshotState = sortedRollup.makeSnapshotState();
+
+        final Table expandAllKeys = newTable(
+                intCol(rollupTable.getRowDepthColumn().name(), 0),
+                intCol("A", NULL_INT),
+                intCol("B", NULL_INT),
+                byteCol("Action", HierarchicalTable.KEY_TABLE_ACTION_EXPAND_ALL));
+        final Table expandRootKeys = newTable(
+                intCol(rollupTable.getRowDepthColumn().name(), 0),
+                intCol("A", NULL_INT),
+                intCol("B", NULL_INT),
+                byteCol("Action", HierarchicalTable.KEY_TABLE_ACTION_EXPAND));
+
+        final Table expandedAll = snapshotToTable(sortedRollup, snapshotState,
+                expandAllKeys, ColumnName.of("Action"), null, RowSetFactory.flat(10));
+        // The root and the two "A" nodes
+        TestCase.assertEquals(3, sortedRollupImpl.nodeTableStatesCreated(snapshotState));
+        final Table expandedRoot = snapshotToTable(sortedRollup, snapshotState,
+                expandRootKeys, ColumnName.of("Action"), null, RowSetFactory.flat(10));
+        TestCase.assertEquals(3, expandedRoot.size());
+        // The contracted nodes' tables were retained, so re-expanding them creates nothing, and must still produce the
+        // same result
+        final Table reExpandedAll = snapshotToTable(sortedRollup, snapshotState,
+                expandAllKeys, ColumnName.of("Action"), null, RowSetFactory.flat(10));
+        TestCase.assertEquals(3, sortedRollupImpl.nodeTableStatesCreated(snapshotState));
+        assertTableEquals(expandedAll, reExpandedAll);
+
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        updateGraph.runWithinUnitTestCycle(() -> {
+            addToTable(source, RowSetFactory.fromKeys(20), intCol("A", 1), intCol("B", 5), intCol("C", 0));
+            source.notifyListeners(new TableUpdateImpl(RowSetFactory.fromKeys(20),
+                    RowSetFactory.empty(), RowSetFactory.empty(), RowSetShiftData.EMPTY, ModifiedColumnSet.EMPTY));
+        });
+
+        final Table updatedExpandedRoot = snapshotToTable(sortedRollup, snapshotState,
+                expandRootKeys, ColumnName.of("Action"), null, RowSetFactory.flat(10));
+        TestCase.assertEquals(3, updatedExpandedRoot.size());
+        // The step changed, so the contracted nodes' tables were released and must be created again
+        final Table updatedExpandedAll = snapshotToTable(sortedRollup, snapshotState,
+                expandAllKeys, ColumnName.of("Action"), null, RowSetFactory.flat(10));
+        TestCase.assertEquals(5, sortedRollupImpl.nodeTableStatesCreated(snapshotState));
+        final Table updatedExpected = newTable(
+                intCol(rollupTable.getRowDepthColumn().name(), 1, 2, 3, 3, 2, 3, 3, 3),
+                booleanCol(rollupTable.getRowExpandedColumn().name(), true, true, null, null, true, null, null,
+                        null),
+                intCol("A", NULL_INT, 2, 2, 2, 1, 1, 1, 1),
+                intCol("B", NULL_INT, NULL_INT, 4, 3, NULL_INT, 5, 2, 1),
+                intCol("MaxC", 4, 2, 1, 2, 4, 0, 3, 4));
+        assertTableEquals(updatedExpected, updatedExpandedAll);
+
+        freeSnapshotTableChunks(expandedAll);
+        freeSnapshotTableChunks(expandedRoot);
+        freeSnapshotTableChunks(reExpandedAll);
+        freeSnapshotTableChunks(updatedExpandedRoot);
+        freeSnapshotTableChunks(updatedExpandedAll);
+    }
 }
@@ -0,0 +1,182 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.sources.offheap;
+
+import io.deephaven.chunk.ChunkType;
+import io.deephaven.chunk.WritableDoubleChunk;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetBuilderSequential;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.chunkattributes.RowKeys;
+import io.deephaven.engine.table.ChunkSink;
+import io.deephaven.engine.table.ChunkSource;
+import io.deephaven.engine.table.impl.TestSourceSink;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static io.deephaven.util.QueryConstants.NULL_DOUBLE;
+import static io.deephaven.util.QueryConstants.NULL_LONG;
+import static junit.framework.TestCase.assertEquals;
+
+public class TestOffHeapColumnSource {
+
+    @Rule
+    public final EngineCleanup framework = new EngineCleanup();
+
+    /**
+     * Row keys in two regions, with runs that cross block boundaries.
+     */
+    private static RowSet makeRowSet() {
+        final RowSetBuilderSequential builder = RowSetFactory.builderSequential();
+        builder.appendRange(0, 99);
+        builder.appendRange(OffHeapColumnSource.BLOCK_SIZE - 10, OffHeapColumnSource.BLOCK_SIZE + 10);
+        builder.appendKey(5L * OffHeapColumnSource.BLOCK_SIZE + 7);
+        final long region = 3L << OffHeapColumnSource.LOG_REGION_SIZE;
+        builder.appendRange(region + 1000, region + 2 * OffHeapColumnSource.BLOCK_SIZE);
+        return builder.build();
+    }
+
+    @Test
+    public void testSourceSink() {
+        TestSourceSink.runTests(ChunkType.Char, size -> new OffHeapCharColumnSource());
+        TestSourceSink.runTests(ChunkType.Byte, size -> new OffHeapByteColumnSource());
+        TestSourceSink.runTests(ChunkType.Short, size -> new OffHeapShortColumnSource());
+        TestSourceSink.runTests(ChunkType.Int, size -> new OffHeapIntColumnSource());
+        TestSourceSink.runTests(ChunkType.Long, size -> new OffHeapLongColumnSource());
+        TestSourceSink.runTests(ChunkType.Float, size -> new OffHeapFloatColumnSource());
+        TestSourceSink.runTests(ChunkType.Double, size -> new OffHeapDoubleColumnSource());
+    }
+
+    @Test
+    public void testFillChunk() {
+        final Random random = new Random(0);
+        final OffHeapLongColumnSource source = new OffHeapLongColumnSource();
+        try (final RowSet rowSet = makeRowSet();
+                final WritableLongChunk<Values> values = WritableLongChunk.makeWritableChunk(rowSet.intSize());
+                final WritableLongChunk<Values> dest = WritableLongChunk.makeWritableChunk(rowSet.intSize());
+                final ChunkSink.FillFromContext fillFromContext = source.makeFillFromContext(rowSet.intSize());
+                final ChunkSource.FillContext fillContext = source.makeFillContext(rowSet.intSize())) {
+            for (int ii = 0; ii < values.size(); ++ii) {
+                values.set(ii, random.nextInt(10) == 0 ? NULL_LONG : random.nextLong());
+            }
+            source.fillFromChunk(fillFromContext, values, rowSet);
+
+            source.fillChunk(fillContext, dest, rowSet);
+            assertEquals(rowSet.intSize(), dest.size());
+            for (int ii = 0; ii < values.size(); ++ii) {
+                assertEquals(values.get(ii), dest.get(ii));
+                assertEquals(values.get(ii), source.getLong(rowSet.get(ii)));
+            }
+
+            // Keys that were never written are null, whether or not their block exists
+            assertEquals(NULL_LONG, source.getLong(100));
+            assertEquals(NULL_LONG, source.getLong(3L * OffHeapColumnSource.BLOCK_SIZE));
+            assertEquals(NULL_LONG, source.getLong((7L << OffHeapColumnSource.LOG_REGION_SIZE) + 1));
+            assertEquals(NULL_LONG, source.getLong(-1));
+        }
+    }
+
+    @Test
+    public void testFillChunkUnordered() {
+        final OffHeapDoubleColumnSource source = new OffHeapDoubleColumnSource();
+        final long region = 1L << OffHeapColumnSource.LOG_REGION_SIZE;
+        source.set(10, 1.5);
+        source.set(region + 10, Double.NaN);
+        source.set(OffHeapColumnSource.BLOCK_SIZE + 10, -2.5);
+
+        try (final WritableLongChunk<RowKeys> keys = WritableLongChunk.makeWritableChunk(5);
+                final WritableDoubleChunk<Values> dest = WritableDoubleChunk.makeWritableChunk(5);
+                final ChunkSource.FillContext fillContext = source.makeFillContext(5)) {
+            keys.set(0, OffHeapColumnSource.BLOCK_SIZE + 10);
+            keys.set(1, RowSet.NULL_ROW_KEY);
+            keys.set(2, region + 10);
+            keys.set(3, 10);
+            keys.set(4, 11);
+            source.fillChunkUnordered(fillContext, dest, keys);
+            assertEquals(-2.5, dest.get(0));
+            assertEquals(NULL_DOUBLE, dest.get(1));
+            assertEquals(Double.NaN, dest.get(2));
+            assertEquals(1.5, dest.get(3));
+            assertEquals(NULL_DOUBLE, dest.get(4));
+        }
+    }
+
+    @Test
+    public void testPrevTracking() {
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        final OffHeapDoubleColumnSource source = new OffHeapDoubleColumnSource();
+        source.startTrackingPrevValues();
+        try (final RowSet rowSet = makeRowSet()) {
+            updateGraph.runWithinUnitTestCycle(() -> rowSet.forAllRowKeys(key -> source.set(key, (double) key)));
+            checkPrev(source, rowSet, 0);
+
+            updateGraph.runWithinUnitTestCycle(() -> {
+                rowSet.forAllRowKeys(key -> source.set(key, (double) (key + 1)));
+                // a second write in the same cycle must not overwrite the previous value
+                rowSet.forAllRowKeys(key -> source.set(key, (double) (key + 2)));
+                checkPrev(source, rowSet, 2);
+                source.setNull(0);
+                assertEquals(NULL_DOUBLE, source.getDouble(0));
+                assertEquals(0.0, source.getPrevDouble(0));
+            });
+            assertEquals(NULL_DOUBLE, source.getPrevDouble(0));
+            assertEquals(3.0, source.getPrevDouble(1));
+        }
+    }
+
+    @Test
+    public void testPrepareForParallelPopulation() {
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        final OffHeapDoubleColumnSource source = new OffHeapDoubleColumnSource();
+        source.startTrackingPrevValues();
+        try (final RowSet rowSet = makeRowSet()) {
+            updateGraph.runWithinUnitTestCycle(() -> rowSet.forAllRowKeys(key -> source.set(key, (double) key)));
+            updateGraph.runWithinUnitTestCycle(() -> {
+                source.prepareForParallelPopulation(rowSet);
+                rowSet.forAllRowKeys(key -> source.set(key, (double) (key + 1)));
+                checkPrev(source, rowSet, 1);
+            });
+        }
+    }
+
+    @Test
+    public void testReleaseCachedResources() {
+        // Derived tables share their parents' column sources, so releasing cached resources must not discard data
+        final OffHeapLongColumnSource source = new OffHeapLongColumnSource();
+        try (final RowSet rowSet = makeRowSet()) {
+            rowSet.forAllRowKeys(key -> source.set(key, key));
+            source.releaseCachedResources();
+            rowSet.forAllRowKeys(key -> assertEquals(key, source.getLong(key)));
+            source.set(rowSet.lastRowKey(), 42);
+            assertEquals(42, source.getLong(rowSet.lastRowKey()));
+        }
+        assertEquals(NULL_LONG, source.getLong(1L << 50));
+    }
+
+    /**
+     * Check that every key in {@code rowSet} has the previous value {@code key} and the current value
+     * {@code key + delta}.
+     */
+    private static void checkPrev(final OffHeapDoubleColumnSource source, final RowSet rowSet, final int delta) {
+        try (final WritableDoubleChunk<Values> current = WritableDoubleChunk.makeWritableChunk(rowSet.intSize());
+                final WritableDoubleChunk<Values> prev = WritableDoubleChunk.makeWritableChunk(rowSet.intSize());
+                final ChunkSource.FillContext fillContext = source.makeFillContext(rowSet.intSize())) {
+            source.fillChunk(fillContext, current, rowSet);
+            source.fillPrevChunk(fillContext, prev, rowSet);
+            for (int ii = 0; ii < rowSet.intSize(); ++ii) {
+                final long key = rowSet.get(ii);
+                assertEquals((double) key + delta, current.get(ii));
+                assertEquals((double) key, prev.get(ii));
+                assertEquals((double) key, source.getPrevDouble(key));
+            }
+        }
+    }
+}
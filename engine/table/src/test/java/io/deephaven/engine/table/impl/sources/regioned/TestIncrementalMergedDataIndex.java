@@ -0,0 +1,281 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.sources.regioned;
+
+import io.deephaven.base.FileUtils;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetBuilderSequential;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.table.ColumnDefinition;
+import io.deephaven.engine.table.ColumnSource;
+import io.deephaven.engine.table.DataIndex;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.TableDefinition;
+import io.deephaven.engine.table.TableUpdate;
+import io.deephaven.engine.table.impl.PartitionAwareSourceTable;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.SimpleListener;
+import io.deephaven.engine.table.impl.SourceTable;
+import io.deephaven.engine.table.impl.TableUpdateMode;
+import io.deephaven.engine.table.impl.indexer.DataIndexer;
+import io.deephaven.engine.table.impl.locations.ImmutableTableLocationKey;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import io.deephaven.engine.testutil.junit4.EngineCleanup;
+import io.deephaven.engine.testutil.locations.TableBackedTableLocationProvider;
+import io.deephaven.engine.util.TableTools;
+import io.deephaven.engine.util.file.TrackedFileHandleFactory;
+import io.deephaven.parquet.table.ParquetInstructions;
+import io.deephaven.parquet.table.ParquetTools;
+import junit.framework.TestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static io.deephaven.engine.rowset.RowSequence.NULL_ROW_KEY;
+import static io.deephaven.engine.testutil.TstUtils.addToTable;
+import static io.deephaven.engine.testutil.TstUtils.i;
+import static io.deephaven.engine.testutil.TstUtils.testRefreshingTable;
+import static io.deephaven.engine.util.TableTools.charCol;
+import static io.deephaven.engine.util.TableTools.longCol;
+
+/**
+ * Unit tests for {@link IncrementalMergedDataIndex}.
+ */
+public class TestIncrementalMergedDataIndex {
+
+    private static final TableDefinition FILE_DEFINITION = TableDefinition.of(
+            ColumnDefinition.ofChar("Sym"),
+            ColumnDefinition.ofLong("Other"));
+
+    private static final TableDefinition PARTITIONED_DEFINITION = TableDefinition.of(
+            ColumnDefinition.ofString("Part").withPartitioning(),
+            ColumnDefinition.ofChar("Sym"),
+            ColumnDefinition.ofLong("Other"));
+
+    @Rule
+    public final EngineCleanup base = new EngineCleanup();
+
+    private File dataDirectory;
+    private boolean oldEnabled;
+
+    @Before
+    public void setUp() throws Exception {
+        dataDirectory = Files.createTempDirectory(Paths.get(""), "TestIncrementalMergedDataIndex-").toFile();
+        dataDirectory.deleteOnExit();
+        oldEnabled = IncrementalMergedDataIndex.ENABLED;
+        IncrementalMergedDataIndex.ENABLED = true;
+    }
+
+    @After
+    public void tearDown() {
+        IncrementalMergedDataIndex.ENABLED = oldEnabled;
+        if (dataDirectory.exists()) {
+            TrackedFileHandleFactory.getInstance().closeAll();
+            FileUtils.deleteRecursively(dataDirectory);
+        }
+    }
+
+    @Test
+    public void testAddedLocations() {
+        writePartition("P0", 5);
+        writePartition("P1", 5);
+
+        final Table source = ParquetTools.readTable(dataDirectory.getPath(),
+                ParquetInstructions.builder().setIsRefreshing(true).build().withTableDefinitionAndLayout(
+                        PARTITIONED_DEFINITION, ParquetInstructions.ParquetFileLayout.KV_PARTITIONED));
+        final Table table = source.coalesce();
+        TestCase.assertTrue(DataIndexer.hasDataIndex(table, "Sym"));
+        final DataIndex dataIndex = DataIndexer.getDataIndex(table, "Sym");
+        TestCase.assertNotNull(dataIndex);
+        TestCase.assertTrue(dataIndex.isRefreshing());
+        verifyIndex(table, dataIndex);
+        TestCase.assertEquals(5, dataIndex.table().size());
+
+        // Add a partition with existing and new keys
+        writePartition("P2", 8);
+        ExecutionContext.getContext().getUpdateGraph().<ControlledUpdateGraph>cast().runWithinUnitTestCycle(() -> {
+            ((SourceTable<?>) source).tableLocationProvider().refresh();
+            ((SourceTable<?>) source).refresh();
+        });
+        verifyIndex(table, dataIndex);
+        TestCase.assertEquals(8, dataIndex.table().size());
+    }
+
+    @Test
+    public void testRemovedAndModifiedLocations() {
+        final ControlledUpdateGraph updateGraph = ExecutionContext.getContext().getUpdateGraph().cast();
+        final TableBackedTableLocationProvider tlp = new TableBackedTableLocationProvider(
+                updateGraph, true, TableUpdateMode.ADD_REMOVE, TableUpdateMode.ADD_REMOVE);
+        final QueryTable p0 = makeLocationTable('A', 'B', 'C');
+        tlp.add(p0, Map.of("Part", "P0"));
+        tlp.add(makeLocationTable('C', 'D'), Map.of("Part", "P1"));
+
+        final Table source = new PartitionAwareSourceTable(PARTITIONED_DEFINITION, "TestTable",
+                RegionedTableComponentFactoryImpl.INSTANCE, tlp, updateGraph);
+        final Table table = source.coalesce();
+        final DataIndex dataIndex = DataIndexer.getDataIndex(table, "Sym");
+        TestCase.assertNotNull(dataIndex);
+        TestCase.assertTrue(dataIndex instanceof IncrementalMergedDataIndex);
+        verifyIndex(table, dataIndex);
+        TestCase.assertEquals(4, dataIndex.table().size());
+        final DataIndex.RowKeyLookup lookup = dataIndex.rowKeyLookup();
+        final long dPosition = lookup.apply('D', false);
+
+        final SimpleListener listener = new SimpleListener(dataIndex.table());
+        dataIndex.table().addUpdateListener(listener);
+
+        // Remove the only location with D, and one of the locations with C
+        updateGraph.runWithinUnitTestCycle(() -> {
+            tlp.removeTableLocationKey(locationKey(tlp, "P1"));
+            ((SourceTable<?>) source).refresh();
+        });
+        verifyIndex(table, dataIndex);
+        verifyUpdate(listener, dataIndex, "", "D", "C");
+        TestCase.assertEquals(NULL_ROW_KEY, lookup.apply('D', false));
+
+        // Add a location that brings D back, along with a new key
+        updateGraph.runWithinUnitTestCycle(() -> {
+            tlp.add(makeLocationTable('D', 'E'), Map.of("Part", "P2"));
+            ((SourceTable<?>) source).refresh();
+        });
+        verifyIndex(table, dataIndex);
+        verifyUpdate(listener, dataIndex, "DE", "", "");
+        TestCase.assertEquals(dPosition, lookup.apply('D', false));
+
+        // Grow P0; the source table doesn't see the new rows until the location is refreshed
+        updateGraph.runWithinUnitTestCycle(() -> {
+            addToTable(p0, i(3, 4), charCol("Sym", 'A', 'F'), longCol("Other", 3, 4));
+            p0.notifyListeners(i(3, 4), i(), i());
+        });
+        verifyIndex(table, dataIndex);
+        TestCase.assertEquals(0, listener.getCount());
+
+        // Modify P0; its existing keys are modified and its new key is added
+        updateGraph.runWithinUnitTestCycle(() -> {
+            tlp.getTableLocation(locationKey(tlp, "P0")).refresh();
+            ((SourceTable<?>) source).refresh();
+        });
+        verifyIndex(table, dataIndex);
+        verifyUpdate(listener, dataIndex, "F", "", "ABC");
+        TestCase.assertEquals(5, dataIndex.table().size());
+
+        // Remove P0, which empties every key except those of P2
+        updateGraph.runWithinUnitTestCycle(() -> {
+            tlp.removeTableLocationKey(locationKey(tlp, "P0"));
+            ((SourceTable<?>) source).refresh();
+        });
+        verifyIndex(table, dataIndex);
+        verifyUpdate(listener, dataIndex, "", "ABCF", "");
+        TestCase.assertEquals(2, dataIndex.table().size());
+        TestCase.assertEquals(NULL_ROW_KEY, lookup.apply('A', false));
+    }
+
+    @Test
+    public void testDisabled() {
+        IncrementalMergedDataIndex.ENABLED = false;
+        writePartition("P0", 5);
+
+        final Table table = ParquetTools.readTable(dataDirectory.getPath(),
+                ParquetInstructions.builder().setIsRefreshing(true).build().withTableDefinitionAndLayout(
+                        PARTITIONED_DEFINITION, ParquetInstructions.ParquetFileLayout.KV_PARTITIONED))
+                .coalesce();
+        TestCase.assertFalse(DataIndexer.hasDataIndex(table, "Sym"));
+    }
+
+    private void writePartition(final String partition, final int numSyms) {
+        final Table data = TableTools.emptyTable(1000).update(
+                "Sym=(char)('A' + ii % " + numSyms + ")",
+                "Other=ii");
+        DataIndexer.getOrCreateDataIndex(data, "Sym");
+        ParquetTools.writeTable(data,
+                new File(dataDirectory, "Part=" + partition + File.separator + "data.parquet").getPath(),
+                ParquetInstructions.EMPTY.withTableDefinition(FILE_DEFINITION));
+    }
+
+    private static QueryTable makeLocationTable(final char... syms) {
+        final long[] others = new long[syms.length];
+        for (int ii = 0; ii < syms.length; ++ii) {
+            others[ii] = ii;
+        }
+        final QueryTable table = testRefreshingTable(RowSetFactory.flat(syms.length).toTracking(),
+                charCol("Sym", syms), longCol("Other", others));
+        table.setAttribute(Table.APPEND_ONLY_TABLE_ATTRIBUTE, true);
+        DataIndexer.getOrCreateDataIndex(table, "Sym");
+        return table;
+    }
+
+    private static ImmutableTableLocationKey locationKey(
+            final TableBackedTableLocationProvider tlp,
+            final String partition) {
+        return tlp.getTableLocationKeys().stream()
+                .filter(key -> partition.equals(key.<String>getPartitionValue("Part")))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    /**
+     * Check that {@code listener} received exactly one update in the last cycle, with the given keys added, removed,
+     * and modified, and reset it for the next cycle.
+     */
+    private static void verifyUpdate(
+            final SimpleListener listener,
+            final DataIndex dataIndex,
+            final String added,
+            final String removed,
+            final String modified) {
+        TestCase.assertEquals(1, listener.getCount());
+        final TableUpdate update = listener.getUpdate();
+        TestCase.assertEquals(added, keysAt(dataIndex, update.added()));
+        TestCase.assertEquals(removed, keysAt(dataIndex, update.removed()));
+        TestCase.assertEquals(modified, keysAt(dataIndex, update.modified()));
+        TestCase.assertTrue(update.shifted().empty());
+        TestCase.assertEquals(update.modified().isNonempty(), update.modifiedColumnSet().containsAny(
+                ((QueryTable) dataIndex.table()).newModifiedColumnSet(dataIndex.rowSetColumnName())));
+        listener.reset();
+    }
+
+    /**
+     * The keys at {@code positions} in the index table, in key order. Keys never move, so this also works for removed
+     * positions.
+     */
+    private static String keysAt(final DataIndex dataIndex, final RowSet positions) {
+        final ColumnSource<?> keySource = dataIndex.table().getColumnSource("Sym");
+        final List<Character> keys = new ArrayList<>();
+        positions.forAllRowKeys(pos -> keys.add(keySource.getChar(pos)));
+        return keys.stream().sorted().map(String::valueOf).collect(Collectors.joining());
+    }
+
+    private static void verifyIndex(final Table table, final DataIndex dataIndex) {
+        final Map<Character, RowSetBuilderSequential> expectedBuilders = new HashMap<>();
+        final ColumnSource<?> symSource = table.getColumnSource("Sym");
+        table.getRowSet().forAllRowKeys(rowKey -> expectedBuilders
+                .computeIfAbsent(symSource.getChar(rowKey), k -> RowSetFactory.builderSequential())
+                .appendKey(rowKey));
+
+        final Table indexTable = dataIndex.table();
+        TestCase.assertEquals(expectedBuilders.size(), indexTable.size());
+        final ColumnSource<?> keySource = indexTable.getColumnSource("Sym");
+        final ColumnSource<RowSet> rowSetSource = dataIndex.rowSetColumn();
+        final DataIndex.RowKeyLookup lookup = dataIndex.rowKeyLookup();
+        indexTable.getRowSet().forAllRowKeys(indexRowKey -> {
+            final char sym = keySource.getChar(indexRowKey);
+            try (final RowSet expected = expectedBuilders.get(sym).build()) {
+                TestCase.assertEquals(expected, rowSetSource.get(indexRowKey));
+            }
+            TestCase.assertEquals(indexRowKey, lookup.apply(sym, false));
+        });
+        TestCase.assertEquals(NULL_ROW_KEY, lookup.apply('Z', false));
+    }
+}
@@ -0,0 +1,253 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.updateby;
+
+import io.deephaven.api.updateby.UpdateByOperation;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import io.deephaven.engine.testutil.EvalNugget;
+import io.deephaven.engine.testutil.GenerateTableUpdates;
+import io.deephaven.engine.testutil.TstUtils;
+import io.deephaven.engine.testutil.generator.CharGenerator;
+import io.deephaven.engine.testutil.generator.SortedInstantGenerator;
+import io.deephaven.engine.testutil.generator.TestDataGenerator;
+import io.deephaven.engine.util.TableDiff;
+import io.deephaven.test.types.OutOfBandTest;
+import io.deephaven.time.DateTimeUtils;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static io.deephaven.engine.testutil.GenerateTableUpdates.generateAppends;
+
+@Category(OutOfBandTest.class)
+public class TestRollingPercentile extends BaseUpdateByTest {
+    final String[] columns = new String[] {
+            "charCol",
+            "byteCol",
+            "shortCol",
+            "intCol",
+            "longCol",
+            "floatCol",
+            "doubleCol",
+    };
+
+    final int STATIC_TABLE_SIZE = 10_000;
+    final int DYNAMIC_TABLE_SIZE = 1_000;
+    final int DYNAMIC_UPDATE_SIZE = 100;
+    final int DYNAMIC_UPDATE_STEPS = 20;
+
+    final double PERCENTILE = 0.25;
+
+    // The Numeric class functions don't accept char, so upcast it for verification.
+    private static final String CASTING_FORMULA = "charCol=(short)charCol";
+
+    private static String[] getMedianFormulas(String[] columns) {
+        return Arrays.stream(columns)
+                .map(c -> String.format("%s=median(%s)", c, c))
+                .toArray(String[]::new);
+    }
+
+    private String[] getPercentileFormulas(String[] columns) {
+        return Arrays.stream(columns)
+                .map(c -> String.format("%s=(double)percentile(%s, %s)", c, PERCENTILE, c))
+                .toArray(String[]::new);
+    }
+
+    private QueryTable createStaticTable(final boolean bucketed) {
+        return createTestTable(STATIC_TABLE_SIZE, bucketed, false, false, 0xFFFABBBC,
+                new String[] {"ts", "charCol"}, new TestDataGenerator[] {new SortedInstantGenerator(
+                        DateTimeUtils.parseInstant("2022-03-09T09:00:00.000 NY"),
+                        DateTimeUtils.parseInstant("2022-03-09T16:30:00.000 NY")),
+                        new CharGenerator('A', 'z', 0.1)}).t;
+    }
+
+    // region Static Tests
+
+    @Test
+    public void testStaticZeroKeyRev() {
+        doTestStaticTicks(false, 100, 0);
+    }
+
+    @Test
+    public void testStaticZeroKeyFwdRevWindow() {
+        doTestStaticTicks(false, -50, 100);
+    }
+
+    @Test
+    public void testStaticZeroKeySingleRow() {
+        doTestStaticTicks(false, 1, 0);
+    }
+
+    @Test
+    public void testStaticZeroKeyTimedRev() {
+        doTestStaticTimed(false, Duration.ofMinutes(10), Duration.ZERO);
+    }
+
+    @Test
+    public void testStaticZeroKeyTimedFwdRev() {
+        doTestStaticTimed(false, Duration.ofMinutes(-5), Duration.ofMinutes(10));
+    }
+
+    @Test
+    public void testStaticBucketedFwdRev() {
+        doTestStaticTicks(true, 50, 50);
+    }
+
+    @Test
+    public void testStaticBucketedTimedFwdRev() {
+        doTestStaticTimed(true, Duration.ofMinutes(5), Duration.ofMinutes(5));
+    }
+
+    @Test
+    public void testStaticZeroKeyLargeWindow() {
+        // Wide enough that the multisets span several leaves
+        final QueryTable t = createStaticTable(false);
+
+        final Table actual = t.updateBy(UpdateByOperation.RollingMedian(5_000, "doubleCol"));
+        final Table expected = t.updateBy(UpdateByOperation.RollingGroup(5_000, "doubleCol"))
+                .update("doubleCol=median(doubleCol)");
+        TstUtils.assertTableEquals(expected, actual, TableDiff.DiffItems.DoublesExact);
+    }
+
+    private void doTestStaticTicks(final boolean bucketed, final int prevTicks, final int postTicks) {
+        final QueryTable t = createStaticTable(bucketed);
+        final String[] keys = bucketed ? new String[] {"Sym"} : new String[0];
+
+        final Table expectedGroups = t.update(CASTING_FORMULA)
+                .updateBy(UpdateByOperation.RollingGroup(prevTicks, postTicks, columns), keys);
+
+        Table actual = t.updateBy(UpdateByOperation.RollingMedian(prevTicks, postTicks, columns), keys);
+        Table expected = expectedGroups.update(getMedianFormulas(columns));
+        TstUtils.assertTableEquals(expected, actual, TableDiff.DiffItems.DoublesExact);
+
+        actual = t.updateBy(UpdateByOperation.RollingPercentile(PERCENTILE, prevTicks, postTicks, columns), keys);
+        expected = expectedGroups.update(getPercentileFormulas(columns));
+        TstUtils.assertTableEquals(expected, actual, TableDiff.DiffItems.DoublesExact);
+    }
+
+    private void doTestStaticTimed(final boolean bucketed, final Duration prevTime, final Duration postTime) {
+        final QueryTable t = createStaticTable(bucketed);
+        final String[] keys = bucketed ? new String[] {"Sym"} : new String[0];
+
+        final Table expectedGroups = t.update(CASTING_FORMULA)
+                .updateBy(UpdateByOperation.RollingGroup("ts", prevTime, postTime, columns), keys);
+
+        Table actual = t.updateBy(UpdateByOperation.RollingMedian("ts", prevTime, postTime, columns), keys);
+        Table expected = expectedGroups.update(getMedianFormulas(columns));
+        TstUtils.assertTableEquals(expected, actual, TableDiff.DiffItems.DoublesExact);
+
+        actual = t.updateBy(
+                UpdateByOperation.RollingPercentile(PERCENTILE, "ts", prevTime, postTime, columns), keys);
+        expected = expectedGroups.update(getPercentileFormulas(columns));
+        TstUtils.assertTableEquals(expected, actual, TableDiff.DiffItems.DoublesExact);
+    }
+
+    // endregion
+
+    // region Ticking Tests
+
+    @Test
+    public void testZeroKeyAppendOnlyRev() {
+        doTestAppendOnly(false, 100, 0);
+    }
+
+    @Test
+    public void testBucketedAppendOnlyFwdRev() {
+        doTestAppendOnly(true, 50, 50);
+    }
+
+    @Test
+    public void testZeroKeyGeneralTickingRev() {
+        doTestTicking(false, 100, 0);
+    }
+
+    @Test
+    public void testBucketedGeneralTickingFwdRev() {
+        doTestTicking(true, 50, 50);
+    }
+
+    @Test
+    public void testBucketedGeneralTickingTimedFwdRev() {
+        doTestTickingTimed(true, Duration.ofMinutes(5), Duration.ofMinutes(5));
+    }
+
+    private void doTestAppendOnly(final boolean bucketed, final int prevTicks, final int postTicks) {
+        final CreateResult result = createTestTable(DYNAMIC_TABLE_SIZE, bucketed, false, true, 0x31313131,
+                new String[] {"charCol"},
+                new TestDataGenerator[] {new CharGenerator('A', 'z', 0.1)});
+
+        final QueryTable t = result.t;
+        t.setAttribute(Table.APPEND_ONLY_TABLE_ATTRIBUTE, Boolean.TRUE);
+
+        final EvalNugget[] nuggets = makeNuggets(t, bucketed, Arrays.asList(
+                UpdateByOperation.RollingMedian(prevTicks, postTicks, columns),
+                UpdateByOperation.RollingPercentile(PERCENTILE, prevTicks, postTicks, columns)));
+
+        final Random billy = new Random(0xB177B177);
+        for (int ii = 0; ii < DYNAMIC_UPDATE_STEPS; ii++) {
+            ExecutionContext.getContext().getUpdateGraph().<ControlledUpdateGraph>cast().runWithinUnitTestCycle(
+                    () -> generateAppends(DYNAMIC_UPDATE_SIZE, billy, t, result.infos));
+            TstUtils.validate("Table", nuggets);
+        }
+    }
+
+    private void doTestTicking(final boolean bucketed, final long prevTicks, final long fwdTicks) {
+        final CreateResult result = createTestTable(DYNAMIC_TABLE_SIZE, bucketed, false, true, 0x31313131,
+                new String[] {"charCol"},
+                new TestDataGenerator[] {new CharGenerator('A', 'z', 0.1)});
+        final QueryTable t = result.t;
+
+        final EvalNugget[] nuggets = makeNuggets(t, bucketed, Arrays.asList(
+                UpdateByOperation.RollingMedian(prevTicks, fwdTicks, columns),
+                UpdateByOperation.RollingPercentile(PERCENTILE, prevTicks, fwdTicks, columns)));
+
+        final Random billy = new Random(0xB177B177);
+        for (int ii = 0; ii < DYNAMIC_UPDATE_STEPS; ii++) {
+            ExecutionContext.getContext().getUpdateGraph().<ControlledUpdateGraph>cast().runWithinUnitTestCycle(
+                    () -> GenerateTableUpdates.generateTableUpdates(DYNAMIC_UPDATE_SIZE, billy, t, result.infos));
+            TstUtils.validate("Table - step " + ii, nuggets);
+        }
+    }
+
+    private void doTestTickingTimed(final boolean bucketed, final Duration prevTime, final Duration postTime) {
+        final CreateResult result = createTestTable(DYNAMIC_TABLE_SIZE, bucketed, false, true, 0x31313131,
+                new String[] {"ts", "charCol"}, new TestDataGenerator[] {new SortedInstantGenerator(
+                        DateTimeUtils.parseInstant("2022-03-09T09:00:00.000 NY"),
+                        DateTimeUtils.parseInstant("2022-03-09T16:30:00.000 NY")),
+                        new CharGenerator('A', 'z', 0.1)});
+        final QueryTable t = result.t;
+
+        final EvalNugget[] nuggets = makeNuggets(t, bucketed, Arrays.asList(
+                UpdateByOperation.RollingMedian("ts", prevTime, postTime, columns),
+                UpdateByOperation.RollingPercentile(PERCENTILE, "ts", prevTime, postTime, columns)));
+
+        final Random billy = new Random(0xB177B177);
+        for (int ii = 0; ii < DYNAMIC_UPDATE_STEPS; ii++) {
+            ExecutionContext.getContext().getUpdateGraph().<ControlledUpdateGraph>cast().runWithinUnitTestCycle(
+                    () -> GenerateTableUpdates.generateTableUpdates(DYNAMIC_UPDATE_SIZE, billy, t, result.infos));
+            TstUtils.validate("Table - step " + ii, nuggets);
+        }
+    }
+
+    private static EvalNugget[] makeNuggets(final QueryTable t, final boolean bucketed,
+            final Iterable<UpdateByOperation> operations) {
+        final List<EvalNugget> nuggets = new ArrayList<>();
+        for (final UpdateByOperation operation : operations) {
+            nuggets.add(EvalNugget.from(() -> bucketed
+                    ? t.updateBy(operation, "Sym")
+                    : t.updateBy(operation)));
+        }
+        return nuggets.toArray(EvalNugget[]::new);
+    }
+
+    // endregion
+}
@@ -0,0 +1,168 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.engine.table.impl.updateby;
+
+import io.deephaven.api.updateby.UpdateByControl;
+import io.deephaven.api.updateby.UpdateByOperation;
+import io.deephaven.engine.context.ExecutionContext;
+import io.deephaven.engine.table.Table;
+import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.testutil.ControlledUpdateGraph;
+import io.deephaven.engine.testutil.EvalNugget;
+import io.deephaven.engine.testutil.GenerateTableUpdates;
+import io.deephaven.engine.testutil.TstUtils;
+import io.deephaven.engine.util.TableTools;
+import io.deephaven.test.types.OutOfBandTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static io.deephaven.engine.testutil.GenerateTableUpdates.generateAppends;
+
+/**
+ * Verify that cumulative operators computed over concurrent segments match the sequential computation.
+ */
+@Category(OutOfBandTest.class)
+public class TestUpdateByParallelCumulative extends BaseUpdateByTest {
+    private static final String[] NUMERIC_COLUMNS = {
+            "byteCol", "shortCol", "intCol", "longCol", "floatCol", "doubleCol", "bigIntCol", "bigDecimalCol"};
+
+    private long oldRowsPerSegment;
+    private boolean oldForce;
+    private boolean oldDisable;
+
+    @Before
+    public void setUp() throws Exception {
+        oldRowsPerSegment = UpdateBy.PARALLEL_CUMULATIVE_ROWS_PER_SEGMENT;
+        oldForce = UpdateBy.FORCE_PARALLEL_CUMULATIVE;
+        oldDisable = UpdateBy.DISABLE_PARALLEL_CUMULATIVE;
+        UpdateBy.PARALLEL_CUMULATIVE_ROWS_PER_SEGMENT = 100;
+        UpdateBy.FORCE_PARALLEL_CUMULATIVE = true;
+        UpdateBy.DISABLE_PARALLEL_CUMULATIVE = false;
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        UpdateBy.PARALLEL_CUMULATIVE_ROWS_PER_SEGMENT = oldRowsPerSegment;
+        UpdateBy.FORCE_PARALLEL_CUMULATIVE = oldForce;
+        UpdateBy.DISABLE_PARALLEL_CUMULATIVE = oldDisable;
+    }
+
+    private static String[] pairs(final String[] columns, final String suffix) {
+        return Arrays.stream(columns).map(c -> c + suffix + "=" + c).toArray(String[]::new);
+    }
+
+    private static List<UpdateByOperation> operations() {
+        return List.of(
+                UpdateByOperation.CumSum(pairs(NUMERIC_COLUMNS, "_sum")),
+                // Floating point and BigDecimal sums and products are rounded, so they are only segmented on request
+                UpdateByOperation.CumProd(pairs(NUMERIC_COLUMNS, "_prod")),
+                UpdateByOperation.CumMin(pairs(NUMERIC_COLUMNS, "_min")),
+                UpdateByOperation.CumMax(pairs(NUMERIC_COLUMNS, "_max")),
+                UpdateByOperation.Fill(pairs(NUMERIC_COLUMNS, "_fill")),
+                UpdateByOperation.Fill("boolCol_fill=boolCol"),
+                UpdateByOperation.Delta(pairs(NUMERIC_COLUMNS, "_delta")));
+    }
+
+    private static Table sequential(final Supplier<Table> supplier) {
+        UpdateBy.DISABLE_PARALLEL_CUMULATIVE = true;
+        try {
+            return supplier.get();
+        } finally {
+            UpdateBy.DISABLE_PARALLEL_CUMULATIVE = false;
+        }
+    }
+
+    @Test
+    public void testStaticZeroKey() {
+        final QueryTable t = createTestTable(10_000, false, false, false, 0x31313131).t;
+
+        final Table expected = sequential(() -> t.updateBy(operations()));
+        TstUtils.assertTableEquals(expected, t.updateBy(operations()));
+    }
+
+    @Test
+    public void testStaticInexactOptIn() {
+        final boolean oldInexact = UpdateBy.PARALLEL_CUMULATIVE_INEXACT;
+        UpdateBy.PARALLEL_CUMULATIVE_INEXACT = true;
+        try {
+            // Sums of small integers and products of powers of two are exact however they are grouped
+            final Table t = TableTools.emptyTable(10_000).update(
+                    "floatCol = (float) (ii % 100)", "doubleCol = (double) (ii % 100)",
+                    "bigDecimalCol = java.math.BigDecimal.valueOf(ii % 100)",
+                    "floatFactor = (float) (1 + ii % 2)", "doubleFactor = (double) (1 + ii % 2)");
+            final List<UpdateByOperation> operations = List.of(
+                    UpdateByOperation.CumSum("floatSum=floatCol", "doubleSum=doubleCol", "bigDecimalSum=bigDecimalCol"),
+                    UpdateByOperation.CumProd("floatProd=floatFactor", "doubleProd=doubleFactor"));
+
+            final Table expected = sequential(() -> t.updateBy(operations));
+            TstUtils.assertTableEquals(expected, t.updateBy(operations));
+        } finally {
+            UpdateBy.PARALLEL_CUMULATIVE_INEXACT = oldInexact;
+        }
+    }
+
+    @Test
+    public void testStaticSingleRowSegments() {
+        UpdateBy.PARALLEL_CUMULATIVE_ROWS_PER_SEGMENT = 1;
+        final QueryTable t = createTestTable(1_000, false, false, false, 0x31313131).t;
+
+        final Table expected = sequential(() -> t.updateBy(operations()));
+        TstUtils.assertTableEquals(expected, t.updateBy(operations()));
+    }
+
+    @Test
+    public void testStaticRedirected() {
+        final QueryTable t = createTestTable(10_000, false, false, false, 0xFEEDFACE).t;
+        final UpdateByControl control = UpdateByControl.builder().useRedirection(true).build();
+
+        final Table expected = sequential(() -> t.updateBy(control, operations()));
+        TstUtils.assertTableEquals(expected, t.updateBy(control, operations()));
+    }
+
+    @Test
+    public void testZeroKeyAppendOnly() {
+        final CreateResult result = createTestTable(1_000, false, false, true, 0x31313131);
+        final QueryTable t = result.t;
+        t.setAttribute(Table.APPEND_ONLY_TABLE_ATTRIBUTE, Boolean.TRUE);
+
+        final Table actual = t.updateBy(operations());
+        final EvalNugget[] nuggets = new EvalNugget[] {
+                EvalNugget.from(() -> t.updateBy(operations()))
+        };
+
+        final Random billy = new Random(0xB177B177);
+        for (int ii = 0; ii < 20; ii++) {
+            ExecutionContext.getContext().getUpdateGraph().<ControlledUpdateGraph>cast().runWithinUnitTestCycle(
+                    () -> generateAppends(500, billy, t, result.infos));
+            TstUtils.validate("Table - step " + ii, nuggets);
+            TstUtils.assertTableEquals(sequential(() -> t.snapshot().updateBy(operations())), actual);
+        }
+    }
+
+    @Test
+    public void testZeroKeyGeneralTicking() {
+        final CreateResult result = createTestTable(1_000, false, false, true, 0x31313131);
+        final QueryTable t = result.t;
+
+        final Table actual = t.updateBy(operations());
+        final EvalNugget[] nuggets = new EvalNugget[] {
+                EvalNugget.from(() -> t.updateBy(operations()))
+        };
+
+        final Random billy = new Random(0xB177B177);
+        for (int ii = 0; ii < 20; ii++) {
+            ExecutionContext.getContext().getUpdateGraph().<ControlledUpdateGraph>cast().runWithinUnitTestCycle(
+                    () -> GenerateTableUpdates.generateTableUpdates(100, billy, t, result.infos));
+            TstUtils.validate("Table - step " + ii, nuggets);
+            TstUtils.assertTableEquals(sequential(() -> t.snapshot().updateBy(operations())), actual);
+        }
+    }
+}
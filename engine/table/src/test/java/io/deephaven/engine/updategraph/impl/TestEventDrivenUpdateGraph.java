@@ -14,6 +14,7 @@ import io.deephaven.engine.rowset.TrackingRowSet;
 import io.deephaven.engine.table.ColumnSource;
 import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.perf.UpdateCycleTracer;
 import io.deephaven.engine.table.impl.perf.UpdatePerformanceTracker;
 import io.deephaven.engine.table.impl.sources.LongSingleValueSource;
 import io.deephaven.engine.testutil.TstUtils;
@@ -44,6 +45,7 @@ public class TestEventDrivenUpdateGraph {
         // the default update is necessary for the update performance tracker
         clearUpdateGraphInstances();
         UpdatePerformanceTracker.resetForUnitTests();
+        UpdateCycleTracer.resetForUnitTests();
         defaultUpdateGraph = EventDrivenUpdateGraph.newBuilder(PeriodicUpdateGraph.DEFAULT_UPDATE_GRAPH_NAME).build();
     }
 
@@ -51,6 +53,7 @@ public class TestEventDrivenUpdateGraph {
     public void after() {
         clearUpdateGraphInstances();
         UpdatePerformanceTracker.resetForUnitTests();
+        UpdateCycleTracer.resetForUnitTests();
     }
 
     private static void clearUpdateGraphInstances() {
@@ -279,6 +282,62 @@ public class TestEventDrivenUpdateGraph {
         TstUtils.assertTableEquals(expect, compare);
     }
 
+    @Test
+    public void testUpdateCycleTracer() {
+        final Table trace = UpdateCycleTracer.getQueryTable();
+
+        final EventDrivenUpdateGraph eventDrivenUpdateGraph = EventDrivenUpdateGraph.newBuilder("TestEDUG").build();
+        eventDrivenUpdateGraph.setCycleTracingEnabled(true);
+
+        final ExecutionContext context = ExecutionContext.newBuilder()
+                .setUpdateGraph(eventDrivenUpdateGraph)
+                .emptyQueryScope()
+                .newQueryLibrary()
+                .setQueryCompiler(compilerForUnitTests())
+                .setOperationInitializer(OPERATION_INITIALIZATION)
+                .build();
+        final Table updated;
+        try (final SafeCloseable ignored = context.open()) {
+            final SourceThatModifiesItself modifySource = new SourceThatModifiesItself(eventDrivenUpdateGraph);
+            updated = eventDrivenUpdateGraph.sharedLock().computeLocked(() -> modifySource.update("X=2 * V"));
+        }
+        eventDrivenUpdateGraph.requestRefresh();
+        TestCase.assertEquals(1, updated.size());
+
+        defaultUpdateGraph.requestRefresh();
+
+        final ExecutionContext defaultContext = ExecutionContext.newBuilder()
+                .setUpdateGraph(defaultUpdateGraph)
+                .emptyQueryScope()
+                .newQueryLibrary()
+                .setQueryCompiler(compilerForUnitTests())
+                .setOperationInitializer(OPERATION_INITIALIZATION)
+                .build();
+        try (final SafeCloseable ignored = defaultContext.open()) {
+            final Table traced = defaultUpdateGraph.sharedLock().computeLocked(
+                    () -> trace.where("UpdateGraph==`TestEDUG`").snapshot());
+            TableTools.show(traced);
+
+            // one refresh notification for the source, which enqueued the notification for the update listener
+            final Table sourceRefresh = traced.where("isNull(ParentNotificationId)");
+            TestCase.assertEquals(1, sourceRefresh.size());
+            final long sourceId = sourceRefresh.getColumnSource("NotificationId", long.class)
+                    .getLong(sourceRefresh.getRowSet().firstRowKey());
+            final Table children = traced.where("ParentNotificationId == " + sourceId);
+            TestCase.assertTrue(children.size() >= 1);
+            TestCase.assertEquals(0,
+                    traced.where("isNull(StartTime) || isNull(EndTime) || EndTime < StartTime").size());
+            TestCase.assertEquals(0, children.where("isNull(EnqueueTime) || isNull(SatisfiedTime)").size());
+
+            // tracing stops on the next cycle once disabled
+            eventDrivenUpdateGraph.setCycleTracingEnabled(false);
+            eventDrivenUpdateGraph.requestRefresh();
+            defaultUpdateGraph.requestRefresh();
+            TestCase.assertEquals(traced.size(), defaultUpdateGraph.sharedLock().computeLocked(
+                    () -> trace.where("UpdateGraph==`TestEDUG`").snapshot()).size());
+        }
+    }
+
     @ReflexiveUse(referrers = "TestEventDrivenUpdateGraph")
     static public <T> T sleepValue(long duration, T retVal) {
         final Object blech = new Object();
@@ -6,6 +6,7 @@ package io.deephaven.engine.testutil.locations;
 import io.deephaven.api.SortColumn;
 import io.deephaven.engine.table.BasicDataIndex;
 import io.deephaven.engine.table.impl.QueryTable;
+import io.deephaven.engine.table.impl.indexer.DataIndexer;
 import io.deephaven.engine.table.impl.locations.ColumnLocation;
 import io.deephaven.engine.table.impl.locations.TableDataException;
 import io.deephaven.engine.table.impl.locations.impl.AbstractTableLocation;
@@ -15,6 +16,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 public final class TableBackedTableLocation extends AbstractTableLocation {
 
@@ -73,12 +75,18 @@ public final class TableBackedTableLocation extends AbstractTableLocation {
     @Override
     @NotNull
     public List<String[]> getDataIndexColumns() {
-        return List.of();
+        final DataIndexer dataIndexer = DataIndexer.existingOf(table().getRowSet());
+        if (dataIndexer == null) {
+            return List.of();
+        }
+        return dataIndexer.dataIndexes(true).stream()
+                .map(dataIndex -> dataIndex.keyColumnNames().toArray(String[]::new))
+                .collect(Collectors.toList());
     }
 
     @Override
     public boolean hasDataIndex(@NotNull final String... columns) {
-        return false;
+        return DataIndexer.hasDataIndex(table(), columns);
     }
 
     @Override
@@ -90,6 +98,6 @@ public final class TableBackedTableLocation extends AbstractTableLocation {
     @Override
     @Nullable
     public BasicDataIndex loadDataIndex(@NotNull final String... columns) {
-        return null;
+        return DataIndexer.getDataIndex(table(), columns);
     }
 }
@@ -0,0 +1,371 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.benchmark.barrage;
+
+import com.google.flatbuffers.FlatBufferBuilder;
+import io.deephaven.chunk.Chunk;
+import io.deephaven.chunk.ChunkType;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.RowSetFactory;
+import io.deephaven.engine.rowset.RowSetShiftData;
+import io.deephaven.engine.table.impl.sources.ReinterpretUtils;
+import io.deephaven.engine.table.impl.util.BarrageMessage;
+import io.deephaven.extensions.barrage.BarrageMessageWriter;
+import io.deephaven.extensions.barrage.BarrageMessageWriterImpl;
+import io.deephaven.extensions.barrage.BarrageOptions;
+import io.deephaven.extensions.barrage.BarragePerformanceLog;
+import io.deephaven.extensions.barrage.BarrageSnapshotOptions;
+import io.deephaven.extensions.barrage.BarrageSubscriptionOptions;
+import io.deephaven.extensions.barrage.BarrageTypeInfo;
+import io.deephaven.extensions.barrage.chunk.ChunkWriter;
+import io.deephaven.extensions.barrage.chunk.DefaultChunkWriterFactory;
+import io.deephaven.extensions.barrage.util.BarrageUtil;
+import io.deephaven.extensions.barrage.util.DefensiveDrainable;
+import io.deephaven.util.BooleanUtils;
+import io.deephaven.util.QueryConstants;
+import io.deephaven.vector.LongVector;
+import io.deephaven.vector.LongVectorDirect;
+import org.apache.arrow.vector.types.UnionMode;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * The columns, schema, and messages shared by the Barrage benchmarks.
+ * <p>
+ * Column data is wrapped rather than taken from the chunk pools. The chunk writer contexts close the chunks they are
+ * handed, which is a no-op for wrapped chunks, so the same data backs every message written during a trial.
+ */
+final class BarrageBenchmarkData {
+
+    /**
+     * The number of rows in a snapshot, and in the table a delta is applied to.
+     */
+    static final int SNAPSHOT_ROWS = 1 << 18;
+
+    /**
+     * The number of rows added, removed, and modified by a delta.
+     */
+    static final int DELTA_ROWS = 1 << 14;
+
+    private static final BarragePerformanceLog.WriteMetricsConsumer NO_METRICS = (bytes, cpuNanos) -> {
+    };
+
+    enum ColumnSet {
+        /**
+         * Every primitive type, plus booleans and timestamps, which are sent as primitives.
+         */
+        PRIMITIVE,
+        /**
+         * Strings, both repeated and unique.
+         */
+        OBJECT,
+        /**
+         * Variable-length arrays, vectors, maps, and dense unions.
+         */
+        NESTED
+    }
+
+    enum MessageKind {
+        /**
+         * A full snapshot, as sent to a new subscriber or in response to a snapshot request.
+         */
+        SNAPSHOT,
+        /**
+         * An update that removes, adds, and modifies rows of every column.
+         */
+        DELTA
+    }
+
+    private static final class BenchmarkColumn {
+        private final Field field;
+        private final Class<?> type;
+        private final Class<?> componentType;
+        private final ChunkType chunkType;
+        private final Object data;
+
+        private BenchmarkColumn(
+                @NotNull final Field field,
+                @NotNull final Class<?> type,
+                final Class<?> componentType,
+                @NotNull final IntFunction<Object> generator) {
+            this.field = field;
+            this.type = type;
+            this.componentType = componentType;
+            chunkType = ChunkType.fromElementType(ReinterpretUtils.maybeConvertToPrimitiveDataType(type));
+            data = chunkType.makeArray(SNAPSHOT_ROWS);
+            for (int ii = 0; ii < SNAPSHOT_ROWS; ++ii) {
+                Array.set(data, ii, generator.apply(ii));
+            }
+        }
+
+        private Class<?> wireType() {
+            return ReinterpretUtils.maybeConvertToPrimitiveDataType(type);
+        }
+
+        private Chunk<Values> chunk(final int offset, final int size) {
+            return chunkType.writableChunkWrap(data, offset, size);
+        }
+    }
+
+    private final MessageKind messageKind;
+    private final List<BenchmarkColumn> columns;
+    private final Schema schema;
+    private final ChunkWriter<Chunk<Values>>[] chunkWriters;
+    private final BarrageSnapshotOptions snapshotOptions;
+    private final BarrageSubscriptionOptions subscriptionOptions;
+    private final BarrageMessageWriter.Factory writerFactory = new BarrageMessageWriterImpl.Factory();
+
+    BarrageBenchmarkData(
+            @NotNull final ColumnSet columnSet,
+            @NotNull final MessageKind messageKind,
+            final int batchSize) {
+        this.messageKind = messageKind;
+        columns = makeColumns(columnSet);
+        schema = new Schema(columns.stream().map(c -> c.field).collect(Collectors.toList()));
+
+        // noinspection unchecked
+        chunkWriters = columns.stream()
+                .map(c -> DefaultChunkWriterFactory.INSTANCE.newWriter(
+                        BarrageTypeInfo.make(c.wireType(), c.componentType, flatbufField(c.field))))
+                .toArray(ChunkWriter[]::new);
+
+        snapshotOptions = BarrageSnapshotOptions.builder()
+                .batchSize(batchSize)
+                .build();
+        subscriptionOptions = BarrageSubscriptionOptions.builder()
+                .batchSize(batchSize)
+                .build();
+    }
+
+    /**
+     * @return the options the messages are written with, which readers must be configured with as well
+     */
+    BarrageOptions options() {
+        return messageKind == MessageKind.SNAPSHOT ? snapshotOptions : subscriptionOptions;
+    }
+
+    ChunkType[] wireChunkTypes() {
+        return columns.stream().map(c -> c.chunkType).toArray(ChunkType[]::new);
+    }
+
+    Class<?>[] columnTypes() {
+        return columns.stream().map(c -> c.type).toArray(Class<?>[]::new);
+    }
+
+    Class<?>[] componentTypes() {
+        return columns.stream().map(c -> c.componentType).toArray(Class<?>[]::new);
+    }
+
+    /**
+     * @return a view of the schema message that must precede the record batches of any message
+     */
+    BarrageMessageWriter.MessageView schemaView() {
+        return writerFactory.getSchemaView(schema::getSchema);
+    }
+
+    /**
+     * Create a message writer for a new message of this data's kind. The caller owns both the writer and the message,
+     * and must close them.
+     *
+     * @return a new message writer
+     */
+    BarrageMessageWriter newMessageWriter() {
+        return writerFactory.newMessageWriter(newMessage(), chunkWriters, NO_METRICS);
+    }
+
+    /**
+     * @param writer a writer returned by {@link #newMessageWriter()}
+     * @return the view of {@code writer} that a subscriber (or snapshot requester) would be sent
+     */
+    BarrageMessageWriter.MessageView view(@NotNull final BarrageMessageWriter writer) {
+        if (messageKind == MessageKind.SNAPSHOT) {
+            return writer.getSnapshotView(snapshotOptions);
+        }
+        return writer.getSubView(subscriptionOptions, false);
+    }
+
+    /**
+     * Drain {@code stream} to {@code out}.
+     *
+     * @return the number of bytes drained
+     */
+    static int drain(@NotNull final DefensiveDrainable stream, @NotNull final OutputStream out) {
+        try (final DefensiveDrainable toClose = stream) {
+            return toClose.drainTo(out);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private BarrageMessage newMessage() {
+        final BarrageMessage message = new BarrageMessage();
+        message.isSnapshot = messageKind == MessageKind.SNAPSHOT;
+        if (message.isSnapshot) {
+            message.rowsAdded = RowSetFactory.flat(SNAPSHOT_ROWS);
+            message.rowsRemoved = RowSetFactory.empty();
+            message.addColumnData = columns.stream()
+                    .map(c -> addColumnData(c, 0, SNAPSHOT_ROWS))
+                    .toArray(BarrageMessage.AddColumnData[]::new);
+            message.modColumnData = BarrageMessage.ZERO_MOD_COLUMNS;
+        } else {
+            // remove the first rows, append as many, and modify as many from the middle of the table
+            message.rowsAdded = RowSetFactory.fromRange(SNAPSHOT_ROWS, SNAPSHOT_ROWS + DELTA_ROWS - 1);
+            message.rowsRemoved = RowSetFactory.fromRange(0, DELTA_ROWS - 1);
+            message.addColumnData = columns.stream()
+                    .map(c -> addColumnData(c, 0, DELTA_ROWS))
+                    .toArray(BarrageMessage.AddColumnData[]::new);
+            final long firstModified = SNAPSHOT_ROWS / 2;
+            message.modColumnData = columns.stream()
+                    .map(c -> modColumnData(c, RowSetFactory.fromRange(firstModified, firstModified + DELTA_ROWS - 1)))
+                    .toArray(BarrageMessage.ModColumnData[]::new);
+        }
+        message.rowsIncluded = message.rowsAdded.copy();
+        message.shifted = RowSetShiftData.EMPTY;
+        return message;
+    }
+
+    private static BarrageMessage.AddColumnData addColumnData(
+            @NotNull final BenchmarkColumn column,
+            final int offset,
+            final int size) {
+        final BarrageMessage.AddColumnData acd = new BarrageMessage.AddColumnData();
+        acd.type = column.wireType();
+        acd.componentType = column.componentType;
+        acd.chunkType = column.chunkType;
+        acd.data = List.of(column.chunk(offset, size));
+        return acd;
+    }
+
+    private static BarrageMessage.ModColumnData modColumnData(
+            @NotNull final BenchmarkColumn column,
+            @NotNull final RowSet rowsModified) {
+        final BarrageMessage.ModColumnData mcd = new BarrageMessage.ModColumnData();
+        mcd.rowsModified = rowsModified;
+        mcd.type = column.wireType();
+        mcd.componentType = column.componentType;
+        mcd.chunkType = column.chunkType;
+        mcd.data = List.of(column.chunk(DELTA_ROWS, rowsModified.intSize()));
+        return mcd;
+    }
+
+    private static List<BenchmarkColumn> makeColumns(@NotNull final ColumnSet columnSet) {
+        final List<BenchmarkColumn> columns = new ArrayList<>();
+        switch (columnSet) {
+            case PRIMITIVE:
+                columns.add(column("Byte", byte.class, null,
+                        ii -> ii % 16 == 0 ? QueryConstants.NULL_BYTE : (byte) ii));
+                columns.add(column("Char", char.class, null,
+                        ii -> ii % 16 == 0 ? QueryConstants.NULL_CHAR : (char) ('A' + ii % 26)));
+                columns.add(column("Short", short.class, null,
+                        ii -> ii % 16 == 0 ? QueryConstants.NULL_SHORT : (short) ii));
+                columns.add(column("Int", int.class, null,
+                        ii -> ii % 16 == 0 ? QueryConstants.NULL_INT : ii));
+                columns.add(column("Long", long.class, null,
+                        ii -> ii % 16 == 0 ? QueryConstants.NULL_LONG : ii * 31L));
+                columns.add(column("Float", float.class, null,
+                        ii -> ii % 16 == 0 ? QueryConstants.NULL_FLOAT : ii * 0.25f));
+                columns.add(column("Double", double.class, null,
+                        ii -> ii % 16 == 0 ? QueryConstants.NULL_DOUBLE : ii * 1.25));
+                columns.add(column("Boolean", Boolean.class, null,
+                        ii -> BooleanUtils.booleanAsByte(ii % 16 == 0 ? null : ii % 3 == 0)));
+                final long epochNanos = Instant.parse("2025-01-01T00:00:00Z").getEpochSecond() * 1_000_000_000L;
+                columns.add(column("Timestamp", Instant.class, null,
+                        ii -> ii % 16 == 0 ? QueryConstants.NULL_LONG : epochNanos + ii * 1_000L));
+                break;
+            case OBJECT:
+                columns.add(column("Symbol", String.class, null,
+                        ii -> ii % 16 == 0 ? null : "S" + ii % 1000));
+                columns.add(column("String", String.class, null,
+                        ii -> ii % 16 == 0 ? null : Long.toString(ii * 2654435761L, 36)));
+                break;
+            case NESTED:
+                columns.add(column("StringArray", String[].class, String.class, ii -> {
+                    if (ii % 16 == 0) {
+                        return null;
+                    }
+                    final String[] values = new String[ii % 8];
+                    for (int jj = 0; jj < values.length; ++jj) {
+                        values[jj] = "v" + (ii + jj) % 100;
+                    }
+                    return values;
+                }));
+                columns.add(column("LongArray", long[].class, long.class,
+                        ii -> ii % 16 == 0 ? null : longs(ii)));
+                columns.add(column("LongVector", LongVector.class, long.class,
+                        ii -> ii % 16 == 0 ? null : new LongVectorDirect(longs(ii))));
+                columns.add(new BenchmarkColumn(mapField("Map"), Map.class, null, ii -> {
+                    if (ii % 16 == 0) {
+                        return null;
+                    }
+                    final Map<String, String> values = new LinkedHashMap<>();
+                    for (int jj = 0; jj <= ii % 4; ++jj) {
+                        values.put("k" + jj, "v" + (ii + jj) % 100);
+                    }
+                    return values;
+                }));
+                columns.add(new BenchmarkColumn(unionField("Union"), Object.class, null,
+                        ii -> ii % 2 == 0 ? "u" + ii % 100 : Long.valueOf(ii)));
+                break;
+            default:
+                throw new IllegalArgumentException("Unexpected column set " + columnSet);
+        }
+        return columns;
+    }
+
+    private static BenchmarkColumn column(
+            @NotNull final String name,
+            @NotNull final Class<?> type,
+            final Class<?> componentType,
+            @NotNull final IntFunction<Object> generator) {
+        return new BenchmarkColumn(
+                BarrageUtil.arrowFieldFor(name, type, componentType, Map.of(), false),
+                type, componentType, generator);
+    }
+
+    private static long[] longs(final int ii) {
+        final long[] values = new long[ii % 8];
+        for (int jj = 0; jj < values.length; ++jj) {
+            values[jj] = (long) ii * jj;
+        }
+        return values;
+    }
+
+    private static Field mapField(@NotNull final String name) {
+        final List<Field> entries = List.of(
+                new Field("key", new FieldType(false, ArrowType.Utf8.INSTANCE, null), null),
+                new Field("value", new FieldType(true, ArrowType.Utf8.INSTANCE, null), null));
+        return new Field(name, new FieldType(true, new ArrowType.Map(false), null), List.of(
+                new Field("entries", new FieldType(false, ArrowType.Struct.INSTANCE, null), entries)));
+    }
+
+    private static Field unionField(@NotNull final String name) {
+        final List<Field> members = List.of(
+                new Field("string", new FieldType(true, ArrowType.Utf8.INSTANCE, null), null),
+                new Field("long", new FieldType(true, new ArrowType.Int(64, true), null), null));
+        return new Field(name, new FieldType(true, new ArrowType.Union(UnionMode.Dense, new int[] {0, 1}), null),
+                members);
+    }
+
+    private static org.apache.arrow.flatbuf.Field flatbufField(@NotNull final Field field) {
+        final FlatBufferBuilder builder = new FlatBufferBuilder();
+        builder.finish(field.getField(builder));
+        return org.apache.arrow.flatbuf.Field.getRootAsField(builder.dataBuffer());
+    }
+}
@@ -0,0 +1,26 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.benchmark.barrage;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Counts the serialized bytes a Barrage benchmark writes or reads, which JMH reports as a rate alongside the primary
+ * result.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.THROUGHPUT)
+public class BarrageByteCounters {
+
+    public long bytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        bytes = 0;
+    }
+}
@@ -0,0 +1,100 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.benchmark.barrage;
+
+import io.deephaven.chunk.ChunkType;
+import io.deephaven.engine.table.impl.util.BarrageMessage;
+import io.deephaven.extensions.barrage.BarrageMessageWriter;
+import io.deephaven.extensions.barrage.BarrageOptions;
+import io.deephaven.extensions.barrage.util.BarrageMessageReaderImpl;
+import io.deephaven.extensions.barrage.util.ExposedByteArrayOutputStream;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading snapshot and delta messages with {@link BarrageMessageReaderImpl} and the default chunk readers.
+ * The messages are written once per trial; each operation parses the schema and then every record batch of the
+ * message, as a new subscriber would.
+ * <p>
+ * Run with {@code -prof gc} to report allocations per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class BarrageMessageReaderBenchmark {
+
+    @Param({"PRIMITIVE", "OBJECT", "NESTED"})
+    private BarrageBenchmarkData.ColumnSet columnSet;
+
+    @Param({"SNAPSHOT", "DELTA"})
+    private BarrageBenchmarkData.MessageKind messageKind;
+
+    @Param({"1024", "16384", "262144"})
+    private int batchSize;
+
+    private BarrageOptions options;
+    private ChunkType[] columnChunkTypes;
+    private Class<?>[] columnTypes;
+    private Class<?>[] componentTypes;
+
+    private byte[] schemaPayload;
+    private List<byte[]> recordBatchPayloads;
+    private long messageBytes;
+
+    @Setup(Level.Trial)
+    public void setupData() throws IOException {
+        final BarrageBenchmarkData data = new BarrageBenchmarkData(columnSet, messageKind, batchSize);
+        options = data.options();
+        columnChunkTypes = data.wireChunkTypes();
+        columnTypes = data.columnTypes();
+        componentTypes = data.componentTypes();
+
+        schemaPayload = capture(data.schemaView()).get(0);
+        try (final BarrageMessageWriter writer = data.newMessageWriter();
+                final BarrageMessage message = writer.getMessage()) {
+            recordBatchPayloads = capture(data.view(writer));
+        }
+        messageBytes = schemaPayload.length + recordBatchPayloads.stream().mapToLong(p -> p.length).sum();
+    }
+
+    @Benchmark
+    public void readMessage(final BarrageByteCounters counters, final Blackhole bh) {
+        final BarrageMessageReaderImpl reader = new BarrageMessageReaderImpl();
+        parse(reader, schemaPayload, bh);
+        for (final byte[] payload : recordBatchPayloads) {
+            parse(reader, payload, bh);
+        }
+        counters.bytes += messageBytes;
+    }
+
+    private void parse(final BarrageMessageReaderImpl reader, final byte[] payload, final Blackhole bh) {
+        final BarrageMessage message = reader.safelyParseFrom(
+                options, columnChunkTypes, columnTypes, componentTypes, new ByteArrayInputStream(payload));
+        if (message != null) {
+            bh.consume(message);
+            message.close();
+        }
+    }
+
+    private static List<byte[]> capture(final BarrageMessageWriter.MessageView view) throws IOException {
+        final List<byte[]> payloads = new ArrayList<>();
+        final ExposedByteArrayOutputStream out = new ExposedByteArrayOutputStream();
+        view.forEachStream(stream -> {
+            out.reset();
+            BarrageBenchmarkData.drain(stream, out);
+            payloads.add(Arrays.copyOf(out.peekBuffer(), out.size()));
+        });
+        return payloads;
+    }
+}
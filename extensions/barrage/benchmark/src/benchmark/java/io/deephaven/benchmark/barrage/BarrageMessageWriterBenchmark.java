@@ -0,0 +1,54 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.benchmark.barrage;
+
+import io.deephaven.engine.table.impl.util.BarrageMessage;
+import io.deephaven.extensions.barrage.BarrageMessageWriter;
+import io.deephaven.io.util.NullOutputStream;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures writing snapshot and delta messages with {@link io.deephaven.extensions.barrage.BarrageMessageWriterImpl}
+ * and the default chunk writers. Each operation creates the message writer, which serializes the row sets and creates
+ * the per-chunk contexts, and drains every stream of the view that a single subscriber would be sent.
+ * <p>
+ * Run with {@code -prof gc} to report allocations per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class BarrageMessageWriterBenchmark {
+
+    @Param({"PRIMITIVE", "OBJECT", "NESTED"})
+    private BarrageBenchmarkData.ColumnSet columnSet;
+
+    @Param({"SNAPSHOT", "DELTA"})
+    private BarrageBenchmarkData.MessageKind messageKind;
+
+    @Param({"1024", "16384", "262144"})
+    private int batchSize;
+
+    private BarrageBenchmarkData data;
+    private final OutputStream out = new NullOutputStream();
+
+    @Setup(Level.Trial)
+    public void setupData() {
+        data = new BarrageBenchmarkData(columnSet, messageKind, batchSize);
+    }
+
+    @Benchmark
+    public void writeMessage(final BarrageByteCounters counters) throws IOException {
+        try (final BarrageMessageWriter writer = data.newMessageWriter();
+                final BarrageMessage message = writer.getMessage()) {
+            data.view(writer).forEachStream(stream -> counters.bytes += BarrageBenchmarkData.drain(stream, out));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.extensions.barrage;
+
+/**
+ * The codec used to compress the buffers of an Arrow record batch body, as described by the Arrow IPC
+ * {@code BodyCompression} specification. Each buffer is compressed independently and prefixed with its uncompressed
+ * length.
+ */
+public enum BarrageBodyCompression {
+    /**
+     * Buffers are sent uncompressed.
+     */
+    NONE,
+    /**
+     * Buffers are compressed using the LZ4 frame format.
+     */
+    LZ4_FRAME,
+    /**
+     * Buffers are compressed using the Zstandard format.
+     */
+    ZSTD
+}
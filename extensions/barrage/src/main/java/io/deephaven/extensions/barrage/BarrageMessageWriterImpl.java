@@ -28,6 +28,7 @@ import io.deephaven.engine.rowset.impl.ExternalizableRowSetUtils;
 import io.deephaven.engine.table.impl.util.BarrageMessage;
 import io.deephaven.extensions.barrage.chunk.ChunkWriter;
 import io.deephaven.extensions.barrage.chunk.SingleElementListHeaderWriter;
+import io.deephaven.extensions.barrage.util.BodyCompressionUtil;
 import io.deephaven.extensions.barrage.util.ExposedByteArrayOutputStream;
 import io.deephaven.extensions.barrage.util.BarrageUtil;
 import io.deephaven.extensions.barrage.util.DefensiveDrainable;
@@ -38,6 +39,8 @@ import io.deephaven.util.datastructures.LongSizedDataStructure;
 import io.deephaven.util.datastructures.SizeException;
 import io.deephaven.util.mutable.MutableInt;
 import io.deephaven.util.mutable.MutableLong;
+import org.apache.arrow.flatbuf.BodyCompression;
+import org.apache.arrow.flatbuf.BodyCompressionMethod;
 import org.apache.arrow.flatbuf.Buffer;
 import org.apache.arrow.flatbuf.FieldNode;
 import org.apache.arrow.flatbuf.RecordBatch;
@@ -746,6 +749,8 @@ public class BarrageMessageWriterImpl implements BarrageMessageWriter {
 
         final FlatBufferBuilder header = new FlatBufferBuilder();
 
+        final BarrageBodyCompression bodyCompression = view.options().bodyCompression();
+
         final int numRows;
         final int nodesOffset;
         final int buffersOffset;
@@ -785,17 +790,33 @@ public class BarrageMessageWriterImpl implements BarrageMessageWriter {
             nodesOffset = header.endVector();
 
             final WritableLongChunk<Values> biChunk = bufferInfos.get();
-            RecordBatch.startBuffersVector(header, biChunk.size());
-            for (int i = biChunk.size() - 1; i >= 0; --i) {
-                totalBufferLength.subtract(biChunk.get(i));
-                Buffer.createBuffer(header, totalBufferLength.get(), biChunk.get(i));
+            if (bodyCompression != BarrageBodyCompression.NONE) {
+                final long[] bufferOffsets = compressBody(bodyCompression, streams, size, biChunk);
+                RecordBatch.startBuffersVector(header, biChunk.size());
+                for (int i = biChunk.size() - 1; i >= 0; --i) {
+                    Buffer.createBuffer(header, bufferOffsets[i], biChunk.get(i));
+                }
+            } else {
+                RecordBatch.startBuffersVector(header, biChunk.size());
+                for (int i = biChunk.size() - 1; i >= 0; --i) {
+                    totalBufferLength.subtract(biChunk.get(i));
+                    Buffer.createBuffer(header, totalBufferLength.get(), biChunk.get(i));
+                }
             }
             buffersOffset = header.endVector();
         }
 
+        final int compressionOffset = bodyCompression == BarrageBodyCompression.NONE
+                ? 0
+                : BodyCompression.createBodyCompression(header,
+                        BodyCompressionUtil.compressionType(bodyCompression), BodyCompressionMethod.BUFFER);
+
         RecordBatch.startRecordBatch(header);
         RecordBatch.addNodes(header, nodesOffset);
         RecordBatch.addBuffers(header, buffersOffset);
+        if (compressionOffset != 0) {
+            RecordBatch.addCompression(header, compressionOffset);
+        }
         if (view.options().columnsAsList()) {
             RecordBatch.addLength(header, 1);
         } else {
@@ -817,6 +838,35 @@ public class BarrageMessageWriterImpl implements BarrageMessageWriter {
         }
     }
 
+    /**
+     * Replace the uncompressed body {@code streams} with a single stream of compressed buffers.
+     *
+     * @param bodyCompression the codec to compress each buffer with
+     * @param streams the body streams, replaced with the compressed body
+     * @param size the size of the body, updated to the size of the compressed body
+     * @param bufferLengths the lengths of the body's buffers, updated to the lengths of the compressed buffers
+     * @return the offsets of the compressed buffers within the compressed body
+     */
+    private static long[] compressBody(
+            final BarrageBodyCompression bodyCompression,
+            final ArrayDeque<DefensiveDrainable> streams,
+            final MutableInt size,
+            final WritableLongChunk<Values> bufferLengths) throws IOException {
+        final ExposedByteArrayOutputStream body = new ExposedByteArrayOutputStream();
+        try (final ConsecutiveDrainableStreams uncompressed =
+                new ConsecutiveDrainableStreams(streams.toArray(new DefensiveDrainable[0]))) {
+            streams.clear();
+            uncompressed.drainTo(body);
+        }
+
+        final ExposedByteArrayOutputStream compressed = new ExposedByteArrayOutputStream();
+        final long[] bufferOffsets =
+                BodyCompressionUtil.compressBody(bodyCompression, body.peekBuffer(), bufferLengths, compressed);
+        streams.add(new DrainableByteArrayInputStream(compressed.peekBuffer(), 0, compressed.size()));
+        size.set(compressed.size());
+        return bufferOffsets;
+    }
+
     /**
      * This implementation prepares the protobuf FlightData header.
      */
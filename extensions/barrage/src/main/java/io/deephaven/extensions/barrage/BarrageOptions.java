@@ -63,4 +63,18 @@ public interface BarrageOptions {
     default long previewListLengthLimit() {
         return 0;
     }
+
+    /**
+     * The codec used to compress the buffers of each record batch body. Compression is described in the record batch
+     * header, so readers need not be configured to decode it; however, readers that do not support Arrow body
+     * compression (including the JS API) will be unable to read compressed bodies.
+     * <p>
+     * Compression trades CPU on both ends of the connection for bandwidth, and is most appropriate for wide tables sent
+     * over constrained links.
+     *
+     * @return the codec used to compress record batch bodies
+     */
+    default BarrageBodyCompression bodyCompression() {
+        return BarrageBodyCompression.NONE;
+    }
 }
@@ -57,6 +57,18 @@ public abstract class BarrageSnapshotOptions implements BarrageOptions {
         return 0;
     }
 
+    /**
+     * Body compression cannot be expressed in the serialized options; it applies only to writers that are handed these
+     * options directly.
+     * <p>
+     * See {@link BarrageOptions#bodyCompression()} for details.
+     */
+    @Override
+    @Default
+    public BarrageBodyCompression bodyCompression() {
+        return BarrageBodyCompression.NONE;
+    }
+
     public int appendTo(FlatBufferBuilder builder) {
         return io.deephaven.barrage.flatbuf.BarrageSnapshotOptions.createBarrageSnapshotOptions(builder,
                 useDeephavenNulls(),
@@ -112,6 +124,14 @@ public abstract class BarrageSnapshotOptions implements BarrageOptions {
          */
         Builder previewListLengthLimit(long previewListLengthLimit);
 
+        /**
+         * See {@link BarrageOptions#bodyCompression()} for details.
+         *
+         * @param bodyCompression the codec used to compress record batch bodies
+         * @return this builder
+         */
+        Builder bodyCompression(BarrageBodyCompression bodyCompression);
+
         /**
          * @return a new BarrageSnapshotOptions instance
          */
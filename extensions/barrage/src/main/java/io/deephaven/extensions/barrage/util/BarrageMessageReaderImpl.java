@@ -35,6 +35,7 @@ import org.apache.arrow.flatbuf.MessageHeader;
 import org.apache.arrow.flatbuf.RecordBatch;
 import org.apache.arrow.flatbuf.Schema;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
@@ -218,13 +219,14 @@ public class BarrageMessageReaderImpl implements BarrageMessageReader {
                 final RecordBatch batch = (RecordBatch) header.header(new RecordBatch());
                 msg.length = batch.length();
 
-                try (final LittleEndianDataInputStream ois =
-                        new LittleEndianDataInputStream(new BarrageProtoUtil.ObjectInputStreamAdapter(decoder, size))) {
-                    final Iterator<ChunkWriter.FieldNodeInfo> fieldNodeIter =
-                            new FlatBufferIteratorAdapter<>(batch.nodesLength(),
-                                    i -> new ChunkWriter.FieldNodeInfo(batch.nodes(i)));
-
-                    final long[] bufferInfo = new long[batch.buffersLength()];
+                final long[] bufferInfo = new long[batch.buffersLength()];
+                final InputStream bodyStream;
+                if (batch.compression() != null) {
+                    // decompress the whole body up front; the decompressed buffers are consecutive
+                    final ExposedByteArrayOutputStream decompressed = new ExposedByteArrayOutputStream();
+                    BodyCompressionUtil.decompressBody(batch, decoder.readRawBytes(size), bufferInfo, decompressed);
+                    bodyStream = new ByteArrayInputStream(decompressed.peekBuffer(), 0, decompressed.size());
+                } else {
                     for (int bi = 0; bi < batch.buffersLength(); ++bi) {
                         int offset = LongSizedDataStructure.intSize("BufferInfo", batch.buffers(bi).offset());
                         int length = LongSizedDataStructure.intSize("BufferInfo", batch.buffers(bi).length());
@@ -236,6 +238,14 @@ public class BarrageMessageReaderImpl implements BarrageMessageReader {
                         }
                         bufferInfo[bi] = length;
                     }
+                    bodyStream = new BarrageProtoUtil.ObjectInputStreamAdapter(decoder, size);
+                }
+
+                try (final LittleEndianDataInputStream ois = new LittleEndianDataInputStream(bodyStream)) {
+                    final Iterator<ChunkWriter.FieldNodeInfo> fieldNodeIter =
+                            new FlatBufferIteratorAdapter<>(batch.nodesLength(),
+                                    i -> new ChunkWriter.FieldNodeInfo(batch.nodes(i)));
+
                     final PrimitiveIterator.OfLong bufferInfoIter = Arrays.stream(bufferInfo).iterator();
 
                     // add and mod rows are never combined in a batch. all added rows must be received before the first
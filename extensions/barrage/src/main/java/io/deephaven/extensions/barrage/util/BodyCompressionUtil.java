@@ -0,0 +1,191 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.extensions.barrage.util;
+
+import com.google.common.io.LittleEndianDataOutputStream;
+import io.deephaven.chunk.WritableLongChunk;
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.extensions.barrage.BarrageBodyCompression;
+import io.deephaven.util.datastructures.LongSizedDataStructure;
+import org.apache.arrow.flatbuf.BodyCompression;
+import org.apache.arrow.flatbuf.BodyCompressionMethod;
+import org.apache.arrow.flatbuf.CompressionType;
+import org.apache.arrow.flatbuf.RecordBatch;
+import org.apache.commons.compress.compressors.lz4.FramedLZ4CompressorInputStream;
+import org.apache.commons.compress.compressors.lz4.FramedLZ4CompressorOutputStream;
+import org.apache.commons.compress.compressors.zstandard.ZstdCompressorInputStream;
+import org.apache.commons.compress.compressors.zstandard.ZstdCompressorOutputStream;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Compresses and decompresses Arrow record batch bodies according to the {@code BUFFER} body compression method: each
+ * buffer is compressed independently and prefixed with its uncompressed length as a little-endian 64-bit integer. A
+ * prefix of {@code -1} indicates that the buffer follows uncompressed, and empty buffers are sent without a prefix.
+ */
+public final class BodyCompressionUtil {
+
+    private static final int UNCOMPRESSED_LENGTH_SIZE = Long.BYTES;
+    private static final long NOT_COMPRESSED = -1;
+
+    private static final byte[] PADDING_BUFFER = new byte[8];
+
+    private BodyCompressionUtil() {}
+
+    /**
+     * @param compression the body compression codec
+     * @return the Arrow {@link CompressionType} for {@code compression}
+     */
+    public static byte compressionType(@NotNull final BarrageBodyCompression compression) {
+        switch (compression) {
+            case LZ4_FRAME:
+                return CompressionType.LZ4_FRAME;
+            case ZSTD:
+                return CompressionType.ZSTD;
+            default:
+                throw new IllegalArgumentException("No Arrow compression type for " + compression);
+        }
+    }
+
+    private static BarrageBodyCompression fromCompressionType(final byte compressionType) {
+        switch (compressionType) {
+            case CompressionType.LZ4_FRAME:
+                return BarrageBodyCompression.LZ4_FRAME;
+            case CompressionType.ZSTD:
+                return BarrageBodyCompression.ZSTD;
+            default:
+                throw new UnsupportedOperationException("Unexpected body compression type " + compressionType);
+        }
+    }
+
+    /**
+     * Compress the consecutive buffers of an uncompressed record batch body. Each compressed buffer is aligned to an
+     * 8-byte boundary in {@code out}.
+     *
+     * @param compression the body compression codec
+     * @param body the uncompressed body
+     * @param bufferLengths the lengths of the uncompressed buffers in {@code body}; replaced with the lengths of the
+     *        compressed buffers
+     * @param out the stream to write the compressed body to
+     * @return the offsets of the compressed buffers in {@code out}
+     */
+    public static long[] compressBody(
+            @NotNull final BarrageBodyCompression compression,
+            @NotNull final byte[] body,
+            @NotNull final WritableLongChunk<Values> bufferLengths,
+            @NotNull final ExposedByteArrayOutputStream out) throws IOException {
+        final long[] bufferOffsets = new long[bufferLengths.size()];
+        final ExposedByteArrayOutputStream scratch = new ExposedByteArrayOutputStream();
+        final LittleEndianDataOutputStream dos = new LittleEndianDataOutputStream(out);
+
+        int offset = 0;
+        for (int bi = 0; bi < bufferLengths.size(); ++bi) {
+            final int length = LongSizedDataStructure.intSize("BodyCompressionUtil", bufferLengths.get(bi));
+            final int start = out.size();
+            bufferOffsets[bi] = start;
+            if (length > 0) {
+                scratch.reset();
+                try (final OutputStream compressor = compressor(compression, scratch)) {
+                    compressor.write(body, offset, length);
+                }
+                if (scratch.size() < length) {
+                    dos.writeLong(length);
+                    out.write(scratch.peekBuffer(), 0, scratch.size());
+                } else {
+                    // incompressible data is sent as-is rather than paying to decompress it on the other end
+                    dos.writeLong(NOT_COMPRESSED);
+                    out.write(body, offset, length);
+                }
+            }
+            bufferLengths.set(bi, out.size() - start);
+            offset += length;
+
+            if (out.size() % 8 != 0) {
+                out.write(PADDING_BUFFER, 0, 8 - (out.size() % 8));
+            }
+        }
+        return bufferOffsets;
+    }
+
+    /**
+     * Decompress the buffers of a compressed record batch body.
+     *
+     * @param batch the record batch header, which must describe a compressed body
+     * @param body the compressed body
+     * @param bufferLengths populated with the lengths of the decompressed buffers
+     * @param out the stream to write the consecutive decompressed buffers to
+     */
+    public static void decompressBody(
+            @NotNull final RecordBatch batch,
+            @NotNull final byte[] body,
+            @NotNull final long[] bufferLengths,
+            @NotNull final ExposedByteArrayOutputStream out) throws IOException {
+        final BodyCompression bodyCompression = batch.compression();
+        if (bodyCompression.method() != BodyCompressionMethod.BUFFER) {
+            throw new UnsupportedOperationException(
+                    "Unexpected body compression method " + bodyCompression.method());
+        }
+        final BarrageBodyCompression compression = fromCompressionType(bodyCompression.codec());
+        final ByteBuffer bodyBuffer = ByteBuffer.wrap(body).order(ByteOrder.LITTLE_ENDIAN);
+
+        for (int bi = 0; bi < batch.buffersLength(); ++bi) {
+            final int offset = LongSizedDataStructure.intSize("BufferInfo", batch.buffers(bi).offset());
+            final int length = LongSizedDataStructure.intSize("BufferInfo", batch.buffers(bi).length());
+            final int start = out.size();
+            if (length > 0) {
+                if (length < UNCOMPRESSED_LENGTH_SIZE) {
+                    throw new IllegalStateException("Compressed buffer " + bi + " is missing its uncompressed length");
+                }
+                final long uncompressedLength = bodyBuffer.getLong(offset);
+                final int dataOffset = offset + UNCOMPRESSED_LENGTH_SIZE;
+                final int dataLength = length - UNCOMPRESSED_LENGTH_SIZE;
+                if (uncompressedLength == NOT_COMPRESSED) {
+                    out.write(body, dataOffset, dataLength);
+                } else {
+                    try (final InputStream decompressor = decompressor(compression,
+                            new ByteArrayInputStream(body, dataOffset, dataLength))) {
+                        decompressor.transferTo(out);
+                    }
+                    if (out.size() - start != uncompressedLength) {
+                        throw new IllegalStateException("Compressed buffer " + bi + " decompressed to "
+                                + (out.size() - start) + " bytes, expected " + uncompressedLength);
+                    }
+                }
+            }
+            bufferLengths[bi] = out.size() - start;
+        }
+    }
+
+    private static OutputStream compressor(
+            @NotNull final BarrageBodyCompression compression,
+            @NotNull final OutputStream out) throws IOException {
+        switch (compression) {
+            case LZ4_FRAME:
+                return new FramedLZ4CompressorOutputStream(out);
+            case ZSTD:
+                return new ZstdCompressorOutputStream(out);
+            default:
+                throw new IllegalArgumentException("Cannot compress with " + compression);
+        }
+    }
+
+    private static InputStream decompressor(
+            @NotNull final BarrageBodyCompression compression,
+            @NotNull final InputStream in) throws IOException {
+        switch (compression) {
+            case LZ4_FRAME:
+                return new FramedLZ4CompressorInputStream(in);
+            case ZSTD:
+                return new ZstdCompressorInputStream(in);
+            default:
+                throw new IllegalArgumentException("Cannot decompress with " + compression);
+        }
+    }
+}
@@ -3,10 +3,12 @@
 //
 package io.deephaven.csv;
 
+import io.deephaven.UncheckedDeephavenException;
 import io.deephaven.api.ColumnName;
 import io.deephaven.api.Pair;
 import io.deephaven.base.verify.Assert;
 import io.deephaven.chunk.*;
+import io.deephaven.configuration.Configuration;
 import io.deephaven.chunk.attributes.Any;
 import io.deephaven.chunk.attributes.Values;
 import io.deephaven.csv.CsvSpecs.Builder;
@@ -17,6 +19,7 @@ import io.deephaven.csv.sinks.SinkFactory;
 import io.deephaven.csv.sinks.Source;
 import io.deephaven.csv.tokenization.Tokenizer.CustomTimeZoneParser;
 import io.deephaven.csv.util.CsvReaderException;
+import io.deephaven.engine.context.ExecutionContext;
 import io.deephaven.engine.rowset.RowSequence;
 import io.deephaven.engine.rowset.RowSequenceFactory;
 import io.deephaven.engine.rowset.RowSet;
@@ -26,6 +29,7 @@ import io.deephaven.engine.table.*;
 import io.deephaven.engine.table.impl.InMemoryTable;
 import io.deephaven.engine.table.impl.perf.QueryPerformanceRecorder;
 import io.deephaven.engine.table.impl.sources.*;
+import io.deephaven.engine.updategraph.OperationInitializer;
 import io.deephaven.engine.util.PathUtil;
 import io.deephaven.io.streams.BzipFileOutputStream;
 import io.deephaven.time.DateTimeUtils;
@@ -36,12 +40,17 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.CharArrayWriter;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintStream;
 import java.io.PrintWriter;
+import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -50,15 +59,22 @@ import java.nio.file.Paths;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static io.deephaven.engine.util.TableTools.NULL_STRING;
@@ -75,6 +91,12 @@ public class CsvTools {
 
     public final static boolean NULLS_AS_EMPTY_DEFAULT = true;
 
+    /**
+     * The number of rows formatted by each task when a static table is written in parallel.
+     */
+    private static final int PARALLEL_RANGE_SIZE = Configuration.getInstance().getIntegerForClassWithDefault(
+            CsvTools.class, "parallelRangeSize", 16 * ArrayBackedColumnSource.BLOCK_SIZE);
+
     /**
      * Creates a {@link Builder} with {@link CsvTools}-specific values. Sets {@link ColumnNameLegalizer#INSTANCE} as
      * {@link Builder#headerLegalizer(Function)} and {@link Builder#headerValidator(Predicate)}; sets a new instance of
@@ -595,10 +617,10 @@ public class CsvTools {
     public static void writeCsv(Table source, String destPath, boolean compressed, ZoneId timeZone,
             @Nullable BiConsumer<Long, Long> progress, boolean nullsAsEmpty, char separator, String... columns)
             throws IOException {
-        final Writer out =
-                (compressed ? new BufferedWriter(new OutputStreamWriter(new BzipFileOutputStream(destPath + ".bz2")))
-                        : new BufferedWriter(new FileWriter(destPath)));
-        writeCsv(source, out, timeZone, progress, nullsAsEmpty, separator, columns);
+        final OutputStream stream =
+                compressed ? new BzipFileOutputStream(destPath + ".bz2") : new FileOutputStream(destPath);
+        final Writer out = new BufferedWriter(new OutputStreamWriter(stream));
+        writeCsv(source, out, stream, timeZone, progress, nullsAsEmpty, separator, columns);
     }
 
     /**
@@ -637,6 +659,12 @@ public class CsvTools {
     public static void writeCsv(Table source, Writer out, ZoneId timeZone,
             @Nullable BiConsumer<Long, Long> progress, boolean nullsAsEmpty, char separator, String... columns)
             throws IOException {
+        writeCsv(source, out, null, timeZone, progress, nullsAsEmpty, separator, columns);
+    }
+
+    private static void writeCsv(Table source, Writer out, @Nullable OutputStream stream, ZoneId timeZone,
+            @Nullable BiConsumer<Long, Long> progress, boolean nullsAsEmpty, char separator, String... columns)
+            throws IOException {
 
         if (columns == null || columns.length == 0) {
             List<String> columnNames = source.getDefinition().getColumnNames();
@@ -644,7 +672,7 @@ public class CsvTools {
         }
 
         writeCsvHeader(out, separator, columns);
-        writeCsvContents(source, out, timeZone, progress, nullsAsEmpty, separator, columns);
+        writeCsvContents(source, out, stream, timeZone, progress, nullsAsEmpty, separator, columns);
         out.write(System.lineSeparator());
 
         out.close();
@@ -839,12 +867,44 @@ public class CsvTools {
     public static void writeCsvContents(Table source, Writer out, ZoneId timeZone,
             @Nullable BiConsumer<Long, Long> progress, boolean nullsAsEmpty, char separator, String... colNames)
             throws IOException {
+        writeCsvContents(source, out, null, timeZone, progress, nullsAsEmpty, separator, colNames);
+    }
+
+    /**
+     * Writes a table out as a CSV file. Static tables with at least two {@link #PARALLEL_RANGE_SIZE ranges} of rows are
+     * formatted in parallel on the {@link OperationInitializer operation initializer}, if it allows it.
+     *
+     * @param source a Deephaven table object to be exported
+     * @param out a Writer to which the header should be written
+     * @param stream the OutputStream that {@code out} encodes to with the default charset, or null if unknown; if
+     *        non-null, rows formatted in parallel are encoded before they are written directly to {@code stream}
+     * @param timeZone a time zone constant relative to which date time data should be adjusted
+     * @param progress a procedure that implements BiConsumer, and takes a progress Integer and a total size Integer to
+     *        update progress
+     * @param nullsAsEmpty if nulls should be written as blank instead of '(null)'
+     * @param separator the delimiter for the CSV
+     * @param colNames a list of columns to include in the export
+     * @throws IOException if the target file cannot be written
+     */
+    private static void writeCsvContents(Table source, Writer out, @Nullable OutputStream stream, ZoneId timeZone,
+            @Nullable BiConsumer<Long, Long> progress, boolean nullsAsEmpty, char separator, String... colNames)
+            throws IOException {
         if (colNames.length == 0) {
             return;
         }
         final ColumnSource<?>[] cols =
                 Arrays.stream(colNames).map(source::getColumnSource).toArray(ColumnSource[]::new);
-        writeCsvContentsSeq(out, timeZone, source.getRowSet(), cols, nullsAsEmpty, separator, progress);
+        final RowSet rows = source.getRowSet();
+        if (!source.isRefreshing() && rows.size() >= 2L * PARALLEL_RANGE_SIZE) {
+            final OperationInitializer operationInitializer =
+                    ExecutionContext.getContext().getOperationInitializer();
+            if (operationInitializer.canParallelize()) {
+                writeCsvContentsParallel(out, stream, operationInitializer, timeZone, rows, cols, nullsAsEmpty,
+                        separator, progress);
+                return;
+            }
+        }
+        writeCsvContentsSeq(out, timeZone, rows, cols, nullsAsEmpty, separator, progress);
     }
 
     /**
@@ -895,6 +955,124 @@ public class CsvTools {
         }
     }
 
+    /**
+     * Writes Deephaven columns out as a CSV file. The rows are split into ranges of {@link #PARALLEL_RANGE_SIZE} rows,
+     * which are formatted into in-memory buffers on the operation initializer's threads, and written in order on the
+     * calling thread. At most two ranges per thread are buffered at a time.
+     *
+     * @param out a Writer to which the header should be written
+     * @param stream the OutputStream that {@code out} encodes to, or null if unknown
+     * @param operationInitializer the operation initializer used to format ranges
+     * @param timeZone a time zone constant relative to which date time data should be adjusted
+     * @param rows a RowSet containing the row keys to be written
+     * @param cols an array of ColumnSources to be written
+     * @param nullsAsEmpty if nulls should be written as blank instead of '(null)'
+     * @param separator the delimiter for the CSV
+     * @param progress a procedure that implements BiConsumer, and takes a progress Integer and a total size Integer to
+     *        update progress
+     * @throws IOException if the target file cannot be written
+     */
+    private static void writeCsvContentsParallel(
+            final Writer out,
+            @Nullable final OutputStream stream,
+            final OperationInitializer operationInitializer,
+            final ZoneId timeZone,
+            final RowSet rows,
+            final ColumnSource<?>[] cols,
+            final boolean nullsAsEmpty,
+            final char separator,
+            @Nullable final BiConsumer<Long, Long> progress) throws IOException {
+        final ExecutionContext executionContext = ExecutionContext.getContextToRecord();
+        final int maxRangesInFlight = 2 * operationInitializer.parallelismFactor();
+        final Deque<FormattedRange> rangesInFlight = new ArrayDeque<>(maxRangesInFlight);
+        final long totalSize = rows.size();
+        long rowsWritten = 0;
+        if (stream != null) {
+            // Anything already written to out must reach the stream before the first range does
+            out.flush();
+        }
+        try (final SafeCloseable ignored =
+                QueryPerformanceRecorder.getInstance().getNugget("CsvTools.writeCsvContentsParallel()");
+                final RowSequence.Iterator rowsIterator = rows.getRowSequenceIterator()) {
+            while (rowsIterator.hasMore() || !rangesInFlight.isEmpty()) {
+                while (rowsIterator.hasMore() && rangesInFlight.size() < maxRangesInFlight) {
+                    final RowSet rangeRows = rowsIterator.getNextRowSequenceWithLength(PARALLEL_RANGE_SIZE).asRowSet();
+                    rangesInFlight.add(new FormattedRange(operationInitializer, executionContext, rangeRows,
+                            stream != null, () -> new CsvRowFormatter(timeZone, nullsAsEmpty,
+                                    String.valueOf(separator), System.lineSeparator(), cols)));
+                }
+                final FormattedRange range = rangesInFlight.remove();
+                range.writeTo(out, stream);
+                if (progress != null) {
+                    progress.accept(rowsWritten += range.size, totalSize);
+                }
+            }
+        } finally {
+            rangesInFlight.forEach(FormattedRange::cancel);
+        }
+    }
+
+    /**
+     * A range of rows that is formatted into an in-memory buffer by an {@link OperationInitializer} task.
+     */
+    private static final class FormattedRange {
+
+        private final long size;
+        private final Future<?> future;
+
+        // Written by the formatting task, and read only after future completes
+        private CharArrayWriter chars;
+        private ByteArrayOutputStream bytes;
+
+        private FormattedRange(
+                @NotNull final OperationInitializer operationInitializer,
+                @Nullable final ExecutionContext executionContext,
+                @NotNull final RowSet rows,
+                final boolean encode,
+                @NotNull final Supplier<CsvRowFormatter> formatterFactory) {
+            size = rows.size();
+            future = operationInitializer.submit(() -> {
+                try (final SafeCloseable ignored1 = executionContext == null ? null : executionContext.open();
+                        final RowSet ignored2 = rows;
+                        final CsvRowFormatter formatter = formatterFactory.get()) {
+                    if (encode) {
+                        bytes = new ByteArrayOutputStream();
+                        final Writer writer = new OutputStreamWriter(bytes);
+                        formatter.writeRows(writer, rows, null);
+                        writer.flush();
+                    } else {
+                        chars = new CharArrayWriter();
+                        formatter.writeRows(chars, rows, null);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+
+        private void writeTo(@NotNull final Writer out, @Nullable final OutputStream stream) throws IOException {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                throw new CancellationException("interrupted while writing CSV");
+            } catch (ExecutionException e) {
+                throw new UncheckedDeephavenException("an exception occurred while formatting CSV rows",
+                        e.getCause());
+            }
+            if (bytes != null) {
+                bytes.writeTo(Objects.requireNonNull(stream));
+                bytes = null;
+            } else {
+                chars.writeTo(out);
+                chars = null;
+            }
+        }
+
+        private void cancel() {
+            future.cancel(false);
+        }
+    }
+
     private static final class CsvRowFormatter implements Context {
 
         private static final int CHUNK_CAPACITY = ArrayBackedColumnSource.BLOCK_SIZE;
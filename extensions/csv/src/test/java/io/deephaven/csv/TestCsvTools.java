@@ -8,6 +8,7 @@ import io.deephaven.csv.util.CsvReaderException;
 import io.deephaven.engine.table.Table;
 import io.deephaven.engine.table.TableDefinition;
 import io.deephaven.engine.table.impl.InMemoryTable;
+import io.deephaven.engine.util.TableTools;
 import io.deephaven.engine.testutil.TstUtils;
 import io.deephaven.engine.testutil.junit4.EngineCleanup;
 import io.deephaven.test.types.OutOfBandTest;
@@ -291,4 +292,23 @@ public class TestCsvTools {
             }
         }
     }
+
+    @Test
+    public void testWriteCsvParallel() throws Exception {
+        // Large enough to be split into several ranges that are formatted in parallel
+        final Table tableToTest = TableTools.emptyTable(100_000).update(
+                "Longs = ii", "Doubles = ii / 3.0", "Strings = `s` + (ii % 7)", "Quoted = ii % 5 == 0 ? null : `x,y`");
+
+        for (final boolean compressed : new boolean[] {false, true}) {
+            final File csvFile = new File(tmpDir, "parallel.csv");
+            CsvTools.writeCsv(tableToTest, csvFile.getPath(), compressed, timeZone(), true, ',');
+            final String path = compressed ? csvFile.getPath() + ".bz2" : csvFile.getPath();
+            TstUtils.assertTableEquals(tableToTest, CsvTools.readCsv(path));
+        }
+
+        final StringWriter writer = new StringWriter();
+        CsvTools.writeCsv(tableToTest, writer, timeZone(), null, true, ',');
+        TstUtils.assertTableEquals(tableToTest,
+                CsvTools.readCsv(new ByteArrayInputStream(writer.toString().getBytes(StandardCharsets.UTF_8))));
+    }
 }
@@ -18,16 +18,21 @@ import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.apache.kafka.common.serialization.Deserializer;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.text.DecimalFormat;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.IntPredicate;
 import java.util.function.IntToLongFunction;
@@ -46,12 +51,26 @@ public class KafkaIngester {
             KafkaIngester.class, "reportIntervalMs", 60_000);
     private static final long MAX_ERRS = Configuration.getInstance().getLongForClassWithDefault(
             KafkaIngester.class, "maxErrs", 0);
+    /**
+     * The number of worker threads each ingester uses to run its key and value deserializers. When zero, records are
+     * deserialized on the consumer thread inside {@link KafkaConsumer#poll(Duration)}.
+     */
+    private static final int DECODE_THREADS = Configuration.getInstance().getIntegerForClassWithDefault(
+            KafkaIngester.class, "decodeThreads", 0);
+    /**
+     * The maximum number of records of a single partition decoded by one task, when {@link #DECODE_THREADS} is
+     * positive.
+     */
+    private static final int DECODE_BATCH_SIZE = Configuration.getInstance().getIntegerForClassWithDefault(
+            KafkaIngester.class, "decodeBatchSize", 1024);
 
     private final Logger log;
     private final String topic;
     private final String partitionDescription;
     private final String logPrefix;
     private final KafkaConsumer<?, ?> kafkaConsumer;
+    @Nullable
+    private final KafkaRecordDecoder decoder;
 
     private final TIntObjectHashMap<KafkaRecordConsumer> streamConsumers = new TIntObjectHashMap<>();
     private final KeyedIntObjectHashMap<TopicPartition> assignedPartitions =
@@ -72,6 +91,8 @@ public class KafkaIngester {
     private long lastMessages = 0;
     private long lastBytes = 0;
     private long lastPollCalls = 0;
+    private final KafkaRecordDecoder.StageMetrics pollMetrics = new KafkaRecordDecoder.StageMetrics("poll");
+    private final KafkaRecordDecoder.StageMetrics deliverMetrics = new KafkaRecordDecoder.StageMetrics("deliver");
 
     private volatile boolean needsAssignment;
     private volatile boolean done;
@@ -180,6 +201,12 @@ public class KafkaIngester {
     /**
      * Creates a Kafka ingester for the given topic.
      *
+     * <p>
+     * If the {@code KafkaIngester.decodeThreads} property is positive, the consumer polls raw bytes and the
+     * deserializers are instead invoked on a pool of that many threads; they must then be thread-safe. Records are
+     * still delivered to each partition's {@link KafkaRecordConsumer} in offset order, and before
+     * {@link ConsumerLoopCallback#afterPoll(KafkaConsumer, boolean)} is invoked.
+     *
      * @param log A log for output
      * @param props The properties used to create the {@link KafkaConsumer}
      * @param topic The topic to replicate
@@ -206,13 +233,50 @@ public class KafkaIngester {
             @NotNull final Deserializer<?> keyDeserializer,
             @NotNull final Deserializer<?> valueDeserializer,
             @Nullable final ConsumerLoopCallback consumerLoopCallback) {
+        this(log, topic, partitionFilter, partitionToStreamConsumer, partitionToInitialSeekOffset,
+                keyDeserializer, valueDeserializer, consumerLoopCallback,
+                (kd, vd) -> new KafkaConsumer<>(props, kd, vd), DECODE_THREADS, DECODE_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a Kafka ingester for the given topic, with an explicit consumer factory and decode configuration.
+     *
+     * @param consumerFactory creates the {@link KafkaConsumer} from the key and value deserializers it should use;
+     *        when {@code decodeThreads} is positive, these are {@link ByteArrayDeserializer byte array deserializers}
+     * @param decodeThreads the number of decode worker threads, or zero to deserialize inside poll
+     * @param decodeBatchSize the maximum number of records of a single partition decoded by one task
+     * @see #KafkaIngester(Logger, Properties, String, IntPredicate, Function, InitialOffsetLookup, Deserializer,
+     *      Deserializer, ConsumerLoopCallback)
+     */
+    KafkaIngester(
+            @NotNull final Logger log,
+            @NotNull final String topic,
+            @NotNull final IntPredicate partitionFilter,
+            @NotNull final Function<TopicPartition, KafkaRecordConsumer> partitionToStreamConsumer,
+            @NotNull final InitialOffsetLookup partitionToInitialSeekOffset,
+            @NotNull final Deserializer<?> keyDeserializer,
+            @NotNull final Deserializer<?> valueDeserializer,
+            @Nullable final ConsumerLoopCallback consumerLoopCallback,
+            @NotNull final BiFunction<Deserializer<?>, Deserializer<?>, KafkaConsumer<?, ?>> consumerFactory,
+            final int decodeThreads,
+            final int decodeBatchSize) {
         this.log = log;
         this.topic = topic;
         partitionDescription = partitionFilter.toString();
         logPrefix = KafkaIngester.class.getSimpleName() + "(" + topic + ", " + partitionDescription + "): ";
-        kafkaConsumer = new KafkaConsumer<>(props,
-                Objects.requireNonNull(keyDeserializer),
-                Objects.requireNonNull(valueDeserializer));
+        if (decodeThreads > 0) {
+            decoder = new KafkaRecordDecoder("decode(" + topic + ", " + partitionDescription + ")",
+                    Objects.requireNonNull(keyDeserializer),
+                    Objects.requireNonNull(valueDeserializer),
+                    decodeThreads,
+                    Require.gtZero(decodeBatchSize, "decodeBatchSize"));
+            kafkaConsumer = consumerFactory.apply(new ByteArrayDeserializer(), new ByteArrayDeserializer());
+        } else {
+            decoder = null;
+            kafkaConsumer = consumerFactory.apply(
+                    Objects.requireNonNull(keyDeserializer),
+                    Objects.requireNonNull(valueDeserializer));
+        }
         this.consumerLoopCallback = consumerLoopCallback;
 
         kafkaConsumer.partitionsFor(topic).stream().filter(pi -> partitionFilter.test(pi.partition()))
@@ -334,6 +398,21 @@ public class KafkaIngester {
                         .append(", msgs/sec=").append(rateFormat.format(unitsPerSec(periodMessages, periodNanos)))
                         .append(", bytes/sec=").append(rateFormat.format(unitsPerSec(periodBytes, periodNanos)))
                         .endl();
+                if (decoder != null) {
+                    log.info().append(logPrefix)
+                            .append("ingestion stage summary")
+                            .append(": ").append(pollMetrics)
+                            .append(", decodeQueueDepth=").append(decoder.queueDepth())
+                            .append(", decodeMaxQueueDepth=").append(decoder.maxQueueDepthThenReset())
+                            .append(", ").append(decoder.queueMetrics())
+                            .append(", ").append(decoder.decodeMetrics())
+                            .append(", ").append(deliverMetrics)
+                            .endl();
+                    decoder.queueMetrics().reset();
+                    decoder.decodeMetrics().reset();
+                }
+                pollMetrics.reset();
+                deliverMetrics.reset();
                 lastReportNanos = afterPoll;
                 nextReport = lastReportNanos + reportIntervalNanos;
                 lastMessages = messagesProcessed;
@@ -343,6 +422,9 @@ public class KafkaIngester {
         }
         log.info().append(logPrefix).append("Closing Kafka consumer").endl();
         kafkaConsumer.close();
+        if (decoder != null) {
+            decoder.shutdown();
+        }
     }
 
     /**
@@ -354,8 +436,10 @@ public class KafkaIngester {
         final long receiveTime;
         try {
             ++pollCalls;
+            final long beforePoll = System.nanoTime();
             records = kafkaConsumer.poll(timeout);
             receiveTime = Clock.system().currentTimeNanos();
+            pollMetrics.record(System.nanoTime() - beforePoll);
         } catch (WakeupException we) {
             // we interpret a wakeup as a signal to stop /this/ poll.
             return true;
@@ -366,13 +450,42 @@ public class KafkaIngester {
             return false;
         }
 
+        if (decoder != null) {
+            return decodeAndDeliver(receiveTime, records);
+        }
+
         for (final TopicPartition topicPartition : records.partitions()) {
-            final int partition = topicPartition.partition();
+            final KafkaRecordConsumer streamConsumer = getStreamConsumer(topicPartition);
+            if (streamConsumer == null) {
+                continue;
+            }
 
-            final KafkaRecordConsumer streamConsumer;
-            synchronized (streamConsumers) {
-                streamConsumer = streamConsumers.get(partition);
+            final List<? extends ConsumerRecord<?, ?>> partitionRecords = records.records(topicPartition);
+            if (partitionRecords.isEmpty()) {
+                continue;
             }
+
+            if (!deliver(streamConsumer, receiveTime, partitionRecords)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Fan out the raw records of every partition to the {@link KafkaRecordDecoder decoder} before waiting for any of
+     * them, then deliver each partition's decoded records in offset order, while later partitions may still be
+     * decoding.
+     *
+     * @param receiveTime the time, in nanoseconds since the epoch, the records were received
+     * @param records the raw records returned by poll
+     * @return True if we should continue processing messages; false if we should abort the consumer thread.
+     */
+    private boolean decodeAndDeliver(final long receiveTime, @NotNull final ConsumerRecords<?, ?> records) {
+        final List<KafkaRecordConsumer> pendingConsumers = new ArrayList<>();
+        final List<List<Future<List<ConsumerRecord<?, ?>>>>> pendingSlices = new ArrayList<>();
+        for (final TopicPartition topicPartition : records.partitions()) {
+            final KafkaRecordConsumer streamConsumer = getStreamConsumer(topicPartition);
             if (streamConsumer == null) {
                 continue;
             }
@@ -382,31 +495,71 @@ public class KafkaIngester {
                 continue;
             }
 
+            pendingConsumers.add(streamConsumer);
+            pendingSlices.add(decoder.submit(partitionRecords));
+        }
+
+        for (int pi = 0; pi < pendingConsumers.size(); ++pi) {
+            final List<ConsumerRecord<?, ?>> partitionRecords;
             try {
-                bytesProcessed += streamConsumer.consume(receiveTime, partitionRecords);
-            } catch (Throwable ex) {
-                ++messagesWithErr;
-                log.error().append(logPrefix).append("Exception while processing Kafka message:").append(ex).endl();
-                /*
-                 * TODO (https://github.com/deephaven/deephaven-core/issues/4147): If we ignore any errors, we may have
-                 * misaligned chunks due to partially consumed records. Harden the record-parsing code against this
-                 * scenario.
-                 */
-                if (messagesWithErr > MAX_ERRS) {
-                    log.error().append(logPrefix)
-                            .append("Max number of errors exceeded, aborting " + this + " consumer thread.")
-                            .endl();
-                    streamConsumer.acceptFailure(ex);
-                    return false;
-                }
-                continue;
+                partitionRecords = KafkaRecordDecoder.await(pendingSlices.get(pi));
+            } catch (ExecutionException | InterruptedException ex) {
+                final Throwable cause = ex instanceof ExecutionException ? ex.getCause() : ex;
+                log.error().append(logPrefix).append("Exception while decoding Kafka messages:").append(cause)
+                        .append(", aborting.").endl();
+                pendingSlices.subList(pi, pendingSlices.size()).forEach(KafkaRecordDecoder::cancel);
+                notifyAllConsumersOnFailure(cause);
+                return false;
             }
-            messagesProcessed += partitionRecords.size();
+            if (!deliver(pendingConsumers.get(pi), receiveTime, partitionRecords)) {
+                pendingSlices.subList(pi + 1, pendingSlices.size()).forEach(KafkaRecordDecoder::cancel);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Nullable
+    private KafkaRecordConsumer getStreamConsumer(@NotNull final TopicPartition topicPartition) {
+        synchronized (streamConsumers) {
+            return streamConsumers.get(topicPartition.partition());
+        }
+    }
+
+    /**
+     * @return True if we should continue processing messages; false if we should abort the consumer thread.
+     */
+    private boolean deliver(
+            @NotNull final KafkaRecordConsumer streamConsumer,
+            final long receiveTime,
+            @NotNull final List<? extends ConsumerRecord<?, ?>> partitionRecords) {
+        final long beforeDeliver = System.nanoTime();
+        try {
+            bytesProcessed += streamConsumer.consume(receiveTime, partitionRecords);
+        } catch (Throwable ex) {
+            ++messagesWithErr;
+            log.error().append(logPrefix).append("Exception while processing Kafka message:").append(ex).endl();
+            /*
+             * TODO (https://github.com/deephaven/deephaven-core/issues/4147): If we ignore any errors, we may have
+             * misaligned chunks due to partially consumed records. Harden the record-parsing code against this
+             * scenario.
+             */
+            if (messagesWithErr > MAX_ERRS) {
+                log.error().append(logPrefix)
+                        .append("Max number of errors exceeded, aborting " + this + " consumer thread.")
+                        .endl();
+                streamConsumer.acceptFailure(ex);
+                return false;
+            }
+            return true;
+        } finally {
+            deliverMetrics.record(System.nanoTime() - beforeDeliver);
         }
+        messagesProcessed += partitionRecords.size();
         return true;
     }
 
-    private void notifyAllConsumersOnFailure(Exception ex) {
+    private void notifyAllConsumersOnFailure(Throwable ex) {
         final KafkaRecordConsumer[] allConsumers;
         synchronized (streamConsumers) {
             allConsumers = streamConsumers.valueCollection().toArray(KafkaRecordConsumer[]::new);
@@ -0,0 +1,199 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.kafka.ingest;
+
+import io.deephaven.base.log.LogOutput;
+import io.deephaven.base.log.LogOutputAppendable;
+import io.deephaven.util.thread.NamingThreadFactory;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The decode stage of a {@link KafkaIngester}. When enabled, the ingester polls raw key and value bytes, and the key
+ * and value {@link Deserializer deserializers} are invoked on a pool of worker threads rather than on the consumer
+ * thread inside {@link org.apache.kafka.clients.consumer.KafkaConsumer#poll(java.time.Duration)}.
+ *
+ * <p>
+ * Each partition's records are split into slices of at most {@code batchSize} records; every slice is decoded by a
+ * single task, and the {@link Future futures} for a partition are returned in offset order so that the ingester can
+ * reassemble the decoded records before handing them to the partition's {@link KafkaRecordConsumer}.
+ *
+ * <p>
+ * The deserializers are shared by all workers, and must therefore be thread-safe; the Avro and Protobuf deserializers
+ * provided by Confluent are.
+ */
+final class KafkaRecordDecoder {
+
+    private final Deserializer<?> keyDeserializer;
+    private final Deserializer<?> valueDeserializer;
+    private final int batchSize;
+    private final ExecutorService executor;
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final LongAccumulator maxQueueDepth = new LongAccumulator(Math::max, 0);
+    private final StageMetrics queueMetrics = new StageMetrics("queue");
+    private final StageMetrics decodeMetrics = new StageMetrics("decode");
+
+    KafkaRecordDecoder(
+            @NotNull final String name,
+            @NotNull final Deserializer<?> keyDeserializer,
+            @NotNull final Deserializer<?> valueDeserializer,
+            final int threads,
+            final int batchSize) {
+        this.keyDeserializer = keyDeserializer;
+        this.valueDeserializer = valueDeserializer;
+        this.batchSize = batchSize;
+        executor = Executors.newFixedThreadPool(threads, new NamingThreadFactory(KafkaIngester.class, name));
+    }
+
+    /**
+     * Submit one partition's raw records for decoding.
+     *
+     * @param records the records for a single partition, in offset order, with {@code byte[]} keys and values
+     * @return the futures for the decoded slices of {@code records}, in offset order
+     */
+    List<Future<List<ConsumerRecord<?, ?>>>> submit(@NotNull final List<? extends ConsumerRecord<?, ?>> records) {
+        final List<Future<List<ConsumerRecord<?, ?>>>> slices =
+                new ArrayList<>((records.size() + batchSize - 1) / batchSize);
+        for (int from = 0; from < records.size(); from += batchSize) {
+            final List<? extends ConsumerRecord<?, ?>> slice =
+                    records.subList(from, Math.min(records.size(), from + batchSize));
+            final long submitNanos = System.nanoTime();
+            maxQueueDepth.accumulate(queueDepth.incrementAndGet());
+            slices.add(executor.submit(() -> {
+                queueDepth.decrementAndGet();
+                final long startNanos = System.nanoTime();
+                queueMetrics.record(startNanos - submitNanos);
+                try {
+                    return decode(slice);
+                } finally {
+                    decodeMetrics.record(System.nanoTime() - startNanos);
+                }
+            }));
+        }
+        return slices;
+    }
+
+    /**
+     * Wait for the slices returned by {@link #submit(List)} and concatenate them.
+     *
+     * @param slices the slices of a single partition's records
+     * @return the decoded records, in offset order
+     */
+    static List<ConsumerRecord<?, ?>> await(@NotNull final List<Future<List<ConsumerRecord<?, ?>>>> slices)
+            throws ExecutionException, InterruptedException {
+        if (slices.size() == 1) {
+            return slices.get(0).get();
+        }
+        final List<ConsumerRecord<?, ?>> decoded = new ArrayList<>();
+        for (final Future<List<ConsumerRecord<?, ?>>> slice : slices) {
+            decoded.addAll(slice.get());
+        }
+        return decoded;
+    }
+
+    static void cancel(@NotNull final List<Future<List<ConsumerRecord<?, ?>>>> slices) {
+        for (final Future<List<ConsumerRecord<?, ?>>> slice : slices) {
+            slice.cancel(false);
+        }
+    }
+
+    private List<ConsumerRecord<?, ?>> decode(@NotNull final List<? extends ConsumerRecord<?, ?>> records) {
+        final List<ConsumerRecord<?, ?>> decoded = new ArrayList<>(records.size());
+        for (final ConsumerRecord<?, ?> record : records) {
+            // As in the Kafka consumer, the deserializers are invoked for null keys and values as well.
+            final Object key = keyDeserializer.deserialize(record.topic(), record.headers(), (byte[]) record.key());
+            final Object value =
+                    valueDeserializer.deserialize(record.topic(), record.headers(), (byte[]) record.value());
+            decoded.add(new ConsumerRecord<>(
+                    record.topic(),
+                    record.partition(),
+                    record.offset(),
+                    record.timestamp(),
+                    record.timestampType(),
+                    record.serializedKeySize(),
+                    record.serializedValueSize(),
+                    key,
+                    value,
+                    record.headers(),
+                    record.leaderEpoch()));
+        }
+        return decoded;
+    }
+
+    /**
+     * @return the number of slices submitted but not yet started by a worker
+     */
+    int queueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * @return the maximum {@link #queueDepth() queue depth} since the last call, which is reset
+     */
+    long maxQueueDepthThenReset() {
+        return maxQueueDepth.getThenReset();
+    }
+
+    StageMetrics queueMetrics() {
+        return queueMetrics;
+    }
+
+    StageMetrics decodeMetrics() {
+        return decodeMetrics;
+    }
+
+    void shutdown() {
+        executor.shutdownNow();
+        keyDeserializer.close();
+        valueDeserializer.close();
+    }
+
+    /**
+     * Latency metrics for one stage of the ingestion pipeline, accumulated since the last {@link #reset()}.
+     */
+    static final class StageMetrics implements LogOutputAppendable {
+        private final String name;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        StageMetrics(@NotNull final String name) {
+            this.name = name;
+        }
+
+        void record(final long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        void reset() {
+            count.reset();
+            totalNanos.reset();
+            maxNanos.reset();
+        }
+
+        @Override
+        public LogOutput append(@NotNull final LogOutput logOutput) {
+            final long n = count.sum();
+            return logOutput.append(name)
+                    .append("[count=").append(n)
+                    .append(", avg=").append(n == 0 ? 0 : totalNanos.sum() / n / 1000L).append("us")
+                    .append(", max=").append(maxNanos.get() / 1000L).append("us")
+                    .append("]");
+        }
+    }
+}
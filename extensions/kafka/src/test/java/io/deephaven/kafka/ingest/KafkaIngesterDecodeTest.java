@@ -0,0 +1,314 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.kafka.ingest;
+
+import io.deephaven.internal.log.LoggerFactory;
+import io.deephaven.io.logger.Logger;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.errors.WakeupException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.LongDeserializer;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongPredicate;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the {@link KafkaRecordDecoder decode stage} of a {@link KafkaIngester}.
+ */
+public class KafkaIngesterDecodeTest {
+
+    private static final Logger log = LoggerFactory.getLogger(KafkaIngesterDecodeTest.class);
+
+    private static final int PARTITIONS = 3;
+    private static final int DECODE_THREADS = 4;
+    private static final int DECODE_BATCH_SIZE = 7;
+    private static final long TIMEOUT_SECONDS = 30;
+
+    @Test
+    public void testDeliveryInOffsetOrder() throws InterruptedException {
+        final String topic = "testDeliveryInOffsetOrder";
+        final ScriptedConsumer consumer = new ScriptedConsumer(topic);
+        final RecordingStreamConsumer[] streamConsumers = makeStreamConsumers(PARTITIONS * 200);
+        final KafkaIngester ingester = makeIngester(topic, consumer, streamConsumers, offset -> false);
+        ingester.start();
+
+        // Several polls, each with multiple slices per partition
+        for (int pi = 0; pi < 4; ++pi) {
+            consumer.enqueue(pi * 50, 50);
+        }
+
+        assertThat(streamConsumers[0].allDelivered.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        for (int partition = 0; partition < PARTITIONS; ++partition) {
+            final RecordingStreamConsumer streamConsumer = streamConsumers[partition];
+            assertThat(streamConsumer.failure).isNull();
+            assertThat(streamConsumer.offsets)
+                    .containsExactlyElementsOf(LongStream.range(0, 200).boxed().collect(Collectors.toList()));
+            assertThat(streamConsumer.values).isEqualTo(streamConsumer.offsets);
+        }
+
+        ingester.shutdown();
+        assertThat(consumer.closed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void testDeserializerFailureAbortsIngester() throws InterruptedException {
+        final String topic = "testDeserializerFailureAbortsIngester";
+        final ScriptedConsumer consumer = new ScriptedConsumer(topic);
+        final RecordingStreamConsumer[] streamConsumers = makeStreamConsumers(Long.MAX_VALUE);
+        final KafkaIngester ingester = makeIngester(topic, consumer, streamConsumers, offset -> offset == 37);
+        ingester.start();
+
+        consumer.enqueue(0, 50);
+
+        // The consumer loop stops on its own, notifying every partition
+        assertThat(consumer.closed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        for (final RecordingStreamConsumer streamConsumer : streamConsumers) {
+            assertThat(streamConsumer.failure).isInstanceOf(SerializationException.class);
+            assertThat(streamConsumer.offsets).allMatch(offset -> offset < 37);
+        }
+        awaitDecodeThreadsTerminated(topic);
+    }
+
+    @Test
+    public void testShutdownStopsDecodePool() throws InterruptedException {
+        final String topic = "testShutdownStopsDecodePool";
+        final ScriptedConsumer consumer = new ScriptedConsumer(topic);
+        final RecordingStreamConsumer[] streamConsumers = makeStreamConsumers(PARTITIONS * 50);
+        final KafkaIngester ingester = makeIngester(topic, consumer, streamConsumers, offset -> false);
+        ingester.start();
+
+        consumer.enqueue(0, 50);
+        assertThat(streamConsumers[0].allDelivered.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        assertThat(decodeThreadsAlive(topic)).isTrue();
+
+        ingester.shutdown();
+        assertThat(consumer.closed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        awaitDecodeThreadsTerminated(topic);
+    }
+
+    private static KafkaIngester makeIngester(
+            @NotNull final String topic,
+            @NotNull final ScriptedConsumer consumer,
+            @NotNull final RecordingStreamConsumer[] streamConsumers,
+            @NotNull final LongPredicate failOnOffset) {
+        return new KafkaIngester(
+                log,
+                topic,
+                KafkaIngester.ALL_PARTITIONS,
+                tp -> streamConsumers[tp.partition()],
+                (c, tp) -> KafkaIngester.DONT_SEEK,
+                new ByteArrayDeserializer(),
+                new OffsetValueDeserializer(failOnOffset),
+                null,
+                (kd, vd) -> consumer,
+                DECODE_THREADS,
+                DECODE_BATCH_SIZE);
+    }
+
+    private static RecordingStreamConsumer[] makeStreamConsumers(final long expectedRecords) {
+        final CountDownLatch allDelivered = new CountDownLatch(1);
+        final RecordingStreamConsumer.Counter counter = new RecordingStreamConsumer.Counter(expectedRecords);
+        final RecordingStreamConsumer[] streamConsumers = new RecordingStreamConsumer[PARTITIONS];
+        for (int partition = 0; partition < PARTITIONS; ++partition) {
+            streamConsumers[partition] = new RecordingStreamConsumer(counter, allDelivered);
+        }
+        return streamConsumers;
+    }
+
+    private static boolean decodeThreadsAlive(@NotNull final String topic) {
+        final String prefix = KafkaIngester.class.getSimpleName() + "-decode(" + topic + ",";
+        return Thread.getAllStackTraces().keySet().stream()
+                .anyMatch(thread -> thread.isAlive() && thread.getName().startsWith(prefix));
+    }
+
+    private static void awaitDecodeThreadsTerminated(@NotNull final String topic) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (decodeThreadsAlive(topic) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(decodeThreadsAlive(topic)).isFalse();
+    }
+
+    /**
+     * Records the offsets and decoded values delivered to a single partition.
+     */
+    private static final class RecordingStreamConsumer implements KafkaRecordConsumer {
+
+        private static final class Counter {
+            private final long expected;
+            private long delivered;
+
+            private Counter(final long expected) {
+                this.expected = expected;
+            }
+        }
+
+        private final Counter counter;
+        private final CountDownLatch allDelivered;
+        private final List<Long> offsets = Collections.synchronizedList(new ArrayList<>());
+        private final List<Long> values = Collections.synchronizedList(new ArrayList<>());
+        private volatile Throwable failure;
+
+        private RecordingStreamConsumer(@NotNull final Counter counter, @NotNull final CountDownLatch allDelivered) {
+            this.counter = counter;
+            this.allDelivered = allDelivered;
+        }
+
+        @Override
+        public long consume(final long receiveTime, @NotNull final List<? extends ConsumerRecord<?, ?>> records) {
+            for (final ConsumerRecord<?, ?> record : records) {
+                offsets.add(record.offset());
+                values.add((Long) record.value());
+            }
+            synchronized (counter) {
+                counter.delivered += records.size();
+                if (counter.delivered >= counter.expected) {
+                    allDelivered.countDown();
+                }
+            }
+            return 0;
+        }
+
+        @Override
+        public void acceptFailure(@NotNull final Throwable cause) {
+            failure = cause;
+        }
+    }
+
+    /**
+     * Decodes values written as the record offset, taking longer for some slices so that slices complete out of order.
+     */
+    private static final class OffsetValueDeserializer implements Deserializer<Long> {
+
+        private final LongDeserializer delegate = new LongDeserializer();
+        private final LongPredicate failOnOffset;
+
+        private OffsetValueDeserializer(@NotNull final LongPredicate failOnOffset) {
+            this.failOnOffset = failOnOffset;
+        }
+
+        @Override
+        public Long deserialize(final String topic, final byte[] data) {
+            final Long offset = delegate.deserialize(topic, data);
+            if (failOnOffset.test(offset)) {
+                throw new SerializationException("Failing on offset " + offset);
+            }
+            if ((offset / DECODE_BATCH_SIZE) % 3 == 0) {
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return offset;
+        }
+
+        @Override
+        public Long deserialize(final String topic, final Headers headers, final byte[] data) {
+            return deserialize(topic, data);
+        }
+    }
+
+    /**
+     * A consumer that returns records enqueued by the test from {@link #poll(Duration)}, and never contacts a broker.
+     */
+    private static final class ScriptedConsumer extends KafkaConsumer<byte[], byte[]> {
+
+        private final String topic;
+        private final BlockingQueue<ConsumerRecords<byte[], byte[]>> batches = new LinkedBlockingQueue<>();
+        private final AtomicBoolean wakeupRequested = new AtomicBoolean();
+        private final CountDownLatch closed = new CountDownLatch(1);
+
+        private ScriptedConsumer(@NotNull final String topic) {
+            super(properties(), new ByteArrayDeserializer(), new ByteArrayDeserializer());
+            this.topic = topic;
+        }
+
+        private static Properties properties() {
+            final Properties props = new Properties();
+            props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092");
+            return props;
+        }
+
+        /**
+         * Enqueue one poll's worth of records, with {@code count} records per partition starting at {@code offset}.
+         */
+        private void enqueue(final long offset, final int count) {
+            final Map<TopicPartition, List<ConsumerRecord<byte[], byte[]>>> records = new HashMap<>();
+            for (int partition = 0; partition < PARTITIONS; ++partition) {
+                final List<ConsumerRecord<byte[], byte[]>> partitionRecords = new ArrayList<>(count);
+                for (long ri = offset; ri < offset + count; ++ri) {
+                    partitionRecords.add(new ConsumerRecord<>(
+                            topic, partition, ri, null, ByteBuffer.allocate(Long.BYTES).putLong(ri).array()));
+                }
+                records.put(new TopicPartition(topic, partition), partitionRecords);
+            }
+            batches.add(new ConsumerRecords<>(records));
+        }
+
+        @Override
+        public List<PartitionInfo> partitionsFor(final String topic) {
+            final List<PartitionInfo> partitions = new ArrayList<>(PARTITIONS);
+            for (int partition = 0; partition < PARTITIONS; ++partition) {
+                partitions.add(new PartitionInfo(topic, partition, null, null, null));
+            }
+            return partitions;
+        }
+
+        @Override
+        public void assign(final Collection<TopicPartition> partitions) {}
+
+        @Override
+        public ConsumerRecords<byte[], byte[]> poll(final Duration timeout) {
+            if (wakeupRequested.getAndSet(false)) {
+                throw new WakeupException();
+            }
+            final ConsumerRecords<byte[], byte[]> records;
+            try {
+                records = batches.poll(Math.min(timeout.toMillis(), 10), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                throw new WakeupException();
+            }
+            return records == null ? ConsumerRecords.empty() : records;
+        }
+
+        @Override
+        public void wakeup() {
+            wakeupRequested.set(true);
+        }
+
+        @Override
+        public void close() {
+            super.close();
+            closed.countDown();
+        }
+    }
+}
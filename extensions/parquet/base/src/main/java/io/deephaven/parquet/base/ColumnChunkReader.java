@@ -6,6 +6,7 @@ package io.deephaven.parquet.base;
 import io.deephaven.util.channel.SeekableChannelContext;
 import io.deephaven.util.channel.SeekableChannelsProvider;
 import org.apache.parquet.column.Dictionary;
+import org.apache.parquet.format.Statistics;
 import org.apache.parquet.internal.column.columnindex.OffsetIndex;
 import org.apache.parquet.schema.PrimitiveType;
 import org.jetbrains.annotations.Nullable;
@@ -126,6 +127,12 @@ public interface ColumnChunkReader {
     @Nullable
     String getVersion();
 
+    /**
+     * @return The statistics stored in the metadata for this column chunk, or null if none were written.
+     */
+    @Nullable
+    Statistics getStatistics();
+
     /**
      * @return The channel provider for this column chunk reader.
      */
@@ -22,6 +22,7 @@ import org.apache.parquet.schema.MessageType;
 import org.apache.parquet.schema.PrimitiveType;
 import org.apache.parquet.schema.Type;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -194,6 +195,13 @@ final class ColumnChunkReaderImpl implements ColumnChunkReader {
         return version;
     }
 
+    @Override
+    @Nullable
+    public Statistics getStatistics() {
+        final ColumnMetaData metaData = columnChunk.getMeta_data();
+        return metaData.isSetStatistics() ? metaData.getStatistics() : null;
+    }
+
     @Override
     public SeekableChannelsProvider getChannelsProvider() {
         return channelsProvider;
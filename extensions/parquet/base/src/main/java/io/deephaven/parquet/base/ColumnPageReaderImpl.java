@@ -113,12 +113,32 @@ final class ColumnPageReaderImpl implements ColumnPageReader {
     @Override
     public Object materialize(@NotNull final Object nullValue,
             @NotNull final SeekableChannelContext channelContext) throws IOException {
-        try (
-                final ContextHolder holder = SeekableChannelContext.ensureContext(channelsProvider, channelContext);
-                final SeekableByteChannel ch = channelsProvider.getReadChannel(holder.get(), uri)) {
-            ch.position(dataOffset);
-            return readDataPage(nullValue, ch, holder.get());
+        try (final ContextHolder holder = SeekableChannelContext.ensureContext(channelsProvider, channelContext)) {
+            final ByteBuffer pageView = getUncompressedPageView(holder.get());
+            if (pageView != null) {
+                return readDataPage(nullValue, pageView, holder.get());
+            }
+            try (final SeekableByteChannel ch = channelsProvider.getReadChannel(holder.get(), uri)) {
+                ch.position(dataOffset);
+                return readDataPage(nullValue, ch, holder.get());
+            }
+        }
+    }
+
+    /**
+     * Get a read-only view of the page data directly from the channels provider, if the page is not compressed and the
+     * provider can supply one (for example, from a memory-mapped file). This lets us decode the page without first
+     * copying it into a heap buffer.
+     */
+    @Nullable
+    private ByteBuffer getUncompressedPageView(@NotNull final SeekableChannelContext channelContext)
+            throws IOException {
+        final int pageSize = pageHeader.getCompressed_page_size();
+        if (compressorAdapter != CompressorAdapter.PASSTHRU || pageSize != pageHeader.getUncompressed_page_size()) {
+            return null;
         }
+        final ByteBuffer pageView = channelsProvider.readOnlyView(channelContext, uri, dataOffset, pageSize);
+        return pageView == null ? null : pageView.order(ByteOrder.LITTLE_ENDIAN);
     }
 
     private int readRowCount(@NotNull final SeekableChannelContext channelContext) throws IOException {
@@ -278,6 +298,29 @@ final class ColumnPageReaderImpl implements ColumnPageReader {
         }
     }
 
+    private Object readDataPage(
+            final Object nullValue,
+            final ByteBuffer pageView,
+            @NotNull final SeekableChannelContext channelContext) throws IOException {
+        switch (pageHeader.type) {
+            case DATA_PAGE:
+                return readPageV1(pageView, nullValue, channelContext);
+            case DATA_PAGE_V2:
+                final DataPageHeaderV2 header = pageHeader.getData_page_header_v2();
+                final int repetitionLevelsLength = header.getRepetition_levels_byte_length();
+                final int definitionLevelsLength = header.getDefinition_levels_byte_length();
+                final ByteBuffer repetitionLevels = pageView.slice().limit(repetitionLevelsLength);
+                pageView.position(repetitionLevelsLength);
+                final ByteBuffer definitionLevels = pageView.slice().limit(definitionLevelsLength);
+                pageView.position(repetitionLevelsLength + definitionLevelsLength);
+                final ByteBuffer bytes = pageView.slice().order(ByteOrder.LITTLE_ENDIAN);
+                return readPageV2(repetitionLevels, definitionLevels, bytes, nullValue, channelContext);
+            default:
+                throw new IOException(String.format("Unexpected page of type %s of size %d", pageHeader.getType(),
+                        pageHeader.getCompressed_page_size()) + " for column: " + columnName + ", uri: " + uri);
+        }
+    }
+
     private static Encoding getEncoding(final org.apache.parquet.format.Encoding encoding) {
         return org.apache.parquet.column.Encoding.valueOf(encoding.name());
     }
@@ -455,12 +498,28 @@ final class ColumnPageReaderImpl implements ColumnPageReader {
             final InputStream decompressedInput,
             final Object nullValue,
             @NotNull final SeekableChannelContext channelContext) {
-        final DataPageHeader header = pageHeader.getData_page_header();
         final int uncompressedSize = pageHeader.getUncompressed_page_size();
         final ByteBuffer bytes = getCachedBuffer(channelContext, PAGE_BUFFER_KEY, uncompressedSize)
                 .order(ByteOrder.LITTLE_ENDIAN);
         try {
             readNBytes(decompressedInput, bytes.array(), bytes.arrayOffset(), uncompressedSize);
+        } catch (final IOException e) {
+            throw new ParquetDecodingException("Failed to read parquet V1 page for column: " + columnName +
+                    ", uri: " + uri, e);
+        }
+        return readPageV1(bytes, nullValue, channelContext);
+    }
+
+    /**
+     * Materialize a V1 page from its uncompressed bytes. This method assumes that {@code bytes} is positioned at the
+     * start of the page and has little-endian byte order.
+     */
+    private Object readPageV1(
+            final ByteBuffer bytes,
+            final Object nullValue,
+            @NotNull final SeekableChannelContext channelContext) {
+        final DataPageHeader header = pageHeader.getData_page_header();
+        try {
             final RunLengthBitPackingHybridBufferDecoder rlDecoder = getRlDecoderPageV1(bytes);
             final RunLengthBitPackingHybridBufferDecoder dlDecoder = getDlDecoderPageV1(bytes);
             final ValuesReader dataReader =
@@ -486,17 +545,19 @@ final class ColumnPageReaderImpl implements ColumnPageReader {
     }
 
     @Nullable
-    private RunLengthBitPackingHybridBufferDecoder getRlDecoderPageV2(final DataPageV2Partial page) throws IOException {
+    private RunLengthBitPackingHybridBufferDecoder getRlDecoderPageV2(final ByteBuffer repetitionLevels)
+            throws IOException {
         if (path.getMaxRepetitionLevel() != 0) {
-            return new RunLengthBitPackingHybridBufferDecoder(path.getMaxRepetitionLevel(), page.repetitionLevels);
+            return new RunLengthBitPackingHybridBufferDecoder(path.getMaxRepetitionLevel(), repetitionLevels);
         }
         return null;
     }
 
     @Nullable
-    private RunLengthBitPackingHybridBufferDecoder getDlDecoderPageV2(final DataPageV2Partial page) throws IOException {
+    private RunLengthBitPackingHybridBufferDecoder getDlDecoderPageV2(final ByteBuffer definitionLevels)
+            throws IOException {
         if (path.getMaxDefinitionLevel() > 0) {
-            return new RunLengthBitPackingHybridBufferDecoder(path.getMaxDefinitionLevel(), page.definitionLevels);
+            return new RunLengthBitPackingHybridBufferDecoder(path.getMaxDefinitionLevel(), definitionLevels);
         }
         return null;
     }
@@ -509,8 +570,8 @@ final class ColumnPageReaderImpl implements ColumnPageReader {
             @NotNull final SeekableChannelContext channelContext) {
         final DataPageHeaderV2 header = pageHeader.getData_page_header_v2();
         try {
-            final RunLengthBitPackingHybridBufferDecoder rlDecoder = getRlDecoderPageV2(page);
-            final RunLengthBitPackingHybridBufferDecoder dlDecoder = getDlDecoderPageV2(page);
+            final RunLengthBitPackingHybridBufferDecoder rlDecoder = getRlDecoderPageV2(page.repetitionLevels);
+            final RunLengthBitPackingHybridBufferDecoder dlDecoder = getDlDecoderPageV2(page.definitionLevels);
             final ByteBuffer bytes = getCachedBuffer(channelContext, PAGE_BUFFER_KEY, page.uncompressedSize);
             readNBytes(page.decompressedStream, bytes.array(), bytes.arrayOffset(), page.uncompressedSize);
             final ValuesReader dataReader =
@@ -527,12 +588,29 @@ final class ColumnPageReaderImpl implements ColumnPageReader {
             final DataPageV2Partial page,
             final Object nullValue,
             @NotNull final SeekableChannelContext channelContext) {
-        final DataPageHeaderV2 header = pageHeader.getData_page_header_v2();
+        final ByteBuffer bytes = getCachedBuffer(channelContext, PAGE_BUFFER_KEY, page.uncompressedSize);
         try {
-            final RunLengthBitPackingHybridBufferDecoder rlDecoder = getRlDecoderPageV2(page);
-            final RunLengthBitPackingHybridBufferDecoder dlDecoder = getDlDecoderPageV2(page);
-            final ByteBuffer bytes = getCachedBuffer(channelContext, PAGE_BUFFER_KEY, page.uncompressedSize);
             readNBytes(page.decompressedStream, bytes.array(), bytes.arrayOffset(), page.uncompressedSize);
+        } catch (final IOException e) {
+            throw new ParquetDecodingException("Failed to read parquet V2 page for column: " + columnName +
+                    ", uri: " + uri, e);
+        }
+        return readPageV2(page.repetitionLevels, page.definitionLevels, bytes, nullValue, channelContext);
+    }
+
+    /**
+     * Materialize a V2 page from its levels and uncompressed data bytes.
+     */
+    private Object readPageV2(
+            final ByteBuffer repetitionLevels,
+            final ByteBuffer definitionLevels,
+            final ByteBuffer bytes,
+            final Object nullValue,
+            @NotNull final SeekableChannelContext channelContext) {
+        final DataPageHeaderV2 header = pageHeader.getData_page_header_v2();
+        try {
+            final RunLengthBitPackingHybridBufferDecoder rlDecoder = getRlDecoderPageV2(repetitionLevels);
+            final RunLengthBitPackingHybridBufferDecoder dlDecoder = getDlDecoderPageV2(definitionLevels);
             final ValuesReader dataReader = getDataReader(getEncoding(header.getEncoding()),
                     bytes, header.getNum_values(), channelContext);
             return materialize(pageMaterializerFactory, dlDecoder, rlDecoder, dataReader, nullValue);
@@ -653,6 +731,14 @@ final class ColumnPageReaderImpl implements ColumnPageReader {
         if (dataEncoding == Encoding.DELTA_BYTE_ARRAY) {
             throw new RuntimeException("DELTA_BYTE_ARRAY encoding not supported");
         }
+        if (dataEncoding == Encoding.PLAIN) {
+            // Fixed width values can be read directly from the page buffer
+            final ValuesReader plainReader =
+                    PlainFixedWidthValuesReader.create(path.getPrimitiveType().getPrimitiveTypeName(), in);
+            if (plainReader != null) {
+                return plainReader;
+            }
+        }
         final ValuesReader dataReader;
         if (dataEncoding.usesDictionary()) {
             final Dictionary dictionary = dictionarySupplier.apply(channelContext);
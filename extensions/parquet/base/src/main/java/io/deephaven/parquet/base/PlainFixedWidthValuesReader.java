@@ -0,0 +1,86 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.base;
+
+import org.apache.parquet.column.values.ValuesReader;
+import org.apache.parquet.schema.PrimitiveType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * {@link ValuesReader} for PLAIN-encoded {@code INT32}, {@code INT64}, {@code FLOAT} and {@code DOUBLE} values that
+ * reads directly from the page's {@link ByteBuffer}, rather than through a stream as parquet's own plain readers do.
+ * When the page buffer is a view of a memory-mapped file, values are decoded straight from the mapping into the page
+ * arrays.
+ */
+final class PlainFixedWidthValuesReader extends ValuesReader {
+
+    /**
+     * Make a reader for the values in {@code page}, from its position to its limit.
+     *
+     * @param typeName The physical type of the values
+     * @param page The page data
+     * @return The reader, or {@code null} if {@code typeName} is not a supported fixed width type
+     */
+    @Nullable
+    static ValuesReader create(
+            @NotNull final PrimitiveType.PrimitiveTypeName typeName,
+            @NotNull final ByteBuffer page) {
+        final int width;
+        switch (typeName) {
+            case INT32:
+            case FLOAT:
+                width = Integer.BYTES;
+                break;
+            case INT64:
+            case DOUBLE:
+                width = Long.BYTES;
+                break;
+            default:
+                return null;
+        }
+        return new PlainFixedWidthValuesReader(page.slice().order(ByteOrder.LITTLE_ENDIAN), width);
+    }
+
+    private final ByteBuffer values;
+    private final int width;
+
+    private PlainFixedWidthValuesReader(@NotNull final ByteBuffer values, final int width) {
+        this.values = values;
+        this.width = width;
+    }
+
+    @Override
+    public void skip() {
+        values.position(values.position() + width);
+    }
+
+    @Override
+    public void skip(final int numValues) {
+        values.position(values.position() + numValues * width);
+    }
+
+    @Override
+    public int readInteger() {
+        return values.getInt();
+    }
+
+    @Override
+    public long readLong() {
+        return values.getLong();
+    }
+
+    @Override
+    public float readFloat() {
+        return values.getFloat();
+    }
+
+    @Override
+    public double readDouble() {
+        return values.getDouble();
+    }
+}
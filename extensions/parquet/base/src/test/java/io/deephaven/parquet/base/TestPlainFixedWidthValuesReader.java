@@ -0,0 +1,72 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.base;
+
+import org.apache.parquet.column.values.ValuesReader;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+
+class TestPlainFixedWidthValuesReader {
+
+    @Test
+    void testReadFromPosition() {
+        final ByteBuffer page = ByteBuffer.allocateDirect(4 + 3 * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        page.putInt(0xDEADBEEF);
+        page.putLong(1L).putLong(-2L).putLong(Long.MAX_VALUE);
+        page.flip().position(Integer.BYTES);
+        // The reader must not depend on the byte order of the page buffer
+        page.order(ByteOrder.BIG_ENDIAN);
+
+        final ValuesReader reader = PlainFixedWidthValuesReader.create(PrimitiveTypeName.INT64, page);
+        assertThat(reader).isNotNull();
+        assertThat(reader.readLong()).isEqualTo(1L);
+        reader.skip();
+        assertThat(reader.readLong()).isEqualTo(Long.MAX_VALUE);
+        assertThat(page.position()).isEqualTo(Integer.BYTES);
+    }
+
+    @Test
+    void testInt32AndFloat() {
+        final ByteBuffer page = ByteBuffer.allocate(4 * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        page.putInt(7).putInt(-7).putFloat(1.5f).putFloat(Float.NaN);
+        page.flip();
+
+        final ValuesReader ints = PlainFixedWidthValuesReader.create(PrimitiveTypeName.INT32, page);
+        assertThat(ints).isNotNull();
+        assertThat(ints.readInteger()).isEqualTo(7);
+        assertThat(ints.readInteger()).isEqualTo(-7);
+        assertThat(ints.readFloat()).isEqualTo(1.5f);
+
+        final ValuesReader floats = PlainFixedWidthValuesReader.create(PrimitiveTypeName.FLOAT, page);
+        assertThat(floats).isNotNull();
+        floats.skip(3);
+        assertThat(floats.readFloat()).isNaN();
+    }
+
+    @Test
+    void testDouble() {
+        final ByteBuffer page = ByteBuffer.allocate(2 * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        page.putDouble(-0.25).putDouble(Double.MAX_VALUE);
+        page.flip();
+
+        final ValuesReader reader = PlainFixedWidthValuesReader.create(PrimitiveTypeName.DOUBLE, page);
+        assertThat(reader).isNotNull();
+        assertThat(reader.readDouble()).isEqualTo(-0.25);
+        assertThat(reader.readDouble()).isEqualTo(Double.MAX_VALUE);
+    }
+
+    @Test
+    void testUnsupportedTypes() {
+        final ByteBuffer page = ByteBuffer.allocate(16);
+        assertThat(PlainFixedWidthValuesReader.create(PrimitiveTypeName.BOOLEAN, page)).isNull();
+        assertThat(PlainFixedWidthValuesReader.create(PrimitiveTypeName.BINARY, page)).isNull();
+        assertThat(PlainFixedWidthValuesReader.create(PrimitiveTypeName.INT96, page)).isNull();
+        assertThat(PlainFixedWidthValuesReader.create(PrimitiveTypeName.FIXED_LEN_BYTE_ARRAY, page)).isNull();
+    }
+}
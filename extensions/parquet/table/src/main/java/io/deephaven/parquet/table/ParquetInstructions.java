@@ -13,6 +13,7 @@ import io.deephaven.hash.KeyedObjectKey;
 import io.deephaven.hash.KeyedObjectKey.Basic;
 import io.deephaven.parquet.base.ParquetUtils;
 import io.deephaven.parquet.table.location.ParquetColumnResolver;
+import io.deephaven.parquet.table.pagestore.BoundedPageCache;
 import io.deephaven.util.annotations.VisibleForTesting;
 import org.apache.parquet.hadoop.metadata.CompressionCodecName;
 import org.apache.parquet.hadoop.metadata.FileMetaData;
@@ -171,6 +172,12 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
 
     public abstract Optional<ParquetColumnResolver.Factory> getColumnResolverFactory();
 
+    /**
+     * @return the cache that should retain pages read with these instructions, or empty to cache pages per column
+     *         location with soft references
+     */
+    public abstract Optional<BoundedPageCache> getPageCache();
+
     /**
      * Creates a new {@link ParquetInstructions} object with the same properties as the current object but definition
      * set as the provided {@link TableDefinition}.
@@ -325,6 +332,11 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             return Optional.empty();
         }
 
+        @Override
+        public Optional<BoundedPageCache> getPageCache() {
+            return Optional.empty();
+        }
+
         @Override
         public ParquetInstructions withTableDefinition(@Nullable final TableDefinition useDefinition) {
             return withTableDefinitionAndLayout(useDefinition, null);
@@ -342,7 +354,7 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             return new ReadOnly(null, null, getCompressionCodecName(), getMaximumDictionaryKeys(),
                     getMaximumDictionarySize(), isLegacyParquet(), getTargetPageSize(), isRefreshing(),
                     getSpecialInstructions(), generateMetadataFiles(), baseNameForPartitionedParquetData(),
-                    useLayout, useDefinition, null, null, null);
+                    useLayout, useDefinition, null, null, null, null);
         }
 
         @Override
@@ -350,7 +362,7 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             return new ReadOnly(null, null, getCompressionCodecName(), getMaximumDictionaryKeys(),
                     getMaximumDictionarySize(), isLegacyParquet(), getTargetPageSize(), isRefreshing(),
                     getSpecialInstructions(), generateMetadataFiles(), baseNameForPartitionedParquetData(),
-                    null, null, indexColumns, null, null);
+                    null, null, indexColumns, null, null, null);
         }
 
         @Override
@@ -468,6 +480,7 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
         private final Collection<List<String>> indexColumns;
         private final OnWriteCompleted onWriteCompleted;
         private final ParquetColumnResolver.Factory columnResolver;
+        private final BoundedPageCache pageCache;
 
         private ReadOnly(
                 final KeyedObjectHashMap<String, ColumnInstructions> columnNameToInstructions,
@@ -485,7 +498,8 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
                 final TableDefinition tableDefinition,
                 final Collection<List<String>> indexColumns,
                 final OnWriteCompleted onWriteCompleted,
-                final ParquetColumnResolver.Factory columnResolver) {
+                final ParquetColumnResolver.Factory columnResolver,
+                final BoundedPageCache pageCache) {
             this.columnNameToInstructions = columnNameToInstructions;
             this.parquetColumnNameToInstructions = parquetColumnNameToColumnName;
             this.compressionCodecName = compressionCodecName;
@@ -505,6 +519,7 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
                             .collect(Collectors.toUnmodifiableList());
             this.onWriteCompleted = onWriteCompleted;
             this.columnResolver = columnResolver;
+            this.pageCache = pageCache;
             if (columnResolver != null) {
                 if (tableDefinition == null) {
                     throw new IllegalArgumentException("When setting columnResolver, tableDefinition must be provided");
@@ -639,6 +654,11 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             return Optional.ofNullable(columnResolver);
         }
 
+        @Override
+        public Optional<BoundedPageCache> getPageCache() {
+            return Optional.ofNullable(pageCache);
+        }
+
         @Override
         public ParquetInstructions withTableDefinition(@Nullable final TableDefinition useDefinition) {
             return withTableDefinitionAndLayout(useDefinition, fileLayout);
@@ -657,7 +677,7 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
                     getCompressionCodecName(), getMaximumDictionaryKeys(), getMaximumDictionarySize(),
                     isLegacyParquet(), getTargetPageSize(), isRefreshing(), getSpecialInstructions(),
                     generateMetadataFiles(), baseNameForPartitionedParquetData(), useLayout, useDefinition,
-                    indexColumns, onWriteCompleted, columnResolver);
+                    indexColumns, onWriteCompleted, columnResolver, pageCache);
         }
 
         @Override
@@ -666,7 +686,7 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
                     getCompressionCodecName(), getMaximumDictionaryKeys(), getMaximumDictionarySize(),
                     isLegacyParquet(), getTargetPageSize(), isRefreshing(), getSpecialInstructions(),
                     generateMetadataFiles(), baseNameForPartitionedParquetData(), fileLayout,
-                    tableDefinition, useIndexColumns, onWriteCompleted, columnResolver);
+                    tableDefinition, useIndexColumns, onWriteCompleted, columnResolver, pageCache);
         }
 
         @Override
@@ -732,6 +752,7 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
         private Collection<List<String>> indexColumns;
         private OnWriteCompleted onWriteCompleted;
         private ParquetColumnResolver.Factory columnResolverFactory;
+        private BoundedPageCache pageCache;
 
         /**
          * For each additional field added, make sure to update the copy constructor builder
@@ -761,6 +782,7 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             indexColumns = readOnlyParquetInstructions.getIndexColumns().orElse(null);
             onWriteCompleted = readOnlyParquetInstructions.onWriteCompleted().orElse(null);
             columnResolverFactory = readOnlyParquetInstructions.getColumnResolverFactory().orElse(null);
+            pageCache = readOnlyParquetInstructions.getPageCache().orElse(null);
         }
 
         public Builder addColumnNameMapping(final String parquetColumnName, final String columnName) {
@@ -1014,6 +1036,20 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             return this;
         }
 
+        /**
+         * Sets a {@link BoundedPageCache} to retain the pages read with these instructions. By default, each column
+         * location caches its own pages with soft references, which are only released under garbage collector memory
+         * pressure; a bounded cache instead releases pages explicitly once the estimated size of all the pages it
+         * retains exceeds its bound. The same cache may be shared across many reads so that the bound applies to all
+         * of them, and reports hits, misses, and evictions per column.
+         *
+         * @param pageCache the page cache
+         */
+        public Builder setPageCache(final BoundedPageCache pageCache) {
+            this.pageCache = pageCache;
+            return this;
+        }
+
         public ParquetInstructions build() {
             final KeyedObjectHashMap<String, ColumnInstructions> columnNameToInstructionsOut = columnNameToInstructions;
             columnNameToInstructions = null;
@@ -1023,7 +1059,7 @@ public abstract class ParquetInstructions implements ColumnToCodecMappings {
             return new ReadOnly(columnNameToInstructionsOut, parquetColumnNameToColumnNameOut, compressionCodecName,
                     maximumDictionaryKeys, maximumDictionarySize, isLegacyParquet, targetPageSize, isRefreshing,
                     specialInstructions, generateMetadataFiles, baseNameForPartitionedParquetData, fileLayout,
-                    tableDefinition, indexColumns, onWriteCompleted, columnResolverFactory);
+                    tableDefinition, indexColumns, onWriteCompleted, columnResolverFactory, pageCache);
         }
     }
 
@@ -22,6 +22,7 @@ import io.deephaven.parquet.table.ParquetInstructions;
 import io.deephaven.parquet.table.metadata.CodecInfo;
 import io.deephaven.parquet.table.metadata.ColumnTypeInfo;
 import io.deephaven.parquet.table.pagestore.ColumnChunkPageStore;
+import io.deephaven.parquet.table.pagestore.ColumnChunkStatistics;
 import io.deephaven.parquet.table.pagestore.PageCache;
 import io.deephaven.parquet.table.pagestore.topage.*;
 import io.deephaven.parquet.table.region.*;
@@ -327,7 +328,14 @@ final class ParquetColumnLocation<ATTR extends Values> extends AbstractColumnLoc
 
             // We should consider moving this page-cache to column level if needed.
             // Column-location level likely allows more parallelism.
-            final PageCache<ATTR> pageCache = new PageCache<>(INITIAL_PAGE_CACHE_SIZE, MAX_PAGE_CACHE_SIZE);
+            final PageCache<ATTR> pageCache = tl().getReadInstructions().getPageCache()
+                    .map(boundedPageCache -> boundedPageCache.<ATTR>forColumn(columnName))
+                    .orElseGet(() -> new PageCache.Soft<>(INITIAL_PAGE_CACHE_SIZE, MAX_PAGE_CACHE_SIZE));
+
+            final ColumnTypeInfo columnTypeInfo = tl().getColumnTypes().get(parquetColumnName);
+            // Statistics describe the encoded values, which are only comparable to ours if no codec is involved
+            final boolean useStatistics = !CodecLookup.explicitCodecPresent(
+                    getCodecName(columnTypeInfo, tl().getReadInstructions(), columnDefinition));
 
             for (int psi = 0; psi < pageStoreCount; ++psi) {
                 final ColumnChunkReader columnChunkReader = columnChunkReaders[psi];
@@ -337,10 +345,13 @@ final class ParquetColumnLocation<ATTR extends Values> extends AbstractColumnLoc
                                     pageCache,
                                     columnChunkReader,
                                     tl().getRegionParameters().regionMask,
-                                    makeToPage(tl().getColumnTypes().get(parquetColumnName),
-                                            tl().getReadInstructions(), parquetColumnName, columnChunkReader,
-                                            columnDefinition),
-                                    columnDefinition);
+                                    makeToPage(columnTypeInfo, tl().getReadInstructions(), parquetColumnName,
+                                            columnChunkReader, columnDefinition),
+                                    columnDefinition,
+                                    useStatistics
+                                            ? ColumnChunkStatistics.from(columnChunkReader,
+                                                    columnDefinition.getDataType())
+                                            : null);
                     pageStores[psi] = creatorResult.pageStore;
                     dictionaryChunkSuppliers[psi] = creatorResult.dictionaryChunkSupplier;
                     dictionaryKeysPageStores[psi] = creatorResult.dictionaryKeysPageStore;
@@ -355,6 +366,18 @@ final class ParquetColumnLocation<ATTR extends Values> extends AbstractColumnLoc
         }
     }
 
+    @Nullable
+    private static String getCodecName(
+            @Nullable final ColumnTypeInfo columnTypeInfo,
+            @NotNull final ParquetInstructions readInstructions,
+            @NotNull final ColumnDefinition<?> columnDefinition) {
+        final String codecFromInstructions = readInstructions.getCodecName(columnDefinition.getName());
+        if (codecFromInstructions != null) {
+            return codecFromInstructions;
+        }
+        return columnTypeInfo == null ? null : columnTypeInfo.codec().map(CodecInfo::codecName).orElse(null);
+    }
+
     private static <ATTR extends Any, RESULT> ToPage<ATTR, RESULT> makeToPage(
             @Nullable final ColumnTypeInfo columnTypeInfo,
             @NotNull final ParquetInstructions readInstructions,
@@ -363,12 +386,7 @@ final class ParquetColumnLocation<ATTR extends Values> extends AbstractColumnLoc
             @NotNull final ColumnDefinition<?> columnDefinition) {
         final PrimitiveType type = columnChunkReader.getType();
         final LogicalTypeAnnotation logicalTypeAnnotation = type.getLogicalTypeAnnotation();
-        final String codecFromInstructions =
-                readInstructions.getCodecName(columnDefinition.getName());
-        final String codecName = (codecFromInstructions != null)
-                ? codecFromInstructions
-                : columnTypeInfo == null ? null
-                        : columnTypeInfo.codec().map(CodecInfo::codecName).orElse(null);
+        final String codecName = getCodecName(columnTypeInfo, readInstructions, columnDefinition);
         final ColumnTypeInfo.SpecialType specialTypeName =
                 columnTypeInfo == null ? null : columnTypeInfo.specialType().orElse(null);
 
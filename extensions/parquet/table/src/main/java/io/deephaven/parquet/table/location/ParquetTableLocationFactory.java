@@ -35,7 +35,11 @@ public final class ParquetTableLocationFactory implements TableLocationFactory<T
             @Nullable final TableDataRefreshService refreshService) {
         final URI parquetFileURI = locationKey.getURI();
         if (!FILE_URI_SCHEME.equals(parquetFileURI.getScheme()) || new File(parquetFileURI).exists()) {
-            return new ParquetTableLocation(tableKey, locationKey, readInstructions);
+            final ParquetTableLocation location = new ParquetTableLocation(tableKey, locationKey, readInstructions);
+            // Locations are typically created in bulk and initialized shortly afterwards, so start reading the footer
+            // now, concurrently with the footers for the other locations
+            locationKey.prefetchMetadata();
+            return location;
         } else {
             return new NonexistentTableLocation(tableKey, locationKey);
         }
@@ -3,12 +3,14 @@
 //
 package io.deephaven.parquet.table.location;
 
+import io.deephaven.configuration.Configuration;
 import io.deephaven.engine.table.impl.locations.local.URITableLocationKey;
 import io.deephaven.parquet.table.ParquetInstructions;
 import io.deephaven.engine.table.impl.locations.TableLocationKey;
 import io.deephaven.parquet.base.ParquetFileReader;
 import io.deephaven.util.channel.SeekableChannelsProvider;
 import io.deephaven.util.channel.SeekableChannelsProviderLoader;
+import io.deephaven.util.thread.NamingThreadFactory;
 import org.apache.commons.io.FilenameUtils;
 import org.apache.parquet.format.RowGroup;
 import org.apache.parquet.hadoop.metadata.FileMetaData;
@@ -21,6 +23,8 @@ import java.net.URI;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.IntStream;
 
 import static io.deephaven.parquet.base.ParquetUtils.PARQUET_FILE_EXTENSION;
@@ -33,6 +37,23 @@ public class ParquetTableLocationKey extends URITableLocationKey {
 
     private static final String IMPLEMENTATION_NAME = ParquetTableLocationKey.class.getSimpleName();
 
+    /**
+     * The number of threads used to {@link #prefetchMetadata() prefetch} footers. Footer reads are dominated by I/O
+     * latency, particularly against object stores, so this is independent of the number of processors.
+     *
+     * <p>
+     * Configured using the {@code ParquetTableLocationKey.metadataPrefetchThreads} property. Defaults to 16; a value
+     * of 0 disables prefetching.
+     * </p>
+     */
+    private static final int METADATA_PREFETCH_THREADS = Configuration.getInstance()
+            .getIntegerWithDefault("ParquetTableLocationKey.metadataPrefetchThreads", 16);
+
+    private static final class MetadataPrefetchExecutorHolder {
+        private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(METADATA_PREFETCH_THREADS,
+                new NamingThreadFactory(ParquetTableLocationKey.class, "metadataPrefetch"));
+    }
+
     private ParquetFileReader fileReader;
     private ParquetMetadata metadata;
     private int[] rowGroupIndices;
@@ -218,6 +239,33 @@ public class ParquetTableLocationKey extends URITableLocationKey {
         this.rowGroupIndices = rowGroupIndices;
     }
 
+    /**
+     * Start loading the {@link ParquetFileReader footer} and {@link #getRowGroupIndices() row group indices} for this
+     * location key's {@code file} on a shared, bounded pool of I/O threads. Callers of {@link #getFileReader()},
+     * {@link #getMetadata()} or {@link #getRowGroupIndices()} while the load is in progress will wait for it to finish,
+     * rather than opening the file again. Errors are not reported here; they will be raised to the next caller that
+     * requires the metadata.
+     */
+    public void prefetchMetadata() {
+        if (METADATA_PREFETCH_THREADS <= 0) {
+            return;
+        }
+        MetadataPrefetchExecutorHolder.EXECUTOR.execute(this::loadMetadata);
+    }
+
+    private synchronized void loadMetadata() {
+        if (rowGroupIndices != null || channelsProvider == null) {
+            // Already loaded, or cleared before we got here
+            return;
+        }
+        try {
+            // Loads the file reader, and hence the footer, as a side effect
+            getRowGroupIndices();
+        } catch (final RuntimeException ignored) {
+            // Nothing was cached, so the next caller will retry and see the error
+        }
+    }
+
     @Override
     public synchronized void clear() {
         metadata = null;
@@ -0,0 +1,261 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.table.pagestore;
+
+import io.deephaven.base.verify.Require;
+import io.deephaven.chunk.attributes.Any;
+import io.deephaven.configuration.Configuration;
+import io.deephaven.engine.page.ChunkPage;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A page cache that strongly retains the most recently used pages up to a fixed estimated size in bytes, evicting the
+ * least recently used pages explicitly rather than waiting for the garbage collector to clear soft references. A single
+ * instance is intended to be shared by every column (and every table) it is supplied to, so that the bound applies to
+ * all of them together.
+ * <p>
+ * Eviction approximates least-recently-used order with the CLOCK algorithm: a hit only sets a flag on the cached page,
+ * so reads of cached pages do not contend with one another, and pages whose flag is set are given a second chance
+ * when the eviction hand reaches them. Only one thread evicts at a time, so the cache may briefly exceed its bound
+ * while pages are being admitted concurrently.
+ * <p>
+ * Hits, misses, and evictions are counted per column; see {@link #getColumnStatistics()}.
+ */
+public final class BoundedPageCache {
+
+    /**
+     * The estimated size of each element of an object page, including the reference and a share of the referent.
+     */
+    private static final int OBJECT_ELEMENT_SIZE_ESTIMATE = Configuration.getInstance()
+            .getIntegerForClassWithDefault(BoundedPageCache.class, "objectElementSizeEstimate", 32);
+
+    private final long maxBytes;
+
+    /**
+     * Cached pages, for lookup on access.
+     */
+    private final Map<PageCache.IntrusivePage<?>, CachedPage> pages = new ConcurrentHashMap<>();
+    /**
+     * Cached pages in the order the eviction hand visits them; pages given a second chance move to the tail.
+     */
+    private final ConcurrentLinkedQueue<CachedPage> clock = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final AtomicLong cachedBytes = new AtomicLong();
+
+    private final Map<String, ColumnStatistics> columnStatistics = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxBytes The maximum estimated size of the pages retained by this cache
+     */
+    public BoundedPageCache(final long maxBytes) {
+        this.maxBytes = Require.gtZero(maxBytes, "maxBytes");
+    }
+
+    /**
+     * Get a {@link PageCache} that retains pages for {@code columnName} in this cache.
+     *
+     * @param columnName The name of the column whose pages will be cached
+     * @return A page cache for {@code columnName}
+     */
+    public <ATTR extends Any> PageCache<ATTR> forColumn(@NotNull final String columnName) {
+        return new ColumnPageCache<>(columnStatistics.computeIfAbsent(columnName, ColumnStatistics::new));
+    }
+
+    /**
+     * @return The maximum estimated size of the pages retained by this cache
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * @return The estimated size of the pages currently retained by this cache
+     */
+    public long getCachedBytes() {
+        return cachedBytes.get();
+    }
+
+    /**
+     * @return The statistics for each column this cache has been supplied to, keyed by column name
+     */
+    public Map<String, ColumnStatistics> getColumnStatistics() {
+        return Collections.unmodifiableMap(columnStatistics);
+    }
+
+    /**
+     * Access counters for the pages of a single column.
+     */
+    public static final class ColumnStatistics {
+
+        private final String columnName;
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+        private final AtomicLong cachedBytes = new AtomicLong();
+
+        private ColumnStatistics(@NotNull final String columnName) {
+            this.columnName = columnName;
+        }
+
+        public String getColumnName() {
+            return columnName;
+        }
+
+        /**
+         * @return The number of page accesses that found the page already materialized
+         */
+        public long getHits() {
+            return hits.sum();
+        }
+
+        /**
+         * @return The number of page accesses that had to read and decode the page
+         */
+        public long getMisses() {
+            return misses.sum();
+        }
+
+        /**
+         * @return The number of pages evicted to keep the cache within its bound
+         */
+        public long getEvictions() {
+            return evictions.sum();
+        }
+
+        /**
+         * @return The estimated size of this column's pages currently retained by the cache
+         */
+        public long getCachedBytes() {
+            return cachedBytes.get();
+        }
+
+        @Override
+        public String toString() {
+            return "ColumnStatistics{" +
+                    "columnName='" + columnName + '\'' +
+                    ", hits=" + getHits() +
+                    ", misses=" + getMisses() +
+                    ", evictions=" + getEvictions() +
+                    ", cachedBytes=" + getCachedBytes() +
+                    '}';
+        }
+    }
+
+    private static final class CachedPage {
+
+        private final PageCache.IntrusivePage<?> page;
+        private final ColumnStatistics statistics;
+        private final long sizeInBytes;
+
+        /**
+         * Whether the page has been accessed since the eviction hand last passed it.
+         */
+        private volatile boolean referenced;
+
+        private CachedPage(
+                @NotNull final PageCache.IntrusivePage<?> page,
+                @NotNull final ColumnStatistics statistics,
+                final long sizeInBytes) {
+            this.page = page;
+            this.statistics = statistics;
+            this.sizeInBytes = sizeInBytes;
+        }
+    }
+
+    private final class ColumnPageCache<ATTR extends Any> extends PageCache<ATTR> {
+
+        private final ColumnStatistics statistics;
+
+        private ColumnPageCache(@NotNull final ColumnStatistics statistics) {
+            this.statistics = statistics;
+        }
+
+        @Override
+        public void touch(@NotNull final IntrusivePage<ATTR> page) {
+            statistics.hits.increment();
+            // Pages that were evicted but are still weakly reachable are re-admitted when used
+            admit(page, statistics);
+        }
+
+        @Override
+        public void add(@NotNull final IntrusivePage<ATTR> page) {
+            statistics.misses.increment();
+            admit(page, statistics);
+        }
+    }
+
+    private void admit(
+            @NotNull final PageCache.IntrusivePage<?> page,
+            @NotNull final ColumnStatistics statistics) {
+        final CachedPage existing = pages.get(page);
+        if (existing != null) {
+            if (!existing.referenced) {
+                existing.referenced = true;
+            }
+            return;
+        }
+        final CachedPage cachedPage = new CachedPage(page, statistics, estimateSize(page.getPage()));
+        if (pages.putIfAbsent(page, cachedPage) != null) {
+            // Admitted concurrently by another reader
+            return;
+        }
+        clock.offer(cachedPage);
+        statistics.cachedBytes.addAndGet(cachedPage.sizeInBytes);
+        if (cachedBytes.addAndGet(cachedPage.sizeInBytes) > maxBytes) {
+            evict();
+        }
+    }
+
+    private void evict() {
+        // Re-check after releasing the lock, in case pages were admitted while another thread held it
+        while (cachedBytes.get() > maxBytes && evictionLock.tryLock()) {
+            try {
+                // Bound the second chances so that concurrent hits cannot keep the hand from making progress
+                long secondChances = pages.size();
+                CachedPage candidate;
+                while (cachedBytes.get() > maxBytes && (candidate = clock.poll()) != null) {
+                    if (candidate.referenced && secondChances-- > 0) {
+                        candidate.referenced = false;
+                        clock.offer(candidate);
+                        continue;
+                    }
+                    pages.remove(candidate.page, candidate);
+                    cachedBytes.addAndGet(-candidate.sizeInBytes);
+                    candidate.statistics.cachedBytes.addAndGet(-candidate.sizeInBytes);
+                    candidate.statistics.evictions.increment();
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private static long estimateSize(@NotNull final ChunkPage<?> page) {
+        final long size = page.size();
+        switch (page.getChunkType()) {
+            case Boolean:
+            case Byte:
+                return size;
+            case Char:
+            case Short:
+                return size * Short.BYTES;
+            case Int:
+            case Float:
+                return size * Integer.BYTES;
+            case Long:
+            case Double:
+                return size * Long.BYTES;
+            default:
+                return size * OBJECT_ELEMENT_SIZE_ESTIMATE;
+        }
+    }
+}
@@ -14,6 +14,7 @@ import io.deephaven.parquet.table.pagestore.topage.ToPage;
 import io.deephaven.engine.table.Releasable;
 import io.deephaven.chunk.attributes.Any;
 import io.deephaven.engine.table.impl.chunkattributes.DictionaryKeys;
+import io.deephaven.engine.table.impl.sources.regioned.RegionStatisticsFilter;
 import io.deephaven.chunk.Chunk;
 import io.deephaven.chunk.ChunkType;
 import io.deephaven.engine.page.ChunkPage;
@@ -42,6 +43,8 @@ public abstract class ColumnChunkPageStore<ATTR extends Any>
     final ToPage<ATTR, ?> toPage;
 
     private final long numRows;
+    @Nullable
+    private final ColumnChunkStatistics statistics;
 
     public static class CreatorResult<ATTR extends Any> {
 
@@ -101,21 +104,22 @@ public abstract class ColumnChunkPageStore<ATTR extends Any>
             @NotNull final ColumnChunkReader columnChunkReader,
             final long mask,
             @NotNull final ToPage<ATTR, ?> toPage,
-            @NotNull final ColumnDefinition<?> columnDefinition) throws IOException {
+            @NotNull final ColumnDefinition<?> columnDefinition,
+            @Nullable final ColumnChunkStatistics statistics) throws IOException {
         final boolean canUseOffsetIndex = canUseOffsetIndexBasedPageStore(columnChunkReader, columnDefinition);
         // TODO(deephaven-core#4879): Rather than this fall back logic for supporting incorrect offset index, we should
         // instead log an error and explain to user how to fix the parquet file
         final ColumnChunkPageStore<ATTR> columnChunkPageStore = canUseOffsetIndex
-                ? new OffsetIndexBasedColumnChunkPageStore<>(pageCache, columnChunkReader, mask, toPage)
-                : new VariablePageSizeColumnChunkPageStore<>(pageCache, columnChunkReader, mask, toPage);
+                ? new OffsetIndexBasedColumnChunkPageStore<>(pageCache, columnChunkReader, mask, toPage, statistics)
+                : new VariablePageSizeColumnChunkPageStore<>(pageCache, columnChunkReader, mask, toPage, statistics);
         final ToPage<DictionaryKeys, long[]> dictionaryKeysToPage = toPage.getDictionaryKeysToPage();
         final ColumnChunkPageStore<DictionaryKeys> dictionaryKeysColumnChunkPageStore =
                 dictionaryKeysToPage == null ? null
                         : canUseOffsetIndex
                                 ? new OffsetIndexBasedColumnChunkPageStore<>(pageCache.castAttr(), columnChunkReader,
-                                        mask, dictionaryKeysToPage)
+                                        mask, dictionaryKeysToPage, null)
                                 : new VariablePageSizeColumnChunkPageStore<>(pageCache.castAttr(), columnChunkReader,
-                                        mask, dictionaryKeysToPage);
+                                        mask, dictionaryKeysToPage, null);
         return new CreatorResult<>(columnChunkPageStore, toPage::getDictionaryChunk,
                 dictionaryKeysColumnChunkPageStore);
     }
@@ -124,13 +128,15 @@ public abstract class ColumnChunkPageStore<ATTR extends Any>
             @NotNull final PageCache<ATTR> pageCache,
             @NotNull final ColumnChunkReader columnChunkReader,
             final long mask,
-            final ToPage<ATTR, ?> toPage) throws IOException {
+            final ToPage<ATTR, ?> toPage,
+            @Nullable final ColumnChunkStatistics statistics) throws IOException {
         Require.requirement(((mask + 1) & mask) == 0, "mask is one less than a power of two");
 
         this.pageCache = pageCache;
         this.columnChunkReader = columnChunkReader;
         this.mask = mask;
         this.toPage = toPage;
+        this.statistics = statistics;
 
         this.numRows = Require.inRange(columnChunkReader.numRows(), "numRows", mask, "mask");
     }
@@ -164,6 +170,17 @@ public abstract class ColumnChunkPageStore<ATTR extends Any>
         return toPage.getChunkType();
     }
 
+    /**
+     * Determine whether any row in this column chunk might match {@code filter}, according to the column chunk's
+     * statistics.
+     *
+     * @param filter The filter to test
+     * @return {@code false} if the statistics prove that no row can match, {@code true} otherwise
+     */
+    public boolean mayMatch(@NotNull final RegionStatisticsFilter filter) {
+        return statistics == null || statistics.mayMatch(filter);
+    }
+
     /**
      * @see ColumnChunkReader#usesDictionaryOnEveryPage()
      */
@@ -0,0 +1,199 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.table.pagestore;
+
+import io.deephaven.engine.table.impl.sources.regioned.RegionStatisticsFilter;
+import io.deephaven.parquet.base.ColumnChunkReader;
+import io.deephaven.util.QueryConstants;
+import org.apache.parquet.format.Statistics;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.PrimitiveType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Summary statistics for a single Parquet column chunk, decoded from the column chunk metadata into the boxed form of
+ * the Deephaven column's data type so that they can be tested with a {@link RegionStatisticsFilter}.
+ * <p>
+ * Statistics are only decoded when the ordering of the Parquet values is known to agree with the ordering of the
+ * Deephaven values they are read as; for any other combination of physical type, logical type and data type no
+ * statistics are produced, and no pruning is possible.
+ */
+public final class ColumnChunkStatistics {
+
+    @Nullable
+    private final Object min;
+    @Nullable
+    private final Object max;
+    private final boolean hasNulls;
+
+    private ColumnChunkStatistics(@Nullable final Object min, @Nullable final Object max, final boolean hasNulls) {
+        this.min = min;
+        this.max = max;
+        this.hasNulls = hasNulls;
+    }
+
+    /**
+     * Decode the statistics for a column chunk.
+     *
+     * @param columnChunkReader The reader for the column chunk
+     * @param dataType The Deephaven data type the column chunk will be read as
+     * @return The decoded statistics, or {@code null} if no usable statistics are available
+     */
+    @Nullable
+    public static ColumnChunkStatistics from(
+            @NotNull final ColumnChunkReader columnChunkReader,
+            @NotNull final Class<?> dataType) {
+        if (columnChunkReader.getMaxRl() > 0) {
+            // Statistics for repeated columns describe the elements, not the rows
+            return null;
+        }
+        final Statistics statistics = columnChunkReader.getStatistics();
+        if (statistics == null) {
+            return null;
+        }
+        final boolean nullCountKnown = statistics.isSetNull_count();
+        if (!statistics.isSetMin_value() || !statistics.isSetMax_value()) {
+            if (nullCountKnown && statistics.getNull_count() == columnChunkReader.numValues()) {
+                return new ColumnChunkStatistics(null, null, true);
+            }
+            // Note that we intentionally ignore the deprecated min and max fields, which may use an incorrect ordering
+            return null;
+        }
+        final PrimitiveType type = columnChunkReader.getType();
+        final Object min = decode(type, dataType, statistics.getMin_value());
+        final Object max = decode(type, dataType, statistics.getMax_value());
+        if (min == null || max == null) {
+            return null;
+        }
+        // Values at or below the null sentinel for the data type will be read as nulls
+        final boolean hasNulls = !nullCountKnown || statistics.getNull_count() > 0 || isNullOrBelow(min);
+        return new ColumnChunkStatistics(min, max, hasNulls);
+    }
+
+    /**
+     * Test these statistics against {@code filter}.
+     *
+     * @param filter The filter to test
+     * @return Whether any row in the column chunk might match {@code filter}
+     */
+    public boolean mayMatch(@NotNull final RegionStatisticsFilter filter) {
+        return filter.mayMatch(min, max, hasNulls);
+    }
+
+    @Nullable
+    private static Object decode(
+            @NotNull final PrimitiveType type,
+            @NotNull final Class<?> dataType,
+            @NotNull final byte[] bytes) {
+        final LogicalTypeAnnotation logicalType = type.getLogicalTypeAnnotation();
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        switch (type.getPrimitiveTypeName()) {
+            case INT32:
+                if (bytes.length != Integer.BYTES) {
+                    return null;
+                }
+                if (dataType == int.class
+                        && (logicalType == null || isSignedIntWithMaxWidth(logicalType, Integer.SIZE))) {
+                    return buffer.getInt();
+                }
+                if (dataType == short.class && isSignedIntWithMaxWidth(logicalType, Short.SIZE)) {
+                    return (short) buffer.getInt();
+                }
+                if (dataType == byte.class && isSignedIntWithMaxWidth(logicalType, Byte.SIZE)) {
+                    return (byte) buffer.getInt();
+                }
+                return null;
+            case INT64:
+                if (bytes.length == Long.BYTES && dataType == long.class
+                        && (logicalType == null || isSignedIntWithMaxWidth(logicalType, Long.SIZE))) {
+                    return buffer.getLong();
+                }
+                return null;
+            case FLOAT:
+                if (bytes.length == Float.BYTES && dataType == float.class && logicalType == null) {
+                    return buffer.getFloat();
+                }
+                return null;
+            case DOUBLE:
+                if (bytes.length == Double.BYTES && dataType == double.class && logicalType == null) {
+                    return buffer.getDouble();
+                }
+                return null;
+            case BINARY:
+                if (dataType == String.class
+                        && logicalType instanceof LogicalTypeAnnotation.StringLogicalTypeAnnotation) {
+                    return decodeString(buffer);
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isSignedIntWithMaxWidth(
+            @Nullable final LogicalTypeAnnotation logicalType,
+            final int maxBitWidth) {
+        if (!(logicalType instanceof LogicalTypeAnnotation.IntLogicalTypeAnnotation)) {
+            return false;
+        }
+        final LogicalTypeAnnotation.IntLogicalTypeAnnotation intType =
+                (LogicalTypeAnnotation.IntLogicalTypeAnnotation) logicalType;
+        return intType.isSigned() && intType.getBitWidth() <= maxBitWidth;
+    }
+
+    /**
+     * Parquet orders binary statistics by unsigned bytes, which for UTF-8 is code point order. This only agrees with
+     * {@link String#compareTo(String) String order} when comparing against characters below the surrogate range, so we
+     * reject any bound that contains a character at or above it, as well as any bound that is not valid UTF-8 (e.g. a
+     * truncated maximum).
+     */
+    @Nullable
+    private static String decodeString(@NotNull final ByteBuffer buffer) {
+        final CharBuffer chars;
+        try {
+            chars = StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(buffer);
+        } catch (CharacterCodingException e) {
+            return null;
+        }
+        for (int ci = 0; ci < chars.length(); ++ci) {
+            if (chars.charAt(ci) >= Character.MIN_SURROGATE) {
+                return null;
+            }
+        }
+        return chars.toString();
+    }
+
+    private static boolean isNullOrBelow(@NotNull final Object min) {
+        if (min instanceof Integer) {
+            return (Integer) min == QueryConstants.NULL_INT;
+        }
+        if (min instanceof Long) {
+            return (Long) min == QueryConstants.NULL_LONG;
+        }
+        if (min instanceof Short) {
+            return (Short) min == QueryConstants.NULL_SHORT;
+        }
+        if (min instanceof Byte) {
+            return (Byte) min == QueryConstants.NULL_BYTE;
+        }
+        if (min instanceof Float) {
+            return (Float) min <= QueryConstants.NULL_FLOAT;
+        }
+        if (min instanceof Double) {
+            return (Double) min <= QueryConstants.NULL_DOUBLE;
+        }
+        return false;
+    }
+}
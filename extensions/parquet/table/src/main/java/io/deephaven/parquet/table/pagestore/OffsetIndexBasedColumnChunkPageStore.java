@@ -58,8 +58,9 @@ final class OffsetIndexBasedColumnChunkPageStore<ATTR extends Any> extends Colum
             @NotNull final PageCache<ATTR> pageCache,
             @NotNull final ColumnChunkReader columnChunkReader,
             final long mask,
-            @NotNull final ToPage<ATTR, ?> toPage) throws IOException {
-        super(pageCache, columnChunkReader, mask, toPage);
+            @NotNull final ToPage<ATTR, ?> toPage,
+            @Nullable final ColumnChunkStatistics statistics) throws IOException {
+        super(pageCache, columnChunkReader, mask, toPage, statistics);
         numPages = NUM_PAGES_NOT_INITIALIZED;
         fixedPageSize = PAGE_SIZE_NOT_FIXED;
     }
@@ -135,16 +136,22 @@ final class OffsetIndexBasedColumnChunkPageStore<ATTR extends Any> extends Colum
         }
         PageCache.IntrusivePage<ATTR> page;
         WeakReference<PageCache.IntrusivePage<ATTR>> localRef;
+        boolean materialized = false;
         if ((localRef = pageState.pageRef) == null || (page = localRef.get()) == null) {
             synchronized (pageState) {
                 // Make sure no one materialized this page as we waited for the lock
                 if ((localRef = pageState.pageRef) == null || (page = localRef.get()) == null) {
                     page = new IntrusivePage<>(getPageImpl(fillContext, pageNum));
                     pageState.pageRef = new WeakReference<>(page);
+                    materialized = true;
                 }
             }
         }
-        pageCache.touch(page);
+        if (materialized) {
+            pageCache.add(page);
+        } else {
+            pageCache.touch(page);
+        }
         return page.getPage();
     }
 
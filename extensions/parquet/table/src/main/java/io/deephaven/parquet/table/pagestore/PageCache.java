@@ -6,16 +6,16 @@ package io.deephaven.parquet.table.pagestore;
 import io.deephaven.chunk.attributes.Any;
 import io.deephaven.engine.page.ChunkPage;
 import io.deephaven.util.datastructures.intrusive.IntrusiveSoftLRU;
+import org.jetbrains.annotations.NotNull;
 
-import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
 
 /**
- * A cache for {@link IntrusivePage IntrusivePages}. This data structure stores pages as {@link SoftReference soft
- * references} and maintains them as an LRU cache. External references to cached pages should be held via
- * {@link WeakReference weak references} so that as memory pressure builds the pages can be evicted from the cache.
+ * A cache for {@link IntrusivePage IntrusivePages}. The cache determines how long materialized pages remain strongly
+ * or softly reachable. External references to cached pages should be held via {@link WeakReference weak references}
+ * so that pages can be collected once the cache releases them.
  */
-public class PageCache<ATTR extends Any> extends IntrusiveSoftLRU<PageCache.IntrusivePage<ATTR>> {
+public abstract class PageCache<ATTR extends Any> {
 
     /**
      * Sentinel reference for a null page
@@ -51,7 +51,37 @@ public class PageCache<ATTR extends Any> extends IntrusiveSoftLRU<PageCache.Intr
         return (PageCache<ATTR2>) this;
     }
 
-    public PageCache(final int initialCapacity, final int maxCapacity) {
-        super(IntrusiveSoftLRU.Node.Adapter.getInstance(), initialCapacity, maxCapacity);
+    /**
+     * Record an access to a page that was already materialized.
+     *
+     * @param page The page that was accessed
+     */
+    public abstract void touch(@NotNull IntrusivePage<ATTR> page);
+
+    /**
+     * Record an access to a page that was just materialized because it was not reachable from the cache.
+     *
+     * @param page The newly materialized page
+     */
+    public void add(@NotNull final IntrusivePage<ATTR> page) {
+        touch(page);
+    }
+
+    /**
+     * A page cache that retains the most recently used pages via {@link java.lang.ref.SoftReference soft references},
+     * leaving eviction to the garbage collector.
+     */
+    public static final class Soft<ATTR extends Any> extends PageCache<ATTR> {
+
+        private final IntrusiveSoftLRU<IntrusivePage<ATTR>> lru;
+
+        public Soft(final int initialCapacity, final int maxCapacity) {
+            lru = new IntrusiveSoftLRU<>(IntrusiveSoftLRU.Node.Adapter.getInstance(), initialCapacity, maxCapacity);
+        }
+
+        @Override
+        public void touch(@NotNull final IntrusivePage<ATTR> page) {
+            lru.touch(page);
+        }
     }
 }
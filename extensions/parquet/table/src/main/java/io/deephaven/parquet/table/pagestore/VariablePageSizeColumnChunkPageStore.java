@@ -38,8 +38,9 @@ final class VariablePageSizeColumnChunkPageStore<ATTR extends Any> extends Colum
             @NotNull final PageCache<ATTR> pageCache,
             @NotNull final ColumnChunkReader columnChunkReader,
             final long mask,
-            @NotNull final ToPage<ATTR, ?> toPage) throws IOException {
-        super(pageCache, columnChunkReader, mask, toPage);
+            @NotNull final ToPage<ATTR, ?> toPage,
+            @Nullable final ColumnChunkStatistics statistics) throws IOException {
+        super(pageCache, columnChunkReader, mask, toPage, statistics);
 
         final int INIT_ARRAY_SIZE = 15;
         pageRowOffsets = new long[INIT_ARRAY_SIZE + 1];
@@ -98,7 +99,7 @@ final class VariablePageSizeColumnChunkPageStore<ATTR extends Any> extends Colum
         }
 
         if (page != null) {
-            pageCache.touch(page);
+            pageCache.add(page);
         }
     }
 
@@ -118,6 +119,7 @@ final class VariablePageSizeColumnChunkPageStore<ATTR extends Any> extends Colum
     private ChunkPage<ATTR> getPage(@NotNull final SeekableChannelContext channelContext,
             final int pageNum) {
         PageCache.IntrusivePage<ATTR> page = pages[pageNum].get();
+        boolean materialized = false;
 
         if (page == null) {
             synchronized (columnPageReaders[pageNum]) {
@@ -131,6 +133,7 @@ final class VariablePageSizeColumnChunkPageStore<ATTR extends Any> extends Colum
                     } catch (final IOException except) {
                         throw new UncheckedIOException(except);
                     }
+                    materialized = true;
 
                     synchronized (this) {
                         pages[pageNum] = new WeakReference<>(page);
@@ -139,7 +142,11 @@ final class VariablePageSizeColumnChunkPageStore<ATTR extends Any> extends Colum
             }
         }
 
-        pageCache.touch(page);
+        if (materialized) {
+            pageCache.add(page);
+        } else {
+            pageCache.touch(page);
+        }
         return page.getPage();
     }
 
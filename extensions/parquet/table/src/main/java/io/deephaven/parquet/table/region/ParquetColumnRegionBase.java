@@ -4,7 +4,9 @@
 package io.deephaven.parquet.table.region;
 
 import io.deephaven.base.verify.Require;
+import io.deephaven.engine.rowset.WritableRowSet;
 import io.deephaven.engine.table.impl.sources.regioned.GenericColumnRegionBase;
+import io.deephaven.engine.table.impl.sources.regioned.RegionStatisticsFilter;
 import io.deephaven.parquet.table.pagestore.ColumnChunkPageStore;
 import io.deephaven.chunk.attributes.Any;
 import io.deephaven.chunk.Chunk;
@@ -72,6 +74,16 @@ public abstract class ParquetColumnRegionBase<ATTR extends Any>
         return columnChunkPageStore.getPageContaining(null, elementIndex);
     }
 
+    @Override
+    public void pruneByStatistics(
+            @NotNull final WritableRowSet regionSelection,
+            @NotNull final RegionStatisticsFilter filter) {
+        throwIfInvalidated();
+        if (!columnChunkPageStore.mayMatch(filter)) {
+            regionSelection.clear();
+        }
+    }
+
     @Override
     @OverridingMethodsMustInvokeSuper
     public void releaseCachedResources() {
@@ -8,6 +8,7 @@ import io.deephaven.engine.table.TableDefinition;
 import io.deephaven.engine.table.impl.locations.TableKey;
 import io.deephaven.parquet.table.location.ParquetColumnResolver;
 import io.deephaven.parquet.table.location.ParquetTableLocationKey;
+import io.deephaven.parquet.table.pagestore.BoundedPageCache;
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,6 +34,7 @@ public class ParquetInstructionsTest {
         assertThat(ParquetInstructions.EMPTY.getTableDefinition()).isEmpty();
         assertThat(ParquetInstructions.EMPTY.getIndexColumns()).isEmpty();
         assertThat(ParquetInstructions.EMPTY.getColumnResolverFactory()).isEmpty();
+        assertThat(ParquetInstructions.EMPTY.getPageCache()).isEmpty();
         assertThat(ParquetInstructions.EMPTY.baseNameForPartitionedParquetData()).isEqualTo("{uuid}");
     }
 
@@ -155,6 +157,18 @@ public class ParquetInstructionsTest {
         assertThat(instructions.getColumnResolverFactory()).hasValue(ColumnResolverTestImpl.INSTANCE);
     }
 
+    @Test
+    public void pageCache() {
+        final BoundedPageCache pageCache = new BoundedPageCache(1 << 20);
+        final ParquetInstructions instructions = ParquetInstructions.builder()
+                .setPageCache(pageCache)
+                .build();
+        assertThat(instructions.getPageCache()).containsSame(pageCache);
+        assertThat(new ParquetInstructions.Builder(instructions).build().getPageCache()).containsSame(pageCache);
+        assertThat(instructions.withLayout(ParquetInstructions.ParquetFileLayout.SINGLE_FILE).getPageCache())
+                .containsSame(pageCache);
+    }
+
     @Test
     public void columnResolverNoTableDefinition() {
         try {
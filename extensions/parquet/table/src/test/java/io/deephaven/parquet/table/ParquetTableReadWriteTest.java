@@ -7,6 +7,8 @@ import io.deephaven.UncheckedDeephavenException;
 import io.deephaven.api.ColumnName;
 import io.deephaven.api.Selectable;
 import io.deephaven.api.SortColumn;
+import io.deephaven.api.filter.Filter;
+import io.deephaven.api.filter.FilterPattern;
 import io.deephaven.base.FileUtils;
 import io.deephaven.base.verify.Assert;
 import io.deephaven.engine.context.ExecutionContext;
@@ -30,6 +32,7 @@ import io.deephaven.engine.table.PartitionedTable;
 import io.deephaven.engine.table.PartitionedTableFactory;
 import io.deephaven.engine.table.impl.SourceTable;
 import io.deephaven.engine.rowset.RowSet;
+import io.deephaven.engine.rowset.WritableRowSet;
 import io.deephaven.engine.table.*;
 import io.deephaven.engine.table.impl.QueryTable;
 import io.deephaven.engine.table.impl.dataindex.DataIndexUtils;
@@ -40,6 +43,8 @@ import io.deephaven.engine.table.impl.select.FormulaEvaluationException;
 import io.deephaven.engine.table.impl.select.FunctionalColumn;
 import io.deephaven.engine.table.impl.select.SelectColumn;
 import io.deephaven.engine.table.impl.sources.ReinterpretUtils;
+import io.deephaven.engine.table.impl.sources.regioned.RegionedColumnSource;
+import io.deephaven.engine.table.impl.sources.regioned.SymbolTableSource;
 import io.deephaven.engine.table.impl.util.ColumnHolder;
 import io.deephaven.engine.table.iterators.*;
 import io.deephaven.engine.testutil.ControlledUpdateGraph;
@@ -53,6 +58,7 @@ import io.deephaven.parquet.base.InvalidParquetFileException;
 import io.deephaven.parquet.base.NullStatistics;
 import io.deephaven.parquet.table.location.ParquetTableLocation;
 import io.deephaven.parquet.table.location.ParquetTableLocationKey;
+import io.deephaven.parquet.table.pagestore.BoundedPageCache;
 import io.deephaven.parquet.table.pagestore.ColumnChunkPageStore;
 import io.deephaven.parquet.table.transfer.StringDictionary;
 import io.deephaven.qst.type.Type;
@@ -112,6 +118,7 @@ import java.util.function.DoubleConsumer;
 import java.util.function.Function;
 import java.util.function.IntConsumer;
 import java.util.function.LongConsumer;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static io.deephaven.base.FileUtils.convertToURI;
@@ -2837,6 +2844,103 @@ public final class ParquetTableReadWriteTest {
         assertTableEquals(expected, fromDisk);
     }
 
+    @Test
+    public void filterWithRegionStatisticsTest() {
+        final File parentDir = new File(rootFile, "statisticsDir");
+        final List<Table> parts = new ArrayList<>();
+        for (int pi = 0; pi < 4; ++pi) {
+            final Table part = TableTools.emptyTable(100).update(
+                    "L = i % 10 == 0 ? NULL_LONG : ii + " + (pi * 1000),
+                    "I = (int) L",
+                    "D = (double) L",
+                    "S = `sym` + (char) ('A' + " + pi + ")");
+            writeTable(part, new File(parentDir, "part" + pi + ".parquet").getPath());
+            parts.add(part);
+        }
+        final Table expected = merge(parts);
+        final Table fromDisk = readTable(parentDir.getPath(),
+                EMPTY.withLayout(ParquetInstructions.ParquetFileLayout.FLAT_PARTITIONED)).coalesce();
+        assertTableEquals(expected, fromDisk);
+
+        // Only the second file can contain values in [1000, 1050]
+        final RegionedColumnSource<?> longSource = (RegionedColumnSource<?>) fromDisk.getColumnSource("L");
+        try (final WritableRowSet pruned = longSource.pruneByStatistics(fromDisk.getRowSet(),
+                (min, max, hasNulls) -> min != null && (Long) min <= 1050 && (Long) max >= 1000)) {
+            assertNotNull(pruned);
+            assertEquals(100, pruned.size());
+        }
+
+        for (final String filter : new String[] {
+                "L >= 1000 && L <= 1050", "L > 3090", "L < 5", "I in 2001, 2002", "I in 99999",
+                "D > 2500.5", "D <= -1.0", "S in `symB`", "S in `symZ`", "S not in `symA`",
+                "isNull(L)", "L in null"}) {
+            assertTableEquals(expected.where(filter), fromDisk.where(filter));
+        }
+    }
+
+    @Test
+    public void filterWithSymbolTableTest() {
+        final File parentDir = new File(rootFile, "symbolTableDir");
+        final List<Table> parts = new ArrayList<>();
+        for (int pi = 0; pi < 3; ++pi) {
+            final Table part = TableTools.emptyTable(10_000).update(
+                    "S = i % 97 == 0 ? null : `sym` + ((ii * 7) % 50 + " + (pi * 10) + ")",
+                    "L = ii");
+            writeTable(part, new File(parentDir, "part" + pi + ".parquet").getPath());
+            parts.add(part);
+        }
+        final Table expected = merge(parts);
+        final Table fromDisk = readTable(parentDir.getPath(),
+                EMPTY.withLayout(ParquetInstructions.ParquetFileLayout.FLAT_PARTITIONED)).coalesce();
+        assertTableEquals(expected, fromDisk);
+        assertTrue(SymbolTableSource.hasSymbolTable(fromDisk.getColumnSource("S"), fromDisk.getRowSet()));
+
+        final boolean oldUseSymbolTable = QueryTable.USE_SYMBOL_TABLE_FOR_WHERE;
+        try {
+            QueryTable.USE_SYMBOL_TABLE_FOR_WHERE = true;
+            for (final String filter : new String[] {
+                    "S in `sym7`", "S in `sym7`, `sym55`, null", "S not in `sym7`", "S not in null",
+                    "S icase in `SYM12`", "S in `symZ`", "S = null", "S.contains(`5`)",
+                    "S != null && S.matches(`sym[1-3][0-9]`)", "isNull(S) || S.endsWith(`7`)"}) {
+                assertTableEquals(expected.where(filter), fromDisk.where(filter));
+            }
+            // A later condition may rely on an earlier filter excluding symbols that would make it throw
+            final String[] guarded = {"S != null && S.length() > 4", "S.substring(4, 5).equals(`1`)"};
+            assertTableEquals(expected.where(guarded), fromDisk.where(guarded));
+            for (final boolean invert : new boolean[] {false, true}) {
+                final Filter filter = FilterPattern.of(ColumnName.of("S"), Pattern.compile("sym[1-3]"),
+                        FilterPattern.Mode.FIND, invert);
+                assertTableEquals(expected.where(filter), fromDisk.where(filter));
+                assertTableEquals(expected.where(Filter.not(filter)), fromDisk.where(Filter.not(filter)));
+            }
+        } finally {
+            QueryTable.USE_SYMBOL_TABLE_FOR_WHERE = oldUseSymbolTable;
+        }
+    }
+
+    @Test
+    public void boundedPageCacheTest() {
+        final Table expected = TableTools.emptyTable(100_000).update("L = ii", "S = `s` + (ii % 1000)");
+        final File dest = new File(rootFile, "boundedPageCache.parquet");
+        writeTable(expected, dest.getPath(), ParquetInstructions.builder()
+                .setTargetPageSize(ParquetInstructions.MIN_TARGET_PAGE_SIZE)
+                .build());
+
+        final BoundedPageCache pageCache = new BoundedPageCache(1 << 16);
+        final Table fromDisk = readTable(dest.getPath(), ParquetInstructions.builder()
+                .setPageCache(pageCache)
+                .build());
+        assertTableEquals(expected, fromDisk);
+
+        assertTrue(pageCache.getCachedBytes() <= pageCache.getMaxBytes());
+        final Map<String, BoundedPageCache.ColumnStatistics> statistics = pageCache.getColumnStatistics();
+        assertEquals(Set.of("L", "S"), statistics.keySet());
+        for (final BoundedPageCache.ColumnStatistics columnStatistics : statistics.values()) {
+            assertTrue(columnStatistics.getMisses() > 0);
+            assertTrue(columnStatistics.getEvictions() > 0);
+        }
+    }
+
     @Test
     public void readPartitionedDataGeneratedOnWindows() {
         final String path = ParquetTableReadWriteTest.class
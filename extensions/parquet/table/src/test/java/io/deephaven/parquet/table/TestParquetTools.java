@@ -1304,6 +1304,39 @@ public class TestParquetTools {
         }
     }
 
+    @Test
+    public void testPrefetchMetadata() {
+        final File dest = new File(testRoot + File.separator + "Prefetch.parquet");
+        ParquetTools.writeTable(table1, dest.getPath());
+        final URI uri = FileUtils.convertToURI(dest, false);
+        try (final SeekableChannelsProvider channelsProvider =
+                SeekableChannelsProviderLoader.getInstance().load(FileUtils.FILE_URI_SCHEME, null)) {
+            final ParquetTableLocationKey locationKey = new ParquetTableLocationKey(uri, 0, null, channelsProvider);
+            locationKey.prefetchMetadata();
+            assertEquals(1, locationKey.getRowGroupIndices().length);
+            assertEquals(table1.size(), locationKey.getMetadata().getBlocks().get(0).getRowCount());
+            // The prefetched reader is retained rather than re-created
+            assertTrue(locationKey.getFileReader() == locationKey.getFileReader());
+
+            // Prefetching after the metadata has been loaded, or after the key has been cleared, is harmless
+            locationKey.prefetchMetadata();
+            locationKey.clear();
+            locationKey.prefetchMetadata();
+        }
+    }
+
+    @Test
+    public void testKeyValuePartitionedPrefetch() {
+        final Table source = emptyTable(10_000).update("PC=(int)(ii % 50)", "I=ii", "S=`s` + (ii % 7)");
+        final File dir = new File(testRoot, "kvPrefetch");
+        for (int pc = 0; pc < 50; pc++) {
+            ParquetTools.writeTable(source.where("PC == " + pc).dropColumns("PC"),
+                    new File(dir, "PC=" + pc + File.separator + "data.parquet").getPath());
+        }
+        final Table actual = ParquetTools.readTable(dir.getPath());
+        assertTableEquals(source.sort("PC", "I"), actual.sort("PC", "I"));
+    }
+
     private static String sha256sum(Path path) throws NoSuchAlgorithmException, IOException {
         final MessageDigest digest = MessageDigest.getInstance("SHA-256");
         final DigestOutputStream out = new DigestOutputStream(OutputStream.nullOutputStream(), digest);
@@ -0,0 +1,88 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.parquet.table.pagestore;
+
+import io.deephaven.chunk.attributes.Values;
+import io.deephaven.engine.page.LongChunkPage;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BoundedPageCacheTest {
+
+    private static final int PAGE_LONGS = 8;
+    private static final long PAGE_BYTES = PAGE_LONGS * Long.BYTES;
+
+    private static PageCache.IntrusivePage<Values> makePage() {
+        return new PageCache.IntrusivePage<>(LongChunkPage.pageWrap(0, new long[PAGE_LONGS], 0xFFFF));
+    }
+
+    @Test
+    public void testReferencedPagesGetSecondChance() {
+        final BoundedPageCache cache = new BoundedPageCache(2 * PAGE_BYTES);
+        final PageCache<Values> a = cache.forColumn("A");
+        final PageCache<Values> b = cache.forColumn("B");
+        final PageCache<Values> c = cache.forColumn("C");
+
+        final PageCache.IntrusivePage<Values> pageA = makePage();
+        a.add(pageA);
+        b.add(makePage());
+        a.touch(pageA);
+        c.add(makePage());
+
+        assertThat(cache.getCachedBytes()).isEqualTo(2 * PAGE_BYTES);
+        assertThat(cache.getColumnStatistics().get("A").getEvictions()).isZero();
+        assertThat(cache.getColumnStatistics().get("A").getHits()).isOne();
+        assertThat(cache.getColumnStatistics().get("B").getEvictions()).isOne();
+        assertThat(cache.getColumnStatistics().get("B").getCachedBytes()).isZero();
+        assertThat(cache.getColumnStatistics().get("C").getCachedBytes()).isEqualTo(PAGE_BYTES);
+    }
+
+    @Test
+    public void testConcurrentAccessStaysBounded() throws Exception {
+        final BoundedPageCache cache = new BoundedPageCache(64 * PAGE_BYTES);
+        final List<PageCache.IntrusivePage<Values>> pages = new ArrayList<>();
+        for (int ii = 0; ii < 256; ii++) {
+            pages.add(makePage());
+        }
+
+        final int numThreads = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int ti = 0; ti < numThreads; ti++) {
+                final int seed = ti;
+                final PageCache<Values> columnCache = cache.forColumn("C" + (ti % 2));
+                futures.add(executor.submit(() -> {
+                    final Random random = new Random(seed);
+                    for (int ii = 0; ii < 100_000; ii++) {
+                        final PageCache.IntrusivePage<Values> page = pages.get(random.nextInt(pages.size()));
+                        if (random.nextBoolean()) {
+                            columnCache.touch(page);
+                        } else {
+                            columnCache.add(page);
+                        }
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(cache.getCachedBytes()).isLessThanOrEqualTo(cache.getMaxBytes());
+        assertThat(cache.getCachedBytes()).isEqualTo(cache.getColumnStatistics().values().stream()
+                .mapToLong(BoundedPageCache.ColumnStatistics::getCachedBytes)
+                .sum());
+    }
+}
@@ -8,6 +8,7 @@ import io.deephaven.io.logger.Logger;
 import io.deephaven.util.channel.SeekableChannelContext;
 import io.deephaven.util.channel.BaseSeekableChannelContext;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Uri;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
@@ -27,6 +28,7 @@ final class S3ChannelContext extends BaseSeekableChannelContext implements Seeka
     private static final Logger log = LoggerFactory.getLogger(S3ChannelContext.class);
     static final long UNINITIALIZED_SIZE = -1;
     private static final long UNINITIALIZED_NUM_FRAGMENTS = -1;
+    private static final long NO_FRAGMENT = -1;
 
     private final S3SeekableChannelProvider provider;
     final S3AsyncClient client;
@@ -44,6 +46,12 @@ final class S3ChannelContext extends BaseSeekableChannelContext implements Seeka
      */
     final S3RequestCache sharedCache;
 
+    /**
+     * The persistent cache for fragments, or {@code null} if not enabled. Shared across providers and processes.
+     */
+    @Nullable
+    final S3DiskCache diskCache;
+
     /**
      * The size of the object in bytes, stored in context to avoid fetching multiple times
      */
@@ -54,15 +62,41 @@ final class S3ChannelContext extends BaseSeekableChannelContext implements Seeka
      */
     private long numFragments;
 
+    /**
+     * The ETag of the object, used to key fragments in the {@link #diskCache}. Only fetched when the disk cache is
+     * enabled, and {@code null} if unknown.
+     */
+    @Nullable
+    String eTag;
+
+    /**
+     * Whether we have fetched the {@link #eTag}.
+     */
+    private boolean eTagFetched;
+
+    /**
+     * The index of the fragment containing the last byte returned by the previous {@link #fill}, used to detect
+     * sequential reads for {@link S3Instructions#adaptiveReadAhead() adaptive read-ahead}.
+     */
+    private long lastFragmentIx;
+
+    /**
+     * The current number of fragments to read ahead, when using {@link S3Instructions#adaptiveReadAhead() adaptive
+     * read-ahead}.
+     */
+    private int adaptiveReadAheadCount;
+
     S3ChannelContext(
             @NotNull final S3SeekableChannelProvider provider,
             @NotNull final S3AsyncClient client,
             @NotNull final S3Instructions instructions,
-            @NotNull final S3RequestCache sharedCache) {
+            @NotNull final S3RequestCache sharedCache,
+            @Nullable final S3DiskCache diskCache) {
         this.provider = Objects.requireNonNull(provider);
         this.client = Objects.requireNonNull(client);
         this.instructions = Objects.requireNonNull(instructions);
         this.sharedCache = sharedCache;
+        this.diskCache = diskCache;
         if (sharedCache.getFragmentSize() != instructions.fragmentSize()) {
             throw new IllegalArgumentException("Fragment size mismatch between shared cache and instructions, "
                     + sharedCache.getFragmentSize() + " != " + instructions.fragmentSize());
@@ -70,6 +104,7 @@ final class S3ChannelContext extends BaseSeekableChannelContext implements Seeka
         uri = null;
         size = UNINITIALIZED_SIZE;
         numFragments = UNINITIALIZED_NUM_FRAGMENTS;
+        lastFragmentIx = NO_FRAGMENT;
         if (log.isDebugEnabled()) {
             log.debug().append("Creating context: ").append(ctxStr()).endl();
         }
@@ -102,23 +137,30 @@ final class S3ChannelContext extends BaseSeekableChannelContext implements Seeka
             return 0;
         }
         ensureSize();
+        ensureETag();
         // Send async read requests for current fragment as well as read ahead fragments
         final long firstFragmentIx = fragmentIndex(position);
         final long readAhead;
         {
             final long lastFragmentIx = fragmentIndex(position + destRemaining - 1);
             final int impliedReadAhead = (int) (lastFragmentIx - firstFragmentIx);
-            final int desiredReadAhead = instructions.readAheadCount();
+            final int desiredReadAhead = desiredReadAhead(firstFragmentIx);
             final long totalRemainingFragments = numFragments - firstFragmentIx - 1;
             readAhead = Math.min(Math.max(impliedReadAhead, desiredReadAhead), totalRemainingFragments);
         }
         int filled;
         {
             // Hold a reference to the first request to ensure it is not evicted from the cache
-            final S3Request.Acquired acquiredRequest = getOrCreateRequest(firstFragmentIx);
-            for (int i = 0; i < readAhead; ++i) {
-                // Do not hold references to the read-ahead requests
-                getOrCreateRequest(firstFragmentIx + i + 1);
+            final S3Request.Acquired acquiredRequest;
+            {
+                // Do not hold references to the read-ahead requests once they are sent
+                final S3Request.Acquired[] requests = new S3Request.Acquired[(int) readAhead + 1];
+                for (int i = 0; i < requests.length; ++i) {
+                    requests[i] = sharedCache.getOrCreateRequest(uri, firstFragmentIx + i, this);
+                }
+                // Send the requests, if not sent already. The following method is idempotent, so we always call it.
+                S3Request.send(requests, instructions.maxCoalescedFragments());
+                acquiredRequest = requests[0];
             }
             // blocking
             filled = acquiredRequest.fill(position, dest);
@@ -131,14 +173,36 @@ final class S3ChannelContext extends BaseSeekableChannelContext implements Seeka
             // non-blocking since we know isDone
             filled += readAheadRequest.fill(position + filled, dest);
         }
+        lastFragmentIx = fragmentIndex(position + filled - 1);
         return filled;
     }
 
+    /**
+     * Get the number of fragments to read ahead of a read starting in {@code firstFragmentIx}. With adaptive
+     * read-ahead, this starts at one fragment for a read that does not continue from the previous read, and doubles
+     * each time a sequential read moves on to the next fragment.
+     */
+    private int desiredReadAhead(final long firstFragmentIx) {
+        if (!instructions.adaptiveReadAhead()) {
+            return instructions.readAheadCount();
+        }
+        if (lastFragmentIx != NO_FRAGMENT && firstFragmentIx == lastFragmentIx + 1) {
+            adaptiveReadAheadCount = Math.min(Math.max(1, 2 * adaptiveReadAheadCount), instructions.readAheadCount());
+        } else if (firstFragmentIx != lastFragmentIx) {
+            adaptiveReadAheadCount = Math.min(1, instructions.readAheadCount());
+        }
+        return adaptiveReadAheadCount;
+    }
+
     private void reset() {
         // Reset the internal state
         uri = null;
         size = UNINITIALIZED_SIZE;
         numFragments = UNINITIALIZED_NUM_FRAGMENTS;
+        eTag = null;
+        eTagFetched = false;
+        lastFragmentIx = NO_FRAGMENT;
+        adaptiveReadAheadCount = 0;
     }
 
     /**
@@ -154,14 +218,6 @@ final class S3ChannelContext extends BaseSeekableChannelContext implements Seeka
 
     // --------------------------------------------------------------------------------------------------
 
-    @NotNull
-    private S3Request.Acquired getOrCreateRequest(final long fragmentIndex) {
-        final S3Request.Acquired cachedRequest = sharedCache.getOrCreateRequest(uri, fragmentIndex, this);
-        // Send the request, if not sent already. The following method is idempotent, so we always call it.
-        cachedRequest.send();
-        return cachedRequest;
-    }
-
     private long fragmentIndex(final long pos) {
         return pos / instructions.fragmentSize();
     }
@@ -205,6 +261,14 @@ final class S3ChannelContext extends BaseSeekableChannelContext implements Seeka
         setSize(provider.fetchFileSize(uri));
     }
 
+    private void ensureETag() throws IOException {
+        if (diskCache == null || eTagFetched) {
+            return;
+        }
+        eTag = provider.fetchETag(uri);
+        eTagFetched = true;
+    }
+
     private void setSize(final long size) {
         this.size = size;
         // ceil(size / fragmentSize)
@@ -0,0 +1,359 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.extensions.s3;
+
+import io.deephaven.internal.log.LoggerFactory;
+import io.deephaven.io.logger.Logger;
+import org.jetbrains.annotations.NotNull;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * A persistent, size-bounded cache of S3 fragments in a local directory, used as a second tier below the in-memory
+ * {@link S3RequestCache}. See {@link S3Instructions#diskCacheDirectory()}.
+ *
+ * <p>
+ * Each fragment is stored in its own file, named by a hash of its key. A file consists of a header holding the key and
+ * a CRC32C checksum of the key and fragment bytes, followed by the fragment bytes. Files are written to a temporary
+ * file and atomically moved into place, so readers, including those in other processes sharing the directory, never
+ * observe a partially written fragment. Files that are truncated, corrupt, or hold a different key are treated as
+ * misses and deleted.
+ *
+ * <p>
+ * Writes happen asynchronously on a shared background thread, which also evicts the least recently used files, by
+ * last-modified time, when the directory grows past its maximum size. Reads update the last-modified time of the file
+ * they hit. The size of the directory is tracked approximately, and re-measured on each eviction so that files written
+ * by other processes are accounted for.
+ */
+final class S3DiskCache {
+
+    private static final Logger log = LoggerFactory.getLogger(S3DiskCache.class);
+
+    private static final int MAGIC = 0x44484643;
+    private static final int HEADER_SIZE = 4 * Integer.BYTES;
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    /**
+     * Temporary files older than this are assumed to be left over from a process that died while writing.
+     */
+    private static final Duration STALE_TEMP_FILE_AGE = Duration.ofHours(1);
+
+    /**
+     * Eviction removes files until the directory is at most this fraction of its maximum size.
+     */
+    private static final double EVICTION_TARGET_RATIO = 0.9;
+
+    /**
+     * Writes are skipped, rather than queued, while this many bytes are already waiting to be written.
+     */
+    private static final long MAX_PENDING_WRITE_BYTES = 64L << 20; // 64 MiB
+
+    private static final Map<Path, S3DiskCache> CACHES = new ConcurrentHashMap<>();
+
+    private static volatile ExecutorService writer;
+
+    private final Path directory;
+    private final long maxSize;
+    private final AtomicLong approximateSize = new AtomicLong();
+    private final AtomicLong pendingWriteBytes = new AtomicLong();
+
+    /**
+     * Get the cache for {@code directory}, creating it if necessary. Caches are shared by all providers in this process
+     * that use the same directory, and keep the maximum size of the first provider to use them.
+     */
+    static S3DiskCache forDirectory(@NotNull final Path directory, final long maxSize) {
+        return CACHES.computeIfAbsent(directory.toAbsolutePath().normalize(),
+                normalized -> new S3DiskCache(normalized, maxSize));
+    }
+
+    /**
+     * Build the key for a fragment of an object. Including the ETag ensures that fragments of an object are not served
+     * after the object has been replaced.
+     */
+    static String key(@NotNull final String uri, @NotNull final String eTag, final long from, final long length) {
+        return uri + '\n' + eTag + '\n' + from + '\n' + length;
+    }
+
+    private S3DiskCache(@NotNull final Path directory, final long maxSize) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+        ensureWriter().execute(this::evictIfNecessary);
+    }
+
+    /**
+     * Fill {@code dest}, from its position to its limit, with the cached fragment for {@code key}. The position of
+     * {@code dest} is not changed. On a miss, the contents of {@code dest} are unspecified.
+     *
+     * @return Whether the fragment was found in the cache
+     */
+    boolean read(@NotNull final String key, @NotNull final ByteBuffer dest) {
+        final Path path = path(key);
+        final byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            if (!readFully(channel, header)) {
+                return discard(path, "truncated header");
+            }
+            header.flip();
+            final int magic = header.getInt();
+            final int keyLength = header.getInt();
+            final int payloadLength = header.getInt();
+            final int checksum = header.getInt();
+            if (magic != MAGIC || keyLength != keyBytes.length) {
+                return discard(path, "unexpected header");
+            }
+            final ByteBuffer storedKey = ByteBuffer.allocate(keyLength);
+            if (!readFully(channel, storedKey) || !storedKey.flip().equals(ByteBuffer.wrap(keyBytes))) {
+                // A hash collision or a corrupt file; either way, this fragment will replace it
+                return discard(path, "unexpected key");
+            }
+            if (payloadLength != dest.remaining()) {
+                return discard(path, "unexpected length");
+            }
+            final ByteBuffer payload = dest.duplicate();
+            if (!readFully(channel, payload)) {
+                return discard(path, "truncated payload");
+            }
+            if (checksum(keyBytes, dest.duplicate()) != checksum) {
+                return discard(path, "checksum mismatch");
+            }
+        } catch (final NoSuchFileException e) {
+            return false;
+        } catch (final IOException e) {
+            log.warn().append("Failed to read cached fragment ").append(path.toString()).append(": ").append(e)
+                    .endl();
+            return false;
+        }
+        try {
+            Files.setLastModifiedTime(path, FileTime.from(Instant.now()));
+        } catch (final IOException e) {
+            // The file may have been evicted since we read it; this only affects eviction order
+        }
+        return true;
+    }
+
+    /**
+     * Asynchronously store {@code payload}, from its position to its limit, as the fragment for {@code key}. The
+     * contents of {@code payload} must not change after this call. The write is skipped if too many bytes are already
+     * waiting to be written.
+     */
+    void write(@NotNull final String key, @NotNull final ByteBuffer payload) {
+        final int length = payload.remaining();
+        if (pendingWriteBytes.addAndGet(length) > MAX_PENDING_WRITE_BYTES) {
+            pendingWriteBytes.addAndGet(-length);
+            return;
+        }
+        ensureWriter().execute(() -> {
+            try {
+                writeNow(key, payload);
+            } finally {
+                pendingWriteBytes.addAndGet(-length);
+            }
+        });
+    }
+
+    private void writeNow(@NotNull final String key, @NotNull final ByteBuffer payload) {
+        final Path path = path(key);
+        if (Files.exists(path)) {
+            // Already written, perhaps by another process
+            return;
+        }
+        final byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putInt(keyBytes.length)
+                .putInt(payload.remaining())
+                .putInt(checksum(keyBytes, payload.duplicate()))
+                .flip();
+        final long fileSize = HEADER_SIZE + keyBytes.length + payload.remaining();
+        Path tempFile = null;
+        try {
+            Files.createDirectories(path.getParent());
+            tempFile = Files.createTempFile(path.getParent(), path.getFileName().toString(), TEMP_SUFFIX);
+            try (final FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                final ByteBuffer[] buffers = {header, ByteBuffer.wrap(keyBytes), payload.duplicate()};
+                while (buffers[2].hasRemaining()) {
+                    channel.write(buffers);
+                }
+            }
+            Files.move(tempFile, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            tempFile = null;
+        } catch (final IOException e) {
+            log.warn().append("Failed to write cached fragment ").append(path.toString()).append(": ").append(e)
+                    .endl();
+            return;
+        } finally {
+            if (tempFile != null) {
+                deleteQuietly(tempFile);
+            }
+        }
+        if (approximateSize.addAndGet(fileSize) > maxSize) {
+            evictIfNecessary();
+        }
+    }
+
+    /**
+     * Measure the directory, and delete the least recently used files if it is larger than {@link #maxSize}. Only
+     * called from the {@link #writer} thread.
+     */
+    private void evictIfNecessary() {
+        final List<CachedFile> files = new ArrayList<>();
+        final Instant staleTempFileTime = Instant.now().minus(STALE_TEMP_FILE_AGE);
+        long totalSize = 0;
+        try (final Stream<Path> paths = Files.walk(directory)) {
+            for (final Path path : (Iterable<Path>) paths::iterator) {
+                final BasicFileAttributes attributes;
+                try {
+                    attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                } catch (final IOException e) {
+                    // Deleted concurrently
+                    continue;
+                }
+                if (!attributes.isRegularFile()) {
+                    continue;
+                }
+                if (path.getFileName().toString().endsWith(TEMP_SUFFIX)) {
+                    if (attributes.lastModifiedTime().toInstant().isBefore(staleTempFileTime)) {
+                        deleteQuietly(path);
+                    }
+                    continue;
+                }
+                files.add(new CachedFile(path, attributes.size(), attributes.lastModifiedTime()));
+                totalSize += attributes.size();
+            }
+        } catch (final NoSuchFileException e) {
+            // Nothing has been written yet
+            approximateSize.set(0);
+            return;
+        } catch (final IOException | RuntimeException e) {
+            log.warn().append("Failed to measure fragment cache directory ").append(directory.toString())
+                    .append(": ").append(e).endl();
+            return;
+        }
+        if (totalSize > maxSize) {
+            final long targetSize = (long) (maxSize * EVICTION_TARGET_RATIO);
+            files.sort(Comparator.comparing(file -> file.lastModifiedTime));
+            for (final CachedFile file : files) {
+                if (totalSize <= targetSize) {
+                    break;
+                }
+                if (deleteQuietly(file.path)) {
+                    totalSize -= file.size;
+                }
+            }
+            if (log.isDebugEnabled()) {
+                log.debug().append("Evicted fragment cache ").append(directory.toString()).append(" to ")
+                        .append(totalSize).append(" bytes").endl();
+            }
+        }
+        approximateSize.set(totalSize);
+    }
+
+    private Path path(@NotNull final String key) {
+        final String hash = sha256Hex(key);
+        return directory.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private static boolean discard(@NotNull final Path path, @NotNull final String reason) {
+        if (log.isDebugEnabled()) {
+            log.debug().append("Discarding cached fragment ").append(path.toString()).append(": ").append(reason)
+                    .endl();
+        }
+        deleteQuietly(path);
+        return false;
+    }
+
+    private static boolean deleteQuietly(@NotNull final Path path) {
+        try {
+            return Files.deleteIfExists(path);
+        } catch (final IOException e) {
+            return false;
+        }
+    }
+
+    private static boolean readFully(@NotNull final FileChannel channel, @NotNull final ByteBuffer dest)
+            throws IOException {
+        while (dest.hasRemaining()) {
+            if (channel.read(dest) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int checksum(final byte[] keyBytes, @NotNull final ByteBuffer payload) {
+        final CRC32C crc = new CRC32C();
+        crc.update(keyBytes);
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private static String sha256Hex(@NotNull final String key) {
+        final byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+        } catch (final NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+        final StringBuilder hex = new StringBuilder(2 * digest.length);
+        for (final byte b : digest) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * A single-threaded executor shared by all caches, so that writes and evictions never run concurrently within this
+     * process.
+     */
+    private static ExecutorService ensureWriter() {
+        if (writer == null) {
+            synchronized (S3DiskCache.class) {
+                if (writer == null) {
+                    writer = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+                            .threadNamePrefix("s3-disk-cache-writer").daemonThreads(true).build());
+                }
+            }
+        }
+        return writer;
+    }
+
+    private static final class CachedFile {
+        private final Path path;
+        private final long size;
+        private final FileTime lastModifiedTime;
+
+        private CachedFile(@NotNull final Path path, final long size, @NotNull final FileTime lastModifiedTime) {
+            this.path = path;
+            this.size = size;
+            this.lastModifiedTime = lastModifiedTime;
+        }
+    }
+}
@@ -30,11 +30,13 @@ public abstract class S3Instructions implements LogOutputAppendable {
 
     private static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 256;
     private static final int DEFAULT_READ_AHEAD_COUNT = 32;
+    private static final int DEFAULT_MAX_COALESCED_FRAGMENTS = 1;
     private static final int DEFAULT_FRAGMENT_SIZE = 1 << 16; // 64 KiB
     private static final int MIN_FRAGMENT_SIZE = 8 << 10; // 8 KiB
     private static final Duration DEFAULT_CONNECTION_TIMEOUT = Duration.ofSeconds(2);
     private static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(2);
     private static final int DEFAULT_NUM_CONCURRENT_WRITE_PARTS = 64;
+    private static final long DEFAULT_DISK_CACHE_SIZE = 10L << 30; // 10 GiB
 
     /**
      * We set default part size to 10 MiB. The maximum number of parts allowed is 10,000. This means maximum size of a
@@ -79,6 +81,31 @@ public abstract class S3Instructions implements LogOutputAppendable {
         return DEFAULT_READ_AHEAD_COUNT;
     }
 
+    /**
+     * Whether to adapt the number of fragments to read ahead to the access pattern, defaults to {@code false}. When
+     * {@code true}, a read that does not continue from the previous read in the same channel context only reads ahead a
+     * single fragment, and the number of fragments read ahead doubles with each subsequent sequential read, up to
+     * {@link #readAheadCount()}. This avoids fetching unused fragments for random reads (such as footers and page
+     * headers), while still reading far ahead when scanning column chunks. When {@code false},
+     * {@link #readAheadCount()} fragments are always read ahead.
+     */
+    @Default
+    public boolean adaptiveReadAhead() {
+        return false;
+    }
+
+    /**
+     * The maximum number of adjacent fragments to fetch with a single request, defaults to
+     * {@value #DEFAULT_MAX_COALESCED_FRAGMENTS}. When greater than one, runs of adjacent fragments that are neither
+     * cached nor already requested are fetched with a single ranged GET request, and split into fragments as the
+     * response arrives. This reduces the per-request overhead when reading ahead many small fragments, at the cost of
+     * fewer concurrent requests.
+     */
+    @Default
+    public int maxCoalescedFragments() {
+        return DEFAULT_MAX_COALESCED_FRAGMENTS;
+    }
+
     /**
      * The maximum byte size of each fragment to read from S3 in bytes, defaults to {@value DEFAULT_FRAGMENT_SIZE}, must
      * be larger than {@value MIN_FRAGMENT_SIZE}. If there are fewer bytes remaining in the file, the fetched fragment
@@ -174,6 +201,25 @@ public abstract class S3Instructions implements LogOutputAppendable {
      */
     public abstract Optional<Path> credentialsFilePath();
 
+    /**
+     * The directory for a persistent, on-disk cache of fetched fragments. When provided, fragments are cached in files
+     * under this directory, keyed by the object URI, its ETag, and the fragment's byte range, and are read from there
+     * instead of S3 when present. Cached files are checksummed and written atomically, so the directory survives
+     * restarts and may be shared by multiple processes on the same host. If not provided, fragments are only cached in
+     * memory.
+     */
+    public abstract Optional<Path> diskCacheDirectory();
+
+    /**
+     * The maximum total size in bytes of the files in the {@link #diskCacheDirectory() disk cache}, defaults to
+     * {@value #DEFAULT_DISK_CACHE_SIZE}. The least recently used fragments are evicted when the cache grows past this
+     * size. Processes sharing a directory should use the same size.
+     */
+    @Default
+    public long diskCacheSize() {
+        return DEFAULT_DISK_CACHE_SIZE;
+    }
+
     /**
      * The aggregated profile file that combines the configuration and credentials files.
      */
@@ -207,6 +253,10 @@ public abstract class S3Instructions implements LogOutputAppendable {
 
         Builder readAheadCount(int readAheadCount);
 
+        Builder adaptiveReadAhead(boolean adaptiveReadAhead);
+
+        Builder maxCoalescedFragments(int maxCoalescedFragments);
+
         Builder fragmentSize(int fragmentSize);
 
         Builder connectionTimeout(Duration connectionTimeout);
@@ -227,6 +277,10 @@ public abstract class S3Instructions implements LogOutputAppendable {
 
         Builder credentialsFilePath(Path credentialsFilePath);
 
+        Builder diskCacheDirectory(Path diskCacheDirectory);
+
+        Builder diskCacheSize(long diskCacheSize);
+
         default Builder endpointOverride(final String endpointOverride) {
             return endpointOverride(URI.create(endpointOverride));
         }
@@ -239,6 +293,10 @@ public abstract class S3Instructions implements LogOutputAppendable {
             return credentialsFilePath(Path.of(credentialsFilePath));
         }
 
+        default Builder diskCacheDirectory(final String diskCacheDirectory) {
+            return diskCacheDirectory(Path.of(diskCacheDirectory));
+        }
+
         S3Instructions build();
     }
 
@@ -267,6 +325,20 @@ public abstract class S3Instructions implements LogOutputAppendable {
         }
     }
 
+    @Check
+    final void boundsCheckMaxCoalescedFragments() {
+        if (maxCoalescedFragments() < 1) {
+            throw new IllegalArgumentException("maxCoalescedFragments(=" + maxCoalescedFragments() + ") must be >= 1");
+        }
+    }
+
+    @Check
+    final void boundsCheckDiskCacheSize() {
+        if (diskCacheSize() < 1) {
+            throw new IllegalArgumentException("diskCacheSize(=" + diskCacheSize() + ") must be >= 1");
+        }
+    }
+
     @Check
     final void boundsCheckMinFragmentSize() {
         if (fragmentSize() < MIN_FRAGMENT_SIZE) {
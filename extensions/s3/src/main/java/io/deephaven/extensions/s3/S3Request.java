@@ -26,6 +26,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -90,6 +91,15 @@ final class S3Request extends SoftReference<ByteBuffer>
     private int fillCount;
     private long fillBytes;
     private final S3RequestCache sharedCache;
+    @Nullable
+    private final S3DiskCache diskCache;
+    @Nullable
+    private final String diskCacheKey;
+    /**
+     * The ETag that {@link #diskCacheKey} was built from, or {@code null} if the {@link #diskCache} is not used.
+     */
+    @Nullable
+    private final String eTag;
 
     /**
      * Create a new request for the given fragment index using the provided context object.
@@ -119,6 +129,15 @@ final class S3Request extends SoftReference<ByteBuffer>
         this.from = from;
         this.to = to;
         sharedCache = context.sharedCache;
+        if (context.diskCache != null && context.eTag != null) {
+            diskCache = context.diskCache;
+            diskCacheKey = S3DiskCache.key(s3Uri.uri().toString(), context.eTag, from, to - from + 1);
+            eTag = context.eTag;
+        } else {
+            diskCache = null;
+            diskCacheKey = null;
+            eTag = null;
+        }
         createdAt = Instant.now();
         id = new ID(s3Uri, fragmentIndex);
         if (log.isDebugEnabled()) {
@@ -157,6 +176,10 @@ final class S3Request extends SoftReference<ByteBuffer>
         if (consumerFuture == null) {
             synchronized (this) {
                 if (consumerFuture == null) {
+                    if (readFromDiskCache()) {
+                        consumerFuture = CompletableFuture.completedFuture(true);
+                        return;
+                    }
                     if (log.isDebugEnabled()) {
                         log.debug().append("Sending: ").append(requestStr()).endl();
                     }
@@ -168,6 +191,107 @@ final class S3Request extends SoftReference<ByteBuffer>
         }
     }
 
+    /**
+     * Send the given requests, which must be for consecutive fragments of the same object in ascending order. When
+     * {@code maxCoalescedFragments} is greater than one, each run of up to {@code maxCoalescedFragments} requests that
+     * have not already been sent is fetched with a single GET request; otherwise, each request is sent individually.
+     * Like {@link Acquired#send()}, this method is idempotent.
+     */
+    static void send(@NotNull final Acquired[] requests, final int maxCoalescedFragments) {
+        if (maxCoalescedFragments <= 1) {
+            for (final Acquired request : requests) {
+                request.send();
+            }
+            return;
+        }
+        int runStart = 0;
+        int runLength = 0;
+        for (int ii = 0; ii < requests.length; ++ii) {
+            if (runLength == maxCoalescedFragments) {
+                new CoalescedRequest(requests, runStart, runLength).send();
+                runLength = 0;
+            }
+            final S3Request request = requests[ii].request();
+            if (request.claim() && !request.completeFromDiskCache()) {
+                if (runLength == 0) {
+                    runStart = ii;
+                }
+                ++runLength;
+            } else if (runLength > 0) {
+                // This request was already sent or read from disk, so the run of unsent requests ends here
+                new CoalescedRequest(requests, runStart, runLength).send();
+                runLength = 0;
+            }
+        }
+        if (runLength > 0) {
+            new CoalescedRequest(requests, runStart, runLength).send();
+        }
+    }
+
+    /**
+     * Claim this request for sending as part of a {@link CoalescedRequest}, unless it has already been sent or claimed.
+     *
+     * @return Whether the request was claimed
+     */
+    private boolean claim() {
+        if (consumerFuture != null) {
+            return false;
+        }
+        synchronized (this) {
+            if (consumerFuture != null) {
+                return false;
+            }
+            consumerFuture = new CompletableFuture<>();
+            return true;
+        }
+    }
+
+    /**
+     * Complete a {@link #claim() claimed} request from the {@link #diskCache}, if possible.
+     *
+     * @return Whether the request was completed
+     */
+    private boolean completeFromDiskCache() {
+        if (!readFromDiskCache()) {
+            return false;
+        }
+        consumerFuture.complete(true);
+        return true;
+    }
+
+    /**
+     * Fill the buffer from the {@link #diskCache}, if the fragment is cached there.
+     *
+     * @return Whether the buffer was filled
+     */
+    private boolean readFromDiskCache() {
+        if (diskCache == null) {
+            return false;
+        }
+        final ByteBuffer buffer = get();
+        if (buffer == null || !diskCache.read(diskCacheKey, buffer)) {
+            return false;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug().append("Read from disk cache: ").append(requestStr()).endl();
+        }
+        return true;
+    }
+
+    /**
+     * Store the buffer in the {@link #diskCache}, once it has been completely filled from S3. Responses are only
+     * received while the object still has our {@link #eTag}; see {@link #getObjectRequest(long, long)}.
+     */
+    private void writeToDiskCache() {
+        if (diskCache == null) {
+            return;
+        }
+        final ByteBuffer buffer = get();
+        if (buffer != null) {
+            diskCache.write(diskCacheKey, buffer.asReadOnlyBuffer());
+        }
+    }
+
     class Acquired {
         /**
          * This instance keeps a hard reference to the buffer, which is needed to keep the request alive. When the
@@ -248,7 +372,8 @@ final class S3Request extends SoftReference<ByteBuffer>
 
     @Override
     public void cleanup() {
-        final boolean didCancel = consumerFuture.cancel(true);
+        final CompletableFuture<Boolean> localConsumerFuture = consumerFuture;
+        final boolean didCancel = localConsumerFuture != null && localConsumerFuture.cancel(true);
         sharedCache.remove(this);
         if (log.isDebugEnabled()) {
             final String cancelType = didCancel ? "fast" : (fillCount == 0 ? "unused" : "normal");
@@ -265,6 +390,9 @@ final class S3Request extends SoftReference<ByteBuffer>
 
     @Override
     public void accept(final Boolean isComplete, final Throwable throwable) {
+        if (Boolean.TRUE.equals(isComplete)) {
+            writeToDiskCache();
+        }
         if (log.isDebugEnabled()) {
             final Instant completedAt = Instant.now();
             if (Boolean.TRUE.equals(isComplete)) {
@@ -308,11 +436,24 @@ final class S3Request extends SoftReference<ByteBuffer>
     }
 
     private GetObjectRequest getObjectRequest() {
-        return GetObjectRequest.builder()
+        return getObjectRequest(from, to);
+    }
+
+    /**
+     * Build a GET request for bytes {@code rangeFrom} to {@code rangeTo} (inclusive) of our object. When the response
+     * will be stored in the {@link #diskCache}, the request is conditioned on the {@link #eTag} that the cache keys were
+     * built from. If the object has been overwritten since, S3 then fails the request with 412 (Precondition Failed)
+     * instead of returning new bytes, which would otherwise be cached under the old ETag.
+     */
+    private GetObjectRequest getObjectRequest(final long rangeFrom, final long rangeTo) {
+        final GetObjectRequest.Builder builder = GetObjectRequest.builder()
                 .bucket(s3Uri.bucket().orElseThrow())
                 .key(s3Uri.key().orElseThrow())
-                .range("bytes=" + from + "-" + to)
-                .build();
+                .range("bytes=" + rangeFrom + "-" + rangeTo);
+        if (eTag != null) {
+            builder.ifMatch(eTag);
+        }
+        return builder.build();
     }
 
     String requestStr() {
@@ -397,4 +538,169 @@ final class S3Request extends SoftReference<ByteBuffer>
             localProducer.complete(true);
         }
     }
+
+    // --------------------------------------------------------------------------------------------------
+
+    /**
+     * A single GET request for a run of adjacent fragments, each represented by a {@link #claim() claimed}
+     * {@link S3Request}. The response is split into the fragments' buffers as it arrives, and each fragment's
+     * {@link #consumerFuture} is completed as soon as its bytes have been received.
+     */
+    private static final class CoalescedRequest
+            implements AsyncResponseTransformer<GetObjectResponse, Boolean>, BiConsumer<Boolean, Throwable> {
+
+        private final S3Request[] requests;
+        private volatile CompletableFuture<Boolean> producerFuture;
+
+        private CoalescedRequest(@NotNull final Acquired[] acquired, final int start, final int length) {
+            requests = new S3Request[length];
+            for (int ii = 0; ii < length; ++ii) {
+                requests[ii] = acquired[start + ii].request();
+            }
+        }
+
+        private void send() {
+            final S3Request first = requests[0];
+            final S3Request last = requests[requests.length - 1];
+            if (log.isDebugEnabled()) {
+                log.debug().append("Sending coalesced: ").append(first.requestStr()).append(" to ")
+                        .append(last.requestStr()).endl();
+            }
+            // All the fragments are of the same object, and so were keyed with the same ETag
+            first.client.getObject(first.getObjectRequest(first.from, last.to), this).whenComplete(this);
+        }
+
+        @Override
+        public void accept(final Boolean isComplete, final Throwable throwable) {
+            // Complete any fragments that the response did not, so that readers are not left waiting
+            final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                    ? throwable.getCause()
+                    : throwable;
+            for (final S3Request request : requests) {
+                if (cause != null) {
+                    request.consumerFuture.completeExceptionally(cause);
+                } else if (!request.consumerFuture.isDone()) {
+                    request.consumerFuture.completeExceptionally(new IllegalStateException(String.format(
+                            "Coalesced request completed without data for %s", request.requestStr())));
+                }
+            }
+        }
+
+        @Override
+        public CompletableFuture<Boolean> prepare() {
+            final CompletableFuture<Boolean> future = new CompletableFuture<>();
+            producerFuture = future;
+            return future;
+        }
+
+        @Override
+        public void onResponse(final GetObjectResponse response) {
+
+        }
+
+        @Override
+        public void onStream(final SdkPublisher<ByteBuffer> publisher) {
+            publisher.subscribe(new CoalescedSub());
+        }
+
+        @Override
+        public void exceptionOccurred(final Throwable error) {
+            producerFuture.completeExceptionally(error);
+        }
+
+        private final class CoalescedSub implements Subscriber<ByteBuffer> {
+
+            private final CompletableFuture<Boolean> localProducer;
+            private Subscription subscription;
+
+            /**
+             * The index of the request currently being filled.
+             */
+            private int requestIndex;
+
+            /**
+             * Number of bytes stored in the buffer of the current request.
+             */
+            private int offset;
+
+            CoalescedSub() {
+                localProducer = producerFuture;
+            }
+
+            @Override
+            public void onSubscribe(final Subscription s) {
+                if (subscription != null) {
+                    s.cancel();
+                    return;
+                }
+                subscription = s;
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(final ByteBuffer dataBuffer) {
+                while (dataBuffer.hasRemaining()) {
+                    if (requestIndex == requests.length) {
+                        localProducer.completeExceptionally(new IllegalStateException(String.format(
+                                "Received more bytes than expected for coalesced request ending with %s",
+                                requests[requests.length - 1].requestStr())));
+                        subscription.cancel();
+                        return;
+                    }
+                    final S3Request request = requests[requestIndex];
+                    final int numBytes = Math.min(request.requestLength() - offset, dataBuffer.remaining());
+                    final ByteBuffer resultBuffer = request.get();
+                    if (resultBuffer != null) {
+                        final ByteBuffer src = dataBuffer.duplicate();
+                        src.limit(src.position() + numBytes);
+                        resultBuffer.duplicate().position(offset).put(src);
+                    }
+                    dataBuffer.position(dataBuffer.position() + numBytes);
+                    offset += numBytes;
+                    if (offset == request.requestLength()) {
+                        if (resultBuffer != null) {
+                            request.writeToDiskCache();
+                        }
+                        request.consumerFuture.complete(resultBuffer != null);
+                        ++requestIndex;
+                        offset = 0;
+                    }
+                }
+                if (allReleased()) {
+                    // Nobody is interested in the rest of the response
+                    localProducer.complete(false);
+                    subscription.cancel();
+                    return;
+                }
+                subscription.request(1);
+            }
+
+            private boolean allReleased() {
+                for (int ii = requestIndex; ii < requests.length; ++ii) {
+                    if (requests[ii].get() != null) {
+                        return false;
+                    }
+                }
+                for (int ii = requestIndex; ii < requests.length; ++ii) {
+                    requests[ii].consumerFuture.complete(false);
+                }
+                return true;
+            }
+
+            @Override
+            public void onError(final Throwable t) {
+                localProducer.completeExceptionally(t);
+            }
+
+            @Override
+            public void onComplete() {
+                if (requestIndex != requests.length) {
+                    localProducer.completeExceptionally(new IllegalStateException(String.format(
+                            "Coalesced request ended early while receiving %s", requests[requestIndex].requestStr())));
+                    return;
+                }
+                localProducer.complete(true);
+            }
+        }
+    }
 }
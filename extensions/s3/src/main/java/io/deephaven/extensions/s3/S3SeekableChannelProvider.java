@@ -15,6 +15,7 @@ import io.deephaven.util.channel.CompletableOutputStream;
 import io.deephaven.util.channel.SeekableChannelContext;
 import io.deephaven.util.channel.SeekableChannelsProvider;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Uri;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
@@ -66,6 +67,12 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
      */
     private final S3RequestCache sharedCache;
 
+    /**
+     * The persistent cache for fragments, or {@code null} if {@link S3Instructions#diskCacheDirectory()} is not set.
+     */
+    @Nullable
+    private final S3DiskCache diskCache;
+
     @SuppressWarnings("rawtypes")
     private static final AtomicReferenceFieldUpdater<S3SeekableChannelProvider, SoftReference> FILE_SIZE_CACHE_REF_UPDATER =
             AtomicReferenceFieldUpdater.newUpdater(S3SeekableChannelProvider.class, SoftReference.class,
@@ -77,6 +84,9 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
         this.s3AsyncClient = S3ClientFactory.getAsyncClient(Objects.requireNonNull(s3Instructions));
         this.s3Instructions = s3Instructions;
         this.sharedCache = new S3RequestCache(s3Instructions.fragmentSize());
+        this.diskCache = s3Instructions.diskCacheDirectory()
+                .map(directory -> S3DiskCache.forDirectory(directory, s3Instructions.diskCacheSize()))
+                .orElse(null);
         this.fileSizeCacheRef = new SoftReference<>(new KeyedObjectHashMap<>(FileSizeInfo.URI_MATCH_KEY));
     }
 
@@ -117,12 +127,12 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
 
     @Override
     public SeekableChannelContext makeContext() {
-        return new S3ChannelContext(this, s3AsyncClient, s3Instructions, sharedCache);
+        return new S3ChannelContext(this, s3AsyncClient, s3Instructions, sharedCache, diskCache);
     }
 
     @Override
     public SeekableChannelContext makeSingleUseContext() {
-        return new S3ChannelContext(this, s3AsyncClient, s3Instructions.singleUse(), sharedCache);
+        return new S3ChannelContext(this, s3AsyncClient, s3Instructions.singleUse(), sharedCache, diskCache);
     }
 
     @Override
@@ -242,7 +252,7 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
                                         + s3Object.key() + " and bucket " + bucketName + " inside directory "
                                         + directory, e);
                             }
-                            updateFileSizeCache(uri, s3Object.size());
+                            updateFileSizeCache(uri, s3Object.size(), s3Object.eTag());
                             return uri;
                         }).iterator();
                 // The following token is null when the last batch is fetched.
@@ -279,7 +289,33 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
         if (cachedSize != UNKNOWN_SIZE) {
             return cachedSize;
         }
-        // Fetch the size of the file using a blocking HEAD request, and store it in the cache for future use
+        return headObject(s3Uri).contentLength();
+    }
+
+    /**
+     * Fetch the ETag of the file at the given S3 URI, used to validate {@link S3DiskCache disk cached} fragments.
+     *
+     * @return The ETag, or {@code null} if the service did not provide one
+     * @throws NoSuchKeyException if the file does not exist
+     * @throws IOException if there is an error fetching the ETag
+     */
+    @Nullable
+    String fetchETag(@NotNull final S3Uri s3Uri) throws IOException {
+        final Map<URI, FileSizeInfo> fileSizeCache = fileSizeCacheRef.get();
+        if (fileSizeCache != null) {
+            final FileSizeInfo sizeInfo = fileSizeCache.get(s3Uri.uri());
+            if (sizeInfo != null && sizeInfo.eTag != null) {
+                return sizeInfo.eTag;
+            }
+        }
+        return headObject(s3Uri).eTag();
+    }
+
+    /**
+     * Fetch the metadata of the file at the given S3 URI using a blocking HEAD request, and store its size and ETag in
+     * the cache for future use.
+     */
+    private HeadObjectResponse headObject(@NotNull final S3Uri s3Uri) throws IOException {
         if (log.isDebugEnabled()) {
             log.debug().append("Head: ").append(s3Uri.toString()).endl();
         }
@@ -294,9 +330,8 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
         } catch (final InterruptedException | ExecutionException | TimeoutException | CancellationException e) {
             throw handleS3Exception(e, String.format("fetching HEAD for file %s", s3Uri), s3Instructions);
         }
-        final long fileSize = headObjectResponse.contentLength();
-        updateFileSizeCache(s3Uri.uri(), fileSize);
-        return fileSize;
+        updateFileSizeCache(s3Uri.uri(), headObjectResponse.contentLength(), headObjectResponse.eTag());
+        return headObjectResponse;
     }
 
     /**
@@ -314,19 +349,21 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
     }
 
     /**
-     * Cache the file size for the given URI.
+     * Cache the file size, and the ETag if known, for the given URI.
      */
-    private void updateFileSizeCache(@NotNull final URI uri, final long size) {
+    private void updateFileSizeCache(@NotNull final URI uri, final long size, @Nullable final String eTag) {
         if (size < 0) {
             throw new IllegalArgumentException("Invalid file size: " + size + " for URI " + uri);
         }
         final Map<URI, FileSizeInfo> fileSizeCache = getFileSizeCache();
         fileSizeCache.compute(uri, (key, existingInfo) -> {
             if (existingInfo == null) {
-                return new FileSizeInfo(uri, size);
+                return new FileSizeInfo(uri, size, eTag);
             } else if (existingInfo.size != size) {
                 throw new IllegalStateException("Existing size " + existingInfo.size + " does not match "
                         + " the new size " + size + " for key " + key);
+            } else if (existingInfo.eTag == null && eTag != null) {
+                return new FileSizeInfo(uri, size, eTag);
             }
             return existingInfo;
         });
@@ -335,10 +372,13 @@ class S3SeekableChannelProvider implements SeekableChannelsProvider {
     private static final class FileSizeInfo {
         private final URI uri;
         private final long size;
+        @Nullable
+        private final String eTag;
 
-        FileSizeInfo(@NotNull final URI uri, final long size) {
+        FileSizeInfo(@NotNull final URI uri, final long size, @Nullable final String eTag) {
             this.uri = Require.neqNull(uri, "uri");
             this.size = size;
+            this.eTag = eTag;
         }
 
         private static final KeyedObjectKey<URI, FileSizeInfo> URI_MATCH_KEY = new KeyedObjectKey.Basic<>() {
@@ -0,0 +1,132 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.extensions.s3;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class S3DiskCacheTest {
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readAfterWrite() throws InterruptedException {
+        final S3DiskCache cache = S3DiskCache.forDirectory(directory, 1 << 20);
+        final String key = S3DiskCache.key("s3://bucket/key", "\"etag\"", 0, 1024);
+        assertThat(cache.read(key, ByteBuffer.allocate(1024))).isFalse();
+
+        cache.write(key, fragment(1024, 7));
+        final ByteBuffer dest = ByteBuffer.allocate(1024);
+        awaitRead(cache, key, dest);
+        assertThat(dest.position()).isZero();
+        assertThat(dest).isEqualTo(fragment(1024, 7));
+
+        // A different ETag or range is a different fragment
+        assertThat(cache.read(S3DiskCache.key("s3://bucket/key", "\"other\"", 0, 1024), dest)).isFalse();
+        assertThat(cache.read(S3DiskCache.key("s3://bucket/key", "\"etag\"", 1024, 1024), dest)).isFalse();
+    }
+
+    @Test
+    void sharedAcrossInstances() throws InterruptedException {
+        final String key = S3DiskCache.key("s3://bucket/key", "\"etag\"", 0, 1024);
+        S3DiskCache.forDirectory(directory, 1 << 20).write(key, fragment(1024, 3));
+        final ByteBuffer dest = ByteBuffer.allocate(1024);
+        // Equivalent paths share a cache instance, and the files are visible to any other instance
+        awaitRead(S3DiskCache.forDirectory(directory.resolve("..").resolve(directory.getFileName()), 1 << 20),
+                key, dest);
+        assertThat(dest).isEqualTo(fragment(1024, 3));
+    }
+
+    @Test
+    void corruptFileIsDiscarded() throws IOException, InterruptedException {
+        final S3DiskCache cache = S3DiskCache.forDirectory(directory, 1 << 20);
+        final String key = S3DiskCache.key("s3://bucket/key", "\"etag\"", 0, 1024);
+        cache.write(key, fragment(1024, 5));
+        awaitRead(cache, key, ByteBuffer.allocate(1024));
+
+        final Path file = cachedFiles(directory).get(0);
+        final byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(file, bytes);
+        assertThat(cache.read(key, ByteBuffer.allocate(1024))).isFalse();
+        assertThat(Files.exists(file)).isFalse();
+    }
+
+    @Test
+    void truncatedFileIsDiscarded() throws IOException, InterruptedException {
+        final S3DiskCache cache = S3DiskCache.forDirectory(directory, 1 << 20);
+        final String key = S3DiskCache.key("s3://bucket/key", "\"etag\"", 0, 1024);
+        cache.write(key, fragment(1024, 5));
+        awaitRead(cache, key, ByteBuffer.allocate(1024));
+
+        final Path file = cachedFiles(directory).get(0);
+        final byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 100));
+        assertThat(cache.read(key, ByteBuffer.allocate(1024))).isFalse();
+        assertThat(Files.exists(file)).isFalse();
+    }
+
+    @Test
+    void evictsToMaxSize() throws IOException, InterruptedException {
+        final int fragmentSize = 1024;
+        final long maxSize = 4 * fragmentSize;
+        final Path cacheDirectory = directory.resolve("cache");
+        final S3DiskCache cache = S3DiskCache.forDirectory(cacheDirectory, maxSize);
+        for (int ii = 0; ii < 16; ++ii) {
+            final String key = S3DiskCache.key("s3://bucket/key", "\"etag\"", (long) ii * fragmentSize, fragmentSize);
+            cache.write(key, fragment(fragmentSize, ii));
+        }
+        // Writes and evictions happen in order on a single thread, so once a later write to another cache is visible,
+        // all of the writes above have been made and evicted
+        final S3DiskCache flushCache = S3DiskCache.forDirectory(directory.resolve("flush"), 1 << 20);
+        final String flushKey = S3DiskCache.key("s3://bucket/flush", "\"etag\"", 0, fragmentSize);
+        flushCache.write(flushKey, fragment(fragmentSize, 0));
+        awaitRead(flushCache, flushKey, ByteBuffer.allocate(fragmentSize));
+
+        final List<Path> files = cachedFiles(cacheDirectory);
+        assertThat(files).isNotEmpty();
+        long totalSize = 0;
+        for (final Path file : files) {
+            totalSize += Files.size(file);
+        }
+        assertThat(totalSize).isLessThanOrEqualTo(maxSize);
+    }
+
+    private static List<Path> cachedFiles(final Path directory) throws IOException {
+        try (final Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+    }
+
+    private static void awaitRead(final S3DiskCache cache, final String key, final ByteBuffer dest)
+            throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!cache.read(key, dest)) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static ByteBuffer fragment(final int length, final int seed) {
+        final ByteBuffer buffer = ByteBuffer.allocate(length);
+        for (int ii = 0; ii < length; ++ii) {
+            buffer.put(ii, (byte) (ii * 31 + seed));
+        }
+        return buffer;
+    }
+}
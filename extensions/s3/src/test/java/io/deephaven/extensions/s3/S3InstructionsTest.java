@@ -23,6 +23,8 @@ class S3InstructionsTest {
         assertThat(instructions.regionName().isEmpty()).isTrue();
         assertThat(instructions.maxConcurrentRequests()).isEqualTo(256);
         assertThat(instructions.readAheadCount()).isEqualTo(32);
+        assertThat(instructions.adaptiveReadAhead()).isFalse();
+        assertThat(instructions.maxCoalescedFragments()).isEqualTo(1);
         assertThat(instructions.fragmentSize()).isEqualTo(65536);
         assertThat(instructions.connectionTimeout()).isEqualTo(Duration.ofSeconds(2));
         assertThat(instructions.readTimeout()).isEqualTo(Duration.ofSeconds(2));
@@ -34,6 +36,8 @@ class S3InstructionsTest {
         assertThat(instructions.configFilePath()).isEmpty();
         assertThat(instructions.credentialsFilePath()).isEmpty();
         assertThat(instructions.aggregatedProfileFile()).isEmpty();
+        assertThat(instructions.diskCacheDirectory()).isEmpty();
+        assertThat(instructions.diskCacheSize()).isEqualTo(10L << 30);
     }
 
     @Test
@@ -105,6 +109,63 @@ class S3InstructionsTest {
         }
     }
 
+    @Test
+    void testSetAdaptiveReadAhead() {
+        assertThat(S3Instructions.builder()
+                .regionName("some-region")
+                .adaptiveReadAhead(true)
+                .build()
+                .adaptiveReadAhead())
+                .isTrue();
+    }
+
+    @Test
+    void testSetMaxCoalescedFragments() {
+        assertThat(S3Instructions.builder()
+                .regionName("some-region")
+                .maxCoalescedFragments(16)
+                .build()
+                .maxCoalescedFragments())
+                .isEqualTo(16);
+    }
+
+    @Test
+    void tooSmallMaxCoalescedFragments() {
+        try {
+            S3Instructions.builder()
+                    .regionName("some-region")
+                    .maxCoalescedFragments(0)
+                    .build();
+            failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+        } catch (IllegalArgumentException e) {
+            assertThat(e).hasMessageContaining("maxCoalescedFragments");
+        }
+    }
+
+    @Test
+    void testSetDiskCache() {
+        final S3Instructions instructions = S3Instructions.builder()
+                .regionName("some-region")
+                .diskCacheDirectory("/tmp/fragments")
+                .diskCacheSize(1 << 20)
+                .build();
+        assertThat(instructions.diskCacheDirectory()).isEqualTo(Optional.of(Path.of("/tmp/fragments")));
+        assertThat(instructions.diskCacheSize()).isEqualTo(1 << 20);
+    }
+
+    @Test
+    void tooSmallDiskCacheSize() {
+        try {
+            S3Instructions.builder()
+                    .regionName("some-region")
+                    .diskCacheSize(0)
+                    .build();
+            failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+        } catch (IllegalArgumentException e) {
+            assertThat(e).hasMessageContaining("diskCacheSize");
+        }
+    }
+
     @Test
     void minFragmentSize() {
         assertThat(S3Instructions.builder()
@@ -12,6 +12,7 @@ import junit.framework.TestCase;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import java.io.IOException;
 import java.io.InputStream;
@@ -20,11 +21,15 @@ import java.net.URISyntaxException;
 import java.nio.ByteBuffer;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Random;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 abstract class S3SeekableChannelSimpleTestBase extends S3SeekableChannelTestSetup {
 
@@ -91,6 +96,145 @@ abstract class S3SeekableChannelSimpleTestBase extends S3SeekableChannelTestSetu
         }
     }
 
+    @Test
+    void readCoalescedAdaptive() throws IOException, ExecutionException, InterruptedException, TimeoutException {
+        final int numBytes = 4 << 20;
+        final byte[] contents = new byte[numBytes];
+        for (int ii = 0; ii < numBytes; ++ii) {
+            contents[ii] = (byte) (ii % 251);
+        }
+        putObject("4MiB.bin", AsyncRequestBody.fromBytes(contents));
+        final URI uri = uri("4MiB.bin");
+        final S3Instructions instructions = s3Instructions(S3Instructions.builder())
+                .fragmentSize(8 << 10)
+                .readAheadCount(16)
+                .adaptiveReadAhead(true)
+                .maxCoalescedFragments(4)
+                .build();
+        try (
+                final SeekableChannelsProvider providerImpl = providerImpl(instructions);
+                final SeekableChannelsProvider provider = CachedChannelProvider.create(providerImpl, 32);
+                final SeekableChannelContext context = provider.makeContext();
+                final SeekableByteChannel readChannel = provider.getReadChannel(context, uri)) {
+            // Sequential reads, which grow the read-ahead window
+            final ByteBuffer buffer = ByteBuffer.allocate(5000);
+            for (int position = 0; position < numBytes; position += buffer.capacity()) {
+                buffer.clear();
+                if (position + buffer.capacity() > numBytes) {
+                    buffer.limit(numBytes - position);
+                }
+                fillBuffer(readChannel, buffer);
+                for (int ii = 0; ii < buffer.limit(); ++ii) {
+                    assertThat(buffer.get(ii)).isEqualTo(contents[position + ii]);
+                }
+            }
+            assertThat(readChannel.read(ByteBuffer.allocate(1))).isEqualTo(-1);
+
+            // Random reads, which reset the read-ahead window
+            final Random random = new Random(0);
+            for (int ii = 0; ii < 100; ++ii) {
+                final int position = random.nextInt(numBytes - buffer.capacity());
+                readChannel.position(position);
+                buffer.clear();
+                fillBuffer(readChannel, buffer);
+                for (int jj = 0; jj < buffer.limit(); ++jj) {
+                    assertThat(buffer.get(jj)).isEqualTo(contents[position + jj]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void readThroughDiskCache(@TempDir final Path cacheDirectory)
+            throws IOException, ExecutionException, InterruptedException, TimeoutException {
+        final int numBytes = 1 << 20;
+        final int fragmentSize = 8 << 10;
+        final byte[] contents = new byte[numBytes];
+        for (int ii = 0; ii < numBytes; ++ii) {
+            contents[ii] = (byte) (ii % 251);
+        }
+        putObject("1MiB.bin", AsyncRequestBody.fromBytes(contents));
+        final URI uri = uri("1MiB.bin");
+        final S3Instructions instructions = s3Instructions(S3Instructions.builder())
+                .fragmentSize(fragmentSize)
+                .diskCacheDirectory(cacheDirectory)
+                .build();
+        assertThat(readAll(instructions, uri, numBytes)).isEqualTo(contents);
+
+        // Fragments are written to disk in the background
+        final long deadline = System.currentTimeMillis() + 10_000;
+        while (numCachedFiles(cacheDirectory) < numBytes / fragmentSize) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+        // A new provider, like one in a restarted process, reads the fragments from disk
+        assertThat(readAll(instructions, uri, numBytes)).isEqualTo(contents);
+
+        // Replacing the object changes its ETag, so stale fragments are not used
+        for (int ii = 0; ii < numBytes; ++ii) {
+            contents[ii] = (byte) (ii % 241);
+        }
+        putObject("1MiB.bin", AsyncRequestBody.fromBytes(contents));
+        assertThat(readAll(instructions, uri, numBytes)).isEqualTo(contents);
+    }
+
+    @Test
+    void diskCacheRejectsOverwrittenObject(@TempDir final Path cacheDirectory)
+            throws IOException, ExecutionException, InterruptedException, TimeoutException {
+        final int numBytes = 1 << 20;
+        final int fragmentSize = 8 << 10;
+        final byte[] contents = new byte[numBytes];
+        for (int ii = 0; ii < numBytes; ++ii) {
+            contents[ii] = (byte) (ii % 251);
+        }
+        putObject("1MiB.bin", AsyncRequestBody.fromBytes(contents));
+        final URI uri = uri("1MiB.bin");
+        final S3Instructions instructions = s3Instructions(S3Instructions.builder())
+                .fragmentSize(fragmentSize)
+                .readAheadCount(0)
+                .diskCacheDirectory(cacheDirectory)
+                .build();
+        try (
+                final SeekableChannelsProvider provider = providerImpl(instructions);
+                final SeekableChannelContext context = provider.makeContext();
+                final SeekableByteChannel readChannel = provider.getReadChannel(context, uri)) {
+            // The first read fetches the ETag that fragments are cached under
+            final ByteBuffer buffer = ByteBuffer.allocate(fragmentSize);
+            fillBuffer(readChannel, buffer);
+
+            // Overwrite the object, so that fragments fetched for the old ETag would hold the new bytes
+            final byte[] newContents = new byte[numBytes];
+            for (int ii = 0; ii < numBytes; ++ii) {
+                newContents[ii] = (byte) (ii % 241);
+            }
+            putObject("1MiB.bin", AsyncRequestBody.fromBytes(newContents));
+
+            readChannel.position(numBytes / 2);
+            buffer.clear();
+            assertThatThrownBy(() -> fillBuffer(readChannel, buffer)).isInstanceOf(IOException.class);
+        }
+        // Only the fragment read before the object was overwritten may be cached
+        assertThat(numCachedFiles(cacheDirectory)).isLessThanOrEqualTo(1);
+    }
+
+    private byte[] readAll(final S3Instructions instructions, final URI uri, final int numBytes) throws IOException {
+        try (
+                final SeekableChannelsProvider provider = providerImpl(instructions);
+                final SeekableChannelContext context = provider.makeContext();
+                final SeekableByteChannel readChannel = provider.getReadChannel(context, uri)) {
+            final ByteBuffer buffer = ByteBuffer.allocate(numBytes);
+            fillBuffer(readChannel, buffer);
+            assertThat(readChannel.read(ByteBuffer.allocate(1))).isEqualTo(-1);
+            return buffer.array();
+        }
+    }
+
+    private static long numCachedFiles(final Path directory) throws IOException {
+        try (final Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(path -> Files.isRegularFile(path) && !path.toString().endsWith(".tmp")).count();
+        }
+    }
+
     @Test
     void readWriteTest() throws IOException {
         final URI uri = uri("writeReadTest.txt");
@@ -73,8 +73,11 @@ public abstract class S3SeekableChannelTestSetup {
     }
 
     protected final SeekableChannelsProvider providerImpl() {
+        return providerImpl(s3Instructions(S3Instructions.builder()).build());
+    }
+
+    protected final SeekableChannelsProvider providerImpl(final S3Instructions instructions) {
         final SeekableChannelsProviderPlugin plugin = new UniversalS3SeekableChannelProviderPlugin();
-        final S3Instructions instructions = s3Instructions(S3Instructions.builder()).build();
         return plugin.createProvider(SCHEME, instructions);
     }
 
@@ -0,0 +1,176 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.extensions.trackedfile;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache of read-only memory mappings for local files, used to serve
+ * {@link TrackedSeekableChannelsProvider#readOnlyView read-only views} without copying file data onto the heap.
+ *
+ * <p>
+ * Each file is mapped lazily in regions of {@code 1 << LOG_REGION_SIZE} bytes, so that files larger than the maximum
+ * {@link MappedByteBuffer} size can be mapped. Requests that cross a region boundary are declined, and the caller falls
+ * back to reading through a channel. Mappings do not hold file handles open, and are only referenced softly; they are
+ * unmapped when the garbage collector reclaims them.
+ *
+ * <p>
+ * Each mapping records the identity of the file it maps: its {@link BasicFileAttributes#fileKey() file key}, last
+ * modified time, and size. Lookups check the identity of the file currently at the path at most once per validation
+ * interval, or when a view extends past the mapped size, so that most views cost no system calls. A mapping whose
+ * identity no longer matches, because the file was replaced, for example by writing a new file and renaming it over
+ * the old one, or modified, is dropped and the current file mapped instead. A replaced file may therefore be served
+ * from the old mapping for up to one validation interval. Files are still assumed not to be truncated in place while a
+ * view of them is in use.
+ */
+final class MappedFileCache {
+
+    private static final int LOG_REGION_SIZE = 30;
+    private static final long REGION_SIZE = 1L << LOG_REGION_SIZE;
+
+    private final Map<URI, SoftReference<MappedFile>> files = new ConcurrentHashMap<>();
+
+    private final long validationIntervalNanos;
+
+    /**
+     * @param validationIntervalMillis How long a mapping may be used after its file's identity was last checked,
+     *        before it must be checked again; {@code 0} checks on every view
+     */
+    MappedFileCache(final long validationIntervalMillis) {
+        validationIntervalNanos = TimeUnit.MILLISECONDS.toNanos(validationIntervalMillis);
+    }
+
+    /**
+     * Get a read-only view of {@code length} bytes of {@code uri} starting at {@code offset}.
+     *
+     * @return The view, or {@code null} if the requested range crosses a region boundary or the end of the file, or the
+     *         file was replaced while it was being mapped
+     */
+    @Nullable
+    ByteBuffer view(@NotNull final URI uri, final long offset, final int length) throws IOException {
+        final int regionIndex = (int) (offset >>> LOG_REGION_SIZE);
+        final long regionStart = (long) regionIndex << LOG_REGION_SIZE;
+        if (offset + length > regionStart + REGION_SIZE) {
+            return null;
+        }
+        final MappedFile file = getFile(uri, offset + length);
+        if (file == null) {
+            return null;
+        }
+        final MappedByteBuffer region = file.region(regionIndex);
+        if (region == null) {
+            files.remove(uri);
+            return null;
+        }
+        final ByteBuffer view = region.duplicate();
+        view.position((int) (offset - regionStart)).limit((int) (offset - regionStart) + length);
+        return view.slice();
+    }
+
+    /**
+     * Get the mapping of the file at {@code uri}, replacing any mapping of a different file previously at that path.
+     * The identity of the file is only checked if the mapping was last validated more than the validation interval
+     * ago, or if {@code end} is past the mapped size.
+     *
+     * @param end The end of the range to be viewed
+     * @return The mapping, or {@code null} if {@code end} is past the end of the file
+     */
+    @Nullable
+    private MappedFile getFile(@NotNull final URI uri, final long end) throws IOException {
+        final SoftReference<MappedFile> existingRef = files.get(uri);
+        final MappedFile existing = existingRef == null ? null : existingRef.get();
+        final long nowNanos = System.nanoTime();
+        if (existing != null && end <= existing.size && nowNanos - existing.validatedNanos < validationIntervalNanos) {
+            return existing;
+        }
+        final Path path = Path.of(uri);
+        final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        if (end > attributes.size()) {
+            return null;
+        }
+        if (existing != null && existing.isSameFile(attributes)) {
+            existing.validatedNanos = nowNanos;
+            return existing;
+        }
+        final MappedFile file = new MappedFile(path, attributes, nowNanos);
+        files.put(uri, new SoftReference<>(file));
+        return file;
+    }
+
+    private static final class MappedFile {
+
+        private final Path path;
+        @Nullable
+        private final Object fileKey;
+        private final FileTime lastModifiedTime;
+        private final long size;
+        private final MappedByteBuffer[] regions;
+
+        /**
+         * The {@link System#nanoTime()} at which the identity of the file at {@link #path} was last checked.
+         */
+        private volatile long validatedNanos;
+
+        private MappedFile(
+                @NotNull final Path path,
+                @NotNull final BasicFileAttributes attributes,
+                final long validatedNanos) {
+            this.path = path;
+            fileKey = attributes.fileKey();
+            lastModifiedTime = attributes.lastModifiedTime();
+            size = attributes.size();
+            regions = new MappedByteBuffer[(int) ((size + REGION_SIZE - 1) >>> LOG_REGION_SIZE)];
+            this.validatedNanos = validatedNanos;
+        }
+
+        /**
+         * @param attributes The attributes of the file currently at {@link #path}
+         * @return Whether this mapping is of the file described by {@code attributes}
+         */
+        private boolean isSameFile(@NotNull final BasicFileAttributes attributes) {
+            return Objects.equals(fileKey, attributes.fileKey())
+                    && lastModifiedTime.equals(attributes.lastModifiedTime())
+                    && size == attributes.size();
+        }
+
+        /**
+         * @return The mapped region, or {@code null} if the file at {@link #path} is no longer the file this mapping
+         *         describes
+         */
+        @Nullable
+        private synchronized MappedByteBuffer region(final int regionIndex) throws IOException {
+            MappedByteBuffer region = regions[regionIndex];
+            if (region == null) {
+                final long regionStart = (long) regionIndex << LOG_REGION_SIZE;
+                try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                    region = channel.map(FileChannel.MapMode.READ_ONLY, regionStart,
+                            Math.min(REGION_SIZE, size - regionStart));
+                }
+                // Regions are mapped lazily, so make sure the file we just mapped is the one the earlier regions map
+                if (!isSameFile(Files.readAttributes(path, BasicFileAttributes.class))) {
+                    return null;
+                }
+                regions[regionIndex] = region;
+            }
+            return region;
+        }
+    }
+}
@@ -5,6 +5,7 @@ package io.deephaven.extensions.trackedfile;
 
 import io.deephaven.base.FileUtils;
 import io.deephaven.base.verify.Assert;
+import io.deephaven.configuration.Configuration;
 import io.deephaven.engine.util.file.FileHandle;
 import io.deephaven.engine.util.file.FileHandleFactory;
 import io.deephaven.engine.util.file.TrackedFileHandleFactory;
@@ -22,6 +23,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -32,11 +34,27 @@ import static io.deephaven.base.FileUtils.FILE_URI_SCHEME;
 
 /**
  * {@link SeekableChannelsProvider} implementation that is constrained by a Deephaven {@link TrackedFileHandleFactory}.
+ *
+ * <p>
+ * When {@code TrackedSeekableChannelsProvider.memoryMapped} is {@code true}, {@link #readOnlyView read-only views} are
+ * served from memory-mapped files, which do not count against the tracked file handle limit. Mappings are checked
+ * against the file at their path at most once every
+ * {@code TrackedSeekableChannelsProvider.mappedFileValidationIntervalMillis} milliseconds.
  */
 final class TrackedSeekableChannelsProvider implements SeekableChannelsProvider {
 
     private static final int MAX_READ_BUFFER_SIZE = 1 << 16; // 64 KiB
 
+    private static final boolean MEMORY_MAPPED =
+            Configuration.getInstance().getBooleanWithDefault("TrackedSeekableChannelsProvider.memoryMapped", false);
+
+    private static final long MAPPED_FILE_VALIDATION_INTERVAL_MILLIS = Configuration.getInstance()
+            .getLongWithDefault("TrackedSeekableChannelsProvider.mappedFileValidationIntervalMillis", 1000);
+
+    @Nullable
+    private static final MappedFileCache MAPPED_FILES =
+            MEMORY_MAPPED ? new MappedFileCache(MAPPED_FILE_VALIDATION_INTERVAL_MILLIS) : null;
+
     private final TrackedFileHandleFactory fileHandleFactory;
 
     TrackedSeekableChannelsProvider(@NotNull final TrackedFileHandleFactory fileHandleFactory) {
@@ -73,6 +91,17 @@ final class TrackedSeekableChannelsProvider implements SeekableChannelsProvider
         return new BufferedInputStream(Channels.newInputStreamNoClose(channel), bufferSize);
     }
 
+    @Override
+    @Nullable
+    public ByteBuffer readOnlyView(@NotNull final SeekableChannelContext channelContext, @NotNull final URI uri,
+            final long offset, final int length) throws IOException {
+        if (MAPPED_FILES == null) {
+            return null;
+        }
+        Assert.assertion(FILE_URI_SCHEME.equals(uri.getScheme()), "Expected a file uri, got " + uri);
+        return MAPPED_FILES.view(uri, offset, length);
+    }
+
     @Override
     public CompletableOutputStream getOutputStream(@NotNull final URI uri, int bufferSizeHint) throws IOException {
         return new LocalCompletableOutputStream(new File(uri), this, bufferSizeHint);
@@ -7,6 +7,7 @@ import io.deephaven.api.ColumnName;
 import io.deephaven.api.SortColumn;
 import io.deephaven.api.agg.spec.AggSpec;
 import io.deephaven.api.agg.spec.AggSpecAbsSum;
+import io.deephaven.api.agg.spec.AggSpecApproximateCountDistinct;
 import io.deephaven.api.agg.spec.AggSpecApproximatePercentile;
 import io.deephaven.api.agg.spec.AggSpecAvg;
 import io.deephaven.api.agg.spec.AggSpecCountDistinct;
@@ -120,6 +121,12 @@ public class AggAllBySessionTest extends TableSpecTestBase {
             out.add(AggSpecAbsSum.of());
         }
 
+        @Override
+        public void visit(AggSpecApproximateCountDistinct approxCountDistinct) {
+            out.add(AggSpecApproximateCountDistinct.of());
+            out.add(AggSpecApproximateCountDistinct.of(8));
+        }
+
         @Override
         public void visit(AggSpecApproximatePercentile approxPct) {
             out.add(AggSpecApproximatePercentile.of(0.25));
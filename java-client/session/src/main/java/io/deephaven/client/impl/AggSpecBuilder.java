@@ -9,6 +9,7 @@ import io.deephaven.api.object.UnionObject;
 import io.deephaven.api.object.UnionObject.Visitor;
 import io.deephaven.proto.backplane.grpc.AggSpec;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecAbsSum;
+import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecApproximateCountDistinct;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecApproximatePercentile;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecAvg;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecCountDistinct;
@@ -60,6 +61,13 @@ class AggSpecBuilder implements io.deephaven.api.agg.spec.AggSpec.Visitor {
         out = spec(Builder::setAbsSum, AggSpecAbsSum.newBuilder());
     }
 
+    @Override
+    public void visit(io.deephaven.api.agg.spec.AggSpecApproximateCountDistinct approxCountDistinct) {
+        final AggSpecApproximateCountDistinct.Builder builder = AggSpecApproximateCountDistinct.newBuilder();
+        approxCountDistinct.precision().ifPresent(builder::setPrecision);
+        out = spec(Builder::setApproximateCountDistinct, builder);
+    }
+
     @Override
     public void visit(io.deephaven.api.agg.spec.AggSpecApproximatePercentile approxPct) {
         final AggSpecApproximatePercentile.Builder builder = AggSpecApproximatePercentile.newBuilder()
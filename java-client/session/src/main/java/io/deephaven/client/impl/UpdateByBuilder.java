@@ -349,6 +349,19 @@ class UpdateByBuilder {
                     .setRollingFormula(builder.build())
                     .build();
         }
+
+        @Override
+        public UpdateByColumn.UpdateBySpec visit(RollingPercentileSpec rs) {
+            final UpdateByRollingPercentile.Builder builder =
+                    UpdateByRollingPercentile.newBuilder()
+                            .setReverseWindowScale(adapt(rs.revWindowScale()))
+                            .setForwardWindowScale(adapt(rs.fwdWindowScale()))
+                            .setPercentile(rs.percentile())
+                            .setAverageEvenlyDivided(rs.averageEvenlyDivided());
+            return UpdateByColumn.UpdateBySpec.newBuilder()
+                    .setRollingPercentile(builder.build())
+                    .build();
+        }
     }
 
     static UpdateByColumn.UpdateBySpec adapt(UpdateBySpec spec) {
@@ -136,7 +136,11 @@ class S3Instructions(JObjectWrapper):
                  num_concurrent_write_parts: Optional[int] = None,
                  profile_name: Optional[str] = None,
                  config_file_path: Optional[str] = None,
-                 credentials_file_path: Optional[str] = None):
+                 credentials_file_path: Optional[str] = None,
+                 adaptive_read_ahead: Optional[bool] = None,
+                 max_coalesced_fragments: Optional[int] = None,
+                 disk_cache_directory: Optional[str] = None,
+                 disk_cache_size: Optional[int] = None):
 
         """
         Initializes the instructions.
@@ -209,6 +213,21 @@ class S3Instructions(JObjectWrapper):
                 The main difference between config_file_path and credentials_file_path is around the conventions used
                 in the files. For reference on the credentials file format, check
                 https://docs.aws.amazon.com/cli/latest/userguide/cli-configure-files.html
+            adaptive_read_ahead (bool): whether to adapt the number of fragments read ahead to the access pattern,
+                defaults to False. If True, a read that does not continue from the previous read only reads ahead a
+                single fragment, and the number of fragments read ahead doubles with each subsequent sequential read, up
+                to read_ahead_count.
+            max_coalesced_fragments (int): the maximum number of adjacent fragments to fetch with a single request,
+                defaults to 1. When greater than one, runs of adjacent fragments that are not already cached or
+                requested are fetched with a single ranged GET request, which reduces per-request overhead when reading
+                ahead many small fragments.
+            disk_cache_directory (str): the directory for a persistent, on-disk cache of fetched fragments. If provided,
+                fragments are cached in files under this directory, keyed by the object URI, its ETag, and the
+                fragment's byte range, and are read from there instead of S3 when present. The cache survives restarts
+                and may be shared by multiple processes on the same host. If not provided, fragments are only cached in
+                memory.
+            disk_cache_size (int): the maximum total size in bytes of the on-disk fragment cache, defaults to 10 GiB.
+                The least recently used fragments are evicted when the cache grows past this size.
 
         Raises:
             DHError: If unable to build the instructions object.
@@ -233,6 +252,18 @@ class S3Instructions(JObjectWrapper):
             if fragment_size is not None:
                 builder.fragmentSize(fragment_size)
 
+            if adaptive_read_ahead is not None:
+                builder.adaptiveReadAhead(adaptive_read_ahead)
+
+            if max_coalesced_fragments is not None:
+                builder.maxCoalescedFragments(max_coalesced_fragments)
+
+            if disk_cache_directory is not None:
+                builder.diskCacheDirectory(disk_cache_directory)
+
+            if disk_cache_size is not None:
+                builder.diskCacheSize(disk_cache_size)
+
             if connection_timeout is not None:
                 builder.connectionTimeout(to_j_duration(connection_timeout))
 
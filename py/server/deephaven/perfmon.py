@@ -146,6 +146,23 @@ def update_performance_log() -> Table:
         raise DHError(e, "failed to obtain the update performance log table.") from e
 
 
+def update_cycle_trace_log() -> Table:
+    """ Returns a table with the enqueue, satisfaction, start and end times of each notification on traced update
+    graph cycles, along with the notification that enqueued it. Tracing is disabled by default, and is enabled with the
+    UpdateGraph.cycleTracing configuration property.
+
+    Returns
+        a Table
+
+    Raises:
+        DHError
+    """
+    try:
+        return Table(j_table=_JTableLoggers.updateCycleTraceLog())
+    except Exception as e:
+        raise DHError(e, "failed to obtain the update cycle trace log table.") from e
+
+
 def metrics_reset_counters() -> None:
     """ Resets Deephaven performance counter metrics. """
     _JMetricsManager.resetCounters()
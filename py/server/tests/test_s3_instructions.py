@@ -48,6 +48,20 @@ class S3InstructionTest(BaseTestCase):
         s3_instructions = s3.S3Instructions(read_ahead_count=64)
         self.assertEqual(s3_instructions.j_object.readAheadCount(), 64)
 
+    def test_set_adaptive_read_ahead(self):
+        s3_instructions = s3.S3Instructions(adaptive_read_ahead=True)
+        self.assertTrue(s3_instructions.j_object.adaptiveReadAhead())
+
+    def test_set_max_coalesced_fragments(self):
+        s3_instructions = s3.S3Instructions(max_coalesced_fragments=8)
+        self.assertEqual(s3_instructions.j_object.maxCoalescedFragments(), 8)
+
+    def test_set_disk_cache(self):
+        with tempfile.TemporaryDirectory() as temp_dir:
+            s3_instructions = s3.S3Instructions(disk_cache_directory=temp_dir, disk_cache_size=1048576)
+            self.assertEqual(s3_instructions.j_object.diskCacheDirectory().get().toString(), temp_dir)
+            self.assertEqual(s3_instructions.j_object.diskCacheSize(), 1048576)
+
     def test_set_fragment_size(self):
         s3_instructions = s3.S3Instructions(fragment_size=131072)
         self.assertEqual(s3_instructions.j_object.fragmentSize(), 131072)
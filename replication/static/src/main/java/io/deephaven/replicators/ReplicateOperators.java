@@ -10,6 +10,7 @@ import org.apache.commons.io.FileUtils;
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -45,6 +46,7 @@ public class ReplicateOperators {
                 "engine/table/src/main/java/io/deephaven/engine/table/impl/util/cast/CharToBigDecimalCast.java");
         replicateObjectAddOnlyMinMax();
         fixupLongAddOnlyMinMax();
+        fixupVectorizedKernels();
         charToAllButBoolean(TASK,
                 "engine/table/src/main/java/io/deephaven/engine/table/impl/by/CharAddOnlySortedFirstOrLastChunkedOperator.java");
         charToAllButBoolean(TASK,
@@ -99,6 +101,46 @@ public class ReplicateOperators {
         FileUtils.writeLines(longAddOnlyMinMaxFile, lines);
     }
 
+    private static void fixupVectorizedKernels() throws IOException {
+        final String byPath = "engine/table/src/main/java/io/deephaven/engine/table/impl/by/";
+        fixupVectorizedKernel(byPath + "SumLongChunk.java", "LONG", "sum",
+                "values, chunkStart, chunkSize, nonNullCount);");
+        fixupVectorizedKernel(byPath + "SumLongChunk.java", "LONG", "sum2",
+                "values, chunkStart, chunkSize, nonNullCount, sum2out);");
+        fixupVectorizedKernel(byPath + "SumDoubleChunk.java", "DOUBLE", "sum",
+                "values, chunkStart, chunkSize, chunkNormalCount,",
+                "        chunkNanCount, chunkInfinityCount, chunkMinusInfinityCount);");
+        fixupVectorizedKernel(byPath + "SumDoubleChunk.java", "DOUBLE", "sum2",
+                "values, chunkStart, chunkSize, chunkNormalCount,",
+                "        chunkNanCount, chunkInfinityCount, chunkMinusInfinityCount, sum2out);");
+        for (final String type : new String[] {"Long", "Double"}) {
+            final String minMaxPath = byPath + type + "ChunkedAddOnlyMinMaxOperator.java";
+            for (final String kernel : new String[] {"min", "max"}) {
+                fixupVectorizedKernel(minMaxPath, type.toUpperCase(), kernel,
+                        "values, chunkNonNull, chunkStart, chunkEnd);");
+            }
+        }
+    }
+
+    private static void fixupVectorizedKernel(
+            final String path,
+            final String kernelField,
+            final String kernel,
+            final String... callArguments) throws IOException {
+        final File file = new File(path);
+        final String kernelInstance = "VectorizedAggregationKernels." + kernelField;
+        final List<String> replacement = new ArrayList<>();
+        replacement.add("        if (" + kernelInstance + " != null) {");
+        replacement.add("            return " + kernelInstance + "." + kernel + "(" + callArguments[0]);
+        for (int ii = 1; ii < callArguments.length; ++ii) {
+            replacement.add("            " + callArguments[ii]);
+        }
+        replacement.add("        }");
+        final List<String> lines = ReplicationUtils.replaceRegion(
+                FileUtils.readLines(file, Charset.defaultCharset()), "vectorized " + kernel, replacement);
+        FileUtils.writeLines(file, lines);
+    }
+
     private static void replicateObjectAddOnlyAndBlinkSortedFirstLast() throws IOException {
         for (final String charClassJavaPath : new String[] {
                 "engine/table/src/main/java/io/deephaven/engine/table/impl/by/CharAddOnlySortedFirstOrLastChunkedOperator.java",
@@ -74,6 +74,11 @@ public class ReplicateSourcesAndChunks {
                 "engine/table/src/main/java/io/deephaven/engine/table/impl/sources/immutable/ImmutableConstantByteSource.java");
         replicateImmutableConstantObjectSource();
 
+        charToAllButBoolean(TASK,
+                "engine/table/src/main/java/io/deephaven/engine/table/impl/sources/offheap/OffHeapCharColumnSource.java");
+        fixupOffHeapByteColumnSource(
+                "engine/table/src/main/java/io/deephaven/engine/table/impl/sources/offheap/OffHeapByteColumnSource.java");
+
         charToAll(TASK, "engine/chunk/src/main/java/io/deephaven/chunk/sized/SizedCharChunk.java");
         replicateObjectSizedChunk();
 
@@ -359,6 +364,21 @@ public class ReplicateSourcesAndChunks {
         FileUtils.writeLines(resultClassJavaFile, lines);
     }
 
+    private static void fixupOffHeapByteColumnSource(String byteOffHeapSource) throws IOException {
+        final File resultClassJavaFile = new File(byteOffHeapSource);
+        List<String> lines = FileUtils.readLines(resultClassJavaFile, Charset.defaultCharset());
+        // The block and its view are the same ByteBuffer, so the replicated import is duplicated
+        lines = removeImport(lines, "import java\\.nio\\.ByteBuffer;");
+        lines = replaceRegion(lines, "nullBlock", Collections.singletonList(
+                "        final ByteBuffer nulls = NULL_BLOCK;"));
+        lines = replaceRegion(lines, "view", Arrays.asList(
+                "    @Override",
+                "    ByteBuffer view(@NotNull final ByteBuffer bytes) {",
+                "        return bytes;",
+                "    }"));
+        FileUtils.writeLines(resultClassJavaFile, lines);
+    }
+
     private static void replicateSingleValues() throws IOException {
         charToAllButBoolean(TASK,
                 "engine/table/src/main/java/io/deephaven/engine/table/impl/sources/CharacterSingleValueSource.java");
@@ -101,6 +101,9 @@ public class ReplicateUpdateBy {
             if (f.contains("Long")) {
                 augmentLongWithReinterps(f);
             }
+            if (f.contains("Float") || f.contains("Double")) {
+                fixupFloatDoubleCumMinMax(f);
+            }
         }
 
         replicateNumericOperator(
@@ -182,6 +185,9 @@ public class ReplicateUpdateBy {
             if (f.contains("Int")) {
                 fixupInteger(f);
             }
+            if (f.contains("Long")) {
+                fixupLongDelta(f);
+            }
         }
 
         files = ReplicatePrimitiveCode.charToAllButBoolean(TASK,
@@ -207,6 +213,14 @@ public class ReplicateUpdateBy {
             }
         }
 
+        files = ReplicatePrimitiveCode.charToAllButBoolean(TASK,
+                "engine/table/src/main/java/io/deephaven/engine/table/impl/updateby/rollingpercentile/CharRollingPercentileOperator.java");
+        for (final String f : files) {
+            if (f.contains("Integer")) {
+                fixupInteger(f);
+            }
+        }
+
         files = ReplicatePrimitiveCode.charToAllButBoolean(TASK,
                 "engine/table/src/main/java/io/deephaven/engine/table/impl/updateby/rollingwavg/CharRollingWAvgOperator.java");
         for (final String f : files) {
@@ -348,6 +362,8 @@ public class ReplicateUpdateBy {
                 "getBoolean", "getByte",
                 "boolean previousVal", "byte previousVal",
                 "boolean currentVal", "byte currentVal",
+                "boolean carry", "byte carry",
+                "boolean combineWithCarry", "byte combineWithCarry",
                 "BooleanChunk", "ByteChunk",
                 "val != NULL_BOOLEAN", "!BooleanUtils.isNull(val)");
         lines = replaceRegion(lines, "extra-methods",
@@ -393,6 +409,14 @@ public class ReplicateUpdateBy {
         FileUtils.writeLines(objectFile, lines);
     }
 
+    private static void fixupLongDelta(String longResult) throws IOException {
+        final File objectFile = new File(longResult);
+        List<String> lines = FileUtils.readLines(objectFile, Charset.defaultCharset());
+        // The template imports NULL_LONG as well as NULL_CHAR, which is also replaced with NULL_LONG
+        lines = removeImport(lines, "import static io.deephaven.util.QueryConstants.NULL_LONG;");
+        FileUtils.writeLines(objectFile, lines);
+    }
+
     private static void fixupInteger(String intResult) throws IOException {
         final File objectFile = new File(intResult);
         List<String> lines = FileUtils.readLines(objectFile, Charset.defaultCharset());
@@ -442,6 +466,8 @@ public class ReplicateUpdateBy {
                 "Object curVal", "T curVal",
                 "Object previousVal", "T previousVal",
                 "Object singletonVal", "T singletonVal",
+                "Object carry", "T carry",
+                "Object combineWithCarry", "T combineWithCarry",
                 "getObject", "get",
                 "getPrevObject", "getPrev");
         if (extraReplacements != null && extraReplacements.length > 0) {
@@ -504,6 +530,16 @@ public class ReplicateUpdateBy {
         FileUtils.writeLines(objectFile, lines);
     }
 
+    private static void fixupFloatDoubleCumMinMax(String floatResult) throws IOException {
+        final File objectFile = new File(floatResult);
+        List<String> lines = FileUtils.readLines(objectFile, Charset.defaultCharset());
+
+        // A NaN that begins a segment is kept, but the same NaN following another value is ignored, so the results
+        // of independently computed segments can't be combined.
+        lines = removeRegion(lines, "segmented");
+        FileUtils.writeLines(objectFile, lines);
+    }
+
     private static void fixupFloatDoubleMinMax(String intResult) throws IOException {
         final File objectFile = new File(intResult);
         List<String> lines = FileUtils.readLines(objectFile, Charset.defaultCharset());
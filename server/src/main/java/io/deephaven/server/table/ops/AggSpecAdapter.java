@@ -16,6 +16,7 @@ import io.deephaven.api.agg.spec.AggSpecWAvg;
 import io.deephaven.api.agg.spec.AggSpecWSum;
 import io.deephaven.api.object.UnionObject;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecAbsSum;
+import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecApproximateCountDistinct;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecApproximatePercentile;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecAvg;
 import io.deephaven.proto.backplane.grpc.AggSpec.AggSpecCountDistinct;
@@ -135,6 +136,13 @@ class AggSpecAdapter {
         return Singleton.INSTANCE.adapters.adapt(spec);
     }
 
+    private static io.deephaven.api.agg.spec.AggSpecApproximateCountDistinct adapt(
+            AggSpecApproximateCountDistinct approxCountDistinct) {
+        return approxCountDistinct.hasPrecision()
+                ? AggSpec.approximateCountDistinct(approxCountDistinct.getPrecision())
+                : AggSpec.approximateCountDistinct();
+    }
+
     private static io.deephaven.api.agg.spec.AggSpecApproximatePercentile adapt(
             AggSpecApproximatePercentile percentile) {
         return percentile.hasCompression()
@@ -290,6 +298,16 @@ class AggSpecAdapter {
                     AggSpec::absSum);
         }
 
+        @Override
+        public void visit(io.deephaven.api.agg.spec.AggSpecApproximateCountDistinct approxCountDistinct) {
+            add(
+                    TypeCase.APPROXIMATE_COUNT_DISTINCT,
+                    AggSpecApproximateCountDistinct.class,
+                    io.deephaven.api.agg.spec.AggSpecApproximateCountDistinct.class,
+                    GrpcErrorHelper::checkHasNoUnknownFieldsRecursive,
+                    AggSpecAdapter::adapt);
+        }
+
         @Override
         public void visit(io.deephaven.api.agg.spec.AggSpecApproximatePercentile approxPct) {
             add(
@@ -179,6 +179,8 @@ public final class UpdateByGrpcImpl extends GrpcTableOperation<UpdateByRequest>
                 return adaptRollingFormula(spec.getRollingFormula());
             case ROLLING_COUNT_WHERE:
                 return adaptRollingCountWhere(spec.getRollingCountWhere());
+            case ROLLING_PERCENTILE:
+                return adaptRollingPercentile(spec.getRollingPercentile());
 
             case TYPE_NOT_SET:
             default:
@@ -346,6 +348,14 @@ public final class UpdateByGrpcImpl extends GrpcTableOperation<UpdateByRequest>
                 countWhere.getFiltersList().toArray(String[]::new));
     }
 
+    private static RollingPercentileSpec adaptRollingPercentile(UpdateByRollingPercentile percentile) {
+        return RollingPercentileSpec.of(
+                percentile.getPercentile(),
+                percentile.getAverageEvenlyDivided(),
+                adaptWindowScale(percentile.getReverseWindowScale()),
+                adaptWindowScale(percentile.getForwardWindowScale()));
+    }
+
     private static MathContext adaptMathContext(io.deephaven.proto.backplane.grpc.MathContext bigValueContext) {
         return new MathContext(bigValueContext.getPrecision(), adaptRoundingMode(bigValueContext.getRoundingMode()));
     }
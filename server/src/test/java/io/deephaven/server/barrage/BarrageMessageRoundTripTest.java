@@ -28,6 +28,7 @@ import io.deephaven.engine.updategraph.UpdateSourceCombiner;
 import io.deephaven.engine.util.TableDiff;
 import io.deephaven.engine.util.TableTools;
 import io.deephaven.extensions.barrage.BarrageMessageWriter;
+import io.deephaven.extensions.barrage.BarrageBodyCompression;
 import io.deephaven.extensions.barrage.BarrageSubscriptionOptions;
 import io.deephaven.extensions.barrage.table.BarrageTable;
 import io.deephaven.extensions.barrage.util.BarrageMessageReaderImpl;
@@ -68,6 +69,7 @@ public class BarrageMessageRoundTripTest extends RefreshingTableTestCase {
     private Deque<Throwable> exceptions;
     private UpdateSourceCombiner updateSourceCombiner;
     private boolean useDeephavenNulls;
+    private BarrageBodyCompression bodyCompression;
 
     private TestComponent daggerRoot;
 
@@ -94,6 +96,7 @@ public class BarrageMessageRoundTripTest extends RefreshingTableTestCase {
         scheduler = new TestControlledScheduler();
         exceptions = new ArrayDeque<>();
         useDeephavenNulls = true;
+        bodyCompression = BarrageBodyCompression.NONE;
 
         daggerRoot = DaggerBarrageMessageRoundTripTest_TestComponent
                 .builder()
@@ -219,6 +222,7 @@ public class BarrageMessageRoundTripTest extends RefreshingTableTestCase {
             subscribed = true;
             final BarrageSubscriptionOptions options = BarrageSubscriptionOptions.builder()
                     .useDeephavenNulls(useDeephavenNulls)
+                    .bodyCompression(bodyCompression)
                     .build();
             barrageMessageProducer.addSubscription(dummyObserver, options, subscribedColumns,
                     viewport == null ? null : viewport.copy(), reverseViewport);
@@ -1356,6 +1360,16 @@ public class BarrageMessageRoundTripTest extends RefreshingTableTestCase {
         testAllUniqueNonJavaSerRoundTripTypes(true);
     }
 
+    public void testAllUniqueNonJavaSerRoundTripTypesWithLz4FrameBodyCompression() {
+        bodyCompression = BarrageBodyCompression.LZ4_FRAME;
+        testAllUniqueNonJavaSerRoundTripTypes(false);
+    }
+
+    public void testAllUniqueNonJavaSerRoundTripTypesWithZstdBodyCompression() {
+        bodyCompression = BarrageBodyCompression.ZSTD;
+        testAllUniqueNonJavaSerRoundTripTypes(true);
+    }
+
     private void testAllUniqueNonJavaSerRoundTripTypes(final boolean useDeephavenNulls) {
         this.useDeephavenNulls = useDeephavenNulls;
 
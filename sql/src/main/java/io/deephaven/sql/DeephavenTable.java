@@ -5,19 +5,57 @@ package io.deephaven.sql;
 
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeFactory;
+import org.apache.calcite.schema.Statistic;
 import org.apache.calcite.schema.impl.AbstractTable;
+import org.apache.calcite.util.ImmutableBitSet;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.OptionalLong;
 
 final class DeephavenTable extends AbstractTable {
     private final RelDataType dataType;
+    private final TableStatistics statistics;
 
-    public DeephavenTable(RelDataType dataType) {
+    public DeephavenTable(RelDataType dataType, TableStatistics statistics) {
         this.dataType = Objects.requireNonNull(dataType);
+        this.statistics = Objects.requireNonNull(statistics);
     }
 
     @Override
     public RelDataType getRowType(RelDataTypeFactory typeFactory) {
         return typeFactory.copyType(dataType);
     }
+
+    @Override
+    public Statistic getStatistic() {
+        return new StatisticAdapter();
+    }
+
+    public boolean hasRowCount() {
+        return statistics.rowCount().isPresent();
+    }
+
+    private final class StatisticAdapter implements Statistic {
+
+        @Override
+        public Double getRowCount() {
+            final OptionalLong rowCount = statistics.rowCount();
+            return rowCount.isPresent() ? (double) rowCount.getAsLong() : null;
+        }
+
+        @Override
+        public boolean isKey(ImmutableBitSet columns) {
+            if (columns.isEmpty() || statistics.isRefreshing()) {
+                return false;
+            }
+            final List<String> fieldNames = dataType.getFieldNames();
+            final List<String> columnNames = new ArrayList<>(columns.cardinality());
+            for (int column : columns) {
+                columnNames.add(fieldNames.get(column));
+            }
+            return statistics.isUnique(columnNames);
+        }
+    }
 }
@@ -9,12 +9,21 @@ import io.deephaven.api.filter.Filter;
 import io.deephaven.api.filter.FilterComparison;
 import io.deephaven.api.filter.FilterComparison.Operator;
 import io.deephaven.qst.table.JoinTable;
+import io.deephaven.qst.table.NaturalJoinTable;
 import io.deephaven.qst.table.TableSpec;
+import io.deephaven.qst.table.WhereInTable;
 import io.deephaven.qst.table.WhereTable;
+import org.apache.calcite.rel.core.JoinRelType;
 import org.apache.calcite.rel.logical.LogicalJoin;
+import org.apache.calcite.rel.type.RelDataTypeField;
+import org.apache.calcite.util.ImmutableBitSet;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 final class LogicalJoinAdapter {
     public static TableSpec indexTable(SqlRootContext rootContext, LogicalJoin join, IndexRef indexRef) {
@@ -24,9 +33,7 @@ final class LogicalJoinAdapter {
         final TableSpec right = RelNodeAdapterIndexRef.of(rootContext, join.getRight(),
                 indexRef.shifted(join.getLeft().getRowType().getFieldCount()));
 
-        final JoinTable.Builder builder = JoinTable.builder()
-                .left(left)
-                .right(right);
+        final List<JoinMatch> matches = new ArrayList<>();
 
         // general filter parsing
         // we _really_ need join-aware contextual parsing here to handle SQLTODO(input-ref-match-hack) concerns
@@ -34,6 +41,11 @@ final class LogicalJoinAdapter {
 
         final List<Filter> postFilterConditions = new ArrayList<>();
 
+        final Set<ColumnName> leftColumns = new HashSet<>();
+        for (RelDataTypeField field : join.getLeft().getRowType().getFieldList()) {
+            leftColumns.add(indexRef.output(field));
+        }
+
         // SQLTODO(pre-join-condition-expressions)
         //
         // There may be cases where the join condition is a more complex expression.
@@ -60,16 +72,65 @@ final class LogicalJoinAdapter {
             //
             // By default, calcite does not re-arrange conditions to be more "traditional". For example,
             // RHS.id = LHS.id does not seem to be re-arranged w/ LHS first. As part of our expression parsing, DH does
-            // some of this re-arranging.
-            //
-            // When we get to this stage, we are making a (potentially bad) assumption that fc.lhs() _is_ from the left
-            // table and fc.rhs() _is_ from the right table. For example, LHS.id = LHS.id2 would break this assumption.
-            builder.addMatches(JoinMatch.of((ColumnName) fc.lhs(), (ColumnName) fc.rhs()));
+            // some of this re-arranging, but join re-ordering may still swap the inputs of a condition, so we check
+            // which side each column comes from. A comparison between two columns of the same side (for example,
+            // LHS.id = LHS.id2) is not a join match.
+            final ColumnName lhs = (ColumnName) fc.lhs();
+            final ColumnName rhs = (ColumnName) fc.rhs();
+            if (leftColumns.contains(lhs) && !leftColumns.contains(rhs)) {
+                matches.add(JoinMatch.of(lhs, rhs));
+            } else if (leftColumns.contains(rhs) && !leftColumns.contains(lhs)) {
+                matches.add(JoinMatch.of(rhs, lhs));
+            } else {
+                postFilterConditions.add(filter);
+            }
+        }
+        final TableSpec joinTable;
+        if (rootContext.optimize() && isRightUnique(join, indexRef, matches)) {
+            // Each left row matches at most one right row, so the inner join is the left rows that have a match, with
+            // the right columns added. This avoids the join's cross-product state.
+            joinTable = NaturalJoinTable.builder()
+                    .left(WhereInTable.builder()
+                            .left(left)
+                            .right(right)
+                            .addAllMatches(matches)
+                            .inverted(false)
+                            .build())
+                    .right(right)
+                    .addAllMatches(matches)
+                    .build();
+        } else {
+            joinTable = JoinTable.builder()
+                    .left(left)
+                    .right(right)
+                    .addAllMatches(matches)
+                    .build();
         }
-        final JoinTable joinTable = builder.build();
         if (postFilterConditions.isEmpty()) {
             return joinTable;
         }
         return WhereTable.of(joinTable, Filter.and(postFilterConditions));
     }
+
+    private static boolean isRightUnique(LogicalJoin join, IndexRef indexRef, List<JoinMatch> matches) {
+        if (join.getJoinType() != JoinRelType.INNER || matches.isEmpty()) {
+            return false;
+        }
+        final IndexRef rightIndexRef = indexRef.shifted(join.getLeft().getRowType().getFieldCount());
+        final Map<ColumnName, Integer> rightFieldIndex = new HashMap<>();
+        for (RelDataTypeField field : join.getRight().getRowType().getFieldList()) {
+            rightFieldIndex.put(rightIndexRef.output(field), field.getIndex());
+        }
+        final ImmutableBitSet.Builder rightKeys = ImmutableBitSet.builder();
+        for (JoinMatch match : matches) {
+            final Integer index = rightFieldIndex.get(match.right());
+            if (index == null) {
+                // See SQLTODO(input-ref-match-hack)
+                return false;
+            }
+            rightKeys.set(index);
+        }
+        return Boolean.TRUE.equals(join.getCluster().getMetadataQuery().areColumnsUnique(
+                join.getRight(), rightKeys.build()));
+    }
 }
@@ -0,0 +1,70 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.sql;
+
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.plan.hep.HepMatchOrder;
+import org.apache.calcite.plan.hep.HepPlanner;
+import org.apache.calcite.plan.hep.HepProgram;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.rules.CoreRules;
+
+/**
+ * Relational optimization applied between {@link org.apache.calcite.sql2rel.SqlToRelConverter} and the
+ * {@link RelNodeAdapter RelNode adapters}. All rules produce only the logical relational expressions that the adapters
+ * support.
+ */
+final class RelNodeOptimizer {
+
+    /**
+     * Rule-based phase: push filters in the WHERE clause and single-sided join conditions below joins, so that join
+     * inputs are reduced before they are joined.
+     */
+    private static final HepProgram PUSH_DOWN_FILTERS = HepProgram.builder()
+            .addMatchOrder(HepMatchOrder.TOP_DOWN)
+            .addRuleInstance(CoreRules.FILTER_INTO_JOIN)
+            .addRuleInstance(CoreRules.JOIN_CONDITION_PUSH)
+            .addRuleInstance(CoreRules.FILTER_MERGE)
+            .build();
+
+    /**
+     * Cost-based phase: collapse trees of joins into a single multi-join, and re-order it using row count and column
+     * uniqueness metadata.
+     */
+    private static final HepProgram REORDER_JOINS = HepProgram.builder()
+            .addMatchOrder(HepMatchOrder.BOTTOM_UP)
+            .addRuleInstance(CoreRules.JOIN_TO_MULTI_JOIN)
+            .addRuleInstance(CoreRules.MULTI_JOIN_OPTIMIZE)
+            .build();
+
+    public static RelNode optimize(RelNode relNode) {
+        RelNode optimized = run(PUSH_DOWN_FILTERS, relNode);
+        if (shouldReorderJoins(optimized)) {
+            optimized = run(REORDER_JOINS, optimized);
+        }
+        return optimized;
+    }
+
+    private static RelNode run(HepProgram program, RelNode relNode) {
+        final HepPlanner planner = new HepPlanner(program);
+        planner.setRoot(relNode);
+        return planner.findBestExp();
+    }
+
+    private static boolean shouldReorderJoins(RelNode relNode) {
+        // A single join has nothing to re-order. Without row counts for every table, the cost model would fall back to
+        // a fixed default for each table; we prefer to keep the join order the user wrote in that case.
+        if (RelOptUtil.countJoins(relNode) < 2) {
+            return false;
+        }
+        for (RelOptTable table : RelOptUtil.findAllTables(relNode)) {
+            final DeephavenTable deephavenTable = table.unwrap(DeephavenTable.class);
+            if (deephavenTable == null || !deephavenTable.hasRowCount()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
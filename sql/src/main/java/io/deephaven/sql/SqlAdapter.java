@@ -42,7 +42,8 @@ public final class SqlAdapter {
     private static final Logger log = LoggerFactory.getLogger(SqlAdapter.class);
 
     /**
-     * Parses the {@code sql} query into a {@link TableSpec}.
+     * Parses the {@code sql} query into a {@link TableSpec}, without relational optimization. Equivalent to
+     * {@code parseSql(sql, scope, false)}.
      *
      * <p>
      * Note: only {@link ScopeStaticImpl} is supported right now.
@@ -54,6 +55,31 @@ public final class SqlAdapter {
     public static TableSpec parseSql(
             String sql,
             Scope scope) {
+        return parseSql(sql, scope, false);
+    }
+
+    /**
+     * Parses the {@code sql} query into a {@link TableSpec}.
+     *
+     * <p>
+     * When {@code optimize} is true, filters are pushed below joins, trees of joins are re-ordered when every table
+     * has a {@link TableStatistics#rowCount() row count}, and inner equi-joins whose right side keys are known to be
+     * unique are executed as a {@code whereIn} and {@code naturalJoin} rather than a {@code join}. Column uniqueness is
+     * taken from {@link TableStatistics#isUnique(List)}, as well as derived from the query itself (for example, the
+     * grouping columns of an aggregation).
+     *
+     * <p>
+     * Note: only {@link ScopeStaticImpl} is supported right now.
+     *
+     * @param sql the sql
+     * @param scope the scope
+     * @param optimize whether to apply relational optimization
+     * @return the table spec
+     */
+    public static TableSpec parseSql(
+            String sql,
+            Scope scope,
+            boolean optimize) {
         // 0: Configuration
         // SQLTODO(parse-sql-configuration)
         //
@@ -83,11 +109,14 @@ public final class SqlAdapter {
         }
 
         // 4: Relational optimization
-        // SQLTODO(rel-node-optimization)
-        //
-        // Use calcite for optimization. Simple optimizations are filter / predicate pushdowns (for example, any filters
-        // exclusively on the LHS or RHS of a join). More advanced optimizations may be possible by attaching statistics
-        // or hints about the underlying structure of the source data.
+        final RelNode optimizedNode = optimize ? RelNodeOptimizer.optimize(relNode) : relNode;
+        if (optimize && log.isDebugEnabled()) {
+            log.debug(RelOptUtil.dumpPlan(
+                    "[Optimized logical plan]",
+                    optimizedNode,
+                    SqlExplainFormat.TEXT,
+                    SqlExplainLevel.ALL_ATTRIBUTES));
+        }
 
         // 5. Convert into QST
         // SQLTODO(qst-convert-optimization)
@@ -97,14 +126,14 @@ public final class SqlAdapter {
         //
         // For example, if we know that all Ids in a column are unique, either because the user has hinted as much, or
         // we know the Ids are unique because they are a "last_by" construction, we may be able to use a natural_join
-        // instead of a join for an INNER JOIN conversion.
+        // instead of a join for an INNER JOIN conversion. (Done when optimizing, see LogicalJoinAdapter.)
 
         // SQLTODO(table-headers-out)
         // In addition to parsing and creating the execution plan TableSpec, it would be reasonable to create and
         // return the expected TableHeader, or even Map<TableSpec, TableHeader> for the full dag. This might aid in
         // executing TableSpec; or at least, provides a way to check if the engine output matches what SQL expects the
         // output type to be.
-        return RelNodeAdapterNamed.of(SqlRootContext.of(relNode, scope), relNode);
+        return RelNodeAdapterNamed.of(SqlRootContext.of(optimizedNode, scope, optimize), optimizedNode);
 
         // 6. QST optimization
         // SQLTODO(qst-optimization)
@@ -149,7 +178,8 @@ public final class SqlAdapter {
             if (info.qualifiedName().size() != 1) {
                 throw new UnsupportedOperationException("Only expecting qualified names with one part");
             }
-            schema.add(info.qualifiedName().get(0), new DeephavenTable(TypeAdapter.of(info.header(), typeFactory)));
+            schema.add(info.qualifiedName().get(0),
+                    new DeephavenTable(TypeAdapter.of(info.header(), typeFactory), info.statistics()));
         }
         final Properties props = new Properties();
         LexConfig.setLexProperties(props);
@@ -14,17 +14,23 @@ import java.util.Queue;
 final class SqlRootContext {
 
     public static SqlRootContext of(RelNode root, Scope scope) {
-        return new SqlRootContext(root, encounterOrder(root), scope);
+        return of(root, scope, false);
+    }
+
+    public static SqlRootContext of(RelNode root, Scope scope, boolean optimize) {
+        return new SqlRootContext(root, encounterOrder(root), scope, optimize);
     }
 
     private final RelNode root;
     private final Map<RelNode, Integer> repeatableId;
     private final Scope scope;
+    private final boolean optimize;
 
-    private SqlRootContext(RelNode root, Map<RelNode, Integer> repeatableId, Scope scope) {
+    private SqlRootContext(RelNode root, Map<RelNode, Integer> repeatableId, Scope scope, boolean optimize) {
         this.root = Objects.requireNonNull(root);
         this.repeatableId = Objects.requireNonNull(repeatableId);
         this.scope = Objects.requireNonNull(scope);
+        this.optimize = optimize;
     }
 
     public RelNode root() {
@@ -35,6 +41,16 @@ final class SqlRootContext {
         return scope;
     }
 
+    /**
+     * Whether the adapters may use relational metadata (row counts, column uniqueness) to choose more efficient
+     * operations.
+     *
+     * @return true if optimization is enabled
+     */
+    public boolean optimize() {
+        return optimize;
+    }
+
     public NamedAdapter namedAdapter() {
         return new NamedAdapter(this);
     }
@@ -16,7 +16,12 @@ import java.util.List;
 public abstract class TableInformation {
 
     public static TableInformation of(List<String> qualifiedName, TableHeader header, TableSpec spec) {
-        return ImmutableTableInformation.of(qualifiedName, header, spec);
+        return of(qualifiedName, header, spec, TableStatistics.unknown());
+    }
+
+    public static TableInformation of(List<String> qualifiedName, TableHeader header, TableSpec spec,
+            TableStatistics statistics) {
+        return ImmutableTableInformation.of(qualifiedName, header, spec, statistics);
     }
 
     @Parameter
@@ -27,4 +32,7 @@ public abstract class TableInformation {
 
     @Parameter
     public abstract TableSpec spec();
+
+    @Parameter
+    public abstract TableStatistics statistics();
 }
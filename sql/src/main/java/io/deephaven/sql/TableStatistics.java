@@ -0,0 +1,66 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.sql;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Statistics about a table that may guide the relational optimization performed by
+ * {@link SqlAdapter#parseSql(String, Scope, boolean)}.
+ */
+public interface TableStatistics {
+
+    /**
+     * The statistics for a table that nothing is known about.
+     *
+     * @return the unknown statistics
+     */
+    static TableStatistics unknown() {
+        return Unknown.INSTANCE;
+    }
+
+    /**
+     * The number of rows in the table, if known. For a refreshing table this is an estimate.
+     *
+     * @return the row count
+     */
+    OptionalLong rowCount();
+
+    /**
+     * Whether the table is refreshing.
+     *
+     * @return true if the table is refreshing
+     */
+    boolean isRefreshing();
+
+    /**
+     * Whether the table is known to have no two rows with the same values for {@code columnNames}. Implementations
+     * should only return true for guarantees that will hold for the lifetime of the table; this is generally not
+     * possible for refreshing tables.
+     *
+     * @param columnNames the column names
+     * @return true if the columns are known to be unique
+     */
+    boolean isUnique(List<String> columnNames);
+
+    enum Unknown implements TableStatistics {
+        INSTANCE;
+
+        @Override
+        public OptionalLong rowCount() {
+            return OptionalLong.empty();
+        }
+
+        @Override
+        public boolean isRefreshing() {
+            return true;
+        }
+
+        @Override
+        public boolean isUnique(List<String> columnNames) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.sql;
+
+import io.deephaven.qst.column.header.ColumnHeader;
+import io.deephaven.qst.table.JoinBase;
+import io.deephaven.qst.table.JoinTable;
+import io.deephaven.qst.table.NaturalJoinTable;
+import io.deephaven.qst.table.ParentsVisitor;
+import io.deephaven.qst.table.TableHeader;
+import io.deephaven.qst.table.TableSpec;
+import io.deephaven.qst.table.TicketTable;
+import io.deephaven.qst.table.WhereInTable;
+import io.deephaven.qst.table.WhereTable;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SqlAdapterOptimizeTest {
+
+    private static final TableHeader AUTHORS = TableHeader.of(
+            ColumnHeader.ofInt("Id"),
+            ColumnHeader.ofString("Name"));
+
+    private static final TableHeader BOOKS = TableHeader.of(
+            ColumnHeader.ofInt("Id"),
+            ColumnHeader.ofString("Title"),
+            ColumnHeader.ofInt("AuthorId"),
+            ColumnHeader.ofInt("PublisherId"));
+
+    private static final TableHeader PUBLISHERS = TableHeader.of(
+            ColumnHeader.ofInt("PublisherId"),
+            ColumnHeader.ofString("PublisherName"));
+
+    private static final String BOOKS_AND_AUTHORS =
+            "SELECT * FROM books INNER JOIN authors ON AuthorId = authors.Id";
+
+    @Test
+    void uniqueRightKeysUseNaturalJoin() {
+        final Scope scope = ScopeStaticImpl.builder()
+                .addTables(
+                        info("books", BOOKS, new Stats(1_000_000, false)),
+                        info("authors", AUTHORS, new Stats(1_000, false, "Id")))
+                .build();
+        final TableSpec results = SqlAdapter.parseSql(BOOKS_AND_AUTHORS, scope, true);
+        assertThat(nodes(results, NaturalJoinTable.class)).hasSize(1);
+        assertThat(nodes(results, WhereInTable.class)).hasSize(1);
+        assertThat(nodes(results, JoinTable.class)).isEmpty();
+    }
+
+    @Test
+    void refreshingRightKeysUseJoin() {
+        final Scope scope = ScopeStaticImpl.builder()
+                .addTables(
+                        info("books", BOOKS, new Stats(1_000_000, true)),
+                        info("authors", AUTHORS, new Stats(1_000, true, "Id")))
+                .build();
+        final TableSpec results = SqlAdapter.parseSql(BOOKS_AND_AUTHORS, scope, true);
+        assertThat(nodes(results, NaturalJoinTable.class)).isEmpty();
+        assertThat(nodes(results, JoinTable.class)).hasSize(1);
+    }
+
+    @Test
+    void notOptimizedUsesJoin() {
+        final Scope scope = ScopeStaticImpl.builder()
+                .addTables(
+                        info("books", BOOKS, new Stats(1_000_000, false)),
+                        info("authors", AUTHORS, new Stats(1_000, false, "Id")))
+                .build();
+        final TableSpec results = SqlAdapter.parseSql(BOOKS_AND_AUTHORS, scope);
+        assertThat(nodes(results, NaturalJoinTable.class)).isEmpty();
+        assertThat(nodes(results, JoinTable.class)).hasSize(1);
+    }
+
+    @Test
+    void aggregatedRightKeysUseNaturalJoin() {
+        final Scope scope = ScopeStaticImpl.builder()
+                .addTables(info("books", BOOKS, TableStatistics.unknown()))
+                .build();
+        final TableSpec results = SqlAdapter.parseSql(
+                "SELECT * FROM books INNER JOIN (SELECT AuthorId AS A, COUNT(*) AS N FROM books GROUP BY AuthorId) c"
+                        + " ON books.AuthorId = c.A",
+                scope, true);
+        assertThat(nodes(results, NaturalJoinTable.class)).hasSize(1);
+        assertThat(nodes(results, JoinTable.class)).isEmpty();
+    }
+
+    @Test
+    void filtersPushedBelowJoin() {
+        final Scope scope = ScopeStaticImpl.builder()
+                .addTables(
+                        info("books", BOOKS, TableStatistics.unknown()),
+                        info("authors", AUTHORS, TableStatistics.unknown()))
+                .build();
+        final TableSpec results = SqlAdapter.parseSql(
+                BOOKS_AND_AUTHORS + " WHERE authors.Name = 'Ada' AND books.Id > 10", scope, true);
+        final List<JoinTable> joins = nodes(results, JoinTable.class);
+        assertThat(joins).hasSize(1);
+        assertThat(nodes(joins.get(0).left(), WhereTable.class)).hasSize(1);
+        assertThat(nodes(joins.get(0).right(), WhereTable.class)).hasSize(1);
+        // nothing is left to filter after the join
+        assertThat(nodes(results, WhereTable.class)).hasSize(2);
+    }
+
+    @Test
+    void multiWayJoinReordered() {
+        final Scope scope = ScopeStaticImpl.builder()
+                .addTables(
+                        info("books", BOOKS, new Stats(1_000_000, true)),
+                        info("authors", AUTHORS, new Stats(1_000, true)),
+                        info("publishers", PUBLISHERS, new Stats(10, true)))
+                .build();
+        // As written, authors and publishers are joined first, with no condition relating them
+        final String sql = "SELECT books.Title, authors.Name, publishers.PublisherName FROM authors, publishers, books"
+                + " WHERE books.AuthorId = authors.Id AND books.PublisherId = publishers.PublisherId";
+        final List<JoinBase> written = nodes(SqlAdapter.parseSql(sql, scope), JoinBase.class);
+        assertThat(written).hasSize(2);
+        assertThat(written).allSatisfy(join -> assertThat(join.matches()).isEmpty());
+        // Re-ordered, each table is joined on its condition with books, so there is no cross join
+        final List<JoinBase> reordered = nodes(SqlAdapter.parseSql(sql, scope, true), JoinBase.class);
+        assertThat(reordered).hasSize(2);
+        assertThat(reordered).allSatisfy(join -> assertThat(join.matches()).hasSize(1));
+    }
+
+    private static <T extends TableSpec> List<T> nodes(TableSpec spec, Class<T> clazz) {
+        return ParentsVisitor.reachable(List.of(spec)).stream()
+                .filter(clazz::isInstance)
+                .map(clazz::cast)
+                .collect(Collectors.toList());
+    }
+
+    private static TableInformation info(String name, TableHeader header, TableStatistics statistics) {
+        return TableInformation.of(List.of(name), header,
+                TicketTable.of(("scan/" + name).getBytes(StandardCharsets.UTF_8)), statistics);
+    }
+
+    private static final class Stats implements TableStatistics {
+        private final long rowCount;
+        private final boolean isRefreshing;
+        private final Set<String> uniqueKey;
+
+        Stats(long rowCount, boolean isRefreshing, String... uniqueKey) {
+            this.rowCount = rowCount;
+            this.isRefreshing = isRefreshing;
+            this.uniqueKey = Set.of(uniqueKey);
+        }
+
+        @Override
+        public OptionalLong rowCount() {
+            return OptionalLong.of(rowCount);
+        }
+
+        @Override
+        public boolean isRefreshing() {
+            return isRefreshing;
+        }
+
+        @Override
+        public boolean isUnique(List<String> columnNames) {
+            return !uniqueKey.isEmpty() && columnNames.containsAll(uniqueKey);
+        }
+    }
+}
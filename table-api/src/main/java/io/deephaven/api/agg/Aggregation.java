@@ -6,6 +6,7 @@ package io.deephaven.api.agg;
 import io.deephaven.api.ColumnName;
 import io.deephaven.api.Pair;
 import io.deephaven.api.agg.spec.AggSpec;
+import io.deephaven.api.agg.spec.AggSpecApproximateCountDistinct;
 import io.deephaven.api.agg.spec.AggSpecApproximatePercentile;
 import io.deephaven.api.agg.spec.AggSpecCountDistinct;
 import io.deephaven.api.agg.spec.AggSpecDistinct;
@@ -141,6 +142,33 @@ public interface Aggregation {
         return of(AggSpec.absSum(), pairs);
     }
 
+    /**
+     * Create an {@link io.deephaven.api.agg.spec.AggSpecApproximateCountDistinct approximate count distinct}
+     * aggregation for the supplied column name pairs with the default HyperLogLog
+     * {@link AggSpecApproximateCountDistinct#precision() precision}. This will not count {@code null} values from the
+     * input column(s).
+     *
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static Aggregation AggApproxCountDistinct(String... pairs) {
+        return of(AggSpec.approximateCountDistinct(), pairs);
+    }
+
+    /**
+     * Create an {@link io.deephaven.api.agg.spec.AggSpecApproximateCountDistinct approximate count distinct}
+     * aggregation for the supplied HyperLogLog precision and column name pairs. This will not count {@code null} values
+     * from the input column(s).
+     *
+     * @param precision The {@link AggSpecApproximateCountDistinct#precision() precision} to use for all component
+     *        aggregations
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static Aggregation AggApproxCountDistinct(int precision, String... pairs) {
+        return of(AggSpec.approximateCountDistinct(precision), pairs);
+    }
+
     /**
      * Create an {@link io.deephaven.api.agg.spec.AggSpecApproximatePercentile approximate percentile} aggregation for
      * the supplied percentile and column name pairs with the default T-Digest
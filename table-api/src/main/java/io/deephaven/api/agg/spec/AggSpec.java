@@ -26,6 +26,20 @@ public interface AggSpec {
         return AggSpecAbsSum.of();
     }
 
+    /**
+     * @return {@link AggSpecApproximateCountDistinct#of()}
+     */
+    static AggSpecApproximateCountDistinct approximateCountDistinct() {
+        return AggSpecApproximateCountDistinct.of();
+    }
+
+    /**
+     * @return {@link AggSpecApproximateCountDistinct#of(int)} for {@code precision}
+     */
+    static AggSpecApproximateCountDistinct approximateCountDistinct(int precision) {
+        return AggSpecApproximateCountDistinct.of(precision);
+    }
+
     /**
      * @return {@link AggSpecApproximatePercentile#of(double)} for {@code percentile}
      */
@@ -263,6 +277,7 @@ public interface AggSpec {
      */
     static void visitAll(Visitor visitor) {
         visitor.visit((AggSpecAbsSum) null);
+        visitor.visit((AggSpecApproximateCountDistinct) null);
         visitor.visit((AggSpecApproximatePercentile) null);
         visitor.visit((AggSpecAvg) null);
         visitor.visit((AggSpecCountDistinct) null);
@@ -335,6 +350,8 @@ public interface AggSpec {
     interface Visitor {
         void visit(AggSpecAbsSum absSum);
 
+        void visit(AggSpecApproximateCountDistinct approxCountDistinct);
+
         void visit(AggSpecApproximatePercentile approxPct);
 
         void visit(AggSpecAvg avg);
@@ -0,0 +1,85 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.api.agg.spec;
+
+import io.deephaven.annotations.SimpleStyle;
+import org.immutables.value.Value.Check;
+import org.immutables.value.Value.Immutable;
+import org.immutables.value.Value.Parameter;
+
+import java.util.OptionalInt;
+
+/**
+ * Specifies an aggregation that outputs an approximate count of the distinct non-null values for each group, estimated
+ * using a HyperLogLog sketch with the specified {@link #precision()}.
+ *
+ * <p>
+ * Each group's sketch uses a fixed {@code 2^precision} bytes of memory regardless of the number of distinct values, and
+ * sketches are merged rather than recomputed when used in a rollup. The relative standard error of the estimate is
+ * approximately {@code 1.04 / sqrt(2^precision)}.
+ *
+ * <p>
+ * May only be used on static or add-only tables.
+ */
+@Immutable
+@SimpleStyle
+public abstract class AggSpecApproximateCountDistinct extends AggSpecBase {
+
+    public static final int MIN_PRECISION = 4;
+    public static final int MAX_PRECISION = 18;
+
+    /**
+     * Create a new AggSpecApproximateCountDistinct with {@code precision} chosen by the server.
+     *
+     * @return the agg spec
+     */
+    public static AggSpecApproximateCountDistinct of() {
+        return ImmutableAggSpecApproximateCountDistinct.of(OptionalInt.empty());
+    }
+
+    /**
+     * Create a new AggSpecApproximateCountDistinct.
+     *
+     * @param precision the precision
+     * @return the agg spec
+     */
+    public static AggSpecApproximateCountDistinct of(int precision) {
+        return ImmutableAggSpecApproximateCountDistinct.of(OptionalInt.of(precision));
+    }
+
+    @Override
+    public final String description() {
+        if (precision().isPresent()) {
+            return String.format("approximate count distinct with precision %d", precision().getAsInt());
+        }
+        return "approximate count distinct with default precision";
+    }
+
+    /**
+     * HyperLogLog precision, the base-2 logarithm of the number of registers in each sketch. Must be between
+     * {@value MIN_PRECISION} and {@value MAX_PRECISION}, inclusive.
+     *
+     * <p>
+     * When not specified, the server will choose a precision value.
+     *
+     * @return The HyperLogLog precision if specified
+     */
+    @Parameter
+    public abstract OptionalInt precision();
+
+    @Override
+    public final <V extends Visitor> V walk(V visitor) {
+        visitor.visit(this);
+        return visitor;
+    }
+
+    @Check
+    final void checkPrecision() {
+        if (precision().isPresent()
+                && (precision().getAsInt() < MIN_PRECISION || precision().getAsInt() > MAX_PRECISION)) {
+            throw new IllegalArgumentException(String.format("Precision must be between %d and %d, inclusive",
+                    MIN_PRECISION, MAX_PRECISION));
+        }
+    }
+}
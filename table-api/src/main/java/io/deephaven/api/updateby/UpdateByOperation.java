@@ -2054,6 +2054,262 @@ public interface UpdateByOperation {
     }
 
 
+    /**
+     * Create a {@link RollingPercentileSpec rolling percentile} for the supplied column name pairs, using ticks as the
+     * windowing unit. Ticks are row counts and you may specify the previous window in number of rows to include. The
+     * current row is considered to belong to the reverse window, so calling this with {@code revTicks = 1} will simply
+     * return the current row. Specifying {@code revTicks = 10} will include the previous 9 rows to this one and this
+     * row for a total of 10 rows.
+     *
+     * The result is the value at zero-based rank {@code round((n - 1) * percentile)} among the {@code n} non-null
+     * values in the window, as a {@code double}.
+     *
+     * @param percentile the percentile to compute, in the range [0.0, 1.0]
+     * @param revTicks the look-behind window size (in rows/ticks)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingPercentile(double percentile, long revTicks, String... pairs) {
+        return RollingPercentileSpec.ofTicks(percentile, revTicks).clause(pairs);
+    }
+
+    /**
+     * Create a {@link RollingPercentileSpec rolling percentile} for the supplied column name pairs, using ticks as the
+     * windowing unit. Ticks are row counts and you may specify the reverse and forward window in number of rows to
+     * include. The current row is considered to belong to the reverse window but not the forward window. Also,
+     * negative values are allowed and can be used to generate completely forward or completely reverse windows. Here
+     * are some examples of window values:
+     * <ul>
+     * <li>{@code revTicks = 1, fwdTicks = 0} - contains only the current row</li>
+     * <li>{@code revTicks = 10, fwdTicks = 0} - contains 9 previous rows and the current row</li>
+     * <li>{@code revTicks = 0, fwdTicks = 10} - contains the following 10 rows, excludes the current row</li>
+     * <li>{@code revTicks = 10, fwdTicks = 10} - contains the previous 9 rows, the current row and the 10 rows
+     * following</li>
+     * <li>{@code revTicks = 10, fwdTicks = -5} - contains 5 rows, beginning at 9 rows before, ending at 5 rows before
+     * the current row (inclusive)</li>
+     * <li>{@code revTicks = 11, fwdTicks = -1} - contains 10 rows, beginning at 10 rows before, ending at 1 row before
+     * the current row (inclusive)</li>
+     * <li>{@code revTicks = -5, fwdTicks = 10} - contains 5 rows, beginning 5 rows following, ending at 10 rows
+     * following the current row (inclusive)</li>
+     * </ul>
+     *
+     * The result is the value at zero-based rank {@code round((n - 1) * percentile)} among the {@code n} non-null
+     * values in the window, as a {@code double}.
+     *
+     * @param percentile the percentile to compute, in the range [0.0, 1.0]
+     * @param revTicks the look-behind window size (in rows/ticks)
+     * @param fwdTicks the look-ahead window size (in rows/ticks)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingPercentile(double percentile, long revTicks, long fwdTicks, String... pairs) {
+        return RollingPercentileSpec.ofTicks(percentile, revTicks, fwdTicks).clause(pairs);
+    }
+
+    /**
+     * Create a {@link RollingPercentileSpec rolling percentile} for the supplied column name pairs, using time as the
+     * windowing unit. This function accepts {@link Duration duration} as the reverse window parameter. A row
+     * containing a {@code null} in the timestamp column belongs to no window and will not have a value computed or be
+     * considered in the windows of other rows.
+     *
+     * Here are some examples of window values:
+     * <ul>
+     * <li>{@code revDuration = 0m} - contains rows that exactly match the current row timestamp</li>
+     * <li>{@code revDuration = 10m} - contains rows from 10m earlier through the current row timestamp (inclusive)</li>
+     * </ul>
+     *
+     * @param percentile the percentile to compute, in the range [0.0, 1.0]
+     * @param timestampCol the name of the timestamp column
+     * @param revDuration the look-behind window size (in Duration)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingPercentile(double percentile, String timestampCol, Duration revDuration,
+            String... pairs) {
+        return RollingPercentileSpec.ofTime(percentile, timestampCol, revDuration).clause(pairs);
+    }
+
+    /**
+     * Create a {@link RollingPercentileSpec rolling percentile} for the supplied column name pairs, using time as the
+     * windowing unit. This function accepts {@link Duration durations} as the reverse and forward window parameters.
+     * Negative values are allowed and can be used to generate completely forward or completely reverse windows. A row
+     * containing a {@code null} in the timestamp column belongs to no window and will not have a value computed or be
+     * considered in the windows of other rows.
+     *
+     * Here are some examples of window values:
+     * <ul>
+     * <li>{@code revDuration = 0m, fwdDuration = 0m} - contains rows that exactly match the current row timestamp</li>
+     * <li>{@code revDuration = 10m, fwdDuration = 0m} - contains rows from 10m earlier through the current row
+     * timestamp (inclusive)</li>
+     * <li>{@code revDuration = 0m, fwdDuration = 10m} - contains rows from the current row through 10m following the
+     * current row timestamp (inclusive)</li>
+     * <li>{@code revDuration = 10m, fwdDuration = 10m} - contains rows from 10m earlier through 10m following the
+     * current row timestamp (inclusive)</li>
+     * <li>{@code revDuration = 10m, fwdDuration = -5m} - contains rows from 10m earlier through 5m before the current
+     * row timestamp (inclusive), this is a purely backwards looking window</li>
+     * <li>{@code revDuration = -5m, fwdDuration = 10m} - contains rows from 5m following through 10m following the
+     * current row timestamp (inclusive), this is a purely forwards looking window</li>
+     * </ul>
+     *
+     * @param percentile the percentile to compute, in the range [0.0, 1.0]
+     * @param timestampCol the name of the timestamp column
+     * @param revDuration the look-behind window size (in Duration)
+     * @param fwdDuration the look-ahead window size (in Duration)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingPercentile(double percentile, String timestampCol, Duration revDuration,
+            Duration fwdDuration, String... pairs) {
+        return RollingPercentileSpec.ofTime(percentile, timestampCol, revDuration, fwdDuration).clause(pairs);
+    }
+
+    /**
+     * Create a {@link RollingPercentileSpec rolling percentile} for the supplied column name pairs, using time as the
+     * windowing unit. This function accepts {@code nanoseconds} as the reverse window parameters. A row containing a
+     * {@code null} in the timestamp column belongs to no window and will not have a value computed or be considered in
+     * the windows of other rows.
+     *
+     * @param percentile the percentile to compute, in the range [0.0, 1.0]
+     * @param timestampCol the name of the timestamp column
+     * @param revTime the look-behind window size (in nanoseconds)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingPercentile(double percentile, String timestampCol, long revTime,
+            String... pairs) {
+        return RollingPercentileSpec.ofTime(percentile, timestampCol, revTime).clause(pairs);
+    }
+
+    /**
+     * Create a {@link RollingPercentileSpec rolling percentile} for the supplied column name pairs, using time as the
+     * windowing unit. This function accepts {@code nanoseconds} as the reverse and forward window parameters. Negative
+     * values are allowed and can be used to generate completely forward or completely reverse windows. A row
+     * containing a {@code null} in the timestamp column belongs to no window and will not have a value computed or be
+     * considered in the windows of other rows.
+     *
+     * @param percentile the percentile to compute, in the range [0.0, 1.0]
+     * @param timestampCol the name of the timestamp column
+     * @param revTime the look-behind window size (in nanoseconds)
+     * @param fwdTime the look-ahead window size (in nanoseconds)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingPercentile(double percentile, String timestampCol, long revTime, long fwdTime,
+            String... pairs) {
+        return RollingPercentileSpec.ofTime(percentile, timestampCol, revTime, fwdTime).clause(pairs);
+    }
+
+
+    /**
+     * Create a {@link RollingPercentileSpec#median rolling median} for the supplied column name pairs, using ticks as
+     * the windowing unit. Ticks are row counts and you may specify the previous window in number of rows to include.
+     * The current row is considered to belong to the reverse window, so calling this with {@code revTicks = 1} will
+     * simply return the current row. Specifying {@code revTicks = 10} will include the previous 9 rows to this one and
+     * this row for a total of 10 rows.
+     *
+     * When the window holds an even number of non-null values, the result is the average of the two middle values.
+     *
+     * @param revTicks the look-behind window size (in rows/ticks)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingMedian(long revTicks, String... pairs) {
+        return RollingPercentileSpec.median(WindowScale.ofTicks(revTicks)).clause(pairs);
+    }
+
+    /**
+     * Create a {@link RollingPercentileSpec#median rolling median} for the supplied column name pairs, using ticks as
+     * the windowing unit. Ticks are row counts and you may specify the reverse and forward window in number of rows to
+     * include. The current row is considered to belong to the reverse window but not the forward window. Also,
+     * negative values are allowed and can be used to generate completely forward or completely reverse windows.
+     *
+     * When the window holds an even number of non-null values, the result is the average of the two middle values.
+     *
+     * @param revTicks the look-behind window size (in rows/ticks)
+     * @param fwdTicks the look-ahead window size (in rows/ticks)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingMedian(long revTicks, long fwdTicks, String... pairs) {
+        return RollingPercentileSpec.median(WindowScale.ofTicks(revTicks), WindowScale.ofTicks(fwdTicks))
+                .clause(pairs);
+    }
+
+    /**
+     * Create a {@link RollingPercentileSpec#median rolling median} for the supplied column name pairs, using time as
+     * the windowing unit. This function accepts {@link Duration duration} as the reverse window parameter. A row
+     * containing a {@code null} in the timestamp column belongs to no window and will not have a value computed or be
+     * considered in the windows of other rows.
+     *
+     * When the window holds an even number of non-null values, the result is the average of the two middle values.
+     *
+     * @param timestampCol the name of the timestamp column
+     * @param revDuration the look-behind window size (in Duration)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingMedian(String timestampCol, Duration revDuration, String... pairs) {
+        return RollingPercentileSpec.median(WindowScale.ofTime(timestampCol, revDuration)).clause(pairs);
+    }
+
+    /**
+     * Create a {@link RollingPercentileSpec#median rolling median} for the supplied column name pairs, using time as
+     * the windowing unit. This function accepts {@link Duration durations} as the reverse and forward window
+     * parameters. Negative values are allowed and can be used to generate completely forward or completely reverse
+     * windows. A row containing a {@code null} in the timestamp column belongs to no window and will not have a value
+     * computed or be considered in the windows of other rows.
+     *
+     * When the window holds an even number of non-null values, the result is the average of the two middle values.
+     *
+     * @param timestampCol the name of the timestamp column
+     * @param revDuration the look-behind window size (in Duration)
+     * @param fwdDuration the look-ahead window size (in Duration)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingMedian(String timestampCol, Duration revDuration, Duration fwdDuration,
+            String... pairs) {
+        return RollingPercentileSpec.median(WindowScale.ofTime(timestampCol, revDuration),
+                WindowScale.ofTime(timestampCol, fwdDuration)).clause(pairs);
+    }
+
+    /**
+     * Create a {@link RollingPercentileSpec#median rolling median} for the supplied column name pairs, using time as
+     * the windowing unit. This function accepts {@code nanoseconds} as the reverse window parameters. A row containing
+     * a {@code null} in the timestamp column belongs to no window and will not have a value computed or be considered
+     * in the windows of other rows.
+     *
+     * When the window holds an even number of non-null values, the result is the average of the two middle values.
+     *
+     * @param timestampCol the name of the timestamp column
+     * @param revTime the look-behind window size (in nanoseconds)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingMedian(String timestampCol, long revTime, String... pairs) {
+        return RollingPercentileSpec.median(WindowScale.ofTime(timestampCol, revTime)).clause(pairs);
+    }
+
+    /**
+     * Create a {@link RollingPercentileSpec#median rolling median} for the supplied column name pairs, using time as
+     * the windowing unit. This function accepts {@code nanoseconds} as the reverse and forward window parameters.
+     * Negative values are allowed and can be used to generate completely forward or completely reverse windows. A row
+     * containing a {@code null} in the timestamp column belongs to no window and will not have a value computed or be
+     * considered in the windows of other rows.
+     *
+     * When the window holds an even number of non-null values, the result is the average of the two middle values.
+     *
+     * @param timestampCol the name of the timestamp column
+     * @param revTime the look-behind window size (in nanoseconds)
+     * @param fwdTime the look-ahead window size (in nanoseconds)
+     * @param pairs The input/output column name pairs
+     * @return The aggregation
+     */
+    static UpdateByOperation RollingMedian(String timestampCol, long revTime, long fwdTime, String... pairs) {
+        return RollingPercentileSpec.median(WindowScale.ofTime(timestampCol, revTime),
+                WindowScale.ofTime(timestampCol, fwdTime)).clause(pairs);
+    }
+
     /**
      * Create a {@link RollingWAvgSpec rolling weighted average} for the supplied column name pairs, using ticks as the
      * windowing unit. Ticks are row counts and you may specify the previous window in number of rows to include. The
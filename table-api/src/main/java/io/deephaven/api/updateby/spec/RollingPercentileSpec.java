@@ -0,0 +1,146 @@
+//
+// Copyright (c) 2016-2025 Deephaven Data Labs and Patent Pending
+//
+package io.deephaven.api.updateby.spec;
+
+import io.deephaven.annotations.BuildableStyle;
+import org.immutables.value.Value;
+import org.immutables.value.Value.Immutable;
+
+import java.time.Duration;
+
+/**
+ * An {@link UpdateBySpec} for performing a windowed rolling percentile (or median) operation
+ */
+@Immutable
+@BuildableStyle
+public abstract class RollingPercentileSpec extends RollingOpSpec {
+
+    public static final double MEDIAN = 0.5;
+
+    public static RollingPercentileSpec ofTicks(double percentile, long revTicks) {
+        return of(percentile, WindowScale.ofTicks(revTicks));
+    }
+
+    public static RollingPercentileSpec ofTicks(double percentile, long revTicks, long fwdTicks) {
+        return of(percentile, WindowScale.ofTicks(revTicks), WindowScale.ofTicks(fwdTicks));
+    }
+
+    public static RollingPercentileSpec ofTime(double percentile, final String timestampCol, Duration revDuration) {
+        return of(percentile, WindowScale.ofTime(timestampCol, revDuration));
+    }
+
+    public static RollingPercentileSpec ofTime(double percentile, final String timestampCol, Duration revDuration,
+            Duration fwdDuration) {
+        return of(percentile, WindowScale.ofTime(timestampCol, revDuration),
+                WindowScale.ofTime(timestampCol, fwdDuration));
+    }
+
+    public static RollingPercentileSpec ofTime(double percentile, final String timestampCol, long revDuration) {
+        return of(percentile, WindowScale.ofTime(timestampCol, revDuration));
+    }
+
+    public static RollingPercentileSpec ofTime(double percentile, final String timestampCol, long revDuration,
+            long fwdDuration) {
+        return of(percentile, WindowScale.ofTime(timestampCol, revDuration),
+                WindowScale.ofTime(timestampCol, fwdDuration));
+    }
+
+    public static RollingPercentileSpec of(double percentile, WindowScale revWindowScale) {
+        return ImmutableRollingPercentileSpec.builder()
+                .percentile(percentile)
+                .revWindowScale(revWindowScale)
+                .build();
+    }
+
+    public static RollingPercentileSpec of(double percentile, WindowScale revWindowScale,
+            WindowScale fwdWindowScale) {
+        return ImmutableRollingPercentileSpec.builder()
+                .percentile(percentile)
+                .revWindowScale(revWindowScale)
+                .fwdWindowScale(fwdWindowScale)
+                .build();
+    }
+
+    public static RollingPercentileSpec of(double percentile, boolean averageEvenlyDivided,
+            WindowScale revWindowScale, WindowScale fwdWindowScale) {
+        return ImmutableRollingPercentileSpec.builder()
+                .percentile(percentile)
+                .averageEvenlyDivided(averageEvenlyDivided)
+                .revWindowScale(revWindowScale)
+                .fwdWindowScale(fwdWindowScale)
+                .build();
+    }
+
+    /**
+     * Create a rolling median, which is the {@link #MEDIAN 50th percentile} averaging the two middle values of windows
+     * with an even number of values.
+     *
+     * @param revWindowScale the reverse window
+     * @return the spec
+     */
+    public static RollingPercentileSpec median(WindowScale revWindowScale) {
+        return ImmutableRollingPercentileSpec.builder()
+                .percentile(MEDIAN)
+                .averageEvenlyDivided(true)
+                .revWindowScale(revWindowScale)
+                .build();
+    }
+
+    /**
+     * Create a rolling median, which is the {@link #MEDIAN 50th percentile} averaging the two middle values of windows
+     * with an even number of values.
+     *
+     * @param revWindowScale the reverse window
+     * @param fwdWindowScale the forward window
+     * @return the spec
+     */
+    public static RollingPercentileSpec median(WindowScale revWindowScale, WindowScale fwdWindowScale) {
+        return of(MEDIAN, true, revWindowScale, fwdWindowScale);
+    }
+
+    /**
+     * The percentile to calculate. Must be &gt;= 0.0 and &lt;= 1.0.
+     *
+     * @return The percentile to calculate
+     */
+    public abstract double percentile();
+
+    /**
+     * Whether to average the highest low-bucket value and lowest high-bucket value, when the low-bucket and high-bucket
+     * are of equal size.
+     *
+     * @return Whether to average the two result candidates for evenly-divided windows
+     */
+    @Value.Default
+    public boolean averageEvenlyDivided() {
+        return false;
+    }
+
+    @Override
+    public final boolean applicableTo(Class<?> inputType) {
+        return
+        // is primitive numeric
+        inputType == double.class || inputType == float.class
+                || inputType == int.class || inputType == long.class || inputType == short.class
+                || inputType == byte.class
+                // is boxed primitive numeric
+                || inputType == Double.class || inputType == Float.class
+                || inputType == Integer.class || inputType == Long.class || inputType == Short.class
+                || inputType == Byte.class
+                // is char?
+                || inputType == char.class || inputType == Character.class;
+    }
+
+    @Override
+    public final <T> T walk(Visitor<T> visitor) {
+        return visitor.visit(this);
+    }
+
+    @Value.Check
+    final void checkPercentile() {
+        if (percentile() < 0.0 || percentile() > 1.0) {
+            throw new IllegalArgumentException("Percentile must be in range [0.0, 1.0]");
+        }
+    }
+}
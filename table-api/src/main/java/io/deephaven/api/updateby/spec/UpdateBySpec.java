@@ -111,6 +111,8 @@ public interface UpdateBySpec {
         T visit(RollingWAvgSpec spec);
 
         T visit(RollingFormulaSpec spec);
+
+        T visit(RollingPercentileSpec spec);
     }
     // endregion
 }